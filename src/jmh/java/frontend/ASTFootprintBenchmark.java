@@ -0,0 +1,155 @@
+package frontend;
+
+import frontend.ast.config.style.Citation;
+import frontend.ast.paragraph.Paragraph;
+import frontend.ast.paragraph.ParagraphInstruction;
+import frontend.ast.structure.BodyNode;
+import frontend.lexical_analysis.LexerEngine;
+import frontend.parsing.Parser;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the heap the AST of a generated document with 10,000 paragraphs retains per paragraph, both in the layout
+ * the {@link Parser} builds and in the previous layout, which stored child lists in linked lists and did not share
+ * repeated values.
+ * The previous layout is rebuilt from the parsed AST: the body and the instructions of each paragraph are copied into
+ * linked lists, and each citation gets its own copies of its source and numeration.
+ * The used heap is measured after a garbage collection before and after building the AST, and the difference is
+ * reported as the bytesPerParagraph counter. It depends on the JVM and garbage collector, so it is only reported.
+ * JMH sums the counter over the measurement iterations, so only a single iteration is measured.
+ * Running the benchmark with the GC profiler additionally reports the bytes allocated while building the AST,
+ * for example: gradle jmh -Pjmh.args="ASTFootprintBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 1)
+@Fork(1)
+public class ASTFootprintBenchmark {
+
+    private static final int PARAGRAPHS = 10_000;
+
+    /**
+     * The layout of the AST, where ARRAY is the layout the parser builds, and LINKED the previous layout
+     */
+    @Param({"LINKED", "ARRAY"})
+    private String layout;
+
+    private String document;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        document = generateDocument();
+    }
+
+    @Benchmark
+    public Object build(final Footprint footprint) {
+        final long before = usedHeap();
+        final var ast = buildAST();
+        footprint.bytesPerParagraph = (usedHeap() - before) / PARAGRAPHS;
+
+        return ast;
+    }
+
+    /**
+     * Parses the document, and rebuilds the AST in the previous layout if necessary.
+     * The parser and its tokens are only referenced in here, so they can be collected before the heap is measured.
+     *
+     * @return the AST in the layout that is measured
+     */
+    private Object buildAST() {
+        final var parser = new Parser(new FrontEndBridge(document, LexerEngine.TABLE));
+        parser.start();
+
+        return "LINKED".equals(layout) ? linkedLayoutOf(parser.getAst().getDocumentBody()) : parser.getAst();
+    }
+
+    /**
+     * Copies the body nodes into the previous layout, in which every citation has its own strings
+     *
+     * @param body the body nodes as built by the parser
+     * @return the body nodes in the previous layout
+     */
+    private static List<Object> linkedLayoutOf(final List<BodyNode> body) {
+        final var linkedBody = new LinkedList<>();
+
+        for (var node : body) {
+            if (!(node instanceof Paragraph paragraph)) {
+                linkedBody.add(node);
+                continue;
+            }
+
+            final var instructions = new LinkedList<ParagraphInstruction>();
+            for (var instruction : paragraph.getParagraphInstructions()) {
+                if (instruction instanceof Citation citation) {
+                    // Copying the characters also copies the array, which new String(String) would share
+                    citation.setSource(new String(citation.getSource().toCharArray()));
+                    citation.setNumeration(new String(citation.getNumeration().toCharArray()));
+                }
+
+                instructions.add(instruction);
+            }
+            linkedBody.add(new LinkedParagraph(instructions));
+        }
+
+        return linkedBody;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) System.gc();
+
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Generates a document whose paragraphs consist of a text, an emphasis and a citation, where the citations repeat
+     * their sources and numerations
+     *
+     * @return the Pipp code of the document
+     */
+    private static String generateDocument() {
+        final var document = new StringBuilder("""
+                config
+                	title "A Synthetic Document"
+                	author "Some Author"
+
+                """);
+
+        for (int i = 0; i < PARAGRAPHS; i++) {
+            document.append("\"The paragraph number ").append(i).append(" contains some text.\"\n");
+            document.append("emphasise \"Some emphasis\"\n");
+            document.append("citation \"HP").append(i % 8).append("\", \"").append(i % 100).append("\"\n\n");
+        }
+
+        return document.toString();
+    }
+
+    /**
+     * A paragraph in the previous layout, which besides its list is as large as a {@link Paragraph}
+     *
+     * @param instructions the instructions of the paragraph
+     */
+    private record LinkedParagraph(LinkedList<ParagraphInstruction> instructions) {
+    }
+
+    /**
+     * Reports the retained heap of the AST that has been built last
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        /**
+         * The bytes the AST retains per paragraph
+         */
+        public long bytesPerParagraph;
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package frontend;
+
+import frontend.lexical_analysis.Scanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the memory-mapped input path of the {@link FrontEndBridge} to the reader loop that was used before,
+ * which read the file one character at a time through a BufferedReader.
+ * Both variants scan a generated bibliography of several megabytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InputBenchmark {
+
+    /**
+     * Determines the amount of generated bibliography entries. 20 000 entries are roughly 5 MB.
+     */
+    @Param({"20000"})
+    private int entries;
+
+    private File bibliographyFile;
+    private FrontEndBridge bridge;
+    private Scanner scanner;
+    private MappedFileReader mappedFileReader;
+
+    @Setup
+    public void setup() throws IOException {
+        bibliographyFile = Files.createTempFile("bibliography", ".pipp").toFile();
+        bibliographyFile.deleteOnExit();
+
+        try (var writer = Files.newBufferedWriter(bibliographyFile.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("bibliography\n");
+            for (int i = 0; i < entries; i++) {
+                writer.write("\tid \"Source" + i + "\"\n");
+                writer.write("\t\ttype \"Book\"\n");
+                writer.write("\t\tauthor \"Firstname Lastname " + i + "\"\n");
+                writer.write("\t\ttitle \"A rather long title of the book number " + i +
+                        " that spans multiple words, and uses an \\\"escaped\\\" quotation for good measure\"\n");
+                writer.write("\t\tpublication\n");
+                writer.write("\t\t\tname \"Publisher " + (i % 50) + "\"\n");
+                writer.write("\t\t\tyear \"" + (1900 + i % 120) + "\"\n");
+            }
+        }
+
+        bridge = new FrontEndBridge("");
+        scanner = new Scanner(bridge);
+        mappedFileReader = new MappedFileReader();
+    }
+
+    @TearDown
+    public void tearDown() {
+        bibliographyFile.delete();
+    }
+
+    @Benchmark
+    public int readerLoop() throws IOException {
+        scanner.resetFile(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH);
+
+        try (var reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(bibliographyFile), StandardCharsets.UTF_8))) {
+            int current;
+            while ((current = reader.read()) != -1) scanner.scan((char) current);
+        }
+
+        scanner.submitToken();
+        return drainTokens();
+    }
+
+    @Benchmark
+    public int mappedReader() throws IOException {
+        scanner.resetFile(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH);
+        mappedFileReader.read(bibliographyFile, scanner);
+
+        scanner.submitToken();
+        return drainTokens();
+    }
+
+    private int drainTokens() {
+        int amount = 0;
+        while (bridge.containsTokens()) {
+            bridge.dequeueToken();
+            amount++;
+        }
+
+        return amount;
+    }
+
+}
@@ -0,0 +1,56 @@
+package frontend;
+
+import frontend.lexical_analysis.Lexer;
+import frontend.lexical_analysis.LexerEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the lexer engines on a large synthetic document.
+ * Both engines scan the same characters in bulk, and the tokens are drained afterwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LexerBenchmark {
+
+    @Param({"SCANNER", "TABLE"})
+    private LexerEngine engine;
+
+    /**
+     * Determines the amount of generated chapters
+     */
+    @Param({"2000"})
+    private int chapters;
+
+    private char[] document;
+    private FrontEndBridge bridge;
+    private Lexer lexer;
+
+    @Setup
+    public void setup() {
+        document = ParserBenchmark.generateDocument(chapters).toCharArray();
+        bridge = new FrontEndBridge("");
+        lexer = engine.create(bridge);
+    }
+
+    @Benchmark
+    public int scan() {
+        lexer.resetFile(FrontEndBridge.DOCUMENT_FILE_PATH);
+        lexer.scan(document, 0, document.length);
+        lexer.submitToken();
+
+        int amount = 0;
+        while (bridge.containsTokens()) {
+            bridge.dequeueToken();
+            amount++;
+        }
+
+        return amount;
+    }
+
+}
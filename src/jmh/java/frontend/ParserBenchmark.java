@@ -0,0 +1,87 @@
+package frontend;
+
+import frontend.lexical_analysis.Token;
+import frontend.parsing.Parser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Parser#start()} on a large synthetic document, which stresses the token queue of the
+ * {@link FrontEndBridge}.
+ * The document is scanned once, and the same tokens are enqueued again before each invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    /**
+     * Determines the amount of generated chapters, each containing several paragraphs
+     */
+    @Param({"2000"})
+    private int chapters;
+
+    private List<Token> tokens;
+    private FrontEndBridge bridge;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var scanned = new FrontEndBridge(generateDocument(chapters));
+
+        tokens = new ArrayList<>();
+        while (scanned.containsTokens()) tokens.add(scanned.dequeueToken());
+    }
+
+    @Setup(Level.Invocation)
+    public void enqueueTokens() {
+        bridge = new FrontEndBridge("");
+        for (var token : tokens) bridge.enqueueToken(token);
+    }
+
+    @Benchmark
+    public Object parse() {
+        final var parser = new Parser(bridge);
+        parser.start();
+
+        return parser.getAst();
+    }
+
+    /**
+     * Generates a document with a configuration and the specified amount of chapters
+     *
+     * @param chapters the amount of chapters
+     * @return the Pipp code of the document
+     */
+    static String generateDocument(final int chapters) {
+        final var document = new StringBuilder("""
+                config
+                	title "A Synthetic Document"
+                	author "Some Author"
+                	assessor "Some Assessor"
+
+                """);
+
+        for (int i = 0; i < chapters; i++) {
+            document.append("chapter \"Chapter ").append(i).append("\"\n");
+            document.append("\tchapter \"Section ").append(i).append("\"\n");
+
+            for (int j = 0; j < 3; j++) {
+                document.append("\"This is the paragraph number ").append(j)
+                        .append(" of the chapter, which contains a few sentences of text. It refers to\n")
+                        .append("the work\"\n")
+                        .append("work \"King Rat\"\n")
+                        .append("\"and cites it\"\n")
+                        .append("citation \"HP1\", \"").append(j + 1).append("\"\n\n");
+            }
+        }
+
+        return document.toString();
+    }
+
+}
@@ -0,0 +1,101 @@
+package frontend;
+
+import frontend.lexical_analysis.Token;
+import frontend.parsing.Parser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long the {@link Parser} takes to select and parse 10,000 instructions.
+ * In contrast to the {@link ParserBenchmark}, the instructions are short and keyword-heavy, so that the time is
+ * dominated by selecting the productions rather than by the token queue.
+ * The document is scanned once, and the same tokens are enqueued again before each invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserDispatchBenchmark {
+
+    /**
+     * The amount of instructions of the document, excluding the configuration
+     */
+    private static final int INSTRUCTIONS = 10_000;
+
+    /**
+     * The instructions the document is generated from, which are repeated in order
+     */
+    private static final String[] INSTRUCTION_TEMPLATES = new String[]{
+            "\"Some text\"\n",
+            "emphasise \"Some emphasis\"\n",
+            "work \"King Rat\"\n",
+            "citation \"HP1\", \"77\"\n\n",
+            "chapter \"Chapter\"\n",
+            "\tchapter \"Section\"\n",
+            "image \"Image\", \"100\", \"50\"\n",
+            "blank\n"
+    };
+
+    private List<Token> tokens;
+    private FrontEndBridge bridge;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var scanned = new FrontEndBridge(generateDocument());
+
+        tokens = new ArrayList<>();
+        while (scanned.containsTokens()) tokens.add(scanned.dequeueToken());
+    }
+
+    @Setup(Level.Invocation)
+    public void enqueueTokens() {
+        bridge = new FrontEndBridge("");
+        for (var token : tokens) bridge.enqueueToken(token);
+    }
+
+    @Benchmark
+    public Object parse() {
+        final var parser = new Parser(bridge);
+        parser.start();
+
+        return parser.getAst();
+    }
+
+    /**
+     * Generates a document with a configuration that contains several keyword lists, followed by the instructions
+     *
+     * @return the Pipp code of the document
+     */
+    private static String generateDocument() {
+        final var document = new StringBuilder("""
+                config
+                	title "A Synthetic Document"
+                	publication
+                		title "Some Publication"
+                		institution "Some Institution"
+                		chair "Some Chair"
+                		date "01/01/2023"
+                	author
+                		of
+                			name "Some Author"
+                			area "Some Area"
+                		of
+                			firstname "Another"
+                			lastname "Author"
+                			email "another@author.com"
+                	assessor "Some Assessor"
+
+                """);
+
+        for (int i = 0; i < INSTRUCTIONS; i++)
+            document.append(INSTRUCTION_TEMPLATES[i % INSTRUCTION_TEMPLATES.length]);
+
+        return document.toString();
+    }
+
+}
@@ -1,12 +1,25 @@
+import frontend.ASTCache;
+import frontend.BatchCompiler;
+import frontend.BuildCache;
+import frontend.CompileClient;
+import frontend.CompileServer;
+import frontend.DocumentWatcher;
 import frontend.FrontEndBridge;
+import processing.CompilationContext;
 import warning.WarningQueue;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 /**
  * This class is the entrypoint to the application and currently uses a hardcoded sample file.
  * It starts the compilation process and then prints all warnings to the console.
+ * If paths are passed as arguments, the projects of these paths are compiled as a batch, instead.
  *
  * @version 1.0
  * @since 1.0
@@ -16,21 +29,267 @@ public class Main {
     /**
      * Uses a hardcoded sample file to start the compilation process.
      * Also prints all warnings after compilation.
+     * If the system property "pipp.cache" specifies a directory, parsed ASTs are cached in that directory.
+     * If the system property "pipp.lazyBibliography" is true, only the cited bibliography entries are parsed.
+     * If the system property "pipp.bibliographyIndex" specifies a file, the bibliography is parsed lazily using that
+     * index file, which is only rebuilt once the bibliography changes.
+     * If arguments are passed, they are the project folders, folders of projects or lists of projects that are
+     * compiled by the {@link BatchCompiler}. The system property "pipp.parallelism" limits the amount of projects
+     * that are compiled at the same time.
+     * If the system property "pipp.server" specifies a port or Unix domain socket, a {@link CompileServer} is run on
+     * it instead. If the system property "pipp.connect" specifies the address of a running server, the projects
+     * passed as arguments are compiled by that server.
+     * If the system property "pipp.watch" is true, the sample file, or the project folder passed as argument, is
+     * rebuilt whenever one of its files changes, until the JVM is stopped.
+     * If the system property "pipp.buildCache" specifies a directory, compiled documents are cached in that
+     * directory, and unchanged documents are not compiled again. The system property "pipp.buildCacheAction" lists
+     * the entries of that cache if it is "list", or deletes them if it is "clear", instead of compiling.
      *
      * @param args Java program arguments
+     * @throws IOException if a folder or list of the batch cannot be read, or if the server cannot be reached
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         final var logger = Logger.getLogger(Main.class.getName());
 
+        final var serverAddress = System.getProperty("pipp.server");
+        if (serverAddress != null) {
+            runServer(serverAddress);
+            return;
+        }
+
+        final var connectAddress = System.getProperty("pipp.connect");
+        if (connectAddress != null) {
+            compileOnServer(connectAddress, args, logger);
+            return;
+        }
+
+        if (Boolean.getBoolean("pipp.watch")) {
+            watch(args, logger);
+            return;
+        }
+
+        if (args.length > 0) {
+            compileBatch(args, logger);
+            return;
+        }
+
+        final var buildCacheDirectory = System.getProperty("pipp.buildCache");
+        final var buildCacheAction = System.getProperty("pipp.buildCacheAction");
+        if (buildCacheDirectory != null && buildCacheAction != null) {
+            manageBuildCache(new BuildCache(Path.of(buildCacheDirectory)), buildCacheAction, logger);
+            return;
+        }
+
         final var documentFile = new File(FrontEndBridge.DOCUMENT_FILE_PATH);
         final var bibliographyFile = new File(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH);
 
         // Compile the pipp and bibliography files
-        new FrontEndBridge(documentFile, bibliographyFile).compile();
+        final var bridge = new FrontEndBridge(documentFile, bibliographyFile);
+
+        final var cacheDirectory = System.getProperty("pipp.cache");
+        if (cacheDirectory != null) bridge.setCache(new ASTCache(Path.of(cacheDirectory)));
+        bridge.setLazyBibliography(Boolean.getBoolean("pipp.lazyBibliography"));
+
+        final var bibliographyIndexFile = System.getProperty("pipp.bibliographyIndex");
+        if (bibliographyIndexFile != null) bridge.setBibliographyIndexFile(Path.of(bibliographyIndexFile));
+
+        if (buildCacheDirectory != null) {
+            compileWithBuildCache(bridge, documentFile, bibliographyFile, new BuildCache(Path.of(buildCacheDirectory)),
+                    logger);
+            return;
+        }
+
+        final var context = bridge.compile();
         logger.info("Compilation successful. Now printing possible warnings:");
 
         // After a successful compilation print all warnings
-        WarningQueue.printAll();
+        context.run(WarningQueue::printAll);
+    }
+
+    /**
+     * Compiles the sample file, unless the build cache contains the document of the unchanged sample file, and then
+     * prints all warnings. The compiled document is stored in the cache for the next compilation.
+     *
+     * @param bridge           the bridge of the sample file
+     * @param documentFile     the sample file
+     * @param bibliographyFile the bibliography file of the sample file
+     * @param buildCache       the cache of compiled documents
+     * @param logger           the logger of the application
+     * @throws IOException if the sample file cannot be read, or the document cannot be saved
+     */
+    private static void compileWithBuildCache(final FrontEndBridge bridge, final File documentFile,
+                                              final File bibliographyFile, final BuildCache buildCache,
+                                              final Logger logger) throws IOException {
+        final var context = new CompilationContext();
+        final var key = buildCache.keyOf(documentFile, bibliographyFile.isFile() ? bibliographyFile : null);
+
+        final var hit = buildCache.load(key);
+        if (hit != null) {
+            Files.write(context.getOutputFile(), hit.document());
+            logger.info("Loaded the unchanged document from the build cache. Now printing possible warnings:");
+            hit.warnings().forEach(logger::warning);
+            return;
+        }
+
+        if (!bridge.compile(context)) return;
+
+        final var warnings = new ArrayList<String>();
+        context.run(() -> WarningQueue.getAll().forEach(warning -> warnings.add(warning.toString())));
+
+        final var dependencies = new ArrayList<Path>(context.getDependencies());
+        bridge.getIncludedFiles().forEach(file -> dependencies.add(file.toPath()));
+        buildCache.store(key, context.getOutputFile(), dependencies, warnings);
+
+        logger.info("Compilation successful. Now printing possible warnings:");
+        warnings.forEach(logger::warning);
+    }
+
+    /**
+     * Lists the entries of the build cache, or deletes all of them
+     *
+     * @param buildCache the cache of compiled documents
+     * @param action     "list" to print the entries, or "clear" to delete them
+     * @param logger     the logger of the application
+     * @throws IOException if the cache cannot be read
+     */
+    private static void manageBuildCache(final BuildCache buildCache, final String action, final Logger logger)
+            throws IOException {
+        switch (action) {
+            case "list" -> {
+                final var entries = buildCache.entries();
+                final var listing = new StringBuilder();
+                entries.forEach(entry -> listing.append(entry).append('\n'));
+                listing.append(entries.size()).append(" entries, ")
+                        .append(entries.stream().mapToLong(BuildCache.Entry::size).sum()).append(" bytes in total.");
+
+                logger.info(listing::toString);
+            }
+            case "clear" -> logger.info("Deleted " + buildCache.clear() + " entries of the build cache.");
+            default -> throw new IllegalArgumentException("Unknown build cache action '" + action +
+                    "', which must be \"list\" or \"clear\".");
+        }
+    }
+
+    /**
+     * Compiles the projects of the paths as a batch, and prints the summary.
+     * Exits with status 1 if a project could not be compiled, so that scheduled builds notice the failure.
+     *
+     * @param args   the project folders, folders of projects or lists of projects
+     * @param logger the logger of the application
+     * @throws IOException if a folder or list cannot be read
+     */
+    private static void compileBatch(final String[] args, final Logger logger) throws IOException {
+        final var paths = Arrays.stream(args).map(Path::of).toList();
+        final var projects = BatchCompiler.findProjects(paths);
+
+        final var compiler = batchCompiler();
+
+        logger.info("Compiling " + projects.size() + " projects, " + compiler.getParallelism() + " at the same time.");
+        final var summary = compiler.compile(projects);
+        logger.info(summary::toString);
+
+        if (!summary.failures().isEmpty()) System.exit(1);
+    }
+
+    /**
+     * Runs a compile server on the address until the JVM is stopped
+     *
+     * @param address the port or Unix domain socket of the server
+     * @throws IOException if the server cannot be started
+     */
+    private static void runServer(final String address) throws IOException {
+        final var server = CompileServer.start(CompileServer.addressOf(address), batchCompiler());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }));
+
+        try {
+            server.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Lets the running server compile the project folders, and prints its responses including the warnings.
+     * Exits with status 1 if a project could not be compiled.
+     *
+     * @param address  the port or Unix domain socket of the server
+     * @param projects the project folders
+     * @param logger   the logger of the application
+     * @throws IOException if the server cannot be reached
+     */
+    private static void compileOnServer(final String address, final String[] projects, final Logger logger)
+            throws IOException {
+        final long start = System.nanoTime();
+        final var responses = CompileClient.compile(CompileServer.addressOf(address),
+                Arrays.stream(projects).map(Path::of).toList());
+
+        boolean failed = false;
+        for (var response : responses) {
+            logger.info(response::toString);
+            response.warnings().forEach(logger::warning);
+            failed |= !response.succeeded();
+        }
+        logger.info("Round trip took " + (System.nanoTime() - start) / 1_000_000 + " ms.");
+
+        if (failed) System.exit(1);
+    }
+
+    /**
+     * Compiles the sample file, or the project folder of the arguments, whenever one of its files changes, and
+     * prints each build including its warnings
+     *
+     * @param args   nothing to watch the sample file, or the project folder that should be watched
+     * @param logger the logger of the application
+     * @throws IOException if the files cannot be watched
+     */
+    private static void watch(final String[] args, final Logger logger) throws IOException {
+        final var cacheDirectory = System.getProperty("pipp.cache");
+        final var cache = new ASTCache(cacheDirectory != null
+                ? Path.of(cacheDirectory)
+                : Files.createTempDirectory("pipp-watch"));
+
+        final var project = args.length > 0 ? Path.of(args[0]) : null;
+        final var watcher = project != null
+                ? new DocumentWatcher(project.resolve(BatchCompiler.DOCUMENT_FILE_NAME).toFile(),
+                project.resolve(BatchCompiler.BIBLIOGRAPHY_FILE_NAME).toFile(),
+                project.resolve(BatchCompiler.OUTPUT_FILE_NAME), project.resolve(BatchCompiler.IMAGE_FOLDER_NAME), cache)
+                : new DocumentWatcher(new File(FrontEndBridge.DOCUMENT_FILE_PATH),
+                new File(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH), CompilationContext.DEFAULT_OUTPUT_FILE,
+                CompilationContext.DEFAULT_IMAGE_FOLDER, cache);
+
+        try {
+            watcher.run(build -> {
+                logger.info(build::toString);
+                build.warnings().forEach(logger::warning);
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Creates the compiler of batches and compile servers, which uses the parallelism and caches of the system
+     * properties
+     *
+     * @return the configured batch compiler
+     */
+    private static BatchCompiler batchCompiler() {
+        final var compiler = new BatchCompiler(
+                Integer.getInteger("pipp.parallelism", Runtime.getRuntime().availableProcessors()));
+
+        final var cacheDirectory = System.getProperty("pipp.cache");
+        if (cacheDirectory != null) compiler.setCache(new ASTCache(Path.of(cacheDirectory)));
+
+        final var buildCacheDirectory = System.getProperty("pipp.buildCache");
+        if (buildCacheDirectory != null) compiler.setBuildCache(new BuildCache(Path.of(buildCacheDirectory)));
+
+        return compiler;
     }
 
 }
@@ -8,12 +8,12 @@ import error.MissingMemberException;
 import lombok.NonNull;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import processing.CompilationContext;
 import processing.Processor;
 import warning.UnlikelinessWarning;
 import warning.WarningQueue;
 import warning.WarningSeverity;
 
-import java.io.File;
 import java.io.IOException;
 
 /**
@@ -28,11 +28,6 @@ import java.io.IOException;
  */
 public class ImageRenderer {
 
-    /**
-     * Path to the image (img/) folder that contains all images the user wants to include in the document
-     */
-    private static final String IMAGE_INPUT_PATH = "src/main/resources/img/";
-
     /**
      * Prevents instantiation
      */
@@ -57,8 +52,8 @@ public class ImageRenderer {
     public static void render(@NonNull String imageId, @NonNull ContentAlignment imageAlignment, Integer imageSize,
                               Float imageWidth, Float imageHeight) {
         try {
-            final float availableWidth = Processor.getAvailableContentWidth();
-            final float leading = 1.2f * TextRenderer.getMaxFontSizeOfCurrentLine() * Processor.getSpacing();
+            final float availableWidth = Processor.current().getAvailableContentWidth();
+            final float leading = 1.2f * TextRenderer.getMaxFontSizeOfCurrentLine() * Processor.current().getSpacing();
 
             final var imageObject = tryCreateImageObject(imageId);
 
@@ -79,15 +74,15 @@ public class ImageRenderer {
                 if (imageHeight != null) height = (Math.round(imageHeight));
             }
 
-            var targetYPosition = PageCreator.currentYPosition - height;
+            var targetYPosition = PageCreator.getCurrentYPosition() - height;
 
             // Check if the image does not fit on the current page any more
-            if (targetYPosition < Processor.getMargin()) {
+            if (targetYPosition < Processor.current().getMargin()) {
                 PageCreator.createNewPage();
-                targetYPosition = PageCreator.currentYPosition - height;
+                targetYPosition = PageCreator.getCurrentYPosition() - height;
 
                 // Check if the image is too large to even fit on an empty page
-                if (targetYPosition < Processor.getMargin())
+                if (targetYPosition < Processor.current().getMargin())
                     throw new ContentException("1: Image with ID '" + imageId + "' is too large to fit on a single page.");
             }
 
@@ -95,16 +90,16 @@ public class ImageRenderer {
                 throw new ContentException("2: Image with ID '" + imageId + "' is too wide to fit on a page.");
 
             final float targetXPosition = switch (imageAlignment) {
-                case LEFT -> Processor.getMargin();
-                case RIGHT -> availableWidth - width + Processor.getMargin();
-                case CENTRE -> Processor.getMargin() + (availableWidth / 2) - (width / 2f);
+                case LEFT -> Processor.current().getMargin();
+                case RIGHT -> availableWidth - width + Processor.current().getMargin();
+                case CENTRE -> Processor.current().getMargin() + (availableWidth / 2) - (width / 2f);
             };
 
             final var contentStream = new PDPageContentStream(PageAssembler.getDocument(), PageCreator.getCurrent(),
                     PDPageContentStream.AppendMode.APPEND, false);
 
             contentStream.drawImage(imageObject, targetXPosition, targetYPosition, width, height);
-            PageCreator.currentYPosition -= leading + height;
+            PageCreator.lowerCurrentYPosition(leading + height);
             PageCreator.setCurrentPageIsEmpty(false);
 
             contentStream.close();
@@ -115,14 +110,19 @@ public class ImageRenderer {
 
     /**
      * If the image at the path exists, yields the image as an image object.
+     * The image is read through the image cache of the compilation, and recorded as a dependency of the document.
      *
      * @param imageId the id of the image in the img/ folder
      * @return the image as an image object
      */
     private static PDImageXObject tryCreateImageObject(@NonNull final String imageId) {
         try {
-            var file = new File(IMAGE_INPUT_PATH + imageId);
-            return PDImageXObject.createFromFileByExtension(file, PageAssembler.getDocument());
+            final var context = CompilationContext.current();
+            final var file = context.getImageFolder().resolve(imageId);
+            context.addDependency(file);
+
+            return PDImageXObject.createFromByteArray(PageAssembler.getDocument(), context.getImageCache().read(file),
+                    imageId);
         } catch (IllegalArgumentException | IOException e) {
             throw new MissingMemberException("9: Image with the image id '" + imageId + "' does not exist in the " +
                     "img/ folder. Make sure it also has its file ending defined.");
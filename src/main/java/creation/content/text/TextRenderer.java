@@ -6,9 +6,9 @@ import creation.page.PageCreator;
 import error.ContentException;
 import error.PippException;
 import frontend.lexical_analysis.DebugTokenInfo;
-import lombok.Getter;
 import lombok.NonNull;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import processing.CompilationContext;
 import processing.Processor;
 
 import java.io.IOException;
@@ -27,11 +27,9 @@ import java.util.List;
 public class TextRenderer {
 
     /**
-     * Stores the largest font size used in a line.
-     * This is used to compute the proper leading toward the next line.
+     * Identifies the line state of each compilation context
      */
-    @Getter
-    private static float maxFontSizeOfCurrentLine;
+    private static final CompilationContext.Key<State> STATE = new CompilationContext.Key<>(State::new);
 
     /**
      * Prevents object instantiation
@@ -44,11 +42,20 @@ public class TextRenderer {
      * Resets the maximum font size to the smallest structure font size
      */
     private static void resetMaxFontSize() {
-        float min = Processor.getSentenceFontData().fontSize();
-        if (min > Processor.getEmphasisFontData().fontSize()) min = Processor.getEmphasisFontData().fontSize();
-        if (min > Processor.getWorkFontData().fontSize()) min = Processor.getWorkFontData().fontSize();
+        float min = Processor.current().getSentenceFontData().fontSize();
+        if (min > Processor.current().getEmphasisFontData().fontSize()) min = Processor.current().getEmphasisFontData().fontSize();
+        if (min > Processor.current().getWorkFontData().fontSize()) min = Processor.current().getWorkFontData().fontSize();
 
-        maxFontSizeOfCurrentLine = min;
+        CompilationContext.current().get(STATE).maxFontSizeOfCurrentLine = min;
+    }
+
+    /**
+     * Yields the largest font size used in the current line
+     *
+     * @return the maximum font size of the current line
+     */
+    public static float getMaxFontSizeOfCurrentLine() {
+        return CompilationContext.current().get(STATE).maxFontSizeOfCurrentLine;
     }
 
     /**
@@ -58,9 +65,10 @@ public class TextRenderer {
      * @return the leading as a float
      */
     private static float leading() {
-        if (Processor.getSpacing() == 0f || maxFontSizeOfCurrentLine == 0)
+        final float maxFontSizeOfCurrentLine = getMaxFontSizeOfCurrentLine();
+        if (Processor.current().getSpacing() == 0f || maxFontSizeOfCurrentLine == 0)
             throw new IllegalStateException("Spacing or font sizes should not be 0, or else leading would be 0 as well");
-        return 1.2f * maxFontSizeOfCurrentLine * Processor.getSpacing();
+        return 1.2f * maxFontSizeOfCurrentLine * Processor.current().getSpacing();
     }
 
     /**
@@ -71,7 +79,7 @@ public class TextRenderer {
      */
     public static void renderText(@NonNull final List<Text> textComponentsToRender,
                                   @NonNull final ContentAlignment alignment) {
-        renderText(textComponentsToRender, alignment, PageCreator.currentYPosition);
+        renderText(textComponentsToRender, alignment, PageCreator.getCurrentYPosition());
     }
 
     /**
@@ -83,7 +91,7 @@ public class TextRenderer {
      * @param text the text that should be rendered on the page
      */
     public static void renderLeftAlignedText(@NonNull final String text) {
-        renderText(List.of(new Text(text, Processor.getSentenceFontData())), ContentAlignment.LEFT);
+        renderText(List.of(new Text(text, Processor.current().getSentenceFontData())), ContentAlignment.LEFT);
     }
 
     /**
@@ -105,21 +113,21 @@ public class TextRenderer {
                                            final boolean inverseIndentation,
                                            final boolean hasAppliedReverseIndentation) {
         try {
-            final float availableWidth = Processor.getAvailableContentWidth();
+            final float availableWidth = Processor.current().getAvailableContentWidth();
             float maximumWidth = availableWidth;
             float currentLineWidth = 0;
             float lastXOffset = 0;
 
             // Sets the starting positions to the margin to the left, and the current paper's y position
-            float startX = Processor.getMargin();
+            float startX = Processor.current().getMargin();
 
             // Creates the content stream with the append mode, which prevents overriding existing streams
             var contentStream = new PDPageContentStream(PageAssembler.getDocument(), PageCreator.getCurrent(),
                     PDPageContentStream.AppendMode.APPEND, false);
 
             // Sets up the content stream
-            contentStream.setFont(Processor.getSentenceFontData().font(), Processor.getSentenceFontData().fontSize());
-            contentStream.setNonStrokingColor(Processor.getSentenceFontData().fontColor());
+            contentStream.setFont(Processor.current().getSentenceFontData().font(), Processor.current().getSentenceFontData().fontSize());
+            contentStream.setNonStrokingColor(Processor.current().getSentenceFontData().fontColor());
             contentStream.beginText();
             contentStream.newLineAtOffset(startX, startY);
 
@@ -137,8 +145,9 @@ public class TextRenderer {
                 final var textPartFontColour = textPart.getFontColour();
                 final var textPartFontSize = textPart.getFontSize();
 
-                if (textPartFontSize > maxFontSizeOfCurrentLine)
-                    maxFontSizeOfCurrentLine = textPartFontSize;
+                final var state = CompilationContext.current().get(STATE);
+                if (textPartFontSize > state.maxFontSizeOfCurrentLine)
+                    state.maxFontSizeOfCurrentLine = textPartFontSize;
 
                 // Indents the first part if necessary
                 if (firstIndentation != null && textComponentIndex == 0) {
@@ -172,7 +181,7 @@ public class TextRenderer {
                             1000 * textPartFontSize;
 
                     // Check if the next line does not fit into the current page anymore
-                    if (PageCreator.currentYPosition < Processor.getMargin()) {
+                    if (PageCreator.getCurrentYPosition() < Processor.current().getMargin()) {
                         if (!textBuilder.isEmpty()) {
                             final var textSize = textBuilder.size();
                             for (int i = 0; i < textSize; i++) rest.addLast(textBuilder.remove());
@@ -195,7 +204,7 @@ public class TextRenderer {
                         // When trying to center the text, we first need to calculate the total width for our offset
                         if (alignment == ContentAlignment.CENTRE) {
                             final float xOffset = (PageCreator.getCurrent().getMediaBox().getWidth() -
-                                    currentLineWidth) / 2 - Processor.getMargin();
+                                    currentLineWidth) / 2 - Processor.current().getMargin();
                             contentStream.newLineAtOffset(-lastXOffset, 0);
                             contentStream.newLineAtOffset(xOffset, 0);
                             lastXOffset = xOffset;
@@ -236,10 +245,10 @@ public class TextRenderer {
                                     nextLineWidth = textPartFont.getStringWidth(currentLine) / 1000 * textPartFontSize;
                                 }
 
-                                PageCreator.currentYPosition -= leading();
+                                PageCreator.lowerCurrentYPosition(leading());
                                 resetMaxFontSize();
 
-                                if (PageCreator.currentYPosition < Processor.getMargin()) {
+                                if (PageCreator.getCurrentYPosition() < Processor.current().getMargin()) {
                                     reachedNewPage = true;
                                     rest.add(new Text(stringForNextLine.reverse().toString(), textPartFont,
                                             textPartFontSize, textPartFontColour));
@@ -263,7 +272,7 @@ public class TextRenderer {
                             contentStream.newLineAtOffset(0, -leading());
                         } else {
                             final var currentLeading = leading();
-                            PageCreator.currentYPosition -= currentLeading;
+                            PageCreator.lowerCurrentYPosition(currentLeading);
                             resetMaxFontSize();
 
                             if (firstIndentation != null && inverseIndentation && hasAlreadyIndented) {
@@ -307,7 +316,7 @@ public class TextRenderer {
                 // When trying to center the text, we first need to calculate the total width for our offset
                 if (alignment == ContentAlignment.CENTRE) {
                     final float xOffset = (PageCreator.getCurrent().getMediaBox().getWidth() - currentLineWidth) / 2
-                            - Processor.getMargin();
+                            - Processor.current().getMargin();
                     contentStream.newLineAtOffset(xOffset, 0);
                 }
 
@@ -324,7 +333,7 @@ public class TextRenderer {
                     hasRenderedText = true;
                 }
 
-                PageCreator.currentYPosition -= leading();
+                PageCreator.lowerCurrentYPosition(leading());
                 resetMaxFontSize();
             }
 
@@ -365,7 +374,7 @@ public class TextRenderer {
                 renderNoContentText(
                         collectedRest,
                         alignment,
-                        PageCreator.currentYPosition,
+                        PageCreator.getCurrentYPosition(),
                         inverseIndentation || noIndentationWasApplied || !hasAlreadyIndented ? firstIndentation : null,
                         inverseIndentation,
                         !noIndentationWasApplied && hasAlreadyIndented && inverseIndentation
@@ -427,7 +436,7 @@ public class TextRenderer {
      * @return true - if the text would fit in one line; false - if it would not
      */
     public static boolean textFitsInOneLine(@NonNull Text asText) {
-        final float availableWidth = Processor.getDimensions().getWidth() - 2 * Processor.getMargin();
+        final float availableWidth = Processor.current().getDimensions().getWidth() - 2 * Processor.current().getMargin();
         final float textWidth;
         try {
             textWidth = asText.getFont().getStringWidth(asText.getContent()) / 1000 * asText.getFontSize();
@@ -446,8 +455,8 @@ public class TextRenderer {
      */
     public static void renderBottomLeftText(@NonNull LinkedList<Text> texts) throws IOException {
         final var amountOfLines = texts.size();
-        final var initialYPosition = Processor.getMargin();
-        final var initialXPosition = Processor.getMargin();
+        final var initialYPosition = Processor.current().getMargin();
+        final var initialXPosition = Processor.current().getMargin();
 
         var contentStream = new PDPageContentStream(PageAssembler.getDocument(), PageCreator.getCurrent(),
                 PDPageContentStream.AppendMode.APPEND, false);
@@ -463,7 +472,7 @@ public class TextRenderer {
                 contentStream.beginText();
                 contentStream.newLine();
                 System.out.println(i);
-                contentStream.newLineAtOffset(initialXPosition, initialYPosition + 1.2f * Processor.getSpacing() * text.getFontSize() * lineIndex);
+                contentStream.newLineAtOffset(initialXPosition, initialYPosition + 1.2f * Processor.current().getSpacing() * text.getFontSize() * lineIndex);
 
                 contentStream.showText(text.getContent());
                 contentStream.endText();
@@ -474,4 +483,15 @@ public class TextRenderer {
 
         contentStream.close();
     }
+    /**
+     * Contains the line state of a single compilation
+     */
+    private static final class State {
+        /**
+         * Stores the largest font size used in a line.
+         * This is used to compute the proper leading toward the next line.
+         */
+        private float maxFontSizeOfCurrentLine;
+    }
+
 }
@@ -7,7 +7,7 @@ import creation.page.PageAssembler;
 import creation.page.PageCreator;
 import creation.stamp.BibliographyStamp;
 import error.PippException;
-import processing.Processor;
+import processing.CompilationContext;
 
 import java.io.IOException;
 
@@ -20,12 +20,6 @@ import java.io.IOException;
  */
 public class DocumentCreator {
 
-    /**
-     * Determines the path to the file, where the final document should be saved.
-     * It will be saved under the specified name.
-     */
-    private static final String OUTPUT_PATH = "src/main/resources/out.pdf";
-
     /**
      * Prevents instantiation
      */
@@ -35,8 +29,8 @@ public class DocumentCreator {
 
     /**
      * Instantiates the creation process by setting the document's metadata, rendering the required components,
-     * and then assembling the pages. The created document is saved under the path specified in the outputPath
-     * variable.
+     * and then assembling the pages. The created document is saved to the output file of the current
+     * compilation context, and is closed once the compilation has finished, see {@link PageAssembler#closeDocument()}.
      */
     public static void create() {
         // Set the metadata
@@ -65,12 +59,9 @@ public class DocumentCreator {
 
         // Finally, save the file
         try {
-            final var document = PageAssembler.getDocument();
-
-            document.save(OUTPUT_PATH);
-            document.close();
+            PageAssembler.getDocument().save(CompilationContext.current().getOutputFile().toFile());
         } catch (IOException e) {
-            throw new PippException("Could not save and close the document");
+            throw new PippException("Could not save the document");
         }
     }
 
@@ -34,7 +34,7 @@ public class DocumentMetadataWriter {
         info.setCreator("Pipp v." + Processor.COMPILER_VERSION);
 
         // Set the author metadata to all authors using their first and last names separated by a comma
-        final var authors = Processor.getAuthors();
+        final var authors = Processor.current().getAuthors();
         if (authors.length > 0) {
             final var nameBuilder = new StringBuilder();
             for (var author : authors) {
@@ -49,7 +49,7 @@ public class DocumentMetadataWriter {
         }
 
         // Set the creation date metadata to the specified publication date
-        final var publicationDate = Processor.getPublicationDate();
+        final var publicationDate = Processor.current().getPublicationDate();
         if (publicationDate != null) {
             final var calendar = Calendar.getInstance();
             //noinspection MagicConstant
@@ -62,7 +62,7 @@ public class DocumentMetadataWriter {
         }
 
         // Set the document's title
-        info.setTitle(Processor.getDocumentTitle().getTextsSeparated());
+        info.setTitle(Processor.current().getDocumentTitle().getTextsSeparated());
 
         info.setKeywords("Pipp");
 
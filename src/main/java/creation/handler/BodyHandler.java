@@ -24,7 +24,7 @@ public class BodyHandler {
      * Tries to handle all body elements and throws an exception if any has not yet been implemented
      */
     public static void handleAll() {
-        Processor.getDocumentBody().forEach(BodyNode::handleBodyElement);
+        Processor.current().getDocumentBody().forEach(BodyNode::handleBodyElement);
     }
 
 }
@@ -4,6 +4,7 @@ import creation.stamp.ChapterStamp;
 import error.ContentException;
 import frontend.ast.structure.Chapter;
 import lombok.NonNull;
+import processing.CompilationContext;
 import warning.SelfCheckWarning;
 import warning.WarningQueue;
 import warning.WarningSeverity;
@@ -23,16 +24,9 @@ import java.util.stream.Collectors;
 public class ChapterHandler {
 
     /**
-     * Saves all defined chapters with their names, levels, etc. to look for warnings like
-     * only using one chapter level instance. Also used for the table of contents.
+     * Identifies the chapter state of each compilation context
      */
-    private static final List<Chapter> definedChapters = new LinkedList<>();
-
-    /**
-     * Tracks the level of the current chapter to detect if the new chapter is one or more
-     * levels too deep. Only a subchapter may follow after a chapter, not a sub-subchapter, etc.
-     */
-    private static int currentChapterLevel;
+    private static final CompilationContext.Key<State> STATE = new CompilationContext.Key<>(State::new);
 
     /**
      * Prevents instantiation
@@ -48,12 +42,14 @@ public class ChapterHandler {
      * @param chapter the chapter that should be rendered
      */
     public static void handleChapterDeclaration(@NonNull final Chapter chapter) {
-        if (chapter.getLevel() > currentChapterLevel + 1)
+        final var state = CompilationContext.current().get(STATE);
+
+        if (chapter.getLevel() > state.currentChapterLevel + 1)
             throw new ContentException("5: Chapter '" + chapter.getTitle().getTextsSeparated() +
                     "' is one or more chapter levels too deep.");
 
-        definedChapters.add(chapter);
-        currentChapterLevel = chapter.getLevel();
+        state.definedChapters.add(chapter);
+        state.currentChapterLevel = chapter.getLevel();
 
         ChapterStamp.stampChapter(chapter.getTitle(), chapter.getLevel());
     }
@@ -62,6 +58,8 @@ public class ChapterHandler {
      * Throws a warning if there are chapters that are the only chapters in their respective levels.
      */
     public static void checkForWarnings() {
+        final var definedChapters = CompilationContext.current().get(STATE).definedChapters;
+
         definedChapters
                 .stream()
                 .collect(Collectors.groupingBy(Chapter::getLevel, Collectors.counting()))
@@ -78,4 +76,20 @@ public class ChapterHandler {
                 )));
     }
 
+    /**
+     * Contains the chapter state of a single compilation
+     */
+    private static final class State {
+        /**
+         * Saves all defined chapters with their names, levels, etc. to look for warnings like
+         * only using one chapter level instance. Also used for the table of contents.
+         */
+        private final List<Chapter> definedChapters = new LinkedList<>();
+        /**
+         * Tracks the level of the current chapter to detect if the new chapter is one or more
+         * levels too deep. Only a subchapter may follow after a chapter, not a sub-subchapter, etc.
+         */
+        private int currentChapterLevel;
+    }
+
 }
@@ -8,16 +8,16 @@ import processing.constant.HeaderType;
 public class HeaderHandler {
 
     public static void handlePageNumeration() {
-        if (Processor.getHeaderType() == HeaderType.FULL_TITLE_PAGE)
-            Processor.getSkippedPages().add(1);
+        if (Processor.current().getHeaderType() == HeaderType.FULL_TITLE_PAGE)
+            Processor.current().getSkippedPages().add(1);
     }
 
     public static void handleHeader() {
-        if (Processor.getHeaderType() == HeaderType.NONE) return;
+        if (Processor.current().getHeaderType() == HeaderType.NONE) return;
 
-        if (Processor.getHeaderType() == HeaderType.FULL_TITLE_PAGE) {
+        if (Processor.current().getHeaderType() == HeaderType.FULL_TITLE_PAGE) {
             TitlePageStamp.renderTitlePage();
-        } else if (Processor.getHeaderType() == HeaderType.SIMPLE_HEADER) {
+        } else if (Processor.current().getHeaderType() == HeaderType.SIMPLE_HEADER) {
             HeaderStamp.renderHeader();
         }
     }
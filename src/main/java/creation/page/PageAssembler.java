@@ -1,7 +1,11 @@
 package creation.page;
 
-import lombok.Getter;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import processing.CompilationContext;
+
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Used to assemble all PDPages into one PDDocument object, which represents
@@ -14,10 +18,11 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 public class PageAssembler {
 
     /**
-     * Represents the final document that will be rendered as a PDF
+     * Identifies the final document of each compilation context, which will be rendered as a PDF
      */
-    @Getter
-    private static final PDDocument document = new PDDocument();
+    private static final CompilationContext.Key<PDDocument> DOCUMENT = new CompilationContext.Key<>(PDDocument::new);
+
+    private static final Logger LOGGER = Logger.getLogger(PageAssembler.class.getName());
 
     /**
      * Prevents instantiation
@@ -32,7 +37,32 @@ public class PageAssembler {
      * calls this method.
      */
     public static void commitCurrentPage() {
-        document.addPage(PageCreator.getCurrent());
+        getDocument().addPage(PageCreator.getCurrent());
+    }
+
+    /**
+     * Yields the final document of the current compilation, which will be rendered as a PDF
+     *
+     * @return the document of the current compilation context
+     */
+    public static PDDocument getDocument() {
+        return CompilationContext.current().get(DOCUMENT);
+    }
+
+    /**
+     * Closes the final document of the current compilation if it has been created, which releases the fonts and
+     * images it has loaded. This has to happen even if the compilation fails, as many compilations may run in the
+     * same JVM. Failing to close the document is only logged, so that it never hides the error of the compilation.
+     */
+    public static void closeDocument() {
+        final var document = CompilationContext.current().getIfPresent(DOCUMENT);
+        if (document == null) return;
+
+        try {
+            document.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not close the document", e);
+        }
     }
 
 }
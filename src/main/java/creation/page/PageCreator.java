@@ -1,9 +1,8 @@
 package creation.page;
 
 import creation.stamp.PageNumberStamp;
-import lombok.Getter;
-import lombok.Setter;
 import org.apache.pdfbox.pdmodel.PDPage;
+import processing.CompilationContext;
 import processing.Processor;
 
 /**
@@ -14,24 +13,11 @@ import processing.Processor;
  * @since 1.0
  */
 public class PageCreator {
+
     /**
-     * Marks the y position of the current page.
-     * This is used to know where to render a new line, and is reset whenever
-     * a new page is created.
-     */
-    public static float currentYPosition;
-    /**
-     * Yields true if there is no content rendered on the current page except for the page number stamp.
-     * Note that classes that add content to the current page should set this flag to false.
-     */
-    @Setter
-    private static boolean currentPageIsEmpty = true;
-    /**
-     * The currently considered page in the document.
-     * Note that finished pages cannot be written to any more, only this instance can be written to.
+     * Identifies the page state of each compilation context
      */
-    @Getter
-    private static PDPage current;
+    private static final CompilationContext.Key<State> STATE = new CompilationContext.Key<>(State::new);
 
     /**
      * Prevents instantiation
@@ -44,17 +30,19 @@ public class PageCreator {
      * Assembles prior last page (if the new page is not the first) and creates a new page with a stamp
      */
     public static void createNewPage() {
+        final var state = CompilationContext.current().get(STATE);
+
         // Assembles the last page if it exists
-        if (current != null) PageAssembler.commitCurrentPage();
+        if (state.current != null) PageAssembler.commitCurrentPage();
 
         // Create a new page object using the processor's dimensions
-        current = new PDPage(Processor.getDimensions());
+        state.current = new PDPage(Processor.current().getDimensions());
 
         // The new page is empty
-        currentPageIsEmpty = true;
+        state.currentPageIsEmpty = true;
 
         // Reset the y position
-        currentYPosition = Processor.getDimensions().getHeight() - Processor.getMargin();
+        state.currentYPosition = Processor.current().getDimensions().getHeight() - Processor.current().getMargin();
 
         // Automatically apply the page stamp
         PageNumberStamp.stampCurrentPage();
@@ -69,9 +57,69 @@ public class PageCreator {
      * @param blankInstructionIsLastInstruction true if the calling blank instruction is the last instruction
      */
     public static void createBlankPage(boolean blankInstructionIsLastInstruction) {
-        if (!currentPageIsEmpty && !blankInstructionIsLastInstruction) createNewPage();
+        if (!CompilationContext.current().get(STATE).currentPageIsEmpty && !blankInstructionIsLastInstruction)
+            createNewPage();
 
         createNewPage();
     }
 
+    /**
+     * Yields the currently considered page in the document
+     *
+     * @return the current page, or null if no page has been created yet
+     */
+    public static PDPage getCurrent() {
+        return CompilationContext.current().get(STATE).current;
+    }
+
+    /**
+     * Marks if there is no content rendered on the current page except for the page number stamp
+     *
+     * @param currentPageIsEmpty false if content has been added to the current page
+     */
+    public static void setCurrentPageIsEmpty(final boolean currentPageIsEmpty) {
+        CompilationContext.current().get(STATE).currentPageIsEmpty = currentPageIsEmpty;
+    }
+
+    /**
+     * Yields the y position of the current page, which is where a new line is rendered
+     *
+     * @return the y position of the current page
+     */
+    public static float getCurrentYPosition() {
+        return CompilationContext.current().get(STATE).currentYPosition;
+    }
+
+    /**
+     * Moves the y position of the current page down by the specified distance, for example after a line has
+     * been rendered
+     *
+     * @param distance the distance in points (pt.) the y position is lowered by
+     */
+    public static void lowerCurrentYPosition(final float distance) {
+        CompilationContext.current().get(STATE).currentYPosition -= distance;
+    }
+
+    /**
+     * Contains the page state of a single compilation
+     */
+    private static final class State {
+        /**
+         * Marks the y position of the current page.
+         * This is used to know where to render a new line, and is reset whenever
+         * a new page is created.
+         */
+        private float currentYPosition;
+        /**
+         * Yields true if there is no content rendered on the current page except for the page number stamp.
+         * Note that classes that add content to the current page should set this flag to false.
+         */
+        private boolean currentPageIsEmpty = true;
+        /**
+         * The currently considered page in the document.
+         * Note that finished pages cannot be written to any more, only this instance can be written to.
+         */
+        private PDPage current;
+    }
+
 }
@@ -35,6 +35,7 @@ public class BibliographyStamp {
      */
     public static void stampBibliography() {
         final var citedEntries = Processor
+                .current()
                 .getBibliographyEntries()
                 .values()
                 .stream()
@@ -46,14 +47,15 @@ public class BibliographyStamp {
         PageCreator.createNewPage();
 
         TextRenderer.renderText(List.of(new Text(
-                Processor.getUsedStyleGuide().formatBibliographyTitle(citedEntries),
-                Processor.getChapterSentenceFontData()[0].font(),
-                Processor.getChapterSentenceFontData()[0].fontSize(),
-                Processor.getChapterSentenceFontData()[0].fontColor())
+                Processor.current().getUsedStyleGuide().formatBibliographyTitle(citedEntries),
+                Processor.current().getChapterSentenceFontData()[0].font(),
+                Processor.current().getChapterSentenceFontData()[0].fontSize(),
+                Processor.current().getChapterSentenceFontData()[0].fontColor())
         ), ContentAlignment.CENTRE);
 
         // Sort entries by the lastname of the first author, or the title if there is no author
         final var sortedEntries = Processor
+                .current()
                 .getBibliographyEntries()
                 .values()
                 .stream()
@@ -65,10 +67,10 @@ public class BibliographyStamp {
                 .toList();
 
         sortedEntries.forEach(entry -> TextRenderer.renderIndentedText(
-                        Arrays.stream(Processor.getUsedStyleGuide().formatBibliographyEntry(entry)).toList(),
+                        Arrays.stream(Processor.current().getUsedStyleGuide().formatBibliographyEntry(entry)).toList(),
                         ContentAlignment.LEFT,
-                        PageCreator.currentYPosition,
-                        Processor.getParagraphIndentation(),
+                        PageCreator.getCurrentYPosition(),
+                        Processor.current().getParagraphIndentation(),
                         true
                 )
         );
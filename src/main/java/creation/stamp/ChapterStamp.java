@@ -50,48 +50,48 @@ public class ChapterStamp {
                 })
                 .toList();
 
-        if (Processor.getChapterSpacingType() == ChapterSpacingType.EXTRA_LINE) {
+        if (Processor.current().getChapterSpacingType() == ChapterSpacingType.EXTRA_LINE) {
             // Use the default sentence font for the leading calculation
-            final float leading = 1.2f * Processor.getSentenceFontData().fontSize() * Processor.getSpacing();
-            PageCreator.currentYPosition -= leading;
+            final float leading = 1.2f * Processor.current().getSentenceFontData().fontSize() * Processor.current().getSpacing();
+            PageCreator.lowerCurrentYPosition(leading);
         }
 
-        TextRenderer.renderText(asList, Processor.getChapterAlignment());
+        TextRenderer.renderText(asList, Processor.current().getChapterAlignment());
 
-        if (Processor.getChapterSpacingType() == ChapterSpacingType.EXTRA_LINE) {
+        if (Processor.current().getChapterSpacingType() == ChapterSpacingType.EXTRA_LINE) {
             // Use the default sentence font for the leading calculation
-            final float leading = 1.2f * Processor.getSentenceFontData().fontSize() * Processor.getSpacing();
-            PageCreator.currentYPosition -= leading;
+            final float leading = 1.2f * Processor.current().getSentenceFontData().fontSize() * Processor.current().getSpacing();
+            PageCreator.lowerCurrentYPosition(leading);
         }
     }
 
     private static @NonNull Text workToText(@NonNull final Work work, int chapterLevel) {
-        if (chapterLevel >= Processor.getChapterWorkFontData().length) {
+        if (chapterLevel >= Processor.current().getChapterWorkFontData().length) {
             enqueueFontDataWarning(work.getEmphasisedWork());
             return new Text(work.getEmphasisedWork(),
-                    Processor.getChapterWorkFontData()[Processor.getChapterWorkFontData().length - 1]);
+                    Processor.current().getChapterWorkFontData()[Processor.current().getChapterWorkFontData().length - 1]);
         } else {
-            return new Text(work.getEmphasisedWork(), Processor.getChapterWorkFontData()[chapterLevel]);
+            return new Text(work.getEmphasisedWork(), Processor.current().getChapterWorkFontData()[chapterLevel]);
         }
     }
 
     private static @NonNull Text emphasisToText(@NonNull final Emphasis emphasis, int chapterLevel) {
-        if (chapterLevel >= Processor.getChapterEmphasisFontData().length) {
+        if (chapterLevel >= Processor.current().getChapterEmphasisFontData().length) {
             enqueueFontDataWarning(emphasis.getEmphasisedText());
             return new Text(emphasis.getEmphasisedText(),
-                    Processor.getChapterEmphasisFontData()[Processor.getChapterEmphasisFontData().length - 1]);
+                    Processor.current().getChapterEmphasisFontData()[Processor.current().getChapterEmphasisFontData().length - 1]);
         } else {
-            return new Text(emphasis.getEmphasisedText(), Processor.getChapterEmphasisFontData()[chapterLevel]);
+            return new Text(emphasis.getEmphasisedText(), Processor.current().getChapterEmphasisFontData()[chapterLevel]);
         }
     }
 
     private static @NonNull Text sentenceToText(@NonNull final String sentence, int chapterLevel) {
-        if (chapterLevel >= Processor.getChapterSentenceFontData().length) {
+        if (chapterLevel >= Processor.current().getChapterSentenceFontData().length) {
             enqueueFontDataWarning(sentence);
             return new Text(sentence,
-                    Processor.getChapterSentenceFontData()[Processor.getChapterSentenceFontData().length - 1]);
+                    Processor.current().getChapterSentenceFontData()[Processor.current().getChapterSentenceFontData().length - 1]);
         } else {
-            return new Text(sentence, Processor.getChapterSentenceFontData()[chapterLevel]);
+            return new Text(sentence, Processor.current().getChapterSentenceFontData()[chapterLevel]);
         }
     }
 
@@ -11,23 +11,23 @@ public abstract class IntroductoryStamp {
      * If the user has defined a publication institution, it is rendered on the header using left content alignment.
      */
     protected static void renderInstitutionIfExists() {
-        if (Processor.getPublicationInstitution() == null) return;
-        TextRenderer.renderLeftAlignedText(Processor.getPublicationInstitution());
+        if (Processor.current().getPublicationInstitution() == null) return;
+        TextRenderer.renderLeftAlignedText(Processor.current().getPublicationInstitution());
     }
 
     /**
      * If the user has defined a publication chair, it is rendered on the header using left content alignment.
      */
     protected static void renderChairIfExists() {
-        if (Processor.getPublicationChair() == null) return;
-        TextRenderer.renderLeftAlignedText(Processor.getPublicationChair());
+        if (Processor.current().getPublicationChair() == null) return;
+        TextRenderer.renderLeftAlignedText(Processor.current().getPublicationChair());
     }
 
     /**
      * Renders all authors one after another using left content alignment.
      */
     protected static void renderAuthorsIfAnyExist() {
-        for (var author : Processor.getAuthors()) TextRenderer.renderLeftAlignedText(author.nameToString());
+        for (var author : Processor.current().getAuthors()) TextRenderer.renderLeftAlignedText(author.nameToString());
     }
 
     /**
@@ -36,7 +36,7 @@ public abstract class IntroductoryStamp {
      */
     protected static void renderAssessorsIfAnyExist() {
         final var headerBuilder = new StringBuilder();
-        final var assessors = Processor.getAssessors();
+        final var assessors = Processor.current().getAssessors();
 
         // List the assessors' names separated by a comma and one space
         for (int i = 0; i < assessors.length; i++) {
@@ -54,20 +54,21 @@ public abstract class IntroductoryStamp {
      * Renders the title using the different font components and left content alignment
      */
     protected static void renderTitleIfExists() {
-        if (Processor.getPublicationTitle().getTexts().isEmpty()) return;
+        if (Processor.current().getPublicationTitle().getTexts().isEmpty()) return;
         TextRenderer.renderText(
                 Processor
+                        .current()
                         .getPublicationTitle()
                         .getTexts()
                         .stream()
                         .map(titleText -> {
                             if (titleText.getText() != null)
-                                return new Text(titleText.getText(), Processor.getSentenceFontData());
+                                return new Text(titleText.getText(), Processor.current().getSentenceFontData());
                             else if (titleText.getEmphasis() != null)
                                 return new Text(titleText.getEmphasis().getEmphasisedText(),
-                                        Processor.getEmphasisFontData());
+                                        Processor.current().getEmphasisFontData());
                             else if (titleText.getWork() != null)
-                                return new Text(titleText.getWork().getEmphasisedWork(), Processor.getWorkFontData());
+                                return new Text(titleText.getWork().getEmphasisedWork(), Processor.current().getWorkFontData());
                             else throw new UnsupportedOperationException("Title text type " + titleText +
                                         " is not yet supported!");
                         })
@@ -81,10 +82,10 @@ public abstract class IntroductoryStamp {
      * a semester as well.
      */
     protected static void renderDateOrSemesterIfExist() {
-        if (Processor.getPublicationSemester() != null)
-            TextRenderer.renderLeftAlignedText(Processor.getPublicationSemester());
-        else if (Processor.getPublicationDate() != null) {
-            final var formattedDate = Processor.getUsedStyleGuide().dateToString(Processor.getPublicationDate());
+        if (Processor.current().getPublicationSemester() != null)
+            TextRenderer.renderLeftAlignedText(Processor.current().getPublicationSemester());
+        else if (Processor.current().getPublicationDate() != null) {
+            final var formattedDate = Processor.current().getUsedStyleGuide().dateToString(Processor.current().getPublicationDate());
             TextRenderer.renderLeftAlignedText(formattedDate);
         }
     }
@@ -6,6 +6,7 @@ import creation.content.text.TextRenderer;
 import creation.page.PageCreator;
 import lombok.NonNull;
 import org.apache.pdfbox.pdmodel.PDPage;
+import processing.CompilationContext;
 import processing.Processor;
 import processing.numeration.NumerationAuthorName;
 import processing.person.Author;
@@ -23,21 +24,9 @@ import java.util.TreeMap;
 public class PageNumberStamp {
 
     /**
-     * Contains a reference to all page instances, which have already been stamped.
-     * If trying to stamp a page object, which exists on the stack, an exception is thrown.
+     * Identifies the numeration state of each compilation context
      */
-    private static final Stack<PDPage> stampedPages = new Stack<>();
-    /**
-     * Contains the page number that should be rendered next.
-     * If a page is skipped, the value is NOT incremented, which means that the next page after a skipped page
-     * receives the page number, the skipped page would have received.
-     */
-    private static int nextNumber = 1;
-    /**
-     * The number index is ALWAYS incremented, even if the page is skipped.
-     * This is used to address and identify the individual pages.
-     */
-    private static int numberIndex = 1;
+    private static final CompilationContext.Key<State> STATE = new CompilationContext.Key<>(State::new);
 
     private PageNumberStamp() {
         throw new UnsupportedOperationException("Should not instantiate static helper class");
@@ -52,27 +41,28 @@ public class PageNumberStamp {
     public static void stampCurrentPage() {
         // Use the current page in the page factory as the stamped page
         final var page = PageCreator.getCurrent();
+        final var state = CompilationContext.current().get(STATE);
 
         // Check if there is no page to stamp
         if (page == null)
             throw new IllegalStateException("Cannot stamp the current page because it does not exist yet.");
 
         // If a page has been stamped, it should not be stamped again.
-        if (stampedPages.contains(page)) throw new IllegalStateException("Trying to re-stamp an already stamped page");
+        if (state.stampedPages.contains(page)) throw new IllegalStateException("Trying to re-stamp an already stamped page");
 
         // Do not stamp the page if the "actual" page is included in the skipped pages list
-        if (!Processor.getSkippedPages().contains(numberIndex)) {
+        if (!Processor.current().getSkippedPages().contains(state.numberIndex)) {
             // Contains the displayed name of the author(s), which is added before the page number
             final var authorNamePrefixBuilder = new StringBuilder();
 
             String firstAuthorName = null;
 
             // The names should only be displayed if there are authors configured in the first place
-            if (Processor.getNumerationAuthorName() != NumerationAuthorName.NONE) {
-                Author[] authors = Processor.getAuthors();
+            if (Processor.current().getNumerationAuthorName() != NumerationAuthorName.NONE) {
+                Author[] authors = Processor.current().getAuthors();
                 for (int i = 0; i < authors.length; i++) {
                     var author = authors[i];
-                    final String authorPrefix = switch (Processor.getNumerationAuthorName()) {
+                    final String authorPrefix = switch (Processor.current().getNumerationAuthorName()) {
                         case FIRST_NAME -> author.getFirstname();
                         case LAST_NAME -> author.getLastname();
                         case NAME -> author.getFirstname() + " " + author.getLastname();
@@ -89,40 +79,40 @@ public class PageNumberStamp {
             }
 
             // Contains the page number as a string in the desired numeral system
-            final String pageString = switch (Processor.getNumerationType()) {
-                case ARABIC -> String.valueOf(nextNumber);
-                case ROMAN -> arabicToRoman(nextNumber);
+            final String pageString = switch (Processor.current().getNumerationType()) {
+                case ARABIC -> String.valueOf(state.nextNumber);
+                case ROMAN -> arabicToRoman(state.nextNumber);
             };
 
             // Contains the entire text as one string (the author texts and page number)
             final String content = authorNamePrefixBuilder + (authorNamePrefixBuilder.isEmpty() ? "" : " ") + pageString;
 
             // Numerations use the default "sentence" font style
-            var asText = new Text(content, Processor.getSentenceFontData());
+            var asText = new Text(content, Processor.current().getSentenceFontData());
 
             // Calculates the starting x position of the text
-            final ContentAlignment alignment = switch (Processor.getNumerationPosition()) {
+            final ContentAlignment alignment = switch (Processor.current().getNumerationPosition()) {
                 case TOP_LEFT, BOTTOM_LEFT -> ContentAlignment.LEFT;
                 case TOP_RIGHT, BOTTOM_RIGHT -> ContentAlignment.RIGHT;
                 case TOP, BOTTOM -> ContentAlignment.CENTRE;
             };
 
             // Calculates the starting y position of the text
-            final float y = switch (Processor.getNumerationPosition()) {
+            final float y = switch (Processor.current().getNumerationPosition()) {
                 // If the numeration should be rendered at the top, start at the numeration margin from the top
-                case TOP, TOP_LEFT, TOP_RIGHT -> page.getMediaBox().getHeight() - Processor.getNumerationMargin();
+                case TOP, TOP_LEFT, TOP_RIGHT -> page.getMediaBox().getHeight() - Processor.current().getNumerationMargin();
 
                 // Else, start at the numeration margin from the bottom
-                case BOTTOM, BOTTOM_LEFT, BOTTOM_RIGHT -> Processor.getNumerationMargin();
+                case BOTTOM, BOTTOM_LEFT, BOTTOM_RIGHT -> Processor.current().getNumerationMargin();
             };
 
             var pageText = new Text(pageString, asText.getFont(), asText.getFontSize(), asText.getFontColour());
 
-            if (Processor.getNumerationLimit() == null) {
+            if (Processor.current().getNumerationLimit() == null) {
                 if (TextRenderer.textFitsInOneLine(asText)) {
                     TextRenderer.renderNoContentText(List.of(asText), alignment, y, null, false, false);
-                } else if (Processor.getAuthors().length > 1 &&
-                        Processor.getNumerationAuthorName() != NumerationAuthorName.NONE) {
+                } else if (Processor.current().getAuthors().length > 1 &&
+                        Processor.current().getNumerationAuthorName() != NumerationAuthorName.NONE) {
                     var firstAuthorOnlyText = new Text(firstAuthorName + " et al. " + pageString,
                             asText.getFont(), asText.getFontSize(), asText.getFontColour());
 
@@ -135,7 +125,7 @@ public class PageNumberStamp {
                     }
                 }
             } else {
-                if (Processor.getAuthors().length > Processor.getNumerationLimit()) {
+                if (Processor.current().getAuthors().length > Processor.current().getNumerationLimit()) {
                     var firstAuthorOnlyText = new Text(firstAuthorName + " et al. " + pageString,
                             asText.getFont(), asText.getFontSize(), asText.getFontColour());
 
@@ -154,14 +144,14 @@ public class PageNumberStamp {
             }
 
             // Increment the page number (only if this page was not skipped)
-            nextNumber++;
+            state.nextNumber++;
         }
 
         // Even if the page was skipped, increment the number index, which is needed for addressing the pages
-        numberIndex++;
+        state.numberIndex++;
 
         // Add this page to the stamped pages, which does not allow them to be stamped again
-        PageNumberStamp.stampedPages.add(page);
+        state.stampedPages.add(page);
     }
 
     /**
@@ -193,4 +183,26 @@ public class PageNumberStamp {
                 : map.get(floored) + arabicToRoman(number - floored);
     }
 
+    /**
+     * Contains the numeration state of a single compilation
+     */
+    private static final class State {
+        /**
+         * Contains a reference to all page instances, which have already been stamped.
+         * If trying to stamp a page object, which exists on the stack, an exception is thrown.
+         */
+        private final Stack<PDPage> stampedPages = new Stack<>();
+        /**
+         * Contains the page number that should be rendered next.
+         * If a page is skipped, the value is NOT incremented, which means that the next page after a skipped page
+         * receives the page number, the skipped page would have received.
+         */
+        private int nextNumber = 1;
+        /**
+         * The number index is ALWAYS incremented, even if the page is skipped.
+         * This is used to address and identify the individual pages.
+         */
+        private int numberIndex = 1;
+    }
+
 }
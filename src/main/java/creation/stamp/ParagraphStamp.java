@@ -41,8 +41,8 @@ public class ParagraphStamp {
                 .flatMap(instruction -> Arrays.stream(instruction.toTextComponent()))
                 .collect(Collectors.toCollection(LinkedList::new));
 
-        TextRenderer.renderIndentedText(instructionTexts, ContentAlignment.LEFT, PageCreator.currentYPosition,
-                Processor.getParagraphIndentation(), false);
+        TextRenderer.renderIndentedText(instructionTexts, ContentAlignment.LEFT, PageCreator.getCurrentYPosition(),
+                Processor.current().getParagraphIndentation(), false);
     }
 
 }
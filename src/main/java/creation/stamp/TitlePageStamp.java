@@ -34,7 +34,7 @@ public class TitlePageStamp extends IntroductoryStamp {
 
     private static void renderTitle() {
         TextRenderer.renderText(
-                Processor.getDocumentTitle().asTextList(),
+                Processor.current().getDocumentTitle().asTextList(),
                 ContentAlignment.CENTRE
         );
     }
@@ -45,18 +45,18 @@ public class TitlePageStamp extends IntroductoryStamp {
     protected static void renderAuthorsIfAnyExist() {
         final var texts = new LinkedList<Text>();
 
-        for (var author : Processor.getAuthors()) {
-            texts.add(new Text(author.nameToString(), Processor.getSentenceFontData()));
+        for (var author : Processor.current().getAuthors()) {
+            texts.add(new Text(author.nameToString(), Processor.current().getSentenceFontData()));
 
             if (author.getArea() != null)
-                texts.add(new Text(author.getArea(), Processor.getSentenceFontData()));
+                texts.add(new Text(author.getArea(), Processor.current().getSentenceFontData()));
 
             if (author.getId() != null)
-                texts.add(new Text(author.getId(), Processor.getSentenceFontData()));
+                texts.add(new Text(author.getId(), Processor.current().getSentenceFontData()));
 
 
             if (author.getEmailAddress() != null)
-                texts.add(new Text(author.getEmailAddress(), Processor.getSentenceFontData()));
+                texts.add(new Text(author.getEmailAddress(), Processor.current().getSentenceFontData()));
         }
 
         try {
@@ -25,7 +25,7 @@ public class TitleStamp {
      * Text object equivalent and then rendering it in the LineFactory.
      */
     public static void renderTitle() {
-        var title = Processor.getDocumentTitle();
+        var title = Processor.current().getDocumentTitle();
         if (title.getTexts().isEmpty())
             throw new MissingMemberException("2: Cannot render a title if no title has been configured.");
 
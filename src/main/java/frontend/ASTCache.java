@@ -0,0 +1,188 @@
+package frontend;
+
+import frontend.ast.AST;
+import lombok.NonNull;
+import processing.Processor;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stores parsed ASTs on disk, so that compiling an unchanged document does not scan and parse it again.
+ * Each entry is keyed by a SHA-256 hash of the compiler version, the canonical path of the document, and the
+ * bytes of the document and bibliography files. Included files are resolved relative to the document, so equal
+ * documents in different folders may include different files, and never share an entry.
+ * An entry starts with a header that contains the format and compiler version, followed by the hashes of the files
+ * the document includes, and the AST in the compact binary format of the {@link ASTCodec}. Entries whose header does
+ * not match, or whose included files have changed, are never used, and are deleted instead.
+ * The total size of the entries is bounded by the {@link CacheDirectory} that stores them.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class ASTCache {
+
+    /**
+     * The default maximum amount of bytes all entries may occupy together
+     */
+    public static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * Identifies the files that are entries of the cache
+     */
+    private static final int MAGIC = 0x50495041;
+
+    /**
+     * The version of the layout of the header of an entry
+     */
+    private static final int ENTRY_VERSION = 2;
+
+    private static final String ENTRY_SUFFIX = ".ast";
+
+    private static final Logger LOGGER = Logger.getLogger(ASTCache.class.getName());
+
+    /**
+     * Stores the entries and evicts the least recently used ones
+     */
+    private final CacheDirectory entries;
+
+    /**
+     * The version of the compiler that is written to and expected in each entry
+     */
+    private final String compilerVersion;
+
+    /**
+     * Creates a cache in the specified directory using the default maximum size
+     *
+     * @param directory the non-null directory that contains the entries, which is created if necessary
+     */
+    public ASTCache(@NonNull final Path directory) {
+        this(directory, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache in the specified directory
+     *
+     * @param directory the non-null directory that contains the entries, which is created if necessary
+     * @param maxSize   the maximum amount of bytes all entries may occupy together
+     */
+    public ASTCache(@NonNull final Path directory, final long maxSize) {
+        this(directory, maxSize, Processor.COMPILER_VERSION);
+    }
+
+    /**
+     * Creates a cache that assumes the specified compiler version, which allows testing the version check
+     *
+     * @param directory       the non-null directory that contains the entries
+     * @param maxSize         the maximum amount of bytes all entries may occupy together
+     * @param compilerVersion the non-null version of the compiler
+     */
+    ASTCache(@NonNull final Path directory, final long maxSize, @NonNull final String compilerVersion) {
+        this.entries = new CacheDirectory(directory, maxSize, ENTRY_SUFFIX);
+        this.compilerVersion = compilerVersion;
+    }
+
+    /**
+     * Computes the key of the specified files, which changes whenever one of the files, the location of the document,
+     * or the compiler changes
+     *
+     * @param documentFile     the non-null document file
+     * @param bibliographyFile the bibliography file, or null if there is none
+     * @return the hexadecimal key of the files
+     * @throws IOException if one of the files cannot be read
+     */
+    public String keyOf(@NonNull final File documentFile, final File bibliographyFile) throws IOException {
+        return ContentHashes.keyOf(compilerVersion, documentFile, bibliographyFile);
+    }
+
+    /**
+     * Loads the AST with the specified key, and marks the entry as used
+     *
+     * @param key the non-null key of the files
+     * @return a new instance of the cached AST, or null if there is no valid entry
+     */
+    public AST load(@NonNull final String key) {
+        return load(key, new ArrayList<>());
+    }
+
+    /**
+     * Loads the AST with the specified key, marks the entry as used, and adds the files the document includes to the
+     * specified list, as they are not known otherwise if the document is not parsed
+     *
+     * @param key           the non-null key of the files
+     * @param includedFiles the non-null list the included files of the entry are added to
+     * @return a new instance of the cached AST, or null if there is no valid entry
+     */
+    public AST load(@NonNull final String key, @NonNull final List<File> includedFiles) {
+        final var files = new ArrayList<Path>();
+        final var ast = entries.read(key, input -> read(input, key, files));
+        if (ast != null) files.forEach(file -> includedFiles.add(file.toFile()));
+
+        return ast;
+    }
+
+    /**
+     * Decodes an entry, unless its header does not match or its included files have changed
+     *
+     * @param input         the input that contains the whole entry
+     * @param key           the key of the entry
+     * @param includedFiles the list the included files of the entry are added to
+     * @return the decoded AST, or null if the entry cannot be used
+     * @throws IOException if the entry is corrupt
+     */
+    private AST read(final DataInputStream input, final String key, final List<Path> includedFiles)
+            throws IOException {
+        if (input.readInt() != MAGIC || input.readInt() != ENTRY_VERSION
+                || input.readInt() != ASTCodec.FORMAT_VERSION || !compilerVersion.equals(input.readUTF())
+                || !key.equals(input.readUTF()) || !ContentHashes.filesAreUnchanged(input, includedFiles))
+            return null;
+
+        final var ast = ASTCodec.read(input);
+        if (input.available() != 0) throw new IOException("The entry contains trailing bytes");
+
+        return ast;
+    }
+
+    /**
+     * Stores the specified AST of a document that does not include other files
+     *
+     * @param key the non-null key of the files the AST has been parsed from
+     * @param ast the non-null AST that should be stored
+     */
+    public void store(@NonNull final String key, @NonNull final AST ast) {
+        store(key, ast, List.of());
+    }
+
+    /**
+     * Stores the specified AST, and then evicts the least recently used entries until the size bound is met.
+     * The included files are hashed, so that the entry is not used once one of them changes.
+     * Failing to store the AST does not affect the compilation, so errors are only logged.
+     *
+     * @param key           the non-null key of the files the AST has been parsed from
+     * @param ast           the non-null AST that should be stored
+     * @param includedFiles the non-null files the document includes, directly or indirectly
+     */
+    public void store(@NonNull final String key, @NonNull final AST ast, @NonNull final List<File> includedFiles) {
+        try {
+            entries.write(key, output -> {
+                output.writeInt(MAGIC);
+                output.writeInt(ENTRY_VERSION);
+                output.writeInt(ASTCodec.FORMAT_VERSION);
+                output.writeUTF(compilerVersion);
+                output.writeUTF(key);
+                ContentHashes.writeFiles(output, includedFiles.stream().map(File::toPath).toList());
+
+                ASTCodec.write(ast, output);
+            });
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not store the AST in the cache", e);
+        }
+    }
+
+}
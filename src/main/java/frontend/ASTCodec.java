@@ -0,0 +1,589 @@
+package frontend;
+
+import frontend.ast.AST;
+import frontend.ast.bibliography.BibliographySource;
+import frontend.ast.config.Configuration;
+import frontend.ast.config.Emphasis;
+import frontend.ast.config.Publication;
+import frontend.ast.config.Title;
+import frontend.ast.config.TitleText;
+import frontend.ast.config.Work;
+import frontend.ast.config.person.Assessor;
+import frontend.ast.config.person.Author;
+import frontend.ast.config.person.Authors;
+import frontend.ast.config.style.Chapter;
+import frontend.ast.config.style.Citation;
+import frontend.ast.config.style.Font;
+import frontend.ast.config.style.Layout;
+import frontend.ast.config.style.Numeration;
+import frontend.ast.config.style.Structure;
+import frontend.ast.config.style.Style;
+import frontend.ast.paragraph.Emphasise;
+import frontend.ast.paragraph.Paragraph;
+import frontend.ast.paragraph.ParagraphInstruction;
+import frontend.ast.paragraph.Text;
+import frontend.ast.structure.BodyNode;
+import frontend.ast.structure.Image;
+import frontend.ast.structure.NoArgumentStructure;
+import processing.constant.StructureType;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Writes and reads ASTs in the compact binary format of the {@link ASTCache}, and single bibliography sources in
+ * the same format for the {@link MappedBibliographyIndex}.
+ * Each node is written as the sequence of its fields in a fixed order, without any field names or class
+ * descriptors. Strings are written once, and repeated strings refer to their first occurrence, and counts and
+ * references are written as variable-length integers.
+ * Note that the codec must be updated whenever a node gains a field, and the {@link #FORMAT_VERSION} must then be
+ * increased, so that entries of the old format are not used.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+final class ASTCodec {
+
+    /**
+     * The version of the format, which is part of the header of each cache entry
+     */
+    static final int FORMAT_VERSION = 1;
+
+    // The tags of the body nodes
+    private static final int CHAPTER = 0;
+    private static final int IMAGE = 1;
+    private static final int NO_ARGUMENT_STRUCTURE = 2;
+    private static final int PARAGRAPH = 3;
+
+    // The tags of the paragraph instructions
+    private static final int TEXT = 0;
+    private static final int WORK = 1;
+    private static final int EMPHASISE = 2;
+    private static final int CITATION = 3;
+
+    // The tags of the title texts
+    private static final int TITLE_TEXT = 0;
+    private static final int TITLE_EMPHASIS = 1;
+    private static final int TITLE_WORK = 2;
+
+    // The references of strings that are not references to a previous string
+    private static final int NULL_STRING = 0;
+    private static final int NEW_STRING = 1;
+    private static final int FIRST_STRING_REFERENCE = 2;
+
+    private ASTCodec() {
+    }
+
+    /**
+     * Writes the specified AST to the output
+     *
+     * @param ast    the AST that should be written
+     * @param output the output the AST is written to
+     * @throws IOException if the output cannot be written to
+     */
+    static void write(final AST ast, final DataOutputStream output) throws IOException {
+        new Writer(output).writeAST(ast);
+    }
+
+    /**
+     * Reads an AST that has been written by {@link #write(AST, DataOutputStream)}
+     *
+     * @param input the input the AST is read from, whose available bytes must be the remaining bytes of the entry
+     * @return the new AST
+     * @throws IOException if the input cannot be read or does not contain a valid AST
+     */
+    static AST read(final DataInputStream input) throws IOException {
+        return new Reader(input).readAST();
+    }
+
+    /**
+     * Writes a single bibliography source to the output, whose strings do not refer to strings written before
+     *
+     * @param source the bibliography source that should be written
+     * @param output the output the source is written to
+     * @throws IOException if the output cannot be written to
+     */
+    static void writeBibliographySource(final BibliographySource source, final DataOutputStream output)
+            throws IOException {
+        new Writer(output).writeBibliographySource(source);
+    }
+
+    /**
+     * Reads a single bibliography source that has been written by
+     * {@link #writeBibliographySource(BibliographySource, DataOutputStream)}
+     *
+     * @param input the input the source is read from, whose available bytes must be the remaining bytes of the source
+     * @return the new bibliography source
+     * @throws IOException if the input cannot be read or does not contain a valid bibliography source
+     */
+    static BibliographySource readBibliographySource(final DataInputStream input) throws IOException {
+        return new Reader(input).readBibliographySource();
+    }
+
+    private static final class Writer {
+
+        private final DataOutputStream output;
+
+        /**
+         * The index of each string that has already been written
+         */
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        private Writer(final DataOutputStream output) {
+            this.output = output;
+        }
+
+        private void writeAST(final AST ast) throws IOException {
+            writeConfiguration(ast.getConfiguration());
+
+            writeCount(ast.getDocumentBody().size());
+            for (var node : ast.getDocumentBody()) writeBodyNode(node);
+
+            writeCount(ast.getBibliographySources().size());
+            for (var source : ast.getBibliographySources()) writeBibliographySource(source);
+        }
+
+        private void writeBibliographySource(final BibliographySource source) throws IOException {
+            writeAuthors(source.getAuthors());
+            writeString(source.getPublication().getName());
+            writeString(source.getPublication().getYear());
+            writeString(source.getId());
+            writeString(source.getType());
+            writeString(source.getTitle());
+        }
+
+        private void writeConfiguration(final Configuration configuration) throws IOException {
+            final var assessors = configuration.getAssessors().getAssessorsList();
+            writeCount(assessors.size());
+            for (var assessor : assessors) {
+                writeString(assessor.getTitle());
+                writeString(assessor.getName());
+                writeString(assessor.getFirstname());
+                writeString(assessor.getLastname());
+                writeString(assessor.getRole());
+                writeString(assessor.getEmailAddress());
+                writeString(assessor.getArea());
+            }
+
+            writeAuthors(configuration.getAuthors());
+
+            final var publication = configuration.getPublication();
+            writeTitle(publication.getTitle());
+            writeString(publication.getInstitution());
+            writeString(publication.getChair());
+            writeString(publication.getSemester());
+            writeString(publication.getDate());
+
+            writeStyle(configuration.getStyle());
+            writeTitle(configuration.getTitle());
+            writeString(configuration.getDocumentType());
+        }
+
+        private void writeAuthors(final Authors authors) throws IOException {
+            writeCount(authors.getAuthorList().size());
+            for (var author : authors.getAuthorList()) {
+                writeString(author.getTitle());
+                writeString(author.getName());
+                writeString(author.getFirstname());
+                writeString(author.getLastname());
+                writeString(author.getId());
+                writeString(author.getEmailAddress());
+                writeString(author.getArea());
+            }
+        }
+
+        private void writeStyle(final Style style) throws IOException {
+            final var layout = style.getLayout();
+            writeString(layout.getWidth());
+            writeString(layout.getHeight());
+            writeString(layout.getMargin());
+            writeString(layout.getSpacing());
+
+            final var structure = style.getStructure();
+            writeString(structure.getParagraph().getIndentation());
+            writeFont(structure.getSentence().getFont());
+            writeString(structure.getChapters().getChapterAlignment());
+            writeString(structure.getChapters().getLineSpacing());
+            writeFont(structure.getWork().getFont());
+            writeFont(structure.getEmphasis().getFont());
+            writeString(structure.getEmphasis().getAllowEmphasis());
+
+            writeCount(structure.getSingleChapters().size());
+            for (var chapter : structure.getSingleChapters()) {
+                writeFont(chapter.getSentenceFont());
+                writeFont(chapter.getEmphasisFont());
+                writeFont(chapter.getWorkFont());
+                writeString(chapter.getAffectedLevel());
+            }
+
+            final var numeration = style.getNumeration();
+            writeCount(numeration.getSkippedPages().size());
+            for (var skippedPage : numeration.getSkippedPages()) writeString(skippedPage);
+            writeString(numeration.getNumerationType());
+            writeString(numeration.getAuthorLimit());
+            writeString(numeration.getPosition());
+            writeString(numeration.getMargin());
+            writeString(numeration.getAuthorName());
+
+            writeString(style.getBaseStyle());
+        }
+
+        private void writeFont(final Font font) throws IOException {
+            writeString(font.getName());
+            writeString(font.getColour());
+            writeString(font.getSize());
+        }
+
+        private void writeTitle(final Title title) throws IOException {
+            writeCount(title.getTexts().size());
+            for (var text : title.getTexts()) {
+                if (text.getEmphasis() != null) {
+                    output.writeByte(TITLE_EMPHASIS);
+                    writeString(text.getEmphasis().getEmphasisedText());
+                } else if (text.getWork() != null) {
+                    output.writeByte(TITLE_WORK);
+                    writeString(text.getWork().getEmphasisedWork());
+                } else {
+                    output.writeByte(TITLE_TEXT);
+                    writeString(text.getText());
+                }
+            }
+        }
+
+        private void writeBodyNode(final BodyNode node) throws IOException {
+            if (node instanceof frontend.ast.structure.Chapter chapter) {
+                output.writeByte(CHAPTER);
+                writeCount(chapter.getLevel());
+                writeTitle(chapter.getTitle());
+            } else if (node instanceof Image image) {
+                output.writeByte(IMAGE);
+                writeString(image.getId());
+                writeString(image.getWidth());
+                writeString(image.getHeight());
+                writeString(image.getSize());
+                writeString(image.getAlignment());
+            } else if (node instanceof NoArgumentStructure structure) {
+                output.writeByte(NO_ARGUMENT_STRUCTURE);
+                writeString(structure.getType() == null ? null : structure.getType().name());
+            } else if (node instanceof Paragraph paragraph) {
+                output.writeByte(PARAGRAPH);
+                writeCount(paragraph.getParagraphInstructions().size());
+                for (var instruction : paragraph.getParagraphInstructions()) writeParagraphInstruction(instruction);
+            } else throw new UnsupportedOperationException("Cannot write the body node " + node.getClass());
+        }
+
+        private void writeParagraphInstruction(final ParagraphInstruction instruction) throws IOException {
+            if (instruction instanceof Text text) {
+                output.writeByte(TEXT);
+                writeString(text.getContent());
+            } else if (instruction instanceof frontend.ast.paragraph.Work work) {
+                output.writeByte(WORK);
+                writeString(work.getWorkContent());
+            } else if (instruction instanceof Emphasise emphasise) {
+                output.writeByte(EMPHASISE);
+                writeString(emphasise.getContent());
+            } else if (instruction instanceof Citation citation) {
+                output.writeByte(CITATION);
+                writeString(citation.getSource());
+                writeString(citation.getCitedContent());
+                writeString(citation.getNumeration());
+            } else throw new UnsupportedOperationException("Cannot write the instruction " + instruction.getClass());
+        }
+
+        private void writeString(final String string) throws IOException {
+            if (string == null) {
+                writeCount(NULL_STRING);
+                return;
+            }
+
+            final var index = strings.get(string);
+            if (index != null) {
+                writeCount(FIRST_STRING_REFERENCE + index);
+                return;
+            }
+
+            strings.put(string, strings.size());
+
+            final var bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeCount(NEW_STRING);
+            writeCount(bytes.length);
+            output.write(bytes);
+        }
+
+        /**
+         * Writes the non-negative value using seven bits per byte, where the highest bit marks that more bytes follow
+         *
+         * @param value the non-negative value
+         * @throws IOException if the output cannot be written to
+         */
+        private void writeCount(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                output.writeByte(value & 0x7F | 0x80);
+                value >>>= 7;
+            }
+            output.writeByte(value);
+        }
+
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream input;
+
+        /**
+         * The strings that have been read so far, in the order of their first occurrence
+         */
+        private final List<String> strings = new ArrayList<>();
+
+        private Reader(final DataInputStream input) {
+            this.input = input;
+        }
+
+        private AST readAST() throws IOException {
+            final var ast = new AST();
+            readConfiguration(ast.getConfiguration());
+
+            readList(this::readBodyNode, ast::enqueueDocumentNode);
+
+            readList(this::readBibliographySource, ast::includeBibliographySource);
+
+            return ast;
+        }
+
+        private BibliographySource readBibliographySource() throws IOException {
+            final var source = new BibliographySource();
+            readAuthors(source.getAuthors());
+            source.getPublication().setName(readString());
+            source.getPublication().setYear(readString());
+            source.setId(readString());
+            source.setType(readString());
+            source.setTitle(readString());
+            return source;
+        }
+
+        private void readConfiguration(final Configuration configuration) throws IOException {
+            readList(() -> {
+                final var assessor = new Assessor();
+                assessor.setTitle(readString());
+                assessor.setName(readString());
+                assessor.setFirstname(readString());
+                assessor.setLastname(readString());
+                assessor.setRole(readString());
+                assessor.setEmailAddress(readString());
+                assessor.setArea(readString());
+                return assessor;
+            }, configuration.getAssessors()::add);
+
+            readAuthors(configuration.getAuthors());
+
+            final Publication publication = configuration.getPublication();
+            readTitle(publication.getTitle());
+            publication.setInstitution(readString());
+            publication.setChair(readString());
+            publication.setSemester(readString());
+            publication.setDate(readString());
+
+            readStyle(configuration.getStyle());
+            readTitle(configuration.getTitle());
+            configuration.setDocumentType(readString());
+        }
+
+        private void readAuthors(final Authors authors) throws IOException {
+            readList(() -> {
+                final var author = new Author();
+                author.setTitle(readString());
+                author.setName(readString());
+                author.setFirstname(readString());
+                author.setLastname(readString());
+                author.setId(readString());
+                author.setEmailAddress(readString());
+                author.setArea(readString());
+                return author;
+            }, authors::add);
+        }
+
+        private void readStyle(final Style style) throws IOException {
+            final Layout layout = style.getLayout();
+            layout.setWidth(readString());
+            layout.setHeight(readString());
+            layout.setMargin(readString());
+            layout.setSpacing(readString());
+
+            final Structure structure = style.getStructure();
+            structure.getParagraph().setIndentation(readString());
+            readFont(structure.getSentence().getFont());
+            structure.getChapters().setChapterAlignment(readString());
+            structure.getChapters().setLineSpacing(readString());
+            readFont(structure.getWork().getFont());
+            readFont(structure.getEmphasis().getFont());
+            structure.getEmphasis().setAllowEmphasis(readString());
+
+            readList(() -> {
+                final var chapter = new Chapter();
+                readFont(chapter.getSentenceFont());
+                readFont(chapter.getEmphasisFont());
+                readFont(chapter.getWorkFont());
+                chapter.setAffectedLevel(readString());
+                return chapter;
+            }, structure.getSingleChapters()::add);
+
+            final Numeration numeration = style.getNumeration();
+            readList(this::readString, numeration::addSkippedPage);
+            numeration.setNumerationType(readString());
+            numeration.setAuthorLimit(readString());
+            numeration.setPosition(readString());
+            numeration.setMargin(readString());
+            numeration.setAuthorName(readString());
+
+            style.setBaseStyle(readString());
+        }
+
+        private void readFont(final Font font) throws IOException {
+            font.setName(readString());
+            font.setColour(readString());
+            font.setSize(readString());
+        }
+
+        private void readTitle(final Title title) throws IOException {
+            readList(() -> switch (input.readUnsignedByte()) {
+                case TITLE_TEXT -> new TitleText(readNonNullString());
+                case TITLE_EMPHASIS -> new TitleText(new Emphasis(readNonNullString()));
+                case TITLE_WORK -> new TitleText(new Work(readNonNullString()));
+                default -> throw new IOException("Invalid title text");
+            }, title::add);
+        }
+
+        private BodyNode readBodyNode() throws IOException {
+            switch (input.readUnsignedByte()) {
+                case CHAPTER -> {
+                    final var chapter = new frontend.ast.structure.Chapter();
+                    chapter.setLevel(readCount());
+                    readTitle(chapter.getTitle());
+                    return chapter;
+                }
+                case IMAGE -> {
+                    final var image = new Image();
+                    image.setId(readString());
+                    image.setWidth(readString());
+                    image.setHeight(readString());
+                    image.setSize(readString());
+                    image.setAlignment(readString());
+                    return image;
+                }
+                case NO_ARGUMENT_STRUCTURE -> {
+                    final var type = readString();
+                    try {
+                        return new NoArgumentStructure(type == null ? null : StructureType.valueOf(type));
+                    } catch (IllegalArgumentException e) {
+                        throw new IOException("Invalid structure type " + type, e);
+                    }
+                }
+                case PARAGRAPH -> {
+                    final var paragraph = new Paragraph();
+                    readList(this::readParagraphInstruction, paragraph::enqueueParagraphInstruction);
+                    return paragraph;
+                }
+                default -> throw new IOException("Invalid body node");
+            }
+        }
+
+        private ParagraphInstruction readParagraphInstruction() throws IOException {
+            switch (input.readUnsignedByte()) {
+                case TEXT -> {
+                    return new Text(readNonNullString());
+                }
+                case WORK -> {
+                    return new frontend.ast.paragraph.Work(readNonNullString());
+                }
+                case EMPHASISE -> {
+                    return new Emphasise(readNonNullString());
+                }
+                case CITATION -> {
+                    final var citation = new Citation();
+                    citation.setSource(readString());
+                    citation.setCitedContent(readString());
+                    citation.setNumeration(readString());
+                    return citation;
+                }
+                default -> throw new IOException("Invalid paragraph instruction");
+            }
+        }
+
+        /**
+         * Reads a count, followed by that amount of elements
+         *
+         * @param element     reads the next element
+         * @param destination receives the elements in order
+         * @param <T>         the type of the elements
+         * @throws IOException if the input cannot be read
+         */
+        private <T> void readList(final ElementReader<T> element, final Consumer<? super T> destination)
+                throws IOException {
+            final int count = readCount();
+            for (int i = 0; i < count; i++) destination.accept(element.read());
+        }
+
+        private String readNonNullString() throws IOException {
+            final var string = readString();
+            if (string == null) throw new IOException("Invalid null string");
+
+            return string;
+        }
+
+        private String readString() throws IOException {
+            final int reference = readCount();
+            if (reference == NULL_STRING) return null;
+
+            if (reference == NEW_STRING) {
+                final int length = readCount();
+                if (length < 0 || length > input.available()) throw new IOException("Invalid string length");
+
+                final var bytes = new byte[length];
+                input.readFully(bytes);
+
+                final var string = new String(bytes, StandardCharsets.UTF_8);
+                strings.add(string);
+                return string;
+            }
+
+            final int index = reference - FIRST_STRING_REFERENCE;
+            if (index >= strings.size()) throw new IOException("Invalid string reference");
+
+            return strings.get(index);
+        }
+
+        private int readCount() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                final int part = input.readUnsignedByte();
+                value |= (part & 0x7F) << shift;
+
+                if ((part & 0x80) == 0) return value;
+            }
+
+            throw new IOException("Invalid count");
+        }
+
+    }
+
+    /**
+     * Reads an element of a list, which may fail, unlike a {@link Supplier}
+     *
+     * @param <T> the type of the element
+     */
+    @FunctionalInterface
+    private interface ElementReader<T> {
+
+        T read() throws IOException;
+
+    }
+
+}
@@ -0,0 +1,316 @@
+package frontend;
+
+import lombok.Getter;
+import lombok.NonNull;
+import processing.CompilationContext;
+import warning.WarningQueue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Compiles many projects at the same time, each in its own compilation context.
+ * A project is a folder that contains a {@value #DOCUMENT_FILE_NAME} and optionally a
+ * {@value #BIBLIOGRAPHY_FILE_NAME} file, as described in the help on the project structure. The document of a project is saved as
+ * {@value #OUTPUT_FILE_NAME} in the project folder.
+ * At most the specified amount of projects are compiled at the same time. A project that cannot be compiled is
+ * reported as failed in the summary, and does not affect the other projects of the batch.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class BatchCompiler {
+
+    /**
+     * The name of the document file in the root folder of a project
+     */
+    public static final String DOCUMENT_FILE_NAME = "document.pipp";
+
+    /**
+     * The name of the bibliography file in the root folder of a project
+     */
+    public static final String BIBLIOGRAPHY_FILE_NAME = "bibliography.pipp";
+
+    /**
+     * The name of the folder in the root folder of a project that contains the images of the document
+     */
+    public static final String IMAGE_FOLDER_NAME = "img";
+
+    /**
+     * The name of the created document in the root folder of a project
+     */
+    public static final String OUTPUT_FILE_NAME = "document.pdf";
+
+    /**
+     * The maximum amount of projects that are compiled at the same time
+     */
+    @Getter
+    private final int parallelism;
+
+    /**
+     * The cache that is shared by the compilations, or null if the ASTs are not cached
+     */
+    private ASTCache cache;
+
+    /**
+     * The cache of compiled documents that is shared by the compilations, or null if the documents are not cached
+     */
+    private BuildCache buildCache;
+
+    /**
+     * Creates a batch compiler that compiles as many projects at the same time as there are processors
+     */
+    public BatchCompiler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a batch compiler that compiles at most the specified amount of projects at the same time
+     *
+     * @param parallelism the positive maximum amount of projects that are compiled at the same time
+     */
+    public BatchCompiler(final int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("The parallelism of a batch must be positive, but is " + parallelism);
+
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Uses the cache to store and load the ASTs of the compiled projects
+     *
+     * @param cache the cache that is shared by the compilations, or null if the ASTs should not be cached
+     */
+    public void setCache(final ASTCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Uses the build cache to store the compiled documents, and to return them instead of compiling unchanged
+     * projects again
+     *
+     * @param buildCache the cache that is shared by the compilations, or null if the documents should not be cached
+     */
+    public void setBuildCache(final BuildCache buildCache) {
+        this.buildCache = buildCache;
+    }
+
+    /**
+     * Finds the projects of the specified paths, in their order, without duplicates.
+     * A folder that contains a document file is a project, and any other folder contains projects as its direct
+     * sub-folders. A file lists one project folder or folder of projects per line, where blank lines and lines
+     * starting with '#' are ignored, and relative paths are resolved against the folder of the list.
+     *
+     * @param paths the non-null project folders, folders of projects or lists of projects
+     * @return the project folders that have been found
+     * @throws IOException if a folder or list cannot be read
+     */
+    public static List<Path> findProjects(@NonNull final List<Path> paths) throws IOException {
+        final Set<Path> projects = new LinkedHashSet<>();
+        for (var path : paths) findProjects(path, projects, true);
+
+        return List.copyOf(projects);
+    }
+
+    private static void findProjects(final Path path, final Set<Path> projects, final boolean readsLists)
+            throws IOException {
+        if (Files.isDirectory(path)) {
+            if (Files.isRegularFile(path.resolve(DOCUMENT_FILE_NAME))) {
+                projects.add(path.toAbsolutePath().normalize());
+                return;
+            }
+
+            try (Stream<Path> children = Files.list(path)) {
+                for (var child : children.filter(Files::isDirectory).sorted().toList())
+                    if (Files.isRegularFile(child.resolve(DOCUMENT_FILE_NAME)))
+                        projects.add(child.toAbsolutePath().normalize());
+            }
+        } else if (readsLists) {
+            final var folder = path.toAbsolutePath().getParent();
+            for (var line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                final var entry = line.strip();
+                if (entry.isEmpty() || entry.startsWith("#")) continue;
+
+                // A list may only contain folders, so lists cannot include each other
+                findProjects(folder.resolve(entry), projects, false);
+            }
+        } else throw new IOException("'" + path + "' is not a project folder or a folder of projects.");
+    }
+
+    /**
+     * Compiles the projects, and waits until all of them have been compiled
+     *
+     * @param projects the non-null project folders that should be compiled
+     * @return the summary of the batch, which contains the results in the order of the projects
+     */
+    public Summary compile(@NonNull final List<Path> projects) {
+        final long start = System.nanoTime();
+        final var threadNumber = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            final var thread = new Thread(runnable, "pipp-batch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            final var compilations = new ArrayList<Future<Result>>(projects.size());
+            for (var project : projects) compilations.add(executor.submit(() -> compile(project)));
+
+            final var results = new ArrayList<Result>(projects.size());
+            for (int i = 0; i < projects.size(); i++) results.add(resultOf(projects.get(i), compilations.get(i)));
+
+            return new Summary(List.copyOf(results), Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Compiles a single project in its own context on the current thread.
+     * The failure of the project is returned instead of thrown.
+     *
+     * @param project the non-null folder of the project
+     * @return the result of the compilation
+     */
+    public Result compile(@NonNull final Path project) {
+        final long start = System.nanoTime();
+        final var context = new CompilationContext(project.resolve(OUTPUT_FILE_NAME),
+                project.resolve(IMAGE_FOLDER_NAME));
+
+        final var documentFile = project.resolve(DOCUMENT_FILE_NAME).toFile();
+        final var bibliographyFile = project.resolve(BIBLIOGRAPHY_FILE_NAME).toFile();
+
+        String buildKey = null;
+        Exception error = null;
+        try {
+            if (buildCache != null) {
+                buildKey = buildCache.keyOf(documentFile, bibliographyFile.isFile() ? bibliographyFile : null);
+
+                final var hit = buildCache.load(buildKey);
+                if (hit != null) {
+                    Files.write(context.getOutputFile(), hit.document());
+                    return new Result(project, Duration.ofNanos(System.nanoTime() - start), hit.warnings(), null);
+                }
+            }
+        } catch (IOException e) {
+            // The compilation reports the unreadable file itself
+            buildKey = null;
+        }
+
+        final var dependencies = new ArrayList<Path>();
+        try {
+            final var bridge = new FrontEndBridge(documentFile, bibliographyFile);
+            bridge.setCache(cache);
+
+            if (!bridge.compile(context))
+                error = new IllegalStateException("The document does not contain any instructions.");
+
+            bridge.getIncludedFiles().forEach(file -> dependencies.add(file.toPath()));
+        } catch (IOException | RuntimeException e) {
+            error = e;
+        }
+
+        final var warnings = new ArrayList<String>();
+        context.run(() -> WarningQueue.getAll().forEach(warning -> warnings.add(warning.toString())));
+
+        if (buildKey != null && error == null) {
+            dependencies.addAll(context.getDependencies());
+            buildCache.store(buildKey, context.getOutputFile(), dependencies, List.copyOf(warnings));
+        }
+
+        return new Result(project, Duration.ofNanos(System.nanoTime() - start), List.copyOf(warnings), error);
+    }
+
+    /**
+     * Waits for the compilation of the project, and turns errors that have not been caught by the compilation,
+     * like a stack overflow of a deeply nested document, into a failed result
+     *
+     * @param project     the folder of the project
+     * @param compilation the running compilation of the project
+     * @return the result of the compilation
+     */
+    private static Result resultOf(final Path project, final Future<Result> compilation) {
+        try {
+            return compilation.get();
+        } catch (ExecutionException e) {
+            return new Result(project, Duration.ZERO, List.of(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while compiling the batch", e);
+        }
+    }
+
+    /**
+     * The result of compiling a single project
+     *
+     * @param project  the folder of the project
+     * @param time     the time it took to compile the project
+     * @param warnings the warnings of the compilation in order of occurrence
+     * @param error    the error that stopped the compilation, or null if the document has been saved
+     */
+    public record Result(Path project, Duration time, List<String> warnings, Throwable error) {
+
+        /**
+         * Yields true if the document of the project has been compiled and saved
+         *
+         * @return true if there has not been an error
+         */
+        public boolean succeeded() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            final var status = succeeded() ? "OK    " : "FAILED";
+            final var line = String.format(Locale.ROOT, "%s %8d ms %4d warnings  %s", status, time.toMillis(),
+                    warnings.size(), project);
+
+            return succeeded() ? line : line + "\n\t" + error;
+        }
+
+    }
+
+    /**
+     * The summary of a batch
+     *
+     * @param results the results in the order of the compiled projects
+     * @param time    the time it took to compile all projects
+     */
+    public record Summary(List<Result> results, Duration time) {
+
+        /**
+         * Yields the results of the projects whose documents could not be compiled
+         *
+         * @return the failed results in the order of the projects
+         */
+        public List<Result> failures() {
+            return results.stream().filter(result -> !result.succeeded()).toList();
+        }
+
+        @Override
+        public String toString() {
+            final var summary = new StringBuilder();
+            results.forEach(result -> summary.append(result).append('\n'));
+
+            return summary.append(String.format(Locale.ROOT, "Compiled %d of %d projects in %d ms, %d failed.",
+                    results.size() - failures().size(), results.size(), time.toMillis(), failures().size()))
+                    .toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package frontend;
+
+import frontend.ast.bibliography.BibliographySource;
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * Describes an index of the entries of a bibliography by their IDs, which is used to parse only the entries that
+ * are actually cited. The entries are parsed, or decoded, when they are requested, so the bibliography sources are
+ * not part of the AST.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public interface BibliographyIndex {
+
+    /**
+     * Yields the entry with the specified ID, if there is one.
+     * Each call yields a new entry, so the caller should keep the entry.
+     *
+     * @param id the non-null ID of the entry
+     * @return the entry, or null if the bibliography does not contain an entry with the ID
+     */
+    BibliographySource parse(@NonNull String id);
+
+    /**
+     * Yields true if the bibliography contains an entry with the specified ID
+     *
+     * @param id the non-null ID of the entry
+     * @return true if an entry has the ID
+     */
+    boolean contains(@NonNull String id);
+
+    /**
+     * Yields the amount of distinct IDs of the bibliography
+     *
+     * @return the amount of indexed entries
+     */
+    int size();
+
+    /**
+     * Yields the IDs that are used by more than one entry, in the order of their second occurrence in the
+     * bibliography. Only the first entry with such an ID is indexed.
+     *
+     * @return the unmodifiable list of duplicate IDs
+     */
+    List<String> getDuplicateIds();
+
+}
@@ -0,0 +1,210 @@
+package frontend;
+
+import lombok.NonNull;
+import processing.Processor;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stores compiled documents on disk, so that compiling unchanged inputs returns the stored PDF immediately instead of
+ * compiling the document again.
+ * Each entry is keyed by a SHA-256 hash of the compiler version, the canonical path of the document, and the bytes
+ * of the document and bibliography files. The document configures the style guide, so the key changes with the
+ * style guide as well. Included files and images are looked up in the folder of the document, so equal documents in
+ * different folders never share an entry. The other inputs, like the included files, images and fonts, are only
+ * known once the document has been compiled, so an entry stores the hashes of these files, and is only used as long
+ * as all of them are unchanged.
+ * An entry starts with a header that contains the format and compiler version, followed by the hashes of the
+ * dependencies, the warnings of the compilation, and the bytes of the PDF. Entries whose header does not match, or
+ * whose dependencies have changed, are never used, and are deleted instead.
+ * The total size of the entries is bounded by the {@link CacheDirectory} that stores them.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class BuildCache {
+
+    /**
+     * The default maximum amount of bytes all entries may occupy together
+     */
+    public static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+
+    /**
+     * Identifies the files that are entries of the cache
+     */
+    private static final int MAGIC = 0x50495044;
+
+    /**
+     * The version of the layout of an entry
+     */
+    private static final int ENTRY_VERSION = 1;
+
+    private static final String ENTRY_SUFFIX = ".build";
+
+    private static final Logger LOGGER = Logger.getLogger(BuildCache.class.getName());
+
+    /**
+     * Stores the entries and evicts the least recently used ones
+     */
+    private final CacheDirectory entries;
+
+    /**
+     * Creates a cache in the specified directory using the default maximum size
+     *
+     * @param directory the non-null directory that contains the entries, which is created if necessary
+     */
+    public BuildCache(@NonNull final Path directory) {
+        this(directory, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache in the specified directory
+     *
+     * @param directory the non-null directory that contains the entries, which is created if necessary
+     * @param maxSize   the maximum amount of bytes all entries may occupy together
+     */
+    public BuildCache(@NonNull final Path directory, final long maxSize) {
+        this.entries = new CacheDirectory(directory, maxSize, ENTRY_SUFFIX);
+    }
+
+    /**
+     * Computes the key of the specified files, which changes whenever one of the files, the location of the document,
+     * or the compiler changes
+     *
+     * @param documentFile     the non-null document file
+     * @param bibliographyFile the bibliography file, or null if there is none
+     * @return the hexadecimal key of the files
+     * @throws IOException if one of the files cannot be read
+     */
+    public String keyOf(@NonNull final File documentFile, final File bibliographyFile) throws IOException {
+        return ContentHashes.keyOf(Processor.COMPILER_VERSION, documentFile, bibliographyFile);
+    }
+
+    /**
+     * Loads the build with the specified key, and marks the entry as used
+     *
+     * @param key the non-null key of the document and bibliography
+     * @return the cached build, or null if there is no valid entry
+     */
+    public Hit load(@NonNull final String key) {
+        return entries.read(key, input -> read(input, key));
+    }
+
+    /**
+     * Decodes an entry, unless its header does not match or its dependencies have changed
+     *
+     * @param input the input that contains the whole entry
+     * @param key   the key of the entry
+     * @return the decoded build, or null if the entry cannot be used
+     * @throws IOException if the entry is corrupt
+     */
+    private static Hit read(final DataInputStream input, final String key) throws IOException {
+        if (input.readInt() != MAGIC || input.readInt() != ENTRY_VERSION
+                || !Processor.COMPILER_VERSION.equals(input.readUTF()) || !key.equals(input.readUTF())
+                || !ContentHashes.filesAreUnchanged(input, new ArrayList<>()))
+            return null;
+
+        final int amountOfWarnings = input.readInt();
+        final var warnings = new ArrayList<String>();
+        for (int i = 0; i < amountOfWarnings; i++) warnings.add(input.readUTF());
+
+        final int length = input.readInt();
+        if (length != input.available()) throw new IOException("The entry does not contain the whole document");
+
+        return new Hit(input.readNBytes(length), List.copyOf(warnings));
+    }
+
+    /**
+     * Stores the compiled document, and then evicts the least recently used entries until the size bound is met.
+     * The dependencies are hashed, so that the entry is not used once one of them changes.
+     * Failing to store the document does not affect the compilation, so errors are only logged.
+     *
+     * @param key          the non-null key of the document and bibliography the document has been compiled from
+     * @param outputFile   the non-null file the compiled document has been saved to
+     * @param dependencies the non-null files besides the document and bibliography the compilation has read, like
+     *                     the included files, images and fonts
+     * @param warnings     the non-null warnings of the compilation in order of occurrence
+     */
+    public void store(@NonNull final String key, @NonNull final Path outputFile,
+                      @NonNull final Collection<Path> dependencies, @NonNull final List<String> warnings) {
+        try {
+            final var document = Files.readAllBytes(outputFile);
+            final var files = dependencies.stream().map(file -> file.toAbsolutePath().normalize()).distinct().toList();
+
+            entries.write(key, output -> {
+                output.writeInt(MAGIC);
+                output.writeInt(ENTRY_VERSION);
+                output.writeUTF(Processor.COMPILER_VERSION);
+                output.writeUTF(key);
+                ContentHashes.writeFiles(output, files);
+
+                output.writeInt(warnings.size());
+                for (var warning : warnings) output.writeUTF(warning);
+
+                output.writeInt(document.length);
+                output.write(document);
+            });
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not store the document in the build cache", e);
+        }
+    }
+
+    /**
+     * Lists the entries of the cache, which allows inspecting the cache
+     *
+     * @return the entries, from the most to the least recently used one
+     * @throws IOException if the directory cannot be listed
+     */
+    public List<Entry> entries() throws IOException {
+        return entries.entries().stream()
+                .map(entry -> new Entry(entry.file(), entry.size(), entry.lastUsed()))
+                .toList();
+    }
+
+    /**
+     * Deletes all entries of the cache
+     *
+     * @return the amount of entries that have been deleted
+     * @throws IOException if the directory cannot be listed
+     */
+    public int clear() throws IOException {
+        return entries.clear();
+    }
+
+    /**
+     * A build that has been found in the cache
+     *
+     * @param document the bytes of the compiled PDF document
+     * @param warnings the warnings of the compilation in order of occurrence
+     */
+    public record Hit(byte[] document, List<String> warnings) {
+    }
+
+    /**
+     * An entry of the cache
+     *
+     * @param file     the file that contains the entry
+     * @param size     the amount of bytes of the entry
+     * @param lastUsed the time the entry has been stored or loaded last
+     */
+    public record Entry(Path file, long size, FileTime lastUsed) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%10d bytes  %s  %s", size, lastUsed, file.getFileName());
+        }
+
+    }
+
+}
@@ -0,0 +1,280 @@
+package frontend;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stores the entries of an on-disk cache as the files of a directory, whose total size is bounded.
+ * An entry is written to a temporary file first, which then replaces the entry, so that other compilations never
+ * read a partially written entry. Once the maximum size is exceeded, the entries that have been used least recently
+ * are evicted.
+ * The last use is tracked by a stamp in front of each entry, which is replaced whenever the entry is used, instead of
+ * the modification time of the file. Some file systems only store modification times in steps of one or two seconds,
+ * which would make entries that have been used shortly after each other tie. The stamps are the current time in
+ * milliseconds, but strictly increase within the process, and entries with the same stamp are ordered by their name.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+final class CacheDirectory {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheDirectory.class.getName());
+
+    /**
+     * The amount of bytes of the stamp in front of each entry
+     */
+    private static final int STAMP_LENGTH = Long.BYTES;
+
+    /**
+     * The stamp that has been handed out last, which is shared by all directories of the process
+     */
+    private static final AtomicLong LAST_STAMP = new AtomicLong();
+
+    /**
+     * The directory that contains the entries
+     */
+    private final Path directory;
+
+    /**
+     * The maximum amount of bytes all entries may occupy together
+     */
+    private final long maxSize;
+
+    /**
+     * The file name suffix of the entries, which distinguishes them from temporary and other files
+     */
+    private final String suffix;
+
+    /**
+     * Creates a store of the entries in the specified directory
+     *
+     * @param directory the directory that contains the entries, which is created once an entry is written
+     * @param maxSize   the positive maximum amount of bytes all entries may occupy together
+     * @param suffix    the file name suffix of the entries
+     */
+    CacheDirectory(final Path directory, final long maxSize, final String suffix) {
+        if (maxSize <= 0) throw new IllegalArgumentException("The maximum size of the cache must be positive");
+
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.suffix = suffix;
+    }
+
+    /**
+     * Reads the entry with the specified key, and marks it as used if the reader accepts it.
+     * An entry the reader rejects, or that cannot be read, is deleted, so that it is not read again.
+     *
+     * @param key    the key of the entry
+     * @param reader the reader that decodes the entry, and yields null if the entry is stale
+     * @param <T>    the type of the decoded entry
+     * @return the decoded entry, or null if there is no valid entry
+     */
+    <T> T read(final String key, final EntryReader<T> reader) {
+        final var entry = entryOf(key);
+        if (!Files.isRegularFile(entry)) return null;
+
+        try {
+            // The entry is read at once, so that readers can check lengths against the remaining bytes
+            final var bytes = Files.readAllBytes(entry);
+            if (bytes.length < STAMP_LENGTH) throw new EOFException("The entry does not contain a stamp");
+
+            final var input = new DataInputStream(
+                    new ByteArrayInputStream(bytes, STAMP_LENGTH, bytes.length - STAMP_LENGTH));
+            final var value = reader.read(input);
+            if (value == null) {
+                delete(entry);
+                return null;
+            }
+
+            try (var channel = FileChannel.open(entry, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(STAMP_LENGTH).putLong(0, nextStamp()), 0);
+            }
+            return value;
+        } catch (NoSuchFileException e) {
+            // The entry has been evicted by another compilation in the meantime
+            return null;
+        } catch (IOException e) {
+            // The entry is corrupt, for example because writing it has been interrupted
+            delete(entry);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the entry with the specified key, and then evicts the least recently used entries until the size bound
+     * is met
+     *
+     * @param key    the key of the entry
+     * @param writer the writer that encodes the entry
+     * @throws IOException if the entry cannot be written
+     */
+    void write(final String key, final EntryWriter writer) throws IOException {
+        Files.createDirectories(directory);
+        final var temporary = Files.createTempFile(directory, key, ".tmp");
+
+        try {
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeLong(nextStamp());
+                writer.write(output);
+            }
+
+            Files.move(temporary, entryOf(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            delete(temporary);
+        }
+
+        evict();
+    }
+
+    /**
+     * Lists the entries in the directory
+     *
+     * @return the entries, from the most to the least recently used one
+     * @throws IOException if the directory cannot be listed
+     */
+    List<Entry> entries() throws IOException {
+        if (!Files.isDirectory(directory)) return List.of();
+
+        final List<Entry> entries = new ArrayList<>();
+        try (var files = Files.newDirectoryStream(directory, "*" + suffix)) {
+            for (var file : files) {
+                try {
+                    entries.add(new Entry(file, Files.size(file), FileTime.fromMillis(stampOf(file))));
+                } catch (IOException e) {
+                    // The entry has been deleted by another compilation in the meantime
+                }
+            }
+        }
+
+        entries.sort(Comparator.comparing(Entry::lastUsed).reversed().thenComparing(Entry::file));
+        return entries;
+    }
+
+    /**
+     * Deletes all entries in the directory
+     *
+     * @return the amount of entries that have been deleted
+     * @throws IOException if the directory cannot be listed
+     */
+    int clear() throws IOException {
+        final var entries = entries();
+        entries.forEach(entry -> delete(entry.file()));
+
+        return entries.size();
+    }
+
+    /**
+     * Deletes the least recently used entries until the total size of the entries does not exceed the maximum size
+     *
+     * @throws IOException if the directory cannot be listed
+     */
+    private void evict() throws IOException {
+        final var entries = entries();
+        long totalSize = entries.stream().mapToLong(Entry::size).sum();
+
+        for (int i = entries.size() - 1; i >= 0 && totalSize > maxSize; i--) {
+            delete(entries.get(i).file());
+            totalSize -= entries.get(i).size();
+        }
+    }
+
+    /**
+     * Yields the stamp of the next use of an entry, which is greater than all stamps the process has handed out
+     *
+     * @return the current time in milliseconds, or the last stamp plus one if the clock has not advanced since
+     */
+    private static long nextStamp() {
+        return LAST_STAMP.updateAndGet(last -> Math.max(last + 1, System.currentTimeMillis()));
+    }
+
+    /**
+     * Reads the stamp of the last use of the entry
+     *
+     * @param file the file that contains the entry
+     * @return the stamp, or zero if the entry is too short to contain one, so that it is evicted first
+     * @throws IOException if the entry cannot be read
+     */
+    private static long stampOf(final Path file) throws IOException {
+        try (var input = new DataInputStream(Files.newInputStream(file))) {
+            return input.readLong();
+        } catch (EOFException e) {
+            return 0;
+        }
+    }
+
+    private Path entryOf(final String key) {
+        return directory.resolve(key + suffix);
+    }
+
+    private static void delete(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Could not delete " + file, e);
+        }
+    }
+
+    /**
+     * Decodes an entry of the cache
+     *
+     * @param <T> the type of the decoded entry
+     */
+    @FunctionalInterface
+    interface EntryReader<T> {
+
+        /**
+         * Decodes the entry, and checks if it can still be used
+         *
+         * @param input the input that contains the whole entry
+         * @return the decoded entry, or null if the entry is stale
+         * @throws IOException if the entry is corrupt
+         */
+        T read(DataInputStream input) throws IOException;
+
+    }
+
+    /**
+     * Encodes an entry of the cache
+     */
+    @FunctionalInterface
+    interface EntryWriter {
+
+        /**
+         * Encodes the entry
+         *
+         * @param output the output of the entry
+         * @throws IOException if the entry cannot be written
+         */
+        void write(DataOutputStream output) throws IOException;
+
+    }
+
+    /**
+     * An entry of the cache
+     *
+     * @param file     the file that contains the entry
+     * @param size     the amount of bytes of the entry
+     * @param lastUsed the stamp of the time the entry has been stored or read last
+     */
+    record Entry(Path file, long size, FileTime lastUsed) {
+    }
+
+}
@@ -0,0 +1,103 @@
+package frontend;
+
+import lombok.NonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Submits projects to a running {@link CompileServer}, which compiles them in its warm JVM.
+ * The projects must be readable by the server, as only their paths are sent.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public final class CompileClient {
+
+    /**
+     * Prevents instantiation
+     */
+    private CompileClient() {
+        throw new UnsupportedOperationException("Should not instantiate static helper class");
+    }
+
+    /**
+     * Lets the server compile the project, and waits for its response
+     *
+     * @param address the non-null address of the server
+     * @param project the non-null folder of the project
+     * @return the response of the server
+     * @throws IOException if the server cannot be reached, or if it closes the connection before responding
+     */
+    public static Response compile(@NonNull final SocketAddress address, @NonNull final Path project)
+            throws IOException {
+        return compile(address, List.of(project)).get(0);
+    }
+
+    /**
+     * Lets the server compile the projects one after the other over a single connection, and waits for all responses
+     *
+     * @param address  the non-null address of the server
+     * @param projects the non-null folders of the projects
+     * @return the responses of the server in the order of the projects
+     * @throws IOException if the server cannot be reached, or if it closes the connection before responding
+     */
+    public static List<Response> compile(@NonNull final SocketAddress address, @NonNull final List<Path> projects)
+            throws IOException {
+        try (var channel = SocketChannel.open(address);
+             var in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+             var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+            final var responses = new ArrayList<Response>(projects.size());
+            for (var project : projects) {
+                CompileProtocol.writeRequest(out, project);
+                out.flush();
+
+                responses.add(CompileProtocol.readResponse(in));
+            }
+
+            return responses;
+        }
+    }
+
+    /**
+     * The response of the server to a compile request
+     *
+     * @param outputFile  the file the document has been saved to, or null if the compilation failed
+     * @param error       the error that stopped the compilation, or null if the document has been saved
+     * @param compileTime the time it took to compile the project
+     * @param serverTime  the time the server spent on the request, including the time it waited for a free worker
+     * @param warnings    the warnings of the compilation in order of occurrence
+     */
+    public record Response(Path outputFile, String error, Duration compileTime, Duration serverTime,
+                           List<String> warnings) {
+
+        /**
+         * Yields true if the document of the project has been compiled and saved
+         *
+         * @return true if there has not been an error
+         */
+        public boolean succeeded() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            final var status = succeeded() ? "OK     " + outputFile : "FAILED " + error;
+            return String.format(Locale.ROOT, "%s (compiled in %d ms, %d ms on the server, %d warnings)", status,
+                    compileTime.toMillis(), serverTime.toMillis(), warnings.size());
+        }
+
+    }
+
+}
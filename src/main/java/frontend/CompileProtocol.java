@@ -0,0 +1,127 @@
+package frontend;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes the requests and responses that the {@link CompileClient} and the {@link CompileServer} exchange.
+ * A connection carries any amount of requests, each of which is answered before the next one is read.
+ * A request consists of the magic number, the version of the protocol and the absolute path of the project folder.
+ * A response consists of a flag that is true if the project has been compiled, followed by the path of the created
+ * document or the error, the compile and server time in nanoseconds, and the warnings of the compilation.
+ * Strings are written as their length, followed by their UTF-8 bytes, so that long warnings are not limited by
+ * {@link DataOutputStream#writeUTF(String)}.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+final class CompileProtocol {
+
+    /**
+     * Identifies the start of a request
+     */
+    static final int MAGIC = 0x50495043;
+
+    /**
+     * The version of the protocol, which must be increased whenever the layout of a message changes
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The maximum amount of bytes of a string, which prevents a corrupt message from allocating a huge array
+     */
+    private static final int MAX_STRING_LENGTH = 16 * 1024 * 1024;
+
+    /**
+     * The maximum amount of warnings of a response
+     */
+    private static final int MAX_WARNINGS = 1_000_000;
+
+    /**
+     * Prevents instantiation
+     */
+    private CompileProtocol() {
+        throw new UnsupportedOperationException("Should not instantiate static helper class");
+    }
+
+    static void writeRequest(final DataOutputStream out, final Path project) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeString(out, project.toAbsolutePath().normalize().toString());
+    }
+
+    /**
+     * Reads the next request of a connection
+     *
+     * @param in the stream of the connection
+     * @return the project folder of the request, or null if the client has closed the connection
+     * @throws IOException if the request cannot be read, or if it is not a request of this protocol version
+     */
+    static Path readRequest(final DataInputStream in) throws IOException {
+        final int magic;
+        try {
+            magic = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+
+        if (magic != MAGIC) throw new IOException("The connection does not use the compile protocol.");
+        final int version = in.readInt();
+        if (version != VERSION)
+            throw new IOException("Unsupported compile protocol version " + version + ", expected " + VERSION + ".");
+
+        return Path.of(readString(in));
+    }
+
+    static void writeResponse(final DataOutputStream out, final CompileClient.Response response) throws IOException {
+        out.writeBoolean(response.succeeded());
+        writeString(out, response.succeeded() ? response.outputFile().toString() : response.error());
+        out.writeLong(response.compileTime().toNanos());
+        out.writeLong(response.serverTime().toNanos());
+
+        out.writeInt(response.warnings().size());
+        for (var warning : response.warnings()) writeString(out, warning);
+    }
+
+    static CompileClient.Response readResponse(final DataInputStream in) throws IOException {
+        final boolean succeeded = in.readBoolean();
+        final var outputFileOrError = readString(in);
+        final var compileTime = Duration.ofNanos(in.readLong());
+        final var serverTime = Duration.ofNanos(in.readLong());
+
+        final int warningCount = in.readInt();
+        if (warningCount < 0 || warningCount > MAX_WARNINGS)
+            throw new IOException("Corrupt response with " + warningCount + " warnings.");
+
+        final var warnings = new ArrayList<String>(warningCount);
+        for (int i = 0; i < warningCount; i++) warnings.add(readString(in));
+
+        return new CompileClient.Response(succeeded ? Path.of(outputFileOrError) : null,
+                succeeded ? null : outputFileOrError, compileTime, serverTime, List.copyOf(warnings));
+    }
+
+    private static void writeString(final DataOutputStream out, final String string) throws IOException {
+        final var bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_LENGTH)
+            throw new IOException("Corrupt message with a string of " + length + " bytes.");
+
+        final var bytes = new byte[length];
+        in.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,265 @@
+package frontend;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import processing.style.MLA9;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A long-running compile server, which keeps the loaded classes, fonts and just-in-time compiled code of the JVM
+ * warm, so that short compilations do not pay for the startup of the JVM and PDFBox over and over again.
+ * The server accepts connections of the {@link CompileClient} on a Unix domain socket or on a port of the loopback
+ * address, and only ever accepts local connections. Each connection is served by its own thread, while the
+ * compilations themselves are limited to the parallelism of the batch compiler, which compiles each project in its
+ * own compilation context. A project that cannot be compiled is answered with its error, and does not affect the
+ * server or other requests.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class CompileServer implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(CompileServer.class.getName());
+
+    /**
+     * The channel that accepts the connections
+     */
+    private final ServerSocketChannel channel;
+
+    /**
+     * The address the server is bound to, which contains the actual port if the server has been started on port 0
+     */
+    @Getter
+    private final SocketAddress address;
+
+    /**
+     * Compiles the projects of the requests
+     */
+    private final BatchCompiler compiler;
+
+    /**
+     * Limits the amount of projects that are compiled at the same time to the parallelism of the compiler
+     */
+    private final Semaphore compilations;
+
+    /**
+     * Serves the accepted connections, one thread per connection
+     */
+    private final ExecutorService connections;
+
+    /**
+     * Accepts the connections until the server is closed
+     */
+    private final Thread acceptor;
+
+    private CompileServer(final ServerSocketChannel channel, final BatchCompiler compiler) throws IOException {
+        this.channel = channel;
+        this.address = channel.getLocalAddress();
+        this.compiler = compiler;
+        this.compilations = new Semaphore(compiler.getParallelism());
+
+        final var threadNumber = new AtomicInteger();
+        this.connections = Executors.newCachedThreadPool(runnable -> {
+            final var thread = new Thread(runnable, "pipp-server-connection-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.acceptor = new Thread(this::acceptConnections, "pipp-server-acceptor");
+    }
+
+    /**
+     * Starts a server on the specified local address, which is ready once this method returns
+     *
+     * @param address  the non-null Unix domain socket or loopback address the server is bound to
+     * @param compiler the non-null compiler whose parallelism and cache are used for the requests
+     * @return the running server
+     * @throws IOException              if the server cannot be bound to the address
+     * @throws IllegalArgumentException if the address is not a local address
+     */
+    public static CompileServer start(@NonNull final SocketAddress address, @NonNull final BatchCompiler compiler)
+            throws IOException {
+        warmUp();
+
+        final ServerSocketChannel channel;
+        if (address instanceof UnixDomainSocketAddress socket) {
+            deleteStaleSocket(socket.getPath());
+            channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        } else if (address instanceof InetSocketAddress socket && socket.getAddress() != null &&
+                socket.getAddress().isLoopbackAddress()) {
+            channel = ServerSocketChannel.open();
+        } else throw new IllegalArgumentException("The compile server only accepts local connections, so '" +
+                address + "' must be a Unix domain socket or a loopback address.");
+
+        try {
+            channel.bind(address);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        final var server = new CompileServer(channel, compiler);
+        server.acceptor.start();
+        LOGGER.info("Compile server listening on " + server.address);
+
+        return server;
+    }
+
+    /**
+     * Translates the address argument of the command line into a socket address.
+     * A number is a port of the loopback address, and anything else is the path of a Unix domain socket.
+     *
+     * @param address the non-null port or socket path
+     * @return the local socket address
+     */
+    public static SocketAddress addressOf(@NonNull final String address) {
+        if (!address.isEmpty() && address.chars().allMatch(Character::isDigit))
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(address));
+
+        return UnixDomainSocketAddress.of(address);
+    }
+
+    /**
+     * Deletes the socket file a previous server has not removed, so that the address can be bound again.
+     * Regular files and folders are never deleted, so binding to them fails instead.
+     *
+     * @param path the path of the socket
+     * @throws IOException if the socket file cannot be deleted
+     */
+    private static void deleteStaleSocket(final Path path) throws IOException {
+        if (!Files.exists(path)) return;
+
+        if (Files.readAttributes(path, BasicFileAttributes.class).isOther()) Files.delete(path);
+    }
+
+    /**
+     * Loads the classes and font metrics that every compilation needs, so that the first request is not slower
+     * than the following ones
+     *
+     * @throws IOException if the warm-up document cannot be written
+     */
+    private static void warmUp() throws IOException {
+        final var styleGuide = new MLA9();
+
+        try (var document = new PDDocument()) {
+            document.addPage(new PDPage(styleGuide.pageFormat()));
+            // Creating a standard font loads its metrics, which PDFBox keeps for all later documents
+            for (var font : Standard14Fonts.FontName.values()) new PDType1Font(font);
+
+            document.save(OutputStream.nullOutputStream());
+        }
+    }
+
+    /**
+     * Waits until the server has been closed
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void join() throws InterruptedException {
+        acceptor.join();
+    }
+
+    /**
+     * Stops accepting connections, closes the open connections and removes the socket file.
+     * Compilations that are running are not interrupted, but their responses cannot be sent anymore.
+     *
+     * @throws IOException if the channel or socket file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        connections.shutdownNow();
+
+        if (address instanceof UnixDomainSocketAddress socket) Files.deleteIfExists(socket.getPath());
+    }
+
+    private void acceptConnections() {
+        try {
+            while (channel.isOpen()) {
+                final var connection = channel.accept();
+                connections.execute(() -> serve(connection));
+            }
+        } catch (ClosedChannelException e) {
+            // The server has been closed
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Compile server stopped accepting connections", e);
+        }
+    }
+
+    /**
+     * Answers the requests of the connection until the client closes it
+     *
+     * @param connection the accepted connection
+     */
+    private void serve(final SocketChannel connection) {
+        try (connection;
+             var in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(connection)));
+             var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(connection)))) {
+            Path project;
+            while ((project = CompileProtocol.readRequest(in)) != null) {
+                CompileProtocol.writeResponse(out, compile(project));
+                out.flush();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Compile server connection closed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CompileClient.Response compile(final Path project) throws InterruptedException {
+        final long start = System.nanoTime();
+
+        BatchCompiler.Result result;
+        compilations.acquire();
+        try {
+            result = compiler.compile(project);
+        } catch (Error e) {
+            // Like in a batch, an error the compilation does not catch, such as the stack overflow of a deeply nested
+            // document, only fails the project, and does not end the connection
+            result = new BatchCompiler.Result(project, Duration.ofNanos(System.nanoTime() - start), List.of(), e);
+        } finally {
+            compilations.release();
+        }
+
+        final var serverTime = Duration.ofNanos(System.nanoTime() - start);
+        LOGGER.fine(result::toString);
+
+        return result.succeeded()
+                ? new CompileClient.Response(project.resolve(BatchCompiler.OUTPUT_FILE_NAME), null, result.time(),
+                serverTime, result.warnings())
+                : new CompileClient.Response(null, String.valueOf(result.error()), result.time(), serverTime,
+                result.warnings());
+    }
+
+}
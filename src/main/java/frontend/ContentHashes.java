@@ -0,0 +1,144 @@
+package frontend;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Computes the SHA-256 hashes that identify the content of files, which the caches and the bibliography index use
+ * to notice that their files have changed.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+final class ContentHashes {
+
+    /**
+     * The amount of bytes of a SHA-256 hash
+     */
+    static final int HASH_LENGTH = 32;
+
+    /**
+     * The size of the buffer that is used to hash a file
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Prevents instantiation
+     */
+    private ContentHashes() {
+        throw new UnsupportedOperationException("Should not instantiate static helper class");
+    }
+
+    /**
+     * Computes the key of the cache entry of a document, which changes whenever the compiler version, the location
+     * of the document, or the content of the document or bibliography changes.
+     * The files of a document are looked up relative to its folder, so the canonical path of the document is part of
+     * the key, and equal documents in different folders have different keys.
+     *
+     * @param compilerVersion  the version of the compiler
+     * @param documentFile     the document file
+     * @param bibliographyFile the bibliography file, or null if there is none
+     * @return the hexadecimal key
+     * @throws IOException if one of the files cannot be read
+     */
+    static String keyOf(final String compilerVersion, final File documentFile, final File bibliographyFile)
+            throws IOException {
+        final var digest = newDigest();
+        update(digest, compilerVersion.getBytes(StandardCharsets.UTF_8));
+        update(digest, documentFile.getCanonicalPath().getBytes(StandardCharsets.UTF_8));
+        update(digest, Files.readAllBytes(documentFile.toPath()));
+        if (bibliographyFile != null) update(digest, Files.readAllBytes(bibliographyFile.toPath()));
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Computes the hash of the content of the file, without reading the whole file at once
+     *
+     * @param file the file whose bytes should be hashed
+     * @return the hash of the file
+     * @throws IOException if the file cannot be read
+     */
+    static byte[] hashOf(final Path file) throws IOException {
+        final var digest = newDigest();
+
+        try (InputStream input = Files.newInputStream(file)) {
+            final var chunk = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = input.read(chunk)) != -1) digest.update(chunk, 0, read);
+        }
+
+        return digest.digest();
+    }
+
+    /**
+     * Writes the amount of files, followed by the path and hash of each file
+     *
+     * @param output the output the files are written to
+     * @param files  the files whose content a cache entry depends on
+     * @throws IOException if a file cannot be read, or the output cannot be written
+     */
+    static void writeFiles(final DataOutputStream output, final Collection<Path> files) throws IOException {
+        output.writeInt(files.size());
+        for (var file : files) {
+            output.writeUTF(file.toString());
+            output.write(hashOf(file));
+        }
+    }
+
+    /**
+     * Reads the files that have been written by {@link #writeFiles(DataOutputStream, Collection)}, and checks if
+     * their content is still the same
+     *
+     * @param input the input positioned at the files
+     * @param files the list the files are added to
+     * @return true if all files still exist and have the same hash
+     * @throws IOException if the input cannot be read
+     */
+    static boolean filesAreUnchanged(final DataInputStream input, final List<Path> files) throws IOException {
+        final int amount = input.readInt();
+
+        for (int i = 0; i < amount; i++) {
+            final var file = Path.of(input.readUTF());
+            final var hash = input.readNBytes(HASH_LENGTH);
+
+            if (!Files.isRegularFile(file) || !Arrays.equals(hash, hashOf(file))) return false;
+            files.add(file);
+        }
+
+        return true;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Every Java platform is required to support SHA-256", e);
+        }
+    }
+
+    /**
+     * Adds the length and the bytes to the digest, so that the boundary between the parts of a key is unambiguous
+     *
+     * @param digest the digest that should be updated
+     * @param bytes  the bytes that should be added
+     */
+    private static void update(final MessageDigest digest, final byte[] bytes) {
+        digest.update(Long.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) 0);
+        digest.update(bytes);
+    }
+
+}
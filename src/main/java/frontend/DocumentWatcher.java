@@ -0,0 +1,275 @@
+package frontend;
+
+import lombok.NonNull;
+import processing.CompilationContext;
+import processing.ImageCache;
+import warning.WarningQueue;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles a document continuously while it is being written. The watcher compiles the document once, and then
+ * rebuilds it whenever one of the files it depends on changes: the document, the files it includes, the
+ * bibliography, and the images and fonts the last compilation has read. Changes that follow each other within the
+ * debounce time are combined into a single rebuild.
+ * A rebuild does not repeat more work than necessary. The bibliography is parsed lazily, so the AST of the document
+ * is loaded from the cache, unless the document or one of its included files has changed. Likewise, the images are
+ * kept in memory, and only the changed images are read again.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class DocumentWatcher implements Closeable {
+
+    /**
+     * The default time the watcher waits for further changes before it rebuilds the document
+     */
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(200);
+
+    private final File documentFile;
+    private final File bibliographyFile;
+    private final Path outputFile;
+    private final Path imageFolder;
+
+    /**
+     * Stores the AST of the document, so that it is not parsed again if only other files have changed
+     */
+    private final ASTCache cache;
+
+    /**
+     * Keeps the images of the document in memory across rebuilds
+     */
+    private final ImageCache imageCache = new ImageCache();
+
+    private final WatchService watchService;
+
+    /**
+     * The folders that are registered with the watch service
+     */
+    private final Set<Path> watchedFolders = new HashSet<>();
+
+    /**
+     * The time the watcher waits for further changes before it rebuilds the document
+     */
+    private Duration debounce = DEFAULT_DEBOUNCE;
+
+    /**
+     * The absolute paths of the files the last build depends on
+     */
+    private Set<Path> dependencies = Set.of();
+
+    /**
+     * The files the document included when it has been parsed the last time
+     */
+    private List<File> includedFiles = List.of();
+
+    /**
+     * Creates a watcher of the document, which is not compiled until the watcher is run
+     *
+     * @param documentFile     the non-null document file
+     * @param bibliographyFile the non-null bibliography file, which does not need to exist
+     * @param outputFile       the non-null file the document is saved to
+     * @param imageFolder      the non-null img/ folder of the document
+     * @param cache            the non-null cache that stores the AST of the document between the builds
+     * @throws IOException if the file system cannot be watched
+     */
+    public DocumentWatcher(@NonNull final File documentFile, @NonNull final File bibliographyFile,
+                           @NonNull final Path outputFile, @NonNull final Path imageFolder,
+                           @NonNull final ASTCache cache) throws IOException {
+        this.documentFile = documentFile;
+        this.bibliographyFile = bibliographyFile;
+        this.outputFile = outputFile;
+        this.imageFolder = imageFolder;
+        this.cache = cache;
+        this.watchService = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * Sets the time the watcher waits for further changes before it rebuilds the document
+     *
+     * @param debounce the non-null, non-negative debounce time
+     */
+    public void setDebounce(@NonNull final Duration debounce) {
+        if (debounce.isNegative()) throw new IllegalArgumentException("The debounce time must not be negative.");
+
+        this.debounce = debounce;
+    }
+
+    /**
+     * Compiles the document, and then rebuilds it after each change until the watcher is closed.
+     * A failing build is passed to the listener like any other build, and does not stop the watcher.
+     *
+     * @param listener the non-null listener that is passed each build
+     * @throws InterruptedException if the thread is interrupted while waiting for changes
+     */
+    public void run(@NonNull final Consumer<Build> listener) throws InterruptedException {
+        listener.accept(build(Set.of()));
+
+        Set<Path> changedFiles;
+        while ((changedFiles = awaitChanges()) != null) listener.accept(build(changedFiles));
+    }
+
+    /**
+     * Stops watching the files, which lets {@link #run(Consumer)} return once the current build is done
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /**
+     * Waits until one of the dependencies changes, and then until no further change occurs within the debounce time
+     *
+     * @return the changed dependencies, or null if the watcher has been closed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    private Set<Path> awaitChanges() throws InterruptedException {
+        final var changedFiles = new HashSet<Path>();
+
+        try {
+            while (true) {
+                final WatchKey key = changedFiles.isEmpty()
+                        ? watchService.take()
+                        : watchService.poll(debounce.toNanos(), TimeUnit.NANOSECONDS);
+                if (key == null) return changedFiles;
+
+                final var folder = (Path) key.watchable();
+                for (var event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // Some events are lost, so everything may have changed
+                        changedFiles.addAll(dependencies);
+                        imageCache.clear();
+                        continue;
+                    }
+
+                    final var file = folder.resolve((Path) event.context()).toAbsolutePath().normalize();
+                    if (dependencies.contains(file)) changedFiles.add(file);
+                }
+
+                key.reset();
+            }
+        } catch (ClosedWatchServiceException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Compiles the document in a new context, and watches the files the compilation depends on
+     *
+     * @param changedFiles the dependencies that have changed since the last build
+     * @return the build
+     */
+    private Build build(final Set<Path> changedFiles) {
+        changedFiles.forEach(imageCache::invalidate);
+
+        final long start = System.nanoTime();
+        final var context = new CompilationContext(outputFile, imageFolder, imageCache);
+        final var bridge = new FrontEndBridge(documentFile, bibliographyFile);
+        bridge.setCache(cache);
+        bridge.setLazyBibliography(true);
+
+        Exception error = null;
+        try {
+            if (!bridge.compile(context))
+                error = new IllegalStateException("The document does not contain any instructions.");
+        } catch (IOException | RuntimeException e) {
+            error = e;
+        }
+        final var time = Duration.ofNanos(System.nanoTime() - start);
+
+        // The cache only yields the AST if the included files are unchanged, so they are still the same files
+        if (!bridge.isLoadedFromCache()) includedFiles = bridge.getIncludedFiles();
+
+        final var files = new HashSet<Path>();
+        files.add(documentFile.toPath());
+        files.add(bibliographyFile.toPath());
+        includedFiles.forEach(file -> files.add(file.toPath()));
+        files.addAll(context.getDependencies());
+        // A failing build may not have read all files, so the files of the previous build are still watched
+        if (error != null) files.addAll(dependencies);
+
+        dependencies = files.stream().map(file -> file.toAbsolutePath().normalize())
+                .collect(Collectors.toUnmodifiableSet());
+        watchFoldersOfDependencies();
+
+        final var warnings = new ArrayList<String>();
+        context.run(() -> WarningQueue.getAll().forEach(warning -> warnings.add(warning.toString())));
+
+        return new Build(Set.copyOf(changedFiles), time, !bridge.isLoadedFromCache(), List.copyOf(warnings), error);
+    }
+
+    /**
+     * Registers the folders of the dependencies with the watch service, which only watches the files of folders.
+     * Folders that do not exist yet cannot be watched, so their files are only noticed once another dependency
+     * changes.
+     */
+    private void watchFoldersOfDependencies() {
+        for (var file : dependencies) {
+            final var folder = file.getParent();
+            if (folder == null || watchedFolders.contains(folder) || !Files.isDirectory(folder)) continue;
+
+            try {
+                folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                watchedFolders.add(folder);
+            } catch (ClosedWatchServiceException | IOException e) {
+                // The watcher has been closed, or the folder has been deleted in the meantime
+            }
+        }
+    }
+
+    /**
+     * A single compilation of the watched document
+     *
+     * @param changedFiles   the dependencies whose changes have triggered the build, which is empty for the first one
+     * @param time           the time it took to compile the document
+     * @param documentParsed true if the document has been scanned and parsed, and false if it has been loaded from
+     *                       the cache
+     * @param warnings       the warnings of the compilation in order of occurrence
+     * @param error          the error that stopped the compilation, or null if the document has been saved
+     */
+    public record Build(Set<Path> changedFiles, Duration time, boolean documentParsed, List<String> warnings,
+                        Exception error) {
+
+        /**
+         * Yields true if the document has been compiled and saved
+         *
+         * @return true if there has not been an error
+         */
+        public boolean succeeded() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            final var trigger = changedFiles.isEmpty() ? "Built" : "Rebuilt after changes to " + changedFiles + ",";
+            final var line = String.format(Locale.ROOT, "%s %s in %d ms (%s), %d warnings", trigger,
+                    succeeded() ? "compiled" : "failed", time.toMillis(),
+                    documentParsed ? "document parsed" : "document loaded from cache", warnings.size());
+
+            return succeeded() ? line : line + "\n\t" + error;
+        }
+
+    }
+
+}
@@ -1,25 +1,96 @@
 package frontend;
 
-import frontend.lexical_analysis.Scanner;
+import creation.page.PageAssembler;
+import frontend.ast.AST;
+import frontend.ast.structure.BodyNode;
+import frontend.lexical_analysis.DebugTokenInfo;
+import frontend.lexical_analysis.Lexer;
+import frontend.lexical_analysis.LexerEngine;
+import frontend.lexical_analysis.SourceMap;
 import frontend.lexical_analysis.Token;
 import frontend.parsing.Parser;
 import lombok.NonNull;
+import processing.CompilationContext;
+import processing.Processor;
 
-import java.io.*;
-import java.nio.charset.StandardCharsets;
-import java.util.LinkedList;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class FrontEndBridge {
 
     public static final String DOCUMENT_FILE_PATH = "src/main/resources/Sample.pipp";
     public static final String BIBLIOGRAPHY_FILE_PATH = "src/main/resources/bibliography.pipp";
-    private final Scanner scanner;
+    /**
+     * The workers that parse bibliographies concurrently to their documents.
+     * The threads are daemon threads, so that they do not prevent the application from exiting.
+     */
+    private static final ExecutorService BIBLIOGRAPHY_WORKERS = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable, "pipp-bibliography");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * The engine that is used for the lexical analysis
+     */
+    private final LexerEngine engine;
+    private final Lexer scanner;
     private final Parser parser;
-    private final List<Token> tokens;
+    /**
+     * The tokens that have been scanned, but not yet parsed
+     */
+    private final TokenQueue tokens;
+    /**
+     * Reads the document and bibliography files by memory-mapping them and feeding them to the scanner in chunks
+     */
+    private final MappedFileReader fileReader = new MappedFileReader();
+    /**
+     * Yields true if files are scanned lazily while parsing, instead of scanning them entirely before parsing
+     */
+    private final boolean streaming;
+    /**
+     * The file that is currently scanned lazily, or null if there is no more input to scan while streaming
+     */
+    private MappedFileReader.Cursor source;
+    /**
+     * Yields true if the bibliography is scanned and parsed by a separate worker while the document is parsed
+     */
+    private boolean concurrent;
     private File documentFileToRead;
     private File bibliographyFileToRead;
-    private BufferedReader reader;
+    /**
+     * The cache that stores the ASTs of parsed files, or null if every compilation parses the files
+     */
+    private ASTCache cache;
+    /**
+     * The AST that has been loaded from the cache instead of being parsed, or null if the files have been parsed
+     */
+    private AST cachedAst;
+    /**
+     * The files that have been included by the document, directly or indirectly, in document order
+     */
+    private List<File> includedFiles = List.of();
+    /**
+     * Yields true if the bibliography is only indexed, so that its entries are parsed once they are cited
+     */
+    private boolean lazyBibliography;
+    /**
+     * The file that stores the index of the bibliography, or null if the bibliography is indexed in memory when it
+     * is parsed lazily
+     */
+    private Path bibliographyIndexFile;
+    /**
+     * The index of the bibliography if it is parsed lazily, or null if its entries are parsed together with the
+     * document
+     */
+    private BibliographyIndex bibliographyIndex;
 
     /**
      * The standard method of compilation requires a file, which contains the Pipp code.
@@ -29,9 +100,59 @@ public class FrontEndBridge {
      * @param bibliographyFile - the non-null bibliography file that should be read.
      */
     public FrontEndBridge(@NonNull final File documentFile, @NonNull final File bibliographyFile) {
-        this();
+        this(documentFile, bibliographyFile, true, true, LexerEngine.SCANNER);
+    }
+
+    /**
+     * Compiles the specified files, and determines whether the files should be streamed.
+     * When streaming, the parser pulls the tokens on demand, and the scanner only scans the next chunk of the file
+     * once the parser runs out of tokens. The amount of tokens in memory therefore does not depend on the size of
+     * the files. Note that errors of the scanner are then reported once the parser reaches them, which means that
+     * earlier parsing errors are reported first.
+     *
+     * @param documentFile     - the non-null document file that should be read.
+     * @param bibliographyFile - the non-null bibliography file that should be read.
+     * @param streaming        - true if the files should be scanned while parsing them
+     */
+    public FrontEndBridge(@NonNull final File documentFile, @NonNull final File bibliographyFile,
+                          final boolean streaming) {
+        this(documentFile, bibliographyFile, streaming, false, LexerEngine.SCANNER);
+    }
+
+    /**
+     * Compiles the specified files, and determines whether the files should be streamed and whether the
+     * bibliography should be parsed concurrently.
+     * When parsing concurrently, the bibliography is scanned and parsed by a separate worker with its own scanner,
+     * token queue and parser, while the document is parsed by the calling thread. The bibliography sources are then
+     * added to the AST of the document before processing. If both files contain errors, the error of the
+     * bibliography is thrown, just like when parsing the files one after the other.
+     *
+     * @param documentFile     - the non-null document file that should be read.
+     * @param bibliographyFile - the non-null bibliography file that should be read.
+     * @param streaming        - true if the files should be scanned while parsing them
+     * @param concurrent       - true if the bibliography should be parsed while parsing the document
+     */
+    public FrontEndBridge(@NonNull final File documentFile, @NonNull final File bibliographyFile,
+                          final boolean streaming, final boolean concurrent) {
+        this(documentFile, bibliographyFile, streaming, concurrent, LexerEngine.SCANNER);
+    }
+
+    /**
+     * Compiles the specified files using the specified lexer engine.
+     * All engines produce the same tokens, so this only affects the performance of the lexical analysis.
+     *
+     * @param documentFile     - the non-null document file that should be read.
+     * @param bibliographyFile - the non-null bibliography file that should be read.
+     * @param streaming        - true if the files should be scanned while parsing them
+     * @param concurrent       - true if the bibliography should be parsed while parsing the document
+     * @param engine           - the non-null engine that should be used for the lexical analysis
+     */
+    public FrontEndBridge(@NonNull final File documentFile, @NonNull final File bibliographyFile,
+                          final boolean streaming, final boolean concurrent, @NonNull final LexerEngine engine) {
+        this(streaming, engine);
         this.documentFileToRead = documentFile;
         this.bibliographyFileToRead = bibliographyFile;
+        this.concurrent = concurrent;
     }
 
     /**
@@ -41,27 +162,34 @@ public class FrontEndBridge {
      * @param textToRead - the non-null text that should be read. It can be empty.
      */
     public FrontEndBridge(@NonNull final String textToRead) {
-        this();
+        this(textToRead, LexerEngine.SCANNER);
+    }
 
-        for (int i = 0; i < textToRead.length(); i++) {
-            var character = textToRead.charAt(i);
-            scanner.scan(character);
-        }
+    /**
+     * Provides a method to use predefined text, instead of a text file during compilation, using the specified
+     * lexer engine. This can be useful for debugging and testing purposes.
+     *
+     * @param textToRead - the non-null text that should be read. It can be empty.
+     * @param engine     - the non-null engine that should be used for the lexical analysis
+     */
+    public FrontEndBridge(@NonNull final String textToRead, @NonNull final LexerEngine engine) {
+        this(false, engine);
+
+        final var characters = textToRead.toCharArray();
+        scanner.scan(characters, 0, characters.length);
 
         scanner.submitToken();
     }
 
     public FrontEndBridge(@NonNull final String textToRead, final boolean bibliographyOnly) {
-        this();
+        this(false, LexerEngine.SCANNER);
 
         if (!bibliographyOnly) return;
 
         scanner.resetFile(BIBLIOGRAPHY_FILE_PATH);
 
-        for (int i = 0; i < textToRead.length(); i++) {
-            var character = textToRead.charAt(i);
-            scanner.scan(character);
-        }
+        final var characters = textToRead.toCharArray();
+        scanner.scan(characters, 0, characters.length);
 
         scanner.submitToken();
         if (!tokens.isEmpty()) {
@@ -70,75 +198,402 @@ public class FrontEndBridge {
         tokens.clear();
     }
 
+    /**
+     * Creates a bridge that parses a file included by another document
+     *
+     * @param engine - the non-null engine that should be used for the lexical analysis
+     */
+    FrontEndBridge(@NonNull final LexerEngine engine) {
+        this(false, engine);
+    }
+
     /**
      * A private constructor to create the mandatory fields
+     *
+     * @param streaming - true if files should be scanned while parsing them
+     * @param engine    - the engine that should be used for the lexical analysis
      */
-    private FrontEndBridge() {
-        this.tokens = new LinkedList<>();
+    private FrontEndBridge(final boolean streaming, final LexerEngine engine) {
+        this.streaming = streaming;
+        this.engine = engine;
+        this.tokens = new TokenQueue();
         this.parser = new Parser(this);
-        this.scanner = new Scanner(this);
+        this.scanner = engine.create(this);
+    }
+
+    /**
+     * Determines the cache that is used when parsing the files.
+     * If the cache contains an AST of the same files and compiler version, it is loaded instead of parsing the
+     * files. Otherwise, the AST is stored in the cache once the files have been parsed successfully.
+     *
+     * @param cache - the cache that should be used, or null if the files should always be parsed
+     */
+    public void setCache(final ASTCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Determines if the bibliography is parsed lazily.
+     * In that case, the bibliography sources are not part of the AST. Instead, the bibliography is only indexed by
+     * the IDs of its entries, and the processor parses an entry the first time it is cited.
+     *
+     * @param lazyBibliography - true if only the cited entries of the bibliography should be parsed
+     */
+    public void setLazyBibliography(final boolean lazyBibliography) {
+        this.lazyBibliography = lazyBibliography;
+    }
+
+    /**
+     * Determines the file that stores the index of the bibliography, which also makes the bibliography be parsed
+     * lazily. The file is only rebuilt if the bibliography has changed, so that a large bibliography is not parsed
+     * again for each compilation.
+     *
+     * @param bibliographyIndexFile - the index file, or null if the bibliography should be indexed in memory
+     */
+    public void setBibliographyIndexFile(final Path bibliographyIndexFile) {
+        this.bibliographyIndexFile = bibliographyIndexFile;
+        if (bibliographyIndexFile != null) lazyBibliography = true;
     }
 
     public void enqueueToken(@NonNull final Token token) {
-        tokens.add(token);
+        tokens.enqueue(token);
+    }
+
+    /**
+     * Enqueues a shared token together with its position, as it does not carry debug information itself
+     *
+     * @param token      the non-null shared token
+     * @param source     the non-null source the token has been scanned from
+     * @param lineNumber the one-indexed line number of the token
+     * @param endOffset  the source offset after the last character of the line that belongs to the token
+     */
+    public void enqueueToken(@NonNull final Token token, @NonNull final SourceMap source, final int lineNumber,
+                             final int endOffset) {
+        tokens.enqueue(token, source, lineNumber, endOffset);
     }
 
     public Token dequeueToken() {
-        if (tokens.isEmpty()) throw new IllegalStateException("Token Queue is empty");
+        pull(1);
+        return tokens.dequeue();
+    }
 
-        return tokens.remove(0);
+    /**
+     * Yields the debug information of the token that has been dequeued last, which also works for shared tokens
+     *
+     * @return the debug information of the last dequeued token
+     */
+    public DebugTokenInfo getDequeuedDebugInfo() {
+        return tokens.getDequeuedDebugInfo();
     }
 
     public Token lookahead(int index) {
-        if (index >= tokens.size() || index < 0) throw new IndexOutOfBoundsException();
-
+        pull(index + 1);
         return tokens.get(index);
     }
 
     public boolean containsTokens() {
+        pull(1);
         return !tokens.isEmpty();
     }
 
-    public void compile() {
-        if (documentFileToRead == null)
-            throw new IllegalStateException("Should not try to read the empty file. If you are trying to debug or " +
-                    "test, use the second constructor, instead.");
+    /**
+     * Yields true if at least the specified amount of tokens is left
+     *
+     * @param amount the amount of tokens
+     * @return true if the bridge contains the tokens
+     */
+    public boolean containsTokens(final int amount) {
+        pull(amount);
+        return tokens.size() >= amount;
+    }
 
-        try (var bibliographyReader = new BufferedReader(
-                new InputStreamReader(
-                        new FileInputStream(bibliographyFileToRead), StandardCharsets.UTF_8))) {
-            reader = new BufferedReader(
-                    new InputStreamReader(
-                            new FileInputStream(documentFileToRead), StandardCharsets.UTF_8));
-            scanner.resetFile(BIBLIOGRAPHY_FILE_PATH);
-
-            if (bibliographyFileToRead != null) {
-                int current;
-                while ((current = bibliographyReader.read()) != -1) scanner.scan((char) current);
-
-                scanner.submitToken();
-                if (!tokens.isEmpty()) {
-                    parser.bibliography();
+    /**
+     * When streaming, scans the next chunks of the current file until the queue contains the specified amount of
+     * tokens, or the file has been scanned entirely
+     *
+     * @param amount the amount of tokens that should be available
+     */
+    private void pull(final int amount) {
+        try {
+            while (source != null && tokens.size() < amount) {
+                if (!source.advance(scanner)) {
+                    scanner.submitToken();
+                    closeSource();
                 }
-                tokens.clear();
             }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-            scanner.resetFile(DOCUMENT_FILE_PATH);
+    /**
+     * Either prepares the file to be scanned lazily, or scans it entirely, depending on the mode of the bridge
+     *
+     * @param file the file that should be scanned
+     * @throws IOException if the file cannot be read
+     */
+    private void read(final File file) throws IOException {
+        if (streaming) source = fileReader.open(file);
+        else {
+            fileReader.read(file, scanner);
+            scanner.submitToken();
+        }
+    }
 
-            read();
+    private void closeSource() throws IOException {
+        if (source == null) return;
 
-            scanner.submitToken();
-            if (!tokens.isEmpty()) parser.start();
+        source.close();
+        source = null;
+    }
+
+    /**
+     * Compiles the document and bibliography files in a new compilation context, and starts the processing phase
+     * once they have been parsed. Each call uses its own context, so no state of an earlier compilation is used.
+     *
+     * @return the context the document has been compiled in, which contains the warnings of the compilation
+     */
+    public CompilationContext compile() {
+        final var context = new CompilationContext();
 
-            reader.close();
+        try {
+            compile(context);
         } catch (IOException e) {
             e.printStackTrace();
         }
+
+        return context;
+    }
+
+    /**
+     * Compiles the document and bibliography files in the specified compilation context, so that the state of the
+     * compilation, its warnings and its output file are separate from other compilations in the same JVM.
+     * Unlike {@link #compile()}, errors are thrown to the caller. The created document is closed in any case.
+     *
+     * @param context the non-null context the compilation is run in
+     * @return true if the document contains tokens, and has therefore been compiled
+     * @throws IOException if one of the files cannot be read
+     */
+    public boolean compile(@NonNull final CompilationContext context) throws IOException {
+        final var hasParsedDocument = new boolean[1];
+
+        try {
+            context.run(() -> {
+                try {
+                    hasParsedDocument[0] = parse();
+                    if (hasParsedDocument[0]) Processor.processAST(getAst(), bibliographyIndex);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    PageAssembler.closeDocument();
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return hasParsedDocument[0];
+    }
+
+    /**
+     * Scans and parses the bibliography and document files, without starting the processing phase.
+     * If a cache has been set, and it contains the AST of the files, the AST is loaded instead.
+     * If the bibliography is parsed lazily, it is only indexed, and it does not affect the cached AST.
+     *
+     * @return true if the document contains tokens, and has therefore been parsed
+     * @throws IOException if one of the files cannot be read
+     */
+    public boolean parse() throws IOException {
+        if (documentFileToRead == null)
+            throw new IllegalStateException("Should not try to read the empty file. If you are trying to debug or " +
+                    "test, use the second constructor, instead.");
+
+        // A project does not need a bibliography, as long as it does not cite anything
+        final var bibliographyFile = bibliographyFileToRead != null && bibliographyFileToRead.isFile()
+                ? bibliographyFileToRead
+                : null;
+
+        final var parsedBibliographyFile = lazyBibliography ? null : bibliographyFile;
+        if (lazyBibliography && bibliographyFile != null)
+            bibliographyIndex = bibliographyIndexFile != null
+                    ? MappedBibliographyIndex.open(bibliographyFile, bibliographyIndexFile)
+                    : TextBibliographyIndex.of(bibliographyFile);
+
+        if (cache == null) return parseFiles(parsedBibliographyFile);
+
+        final var key = cache.keyOf(documentFileToRead, parsedBibliographyFile);
+        final var cachedIncludedFiles = new ArrayList<File>();
+        cachedAst = cache.load(key, cachedIncludedFiles);
+        if (cachedAst != null) {
+            includedFiles = List.copyOf(cachedIncludedFiles);
+            return true;
+        }
+
+        // Only documents that contain tokens are stored, so an entry always represents a parsed document
+        final boolean hasParsedDocument = parseFiles(parsedBibliographyFile);
+        if (hasParsedDocument) cache.store(key, parser.getAst(), includedFiles);
+
+        return hasParsedDocument;
+    }
+
+    /**
+     * Scans and parses the bibliography and document files
+     *
+     * @param bibliographyFile the bibliography file that should be parsed, or null if only the document is parsed
+     * @return true if the document contains tokens, and has therefore been parsed
+     * @throws IOException if one of the files cannot be read
+     */
+    private boolean parseFiles(final File bibliographyFile) throws IOException {
+        if (concurrent && bibliographyFile != null) return parseConcurrently(bibliographyFile);
+
+        if (bibliographyFile != null) parseBibliography(bibliographyFile);
+        return parseDocument();
+    }
+
+    /**
+     * Parses the bibliography on a separate worker while parsing the document, and then adds the bibliography
+     * sources to the AST of the document
+     *
+     * @param bibliographyFile the bibliography file that should be parsed
+     * @return true if the document contains tokens, and has therefore been parsed
+     * @throws IOException if one of the files cannot be read
+     */
+    private boolean parseConcurrently(final File bibliographyFile) throws IOException {
+        final var bibliographyBridge = new FrontEndBridge(streaming, engine);
+        final Future<?> bibliography = BIBLIOGRAPHY_WORKERS.submit(() -> {
+            bibliographyBridge.parseBibliography(bibliographyFile);
+            return null;
+        });
+
+        boolean hasParsedDocument = false;
+        Throwable documentError = null;
+        try {
+            hasParsedDocument = parseDocument();
+        } catch (IOException | RuntimeException e) {
+            documentError = e;
+        }
+
+        try {
+            bibliography.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while parsing the bibliography", e);
+        } catch (ExecutionException e) {
+            final var bibliographyError = e.getCause();
+            if (documentError != null) bibliographyError.addSuppressed(documentError);
+
+            if (bibliographyError instanceof IOException ioException) throw ioException;
+            if (bibliographyError instanceof RuntimeException runtimeException) throw runtimeException;
+            throw (Error) bibliographyError;
+        }
+
+        if (documentError instanceof IOException ioException) throw ioException;
+        if (documentError instanceof RuntimeException runtimeException) throw runtimeException;
+
+        bibliographyBridge.parser.getAst().getBibliographySources()
+                .forEach(parser.getAst()::includeBibliographySource);
+
+        return hasParsedDocument;
     }
 
-    private void read() throws IOException {
-        int current;
-        while ((current = reader.read()) != -1) scanner.scan((char) current);
+    /**
+     * Scans and parses the specified bibliography file into the AST of this bridge
+     *
+     * @param bibliographyFile the bibliography file that should be read
+     * @throws IOException if the file cannot be read
+     */
+    private void parseBibliography(final File bibliographyFile) throws IOException {
+        try {
+            scanner.resetFile(BIBLIOGRAPHY_FILE_PATH, bibliographyFile);
+            read(bibliographyFile);
+
+            if (containsTokens()) {
+                parser.bibliography();
+            }
+            tokens.clear();
+            tokens.compact();
+        } finally {
+            closeSource();
+        }
+    }
+
+    /**
+     * Scans and parses the document file into the AST of this bridge
+     *
+     * @return true if the document contains tokens, and has therefore been parsed
+     * @throws IOException if the file cannot be read
+     */
+    private boolean parseDocument() throws IOException {
+        try {
+            scanner.resetFile(DOCUMENT_FILE_PATH, documentFileToRead);
+            read(documentFileToRead);
+
+            if (!containsTokens()) return false;
+
+            parser.start();
+        } finally {
+            closeSource();
+        }
+
+        includedFiles = new IncludeResolver(engine).resolve(parser.getAst(), documentFileToRead);
+        return true;
+    }
+
+    /**
+     * Scans and parses a file that is included by another document.
+     * The file may only contain instructions, and its include instructions are not resolved.
+     *
+     * @param file the file that should be read, whose path is used for error messages
+     * @return the body nodes of the file
+     * @throws IOException if the file cannot be read
+     */
+    List<BodyNode> parseIncludedFile(final File file) throws IOException {
+        try {
+            scanner.resetFile(file.getPath(), file);
+            read(file);
+
+            parser.startInstructions();
+            return parser.getAst().getDocumentBody();
+        } finally {
+            closeSource();
+        }
+    }
+
+    /**
+     * Yields the files that have been included by the document, directly or indirectly, in document order.
+     * If the AST has been loaded from the cache, these are the included files the cache entry has been validated with.
+     *
+     * @return the unmodifiable list of included files
+     */
+    public List<File> getIncludedFiles() {
+        return includedFiles;
+    }
+
+    /**
+     * Yields true if the AST of the document has been loaded from the cache instead of being scanned and parsed
+     *
+     * @return true if the last parse has been answered by the cache
+     */
+    public boolean isLoadedFromCache() {
+        return cachedAst != null;
+    }
+
+    /**
+     * Yields the index of the bibliography, if it is parsed lazily
+     *
+     * @return the index of the bibliography, or null if the bibliography is part of the AST
+     */
+    public BibliographyIndex getBibliographyIndex() {
+        return bibliographyIndex;
+    }
+
+    /**
+     * Yields the abstract syntax tree that has been parsed so far, or the one that has been loaded from the cache
+     *
+     * @return the AST of the files
+     */
+    public AST getAst() {
+        return cachedAst != null ? cachedAst : parser.getAst();
     }
 
 }
@@ -0,0 +1,210 @@
+package frontend;
+
+import frontend.ast.AST;
+import frontend.ast.structure.BodyNode;
+import frontend.ast.structure.Include;
+import frontend.lexical_analysis.LexerEngine;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Replaces the include instructions of a parsed document by the body nodes of the included files.
+ * Each included file is scanned and parsed independently by its own bridge on a fork-join pool, and the files it
+ * includes are parsed by subtasks in turn. The body nodes are merged in the order of the include instructions, so
+ * the result does not depend on the order in which the files have been parsed. Likewise, if several files cannot
+ * be included, the error of the first include instruction in document order is thrown.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+final class IncludeResolver {
+
+    /**
+     * The engine that is used for the lexical analysis of the included files
+     */
+    private final LexerEngine engine;
+
+    /**
+     * The pool that parses the included files
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a resolver that parses the included files on the common pool
+     *
+     * @param engine the engine that is used for the lexical analysis of the included files
+     */
+    IncludeResolver(final LexerEngine engine) {
+        this(engine, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a resolver that parses the included files on the specified pool
+     *
+     * @param engine the engine that is used for the lexical analysis of the included files
+     * @param pool   the pool that parses the included files
+     */
+    IncludeResolver(final LexerEngine engine, final ForkJoinPool pool) {
+        this.engine = engine;
+        this.pool = pool;
+    }
+
+    /**
+     * Replaces the include nodes in the body of the AST by the body nodes of the included files
+     *
+     * @param ast          the AST of the document
+     * @param documentFile the file of the document, relative to which the included files are resolved
+     * @return the files that have been included, directly or indirectly, in document order
+     * @throws IOException if an included file cannot be read
+     */
+    List<File> resolve(final AST ast, final File documentFile) throws IOException {
+        final var body = ast.getDocumentBody();
+        if (body.stream().noneMatch(Include.class::isInstance)) return List.of();
+
+        final var chain = Set.of(documentFile.getCanonicalFile());
+        final var result = pool.invoke(new ResolveTask(body, directoryOf(documentFile), chain));
+
+        if (result.error() instanceof IOException ioException) throw ioException;
+        if (result.error() instanceof RuntimeException runtimeException) throw runtimeException;
+
+        body.clear();
+        body.addAll(result.nodes());
+        return result.files();
+    }
+
+    /**
+     * Replaces the include nodes of the specified body nodes, where the included files are parsed by subtasks
+     *
+     * @param nodes     the body nodes of a file
+     * @param directory the directory of that file, or null if it is the working directory
+     * @param chain     the canonical files that include that file, including the file itself
+     * @return the merged body nodes, or the first error in document order
+     */
+    private Result resolveNodes(final List<BodyNode> nodes, final File directory, final Set<File> chain) {
+        final var tasks = new ArrayList<IncludeTask>();
+        for (var node : nodes)
+            if (node instanceof Include include) tasks.add(new IncludeTask(include, directory, chain));
+
+        if (tasks.isEmpty()) return new Result(nodes, List.of(), null);
+        ForkJoinTask.invokeAll(tasks);
+
+        final var merged = new ArrayList<BodyNode>(nodes.size());
+        final var files = new ArrayList<File>();
+        int task = 0;
+
+        for (var node : nodes) {
+            if (!(node instanceof Include)) {
+                merged.add(node);
+                continue;
+            }
+
+            final var included = tasks.get(task++).join();
+            if (included.error() != null) return included;
+
+            merged.addAll(included.nodes());
+            files.addAll(included.files());
+        }
+
+        return new Result(merged, files, null);
+    }
+
+    /**
+     * Yields the directory of the file, relative to which the files it includes are resolved
+     *
+     * @param file the including file
+     * @return the directory of the file, or null if it is the working directory
+     */
+    private static File directoryOf(final File file) {
+        return file.getParentFile();
+    }
+
+    /**
+     * The body nodes of a file with its include nodes replaced, or the error that prevented including it.
+     * Errors are returned instead of thrown, because fork-join tasks may wrap exceptions thrown by other threads.
+     *
+     * @param nodes the body nodes, or null if there is an error
+     * @param files the included files in document order, or null if there is an error
+     * @param error the first error in document order, or null if the files have been included
+     */
+    private record Result(List<BodyNode> nodes, List<File> files, Exception error) {
+    }
+
+    /**
+     * Resolves the include nodes of the body of the document
+     */
+    private final class ResolveTask extends RecursiveTask<Result> {
+
+        private final List<BodyNode> nodes;
+        private final File directory;
+        private final Set<File> chain;
+
+        private ResolveTask(final List<BodyNode> nodes, final File directory, final Set<File> chain) {
+            this.nodes = nodes;
+            this.directory = directory;
+            this.chain = chain;
+        }
+
+        @Override
+        protected Result compute() {
+            return resolveNodes(nodes, directory, chain);
+        }
+
+    }
+
+    /**
+     * Scans and parses an included file, and then resolves the files it includes in turn
+     */
+    private final class IncludeTask extends RecursiveTask<Result> {
+
+        private final Include include;
+        private final File directory;
+        private final Set<File> chain;
+
+        private IncludeTask(final Include include, final File directory, final Set<File> chain) {
+            this.include = include;
+            this.directory = directory;
+            this.chain = chain;
+        }
+
+        @Override
+        protected Result compute() {
+            try {
+                var file = new File(include.getPath());
+                if (!file.isAbsolute() && directory != null) file = new File(directory, include.getPath());
+
+                if (!file.isFile())
+                    throw new IllegalArgumentException(include.getDebugInfo()
+                            .errorMessage("The included file cannot be found: " + include.getPath()));
+
+                final var canonicalFile = file.getCanonicalFile();
+                if (chain.contains(canonicalFile))
+                    throw new IllegalArgumentException(include.getDebugInfo()
+                            .errorMessage("The file includes itself: " + include.getPath()));
+
+                final var nodes = new FrontEndBridge(engine).parseIncludedFile(file);
+
+                final var nestedChain = new HashSet<>(chain);
+                nestedChain.add(canonicalFile);
+                final var result = resolveNodes(nodes, directoryOf(file), nestedChain);
+                if (result.error() != null) return result;
+
+                final var files = new ArrayList<File>(result.files().size() + 1);
+                files.add(file);
+                files.addAll(result.files());
+                return new Result(result.nodes(), files, null);
+            } catch (IOException | RuntimeException e) {
+                return new Result(null, null, e);
+            }
+        }
+
+    }
+
+}
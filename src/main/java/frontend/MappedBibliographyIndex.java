@@ -0,0 +1,380 @@
+package frontend;
+
+import frontend.ast.bibliography.BibliographySource;
+import lombok.NonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Indexes the entries of a bibliography in a file, which is memory-mapped, so that a large bibliography that is
+ * shared by many documents is only parsed once.
+ * The index file is built by parsing the whole bibliography, and is rebuilt whenever the SHA-256 hash of the
+ * bibliography, which is stored in its header, no longer matches. It contains a table of the IDs, which is sorted
+ * by the UTF-8 bytes of the IDs, and each entry in the binary format of the {@link ASTCodec}. An ID is resolved by a
+ * binary search over the mapped table, and only the requested entry is decoded, so neither the table nor the
+ * entries are loaded onto the heap.
+ * <p>
+ * The index file has the following layout, where all integers are big-endian:
+ * <ol>
+ *     <li>The header: the magic number, the version of the layout, the version of the codec, the amount of entries,
+ *     the hash of the bibliography, the amount of duplicate IDs, and the offset and size of the data section</li>
+ *     <li>A slot for each entry in the order of the IDs: the offset and length of the ID, followed by the offset and
+ *     length of the encoded entry, all relative to the data section</li>
+ *     <li>The duplicate IDs, each as its length followed by its UTF-8 bytes</li>
+ *     <li>The data section, which contains the IDs and the encoded entries</li>
+ * </ol>
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class MappedBibliographyIndex implements BibliographyIndex {
+
+    /**
+     * Identifies the files that are bibliography indices
+     */
+    private static final int MAGIC = 0x50495042;
+
+    /**
+     * The version of the layout of the index file
+     */
+    private static final int FILE_VERSION = 1;
+
+    private static final int HASH_LENGTH = ContentHashes.HASH_LENGTH;
+
+    private static final int HEADER_SIZE = 4 * Integer.BYTES + HASH_LENGTH + 3 * Integer.BYTES;
+
+    private static final int SLOT_SIZE = 4 * Integer.BYTES;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int FILE_VERSION_OFFSET = 4;
+    private static final int CODEC_VERSION_OFFSET = 8;
+    private static final int ENTRY_COUNT_OFFSET = 12;
+    private static final int HASH_OFFSET = 16;
+    private static final int DUPLICATE_COUNT_OFFSET = HASH_OFFSET + HASH_LENGTH;
+    private static final int DATA_OFFSET_OFFSET = DUPLICATE_COUNT_OFFSET + 4;
+    private static final int DATA_SIZE_OFFSET = DATA_OFFSET_OFFSET + 4;
+
+    private static final Logger LOGGER = Logger.getLogger(MappedBibliographyIndex.class.getName());
+
+    /**
+     * The mapped index file
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The amount of indexed entries
+     */
+    private final int entryCount;
+
+    /**
+     * The offset of the data section in the index file
+     */
+    private final int dataOffset;
+
+    /**
+     * The IDs that are used by more than one entry
+     */
+    private final List<String> duplicateIds;
+
+    /**
+     * Yields true if the index file has been built when opening it, because it did not exist or was outdated
+     */
+    private final boolean built;
+
+    private MappedBibliographyIndex(final ByteBuffer buffer, final boolean built) throws IOException {
+        this.buffer = buffer;
+        this.built = built;
+        this.entryCount = buffer.getInt(ENTRY_COUNT_OFFSET);
+        this.dataOffset = buffer.getInt(DATA_OFFSET_OFFSET);
+
+        // A partially written or truncated file does not end after the data section
+        final long slotsEnd = HEADER_SIZE + (long) entryCount * SLOT_SIZE;
+        final long dataEnd = (long) dataOffset + buffer.getInt(DATA_SIZE_OFFSET);
+        if (entryCount < 0 || dataOffset < slotsEnd || dataEnd != buffer.capacity())
+            throw new IOException("Invalid index layout");
+
+        final int duplicateCount = buffer.getInt(DUPLICATE_COUNT_OFFSET);
+        if (duplicateCount < 0) throw new IOException("Invalid index layout");
+
+        final var duplicates = new ArrayList<String>(duplicateCount);
+        int offset = (int) slotsEnd;
+        for (int i = 0; i < duplicateCount; i++) {
+            final int length = buffer.getInt(offset);
+            if (length < 0 || offset + Integer.BYTES + length > dataOffset) throw new IOException("Invalid duplicate");
+
+            duplicates.add(new String(bytesAt(offset + Integer.BYTES, length), StandardCharsets.UTF_8));
+            offset += Integer.BYTES + length;
+        }
+        this.duplicateIds = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Opens the index file of the specified bibliography, and builds it first if it does not exist, or if it has been
+     * built from another version of the bibliography or by another version of the compiler
+     *
+     * @param bibliographyFile the non-null bibliography file
+     * @param indexFile        the non-null path of the index file
+     * @return the opened index
+     * @throws IOException              if the bibliography or the index file cannot be read or written
+     * @throws IllegalArgumentException if the bibliography is invalid
+     */
+    public static MappedBibliographyIndex open(@NonNull final File bibliographyFile, @NonNull final Path indexFile)
+            throws IOException {
+        final var hash = ContentHashes.hashOf(bibliographyFile.toPath());
+
+        try {
+            final var buffer = map(indexFile);
+            if (isUpToDate(buffer, hash)) return new MappedBibliographyIndex(buffer, false);
+        } catch (NoSuchFileException e) {
+            // The index has not been built yet
+        } catch (IOException | IndexOutOfBoundsException e) {
+            LOGGER.log(Level.WARNING, "Rebuilding the invalid bibliography index " + indexFile, e);
+        }
+
+        build(bibliographyFile, hash, indexFile);
+        return new MappedBibliographyIndex(map(indexFile), true);
+    }
+
+    /**
+     * Yields true if the header of the index file matches the layout, the codec and the hash of the bibliography
+     *
+     * @param buffer the mapped index file
+     * @param hash   the hash of the bibliography
+     * @return true if the index file can be used
+     */
+    private static boolean isUpToDate(final ByteBuffer buffer, final byte[] hash) {
+        if (buffer.capacity() < HEADER_SIZE) return false;
+        if (buffer.getInt(MAGIC_OFFSET) != MAGIC || buffer.getInt(FILE_VERSION_OFFSET) != FILE_VERSION) return false;
+        if (buffer.getInt(CODEC_VERSION_OFFSET) != ASTCodec.FORMAT_VERSION) return false;
+
+        final var storedHash = new byte[HASH_LENGTH];
+        buffer.get(HASH_OFFSET, storedHash);
+        return Arrays.equals(storedHash, hash);
+    }
+
+    /**
+     * Parses the whole bibliography and writes its entries to the index file.
+     * The file is written to a temporary file first, which then replaces the index file, so that other compilations
+     * never map a partially written index.
+     *
+     * @param bibliographyFile the bibliography file
+     * @param hash             the hash of the bibliography
+     * @param indexFile        the path of the index file
+     * @throws IOException if the bibliography cannot be read, or the index file cannot be written
+     */
+    private static void build(final File bibliographyFile, final byte[] hash, final Path indexFile)
+            throws IOException {
+        final var text = Files.readString(bibliographyFile.toPath());
+        final var sources = new FrontEndBridge(text, true).getAst().getBibliographySources();
+
+        // Only the first entry of each ID is indexed, just like when processing the bibliography
+        final var ids = new HashSet<String>();
+        final var entries = new ArrayList<Entry>(sources.size());
+        final var duplicates = new ArrayList<byte[]>();
+        final var record = new ByteArrayOutputStream();
+
+        for (var source : sources) {
+            final var id = source.getId().getBytes(StandardCharsets.UTF_8);
+            if (!ids.add(source.getId())) {
+                duplicates.add(id);
+                continue;
+            }
+
+            record.reset();
+            ASTCodec.writeBibliographySource(source, new DataOutputStream(record));
+            entries.add(new Entry(id, record.toByteArray()));
+        }
+        entries.sort(Comparator.comparing(Entry::id, Arrays::compareUnsigned));
+
+        final long dataOffset = HEADER_SIZE + (long) entries.size() * SLOT_SIZE +
+                duplicates.stream().mapToLong(id -> Integer.BYTES + id.length).sum();
+        final long dataSize = entries.stream().mapToLong(entry -> entry.id().length + entry.record().length).sum();
+        if (dataOffset + dataSize > Integer.MAX_VALUE)
+            throw new IOException("The bibliography is too large to be indexed");
+
+        final var directory = indexFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final var temporary = Files.createTempFile(directory, indexFile.getFileName().toString(), ".tmp");
+        try {
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FILE_VERSION);
+                output.writeInt(ASTCodec.FORMAT_VERSION);
+                output.writeInt(entries.size());
+                output.write(hash);
+                output.writeInt(duplicates.size());
+                output.writeInt((int) dataOffset);
+                output.writeInt((int) dataSize);
+
+                int offset = 0;
+                for (var entry : entries) {
+                    output.writeInt(offset);
+                    output.writeInt(entry.id().length);
+                    output.writeInt(offset + entry.id().length);
+                    output.writeInt(entry.record().length);
+                    offset += entry.id().length + entry.record().length;
+                }
+
+                for (var id : duplicates) {
+                    output.writeInt(id.length);
+                    output.write(id);
+                }
+
+                for (var entry : entries) {
+                    output.write(entry.id());
+                    output.write(entry.record());
+                }
+            }
+
+            Files.move(temporary, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static MappedByteBuffer map(final Path indexFile) throws IOException {
+        // The mapping stays valid after the channel has been closed
+        try (var channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) throw new IOException("The index file is too large");
+
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Decodes the entry with the specified ID, if there is one
+     *
+     * @param id the non-null ID of the entry
+     * @return the decoded entry, or null if the bibliography does not contain an entry with the ID
+     * @throws UncheckedIOException if the entry in the index file is corrupt
+     */
+    @Override
+    public BibliographySource parse(@NonNull final String id) {
+        final int slot = find(id);
+        if (slot < 0) return null;
+
+        final int slotOffset = HEADER_SIZE + slot * SLOT_SIZE;
+        try {
+            final var record = bytesAt(dataOffset + buffer.getInt(slotOffset + 8), buffer.getInt(slotOffset + 12));
+            final var input = new DataInputStream(new ByteArrayInputStream(record));
+            final var source = ASTCodec.readBibliographySource(input);
+            if (input.available() != 0 || !id.equals(source.getId())) throw new IOException("Invalid entry");
+
+            return source;
+        } catch (IOException | IndexOutOfBoundsException e) {
+            throw new UncheckedIOException("The bibliography index contains a corrupt entry for the ID '" + id + "'",
+                    e instanceof IOException ioException ? ioException : new IOException(e));
+        }
+    }
+
+    @Override
+    public boolean contains(@NonNull final String id) {
+        return find(id) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return entryCount;
+    }
+
+    @Override
+    public List<String> getDuplicateIds() {
+        return duplicateIds;
+    }
+
+    /**
+     * Yields true if the index file has been built when opening it, and false if an existing one has been reused
+     *
+     * @return true if the bibliography has been parsed
+     */
+    public boolean hasBeenBuilt() {
+        return built;
+    }
+
+    /**
+     * Searches the slot of the ID by a binary search over the mapped slots, which are sorted by the UTF-8 bytes
+     * of their IDs
+     *
+     * @param id the ID that should be found
+     * @return the index of the slot, or -1 if there is no entry with the ID
+     */
+    private int find(final String id) {
+        final var key = id.getBytes(StandardCharsets.UTF_8);
+
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = compareId(middle, key);
+
+            if (comparison < 0) low = middle + 1;
+            else if (comparison > 0) high = middle - 1;
+            else return middle;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Compares the ID of the slot with the key, where bytes are compared as unsigned values
+     *
+     * @param slot the index of the slot
+     * @param key  the UTF-8 bytes of the searched ID
+     * @return a negative value, zero or a positive value if the ID of the slot is less than, equal to or greater
+     * than the key
+     */
+    private int compareId(final int slot, final byte[] key) {
+        final int slotOffset = HEADER_SIZE + slot * SLOT_SIZE;
+        final int idOffset = dataOffset + buffer.getInt(slotOffset);
+        final int idLength = buffer.getInt(slotOffset + 4);
+
+        final int length = Math.min(idLength, key.length);
+        for (int i = 0; i < length; i++) {
+            final int comparison = Byte.compareUnsigned(buffer.get(idOffset + i), key[i]);
+            if (comparison != 0) return comparison;
+        }
+
+        return Integer.compare(idLength, key.length);
+    }
+
+    private byte[] bytesAt(final int offset, final int length) {
+        final var bytes = new byte[length];
+        buffer.get(offset, bytes);
+
+        return bytes;
+    }
+
+    /**
+     * An indexed entry while building the index file
+     *
+     * @param id     the UTF-8 bytes of the ID
+     * @param record the encoded entry
+     */
+    private record Entry(byte[] id, byte[] record) {
+    }
+
+}
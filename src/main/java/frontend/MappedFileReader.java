@@ -0,0 +1,195 @@
+package frontend;
+
+import frontend.lexical_analysis.Lexer;
+import lombok.NonNull;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads Pipp source files by memory-mapping them and decoding the UTF-8 content in large chunks, which are then
+ * fed to the {@link Lexer}. This avoids reading the file one character at a time through a reader.
+ * The decoder and the chunk buffer are reused, so one instance should be used for all files of a compilation.
+ * Note that malformed input is replaced, just like the InputStreamReader that was used before.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class MappedFileReader {
+
+    /**
+     * Determines the amount of characters that are decoded at once before they are handed to the scanner
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * Determines the maximum amount of bytes that are mapped at once.
+     * Larger files are mapped window by window, because a single mapping cannot exceed two gigabytes.
+     */
+    private static final long MAPPING_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * The UTF-8 decoder, which is reset for each file
+     */
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    /**
+     * The reusable buffer the decoder writes the decoded characters to
+     */
+    private final CharBuffer chunk;
+
+    /**
+     * Creates a reader using the default chunk size
+     */
+    public MappedFileReader() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a reader that decodes the specified amount of characters at once
+     *
+     * @param chunkSize the amount of characters per chunk, which must fit at least one surrogate pair
+     */
+    public MappedFileReader(final int chunkSize) {
+        if (chunkSize < 2) throw new IllegalArgumentException("The chunk size must be at least two characters");
+
+        this.chunk = CharBuffer.allocate(chunkSize);
+    }
+
+    /**
+     * Maps the specified file, decodes it and passes all characters to the specified scanner.
+     * Note that this does not submit the last token, which is the responsibility of the caller.
+     *
+     * @param file    the non-null file that should be read
+     * @param scanner the non-null scanner that should scan the content of the file
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public void read(@NonNull final File file, @NonNull final Lexer scanner) throws IOException {
+        try (var cursor = open(file)) {
+            while (cursor.advance(scanner)) ;
+        }
+    }
+
+    /**
+     * Opens the specified file, so that it can be scanned one chunk at a time.
+     * As the decoder and the chunk buffer are shared, only one cursor of a reader may be used at a time.
+     *
+     * @param file the non-null file that should be read
+     * @return the cursor, which has to be closed by the caller
+     * @throws IOException if the file cannot be opened
+     */
+    public Cursor open(@NonNull final File file) throws IOException {
+        return new Cursor(file);
+    }
+
+    /**
+     * Reads a mapped file one chunk at a time, which allows the caller to only scan as much of the file
+     * as it currently needs.
+     */
+    public class Cursor implements Closeable {
+
+        /**
+         * The channel of the file that is read
+         */
+        private final FileChannel channel;
+
+        /**
+         * The size of the file in bytes
+         */
+        private final long size;
+
+        /**
+         * The position in the file at which the current window starts
+         */
+        private long position;
+
+        /**
+         * The currently mapped window, or null if the next window has to be mapped
+         */
+        private ByteBuffer window;
+
+        /**
+         * Yields true if the current window ends at the end of the file
+         */
+        private boolean isLastWindow;
+
+        /**
+         * Yields true once all characters have been passed to the scanner
+         */
+        private boolean finished;
+
+        private Cursor(final File file) throws IOException {
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            this.size = channel.size();
+            this.finished = size == 0;
+            decoder.reset();
+        }
+
+        /**
+         * Decodes the next chunk of the file and passes it to the specified scanner.
+         * Note that this does not submit the last token, which is the responsibility of the caller.
+         *
+         * @param scanner the non-null scanner that should scan the next chunk
+         * @return false if there were no more characters to scan
+         * @throws IOException if the next window of the file cannot be mapped
+         */
+        public boolean advance(@NonNull final Lexer scanner) throws IOException {
+            while (!finished) {
+                chunk.clear();
+
+                if (window == null && position >= size) {
+                    decoder.flush(chunk);
+                    finished = true;
+                } else {
+                    if (window == null) {
+                        final long windowSize = Math.min(MAPPING_WINDOW_SIZE, size - position);
+                        window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+                        isLastWindow = position + windowSize == size;
+                    }
+
+                    // Incomplete characters at the end of a window are not consumed and mapped again with the next
+                    // window
+                    if (!decoder.decode(window, chunk, isLastWindow).isOverflow()) {
+                        position += window.position();
+                        window = null;
+                    }
+                }
+
+                if (chunk.position() > 0) {
+                    feed(scanner);
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            window = null;
+            channel.close();
+        }
+
+    }
+
+    /**
+     * Hands the characters that have been decoded into the chunk buffer to the scanner
+     *
+     * @param scanner the scanner that should scan the characters
+     */
+    private void feed(final Lexer scanner) {
+        chunk.flip();
+        scanner.scan(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+    }
+
+}
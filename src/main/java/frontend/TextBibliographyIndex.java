@@ -0,0 +1,293 @@
+package frontend;
+
+import frontend.ast.bibliography.BibliographySource;
+import lombok.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes the entries of a bibliography text by their IDs, so that only the entries that are actually cited have to
+ * be parsed.
+ * Building the index does not scan or parse the bibliography. It only finds the lines that start an entry, which
+ * are the lines with a single tab followed by the id keyword, and remembers the range of each entry in the text.
+ * An entry is then scanned and parsed on its own the first time it is requested. If it cannot be parsed, the whole
+ * bibliography is parsed instead, so that the error message refers to the correct line. Note that errors in
+ * entries that are never requested are therefore not reported.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class TextBibliographyIndex implements BibliographyIndex {
+
+    private static final String BIBLIOGRAPHY_KEYWORD = "bibliography";
+
+    private static final String ID_KEYWORD = "id";
+
+    /**
+     * The text of the bibliography
+     */
+    private final String text;
+
+    /**
+     * The range of each entry in the text, by the ID of the entry.
+     * If several entries have the same ID, the first one is indexed.
+     */
+    private final Map<String, Range> entries = new HashMap<>();
+
+    /**
+     * The IDs that are used by more than one entry, in the order of their second occurrence
+     */
+    private final List<String> duplicateIds = new ArrayList<>();
+
+    /**
+     * The amount of entries that have been parsed so far
+     */
+    private int parsedEntries;
+
+    /**
+     * Indexes the entries of the specified bibliography text
+     *
+     * @param text the non-null text of the bibliography
+     * @throws IllegalArgumentException if the entries of the bibliography cannot be found, where the message is the
+     *                                  one of the parser
+     */
+    public TextBibliographyIndex(@NonNull final String text) {
+        this.text = text;
+        index();
+    }
+
+    /**
+     * Reads and indexes the entries of the specified bibliography file
+     *
+     * @param bibliographyFile the non-null bibliography file
+     * @return the index of the bibliography
+     * @throws IOException if the file cannot be read
+     */
+    public static TextBibliographyIndex of(@NonNull final File bibliographyFile) throws IOException {
+        return new TextBibliographyIndex(Files.readString(bibliographyFile.toPath()));
+    }
+
+    /**
+     * Finds the entries of the text, which must start with the bibliography keyword, and is followed by the entries.
+     * Comments and texts are skipped, so that an id keyword inside them does not start an entry.
+     */
+    private void index() {
+        boolean inText = false;
+        boolean escaped = false;
+        boolean inComment = false;
+        boolean lineStart = true;
+        int header = -1;
+        String currentId = null;
+        int currentStart = -1;
+
+        for (int i = 0; i < text.length(); i++) {
+            final char character = text.charAt(i);
+
+            if (inText) {
+                if (escaped) escaped = false;
+                else if (character == '\\') escaped = true;
+                else if (character == '"') inText = false;
+                continue;
+            }
+
+            if (character == '\n') {
+                inComment = false;
+                lineStart = true;
+                continue;
+            }
+
+            if (lineStart) {
+                lineStart = false;
+
+                if (character == '#') inComment = true;
+                else if (startsEntry(i)) {
+                    if (header < 0) header = i;
+                    if (currentId != null) addEntry(currentId, currentStart, i);
+
+                    currentId = idOf(i + 1 + ID_KEYWORD.length());
+                    currentStart = i;
+                }
+            }
+
+            if (character == '"' && !inComment) inText = true;
+        }
+
+        if (currentId != null) addEntry(currentId, currentStart, text.length());
+
+        if (!isValidHeader(header < 0 ? text.length() : header)) throw parseEntirely();
+    }
+
+    /**
+     * Yields true if the line at the specified index consists of a single tab followed by the id keyword, and the
+     * keyword is followed by a space or the text of the ID
+     *
+     * @param lineStart the index of the first character of the line
+     * @return true if the line starts an entry
+     */
+    private boolean startsEntry(final int lineStart) {
+        final int keywordEnd = lineStart + 1 + ID_KEYWORD.length();
+
+        return text.charAt(lineStart) == '\t' && text.startsWith(ID_KEYWORD, lineStart + 1) &&
+                keywordEnd < text.length() && (text.charAt(keywordEnd) == ' ' || text.charAt(keywordEnd) == '"');
+    }
+
+    /**
+     * Reads the ID that follows the id keyword in the same way as the scanner reads texts, so that the ID equals the
+     * one of the parsed entry. Escaped characters are included without the backslash, line breaks and tabs become a
+     * single space, and consecutive spaces are collapsed into one.
+     *
+     * @param index the index after the id keyword
+     * @return the ID of the entry
+     * @throws IllegalArgumentException if the keyword is not followed by a non-blank text
+     */
+    private String idOf(int index) {
+        while (index < text.length() && text.charAt(index) == ' ') index++;
+        if (index >= text.length() || text.charAt(index) != '"') throw parseEntirely();
+
+        // The opening quotation mark is part of the value, so that a leading space is kept
+        final var value = new StringBuilder("\"");
+        boolean escaping = false;
+        boolean convertedLineBreak = false;
+
+        for (index++; index < text.length(); index++) {
+            final char character = text.charAt(index);
+            if (character == '\r') continue;
+
+            if (character == '"') {
+                if (!escaping) break;
+
+                escaping = false;
+                value.append('"');
+            } else if (character == '\\') {
+                convertedLineBreak = false;
+
+                if (escaping) value.append('\\');
+                escaping = !escaping;
+            } else if (character != '\n' && character != '\t') {
+                convertedLineBreak = false;
+
+                if (character != ' ' || value.charAt(value.length() - 1) != ' ') value.append(character);
+            } else if (!convertedLineBreak) {
+                convertedLineBreak = true;
+
+                if (value.charAt(value.length() - 1) != ' ') value.append(' ');
+            }
+        }
+
+        if (index >= text.length() || value.substring(1).isBlank()) throw parseEntirely();
+
+        return value.substring(1);
+    }
+
+    private void addEntry(final String id, final int start, final int end) {
+        if (entries.putIfAbsent(id, new Range(start, end)) != null) duplicateIds.add(id);
+    }
+
+    /**
+     * Yields true if the text in front of the first entry only consists of the bibliography keyword, comments and
+     * line breaks
+     *
+     * @param end the index of the first entry, or the end of the text if there are no entries
+     * @return true if the entries can be parsed on their own
+     */
+    private boolean isValidHeader(final int end) {
+        final var keywords = text.substring(0, end)
+                .lines()
+                .filter(line -> !line.startsWith("#"))
+                .map(String::strip)
+                .filter(line -> !line.isEmpty())
+                .toList();
+
+        if (keywords.isEmpty()) return entries.isEmpty();
+
+        return keywords.equals(List.of(BIBLIOGRAPHY_KEYWORD)) && !entries.isEmpty();
+    }
+
+    /**
+     * Scans and parses the entry with the specified ID, if there is one.
+     * Each call parses the entry again, so the caller should keep the parsed entry.
+     *
+     * @param id the non-null ID of the entry
+     * @return the parsed entry, or null if the bibliography does not contain an entry with the ID
+     * @throws IllegalArgumentException if the entry is invalid, where the message refers to the line in the
+     *                                  bibliography
+     */
+    @Override
+    public BibliographySource parse(@NonNull final String id) {
+        final var range = entries.get(id);
+        if (range == null) return null;
+
+        final List<BibliographySource> sources;
+        try {
+            final var bridge = new FrontEndBridge(BIBLIOGRAPHY_KEYWORD + "\n" +
+                    text.substring(range.start(), range.end()), true);
+            sources = bridge.getAst().getBibliographySources();
+        } catch (RuntimeException e) {
+            throw parseEntirely();
+        }
+
+        if (sources.size() != 1 || !id.equals(sources.get(0).getId()))
+            throw new IllegalStateException("The bibliography entry with the ID '" + id + "' has not been indexed " +
+                    "correctly");
+
+        parsedEntries++;
+        return sources.get(0);
+    }
+
+    /**
+     * Parses the whole bibliography to find the error that prevents the index from being used
+     *
+     * @return the error of the parser, or an exception stating that the bibliography cannot be indexed, if the
+     * whole bibliography is valid
+     */
+    private RuntimeException parseEntirely() {
+        try {
+            new FrontEndBridge(text, true);
+        } catch (RuntimeException e) {
+            return e;
+        }
+
+        return new IllegalArgumentException("The bibliography cannot be indexed, so it should not be parsed lazily");
+    }
+
+    @Override
+    public boolean contains(@NonNull final String id) {
+        return entries.containsKey(id);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public List<String> getDuplicateIds() {
+        return Collections.unmodifiableList(duplicateIds);
+    }
+
+    /**
+     * Yields the amount of entries that have been parsed so far
+     *
+     * @return the amount of parsed entries
+     */
+    public int getParsedEntries() {
+        return parsedEntries;
+    }
+
+    /**
+     * The range of an entry in the text of the bibliography
+     *
+     * @param start the index of the first character of the line that starts the entry
+     * @param end   the index of the first character of the line that starts the next entry, or the end of the text
+     */
+    private record Range(int start, int end) {
+    }
+
+}
@@ -0,0 +1,219 @@
+package frontend;
+
+import frontend.lexical_analysis.DebugTokenInfo;
+import frontend.lexical_analysis.SourceMap;
+import frontend.lexical_analysis.Token;
+import lombok.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * A growable ring buffer of tokens, which is used by the {@link FrontEndBridge} to pass tokens from the scanner
+ * to the parser.
+ * Dequeuing a token and looking ahead at any index take constant time, and no node object is created per token.
+ * Dequeued tokens are released immediately, and {@link #compact()} releases unused capacity.
+ * Shared tokens do not carry debug information, so their positions are stored in parallel arrays, instead.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class TokenQueue {
+
+    /**
+     * Determines the initial capacity, and the capacity the queue is compacted to at least
+     */
+    static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The tokens of the queue.
+     * The capacity is always a power of two, so that indices can be wrapped using a bit mask.
+     */
+    private Token[] elements = new Token[DEFAULT_CAPACITY];
+
+    /**
+     * The source each shared token has been scanned from, or null if the position is part of the token
+     */
+    private SourceMap[] sources = new SourceMap[DEFAULT_CAPACITY];
+
+    /**
+     * The one-indexed line number of each shared token
+     */
+    private int[] lineNumbers = new int[DEFAULT_CAPACITY];
+
+    /**
+     * The source offset after the last character of the line that belongs to each shared token
+     */
+    private int[] endOffsets = new int[DEFAULT_CAPACITY];
+
+    /**
+     * The index of the first token of the queue
+     */
+    private int head;
+
+    /**
+     * The amount of tokens in the queue
+     */
+    private int size;
+
+    /**
+     * The token that has been dequeued last, together with its position if it is shared
+     */
+    private Token dequeued;
+    private SourceMap dequeuedSource;
+    private int dequeuedLineNumber;
+    private int dequeuedEndOffset;
+
+    /**
+     * Appends the token to the end of the queue, and doubles the capacity if the queue is full
+     *
+     * @param token the non-null token that should be enqueued
+     */
+    public void enqueue(@NonNull final Token token) {
+        enqueue(token, null, 0, 0);
+    }
+
+    /**
+     * Appends the token to the end of the queue together with its position, which is used for shared tokens
+     *
+     * @param token      the non-null token that should be enqueued
+     * @param source     the source the token has been scanned from, or null if the position is unknown
+     * @param lineNumber the one-indexed line number of the token
+     * @param endOffset  the source offset after the last character of the line that belongs to the token
+     */
+    public void enqueue(@NonNull final Token token, final SourceMap source, final int lineNumber,
+                        final int endOffset) {
+        if (size == elements.length) resize(2 * elements.length);
+
+        final int index = (head + size) & (elements.length - 1);
+        elements[index] = token;
+        sources[index] = source;
+        lineNumbers[index] = lineNumber;
+        endOffsets[index] = endOffset;
+        size++;
+    }
+
+    /**
+     * Removes the first token of the queue and returns it
+     *
+     * @return the first token
+     * @throws IllegalStateException if the queue is empty
+     */
+    public Token dequeue() {
+        if (size == 0) throw new IllegalStateException("Token Queue is empty");
+
+        final var token = elements[head];
+        dequeued = token;
+        dequeuedSource = sources[head];
+        dequeuedLineNumber = lineNumbers[head];
+        dequeuedEndOffset = endOffsets[head];
+
+        elements[head] = null;
+        sources[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        size--;
+
+        return token;
+    }
+
+    /**
+     * Yields the debug information of the token that has been dequeued last.
+     * The debug information of shared tokens is created from their stored position.
+     *
+     * @return the debug information, which is empty if the position of a shared token is unknown
+     * @throws IllegalStateException if no token has been dequeued, yet
+     */
+    public DebugTokenInfo getDequeuedDebugInfo() {
+        if (dequeued == null) throw new IllegalStateException("No token has been dequeued");
+        if (!dequeued.isShared()) return dequeued.getDebugInfo();
+
+        return dequeuedSource == null
+                ? new DebugTokenInfo()
+                : new DebugTokenInfo(dequeuedSource, dequeuedLineNumber, dequeuedEndOffset);
+    }
+
+    /**
+     * Yields the token at the specified index without removing it, where index zero is the first token
+     *
+     * @param index the index of the token
+     * @return the token at the index
+     * @throws IndexOutOfBoundsException if there is no token at the index
+     */
+    public Token get(final int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        return elements[(head + index) & (elements.length - 1)];
+    }
+
+    /**
+     * Yields the amount of tokens in the queue
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Yields true if there are no tokens in the queue
+     *
+     * @return true if the queue is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all tokens from the queue
+     */
+    public void clear() {
+        Arrays.fill(elements, null);
+        Arrays.fill(sources, null);
+        dequeued = null;
+        dequeuedSource = null;
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Shrinks the capacity to the smallest power of two that fits the remaining tokens, but at least to the default
+     * capacity. This releases the memory that was needed for tokens that have been dequeued already.
+     */
+    public void compact() {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < size) capacity *= 2;
+
+        if (capacity < elements.length) resize(capacity);
+    }
+
+    /**
+     * Moves the tokens to a new array of the specified capacity, starting at index zero
+     *
+     * @param capacity the new capacity, which must be a power of two that fits all tokens
+     */
+    private void resize(final int capacity) {
+        final int firstPart = Math.min(size, elements.length - head);
+
+        elements = copy(elements, new Token[capacity], firstPart);
+        sources = copy(sources, new SourceMap[capacity], firstPart);
+        lineNumbers = copy(lineNumbers, new int[capacity], firstPart);
+        endOffsets = copy(endOffsets, new int[capacity], firstPart);
+        head = 0;
+    }
+
+    /**
+     * Copies the entries of the queue from one of the parallel arrays to its resized array, starting at index zero
+     *
+     * @param array     the array that stores the entries of the queue
+     * @param resized   the resized array
+     * @param firstPart the amount of entries between the head and the end of the array
+     * @param <T>       the type of the array
+     * @return the resized array
+     */
+    private <T> T copy(final T array, final T resized, final int firstPart) {
+        System.arraycopy(array, head, resized, 0, firstPart);
+        System.arraycopy(array, 0, resized, firstPart, size - firstPart);
+
+        return resized;
+    }
+
+}
@@ -6,13 +6,20 @@ import frontend.ast.structure.BodyNode;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.ToString;
+import warning.WarningQueue;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The AST represents Pipp's Abstract Syntax Tree (AST).
  * The tree consists of a tree of the provided user configuration, a list of user-defined body nodes, and
  * a list of user-defined bibliography sources.
+ * Numeric values, such as the dimensions of images or the sizes of fonts, are deliberately stored as the strings the
+ * user has written, and are only parsed once they are processed, so that invalid values are reported by the
+ * processing phase. They occur once per image or font rather than once per paragraph, so storing them as numbers
+ * would hardly reduce the size of the tree.
  *
  * @version 1.0
  * @since 1.0
@@ -32,14 +39,14 @@ public class AST {
      * It is the job of the {@link processing.Processor} to determine whether the input is legal, the AST only collects
      * the nodes specified one after the other, and performs rudimentary warning checks.
      */
-    private final LinkedList<BodyNode> documentBody = new LinkedList<>();
+    private final List<BodyNode> documentBody = new ArrayList<>();
 
     /**
      * The list contains all bibliography entries specified by the user.
      * It is the job of the {@link processing.Processor} to determine whether the input is legal, the AST only collects
      * the nodes specified one after the other, and performs rudimentary warning checks.
      */
-    private final LinkedList<BibliographySource> bibliographySources = new LinkedList<>();
+    private final List<BibliographySource> bibliographySources = new ArrayList<>();
 
     /**
      * Adds the non-null bibliography source to the end of the list.
@@ -47,7 +54,7 @@ public class AST {
      * @param source the source that should be added to the bibliography
      */
     public void includeBibliographySource(@NonNull final BibliographySource source) {
-        bibliographySources.addLast(source);
+        bibliographySources.add(source);
     }
 
     /**
@@ -57,7 +64,7 @@ public class AST {
      * @param node - the node that should be added to the front of the queue
      */
     public void enqueueDocumentNode(@NonNull final BodyNode node) {
-        documentBody.addLast(node);
+        documentBody.add(node);
     }
 
     /**
@@ -69,4 +76,26 @@ public class AST {
         documentBody.forEach(BodyNode::checkForWarnings);
     }
 
+    /**
+     * Checks for warnings in all child nodes, where the bibliography sources and body nodes are checked in parallel
+     * on the specified pool. The nodes are independent of each other, and the warnings are enqueued in the same
+     * order as by {@link #checkForWarnings()}. If a node throws an exception, the warnings of the nodes in front
+     * of it are enqueued before the exception is rethrown.
+     *
+     * @param pool the non-null pool the nodes are checked on
+     */
+    public void checkForWarnings(@NonNull final ForkJoinPool pool) {
+        configuration.checkForWarnings();
+
+        final var nodes = new ArrayList<Node>(bibliographySources.size() + documentBody.size());
+        nodes.addAll(bibliographySources);
+        nodes.addAll(documentBody);
+
+        final var task = new WarningCheckTask(nodes, 0, nodes.size());
+        final var result = nodes.size() <= WarningCheckTask.LEAF_SIZE ? task.compute() : pool.invoke(task);
+
+        WarningQueue.enqueueAll(result.warnings());
+        if (result.error() != null) throw result.error();
+    }
+
 }
@@ -0,0 +1,237 @@
+package frontend.ast;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Writes a readable tree of the AST, or any of its nodes, to a writer while walking it.
+ * Unlike the generated toString methods, the dumper never builds the text of the whole tree in memory, and it
+ * stops once the tree is deeper than the maximum depth or the text is longer than the maximum amount of characters.
+ * Each line contains a single field, where objects of the AST are expanded into their fields and lists into their
+ * elements, one level deeper. All other values are written using their string representation, and null values are
+ * omitted.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class ASTDumper {
+
+    /**
+     * The default depth up to which objects are expanded
+     */
+    public static final int DEFAULT_MAX_DEPTH = 16;
+
+    /**
+     * The default maximum amount of characters that are written
+     */
+    public static final long DEFAULT_MAX_CHARACTERS = 64 * 1024;
+
+    /**
+     * Only objects of classes in this package, or its subpackages, are expanded into their fields
+     */
+    private static final String AST_PACKAGE = ASTDumper.class.getPackageName();
+
+    private static final String INDENTATION = "  ";
+
+    /**
+     * The fields that are dumped for each class, including the fields of its superclasses
+     */
+    private static final ClassValue<Field[]> DUMPED_FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(final Class<?> type) {
+            final var fields = new ArrayList<Field>();
+            for (var current = type; current != null && current != Object.class; current = current.getSuperclass())
+                for (var field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) continue;
+
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+
+            return fields.toArray(Field[]::new);
+        }
+    };
+
+    private final int maxDepth;
+    private final long maxCharacters;
+
+    /**
+     * Creates a dumper with the default depth and size limits
+     */
+    public ASTDumper() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_MAX_CHARACTERS);
+    }
+
+    /**
+     * Creates a dumper with the specified limits
+     *
+     * @param maxDepth      the depth up to which objects are expanded, where the dumped node has the depth zero
+     * @param maxCharacters the maximum amount of characters that are written, not including the truncation note
+     */
+    public ASTDumper(final int maxDepth, final long maxCharacters) {
+        if (maxDepth < 0) throw new IllegalArgumentException("The maximum depth must not be negative");
+        if (maxCharacters < 0) throw new IllegalArgumentException("The maximum amount of characters must not be negative");
+
+        this.maxDepth = maxDepth;
+        this.maxCharacters = maxCharacters;
+    }
+
+    /**
+     * Dumps the node into a string, which is bounded by the size limit of this dumper
+     *
+     * @param node the AST, or any of its nodes
+     * @return the dumped tree
+     */
+    public String dump(@NonNull final Object node) {
+        final var writer = new StringWriter();
+        try {
+            dump(node, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return writer.toString();
+    }
+
+    /**
+     * Dumps the node to the writer, which is neither flushed nor closed
+     *
+     * @param node   the AST, or any of its nodes
+     * @param writer the writer the tree is written to
+     * @throws IOException if the writer cannot be written to
+     */
+    public void dump(@NonNull final Object node, @NonNull final Writer writer) throws IOException {
+        new Walk(writer).value(null, node, 0);
+    }
+
+    /**
+     * A single walk over a tree, which keeps track of the amount of written characters
+     */
+    private final class Walk {
+
+        private final Writer writer;
+        private long written;
+        private boolean truncated;
+
+        private Walk(final Writer writer) {
+            this.writer = writer;
+        }
+
+        /**
+         * Writes a line for the value and then expands it, if it is a list or an object of the AST
+         *
+         * @param name  the name of the field or the index of the element, or null for the dumped node itself
+         * @param value the value, which is not null
+         * @param depth the depth of the value
+         */
+        private void value(final String name, final Object value, final int depth) throws IOException {
+            if (truncated) return;
+
+            final var type = value.getClass();
+            final var expandable = isAST(type) || type.isArray() || value instanceof Collection<?>
+                    || value instanceof Map<?, ?>;
+
+            final var line = new StringBuilder(INDENTATION.length() * depth + 32);
+            line.append(INDENTATION.repeat(depth));
+            if (name != null) line.append(name).append(": ");
+
+            if (!expandable) {
+                line.append(value instanceof String ? '"' + (String) value + '"' : String.valueOf(value));
+                write(line);
+                return;
+            }
+
+            if (isAST(type)) line.append(type.getSimpleName());
+            else line.append('[').append(sizeOf(value)).append(']');
+
+            if (depth >= maxDepth) {
+                write(line.append(" ..."));
+                return;
+            }
+
+            write(line);
+            if (isAST(type)) fields(value, depth + 1);
+            else elements(value, depth + 1);
+        }
+
+        private void fields(final Object node, final int depth) throws IOException {
+            for (var field : DUMPED_FIELDS.get(node.getClass())) {
+                final Object fieldValue;
+                try {
+                    fieldValue = field.get(node);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("The field " + field.getName() + " cannot be dumped", e);
+                }
+
+                if (fieldValue != null) value(field.getName(), fieldValue, depth);
+                if (truncated) return;
+            }
+        }
+
+        private void elements(final Object container, final int depth) throws IOException {
+            if (container instanceof Map<?, ?> map) {
+                for (var entry : map.entrySet()) {
+                    if (entry.getValue() != null) value(String.valueOf(entry.getKey()), entry.getValue(), depth);
+                    if (truncated) return;
+                }
+                return;
+            }
+
+            if (container instanceof Collection<?> collection) {
+                int index = 0;
+                for (var element : collection) {
+                    if (element != null) value(String.valueOf(index), element, depth);
+                    if (truncated) return;
+                    index++;
+                }
+                return;
+            }
+
+            final int length = Array.getLength(container);
+            for (int i = 0; i < length && !truncated; i++) {
+                final var element = Array.get(container, i);
+                if (element != null) value(String.valueOf(i), element, depth);
+            }
+        }
+
+        /**
+         * Writes the line, or the truncation note if the line would exceed the size limit
+         *
+         * @param line the line without the line break
+         */
+        private void write(final StringBuilder line) throws IOException {
+            line.append(System.lineSeparator());
+
+            if (written + line.length() > maxCharacters) {
+                truncated = true;
+                writer.write("... (truncated after " + written + " characters)" + System.lineSeparator());
+                return;
+            }
+
+            written += line.length();
+            writer.append(line);
+        }
+
+    }
+
+    private static boolean isAST(final Class<?> type) {
+        return !Enum.class.isAssignableFrom(type) && type.getPackageName().startsWith(AST_PACKAGE);
+    }
+
+    private static int sizeOf(final Object container) {
+        if (container instanceof Collection<?> collection) return collection.size();
+        if (container instanceof Map<?, ?> map) return map.size();
+        return Array.getLength(container);
+    }
+
+}
@@ -0,0 +1,94 @@
+package frontend.ast;
+
+import processing.CompilationContext;
+import warning.Warning;
+import warning.WarningQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Checks a range of nodes for warnings on a fork-join pool.
+ * The range is split in halves until it is small enough to be checked by a single task, which collects the warnings
+ * of its nodes in their order. The results of both halves are then merged in order, so that the warnings are in the
+ * same order as when checking the nodes one after the other. If a node throws an exception, the nodes behind it
+ * are ignored, just like when checking them one after the other.
+ * The nodes are checked in the compilation context of the thread that creates the task, as some checks use the
+ * state of the compilation.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+class WarningCheckTask extends RecursiveTask<WarningCheckTask.Result> {
+
+    /**
+     * The amount of nodes up to which a task checks its nodes itself instead of splitting them
+     */
+    static final int LEAF_SIZE = 256;
+
+    private final List<? extends Node> nodes;
+    private final int start;
+    private final int end;
+    private final CompilationContext context;
+
+    /**
+     * Creates a task that checks the nodes in the specified range in the current compilation context
+     *
+     * @param nodes the nodes, which must support fast random access
+     * @param start the index of the first node that should be checked
+     * @param end   the index after the last node that should be checked
+     */
+    WarningCheckTask(final List<? extends Node> nodes, final int start, final int end) {
+        this(nodes, start, end, CompilationContext.current());
+    }
+
+    private WarningCheckTask(final List<? extends Node> nodes, final int start, final int end,
+                             final CompilationContext context) {
+        this.nodes = nodes;
+        this.start = start;
+        this.end = end;
+        this.context = context;
+    }
+
+    @Override
+    protected Result compute() {
+        if (end - start <= LEAF_SIZE) {
+            final var warnings = new ArrayList<Warning>();
+            try {
+                // The check does not join other tasks, so no other task can run on this thread while it collects
+                context.run(() -> WarningQueue.collectInto(warnings, () -> {
+                    for (int i = start; i < end; i++) nodes.get(i).checkForWarnings();
+                }));
+            } catch (RuntimeException e) {
+                return new Result(warnings, e);
+            }
+
+            return new Result(warnings, null);
+        }
+
+        final int middle = (start + end) >>> 1;
+        final var second = new WarningCheckTask(nodes, middle, end, context);
+        second.fork();
+
+        final var first = new WarningCheckTask(nodes, start, middle, context).compute();
+        final var secondResult = second.join();
+        if (first.error() != null) return first;
+
+        final var warnings = new ArrayList<Warning>(first.warnings().size() + secondResult.warnings().size());
+        warnings.addAll(first.warnings());
+        warnings.addAll(secondResult.warnings());
+        return new Result(warnings, secondResult.error());
+    }
+
+    /**
+     * The warnings of the checked nodes in order, and the exception that stopped the check.
+     * The exception is returned instead of thrown, because fork-join tasks may wrap exceptions of other threads.
+     *
+     * @param warnings the warnings of the nodes in front of the node that threw the exception
+     * @param error    the exception of the first node that threw one, or null if all nodes have been checked
+     */
+    record Result(List<Warning> warnings, RuntimeException error) {
+    }
+
+}
@@ -48,11 +48,11 @@ public class Title extends Node {
                 .stream()
                 .map(titleText -> {
                     if (titleText.getWork() != null)
-                        return new Text(titleText.getWork().getEmphasisedWork(), Processor.getWorkFontData());
+                        return new Text(titleText.getWork().getEmphasisedWork(), Processor.current().getWorkFontData());
                     else if (titleText.getEmphasis() != null)
-                        return new Text(titleText.getEmphasis().getEmphasisedText(), Processor.getEmphasisFontData());
+                        return new Text(titleText.getEmphasis().getEmphasisedText(), Processor.current().getEmphasisFontData());
                     else
-                        return new Text(titleText.getText(), Processor.getSentenceFontData());
+                        return new Text(titleText.getText(), Processor.current().getSentenceFontData());
                 }).toList();
     }
 
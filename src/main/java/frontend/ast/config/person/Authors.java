@@ -68,7 +68,7 @@ public class Authors extends Node {
      * Enqueues a missing member warning if the document does not have a specified author
      */
     private void checkIfIsEmpty() {
-        if (!Processor.isProcessingBibliography() && authorList.isEmpty())
+        if (!Processor.current().isProcessingBibliography() && authorList.isEmpty())
             WarningQueue.enqueue(new MissingMemberWarning("1: There is no specified author. " +
                     "Check if you really want to omit an author specification.",
                     WarningSeverity.CRITICAL));
@@ -54,6 +54,6 @@ public class Citation extends ParagraphInstruction {
 
     @Override
     public Text[] toTextComponent() {
-        return Processor.processCitation(this);
+        return Processor.current().processCitation(this);
     }
 }
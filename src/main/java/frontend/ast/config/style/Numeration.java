@@ -7,7 +7,7 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.ToString;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -26,7 +26,7 @@ public class Numeration extends Node {
      * Skipped pages do not receive a numeration in the first place, rather than not rendering the numbers.
      * To add a page or page span that should be skipped, use the addSkippedPage-method of this node.
      */
-    private final List<String> skippedPages = new LinkedList<>();
+    private final List<String> skippedPages = new ArrayList<>();
     /**
      * The type of numeration that should be displayed.
      * This can be "ARABIC" for numbers like 1, 2 or 16,
@@ -5,7 +5,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -50,7 +50,7 @@ public class Structure extends Node {
     /**
      * Contains all configured chapter levels
      */
-    private final List<Chapter> singleChapters = new LinkedList<>();
+    private final List<Chapter> singleChapters = new ArrayList<>();
 
     /**
      * The structure node does not produce warnings, but prompts the structure nodes to check for warnings
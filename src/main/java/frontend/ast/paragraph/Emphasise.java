@@ -53,11 +53,11 @@ public class Emphasise extends ParagraphInstruction {
      */
     @Override
     public Text[] toTextComponent() {
-        if (Processor.getAllowEmphasis() == AllowanceType.NO)
+        if (Processor.current().getAllowEmphasis() == AllowanceType.NO)
             throw new ConfigurationException(ConfigurationException.ERR_MSG_9);
-        else if (Processor.getAllowEmphasis() == AllowanceType.IF_NECESSARY)
+        else if (Processor.current().getAllowEmphasis() == AllowanceType.IF_NECESSARY)
             WarningQueue.enqueue(new SelfCheckWarning(SelfCheckWarning.WARNING_MSG_1, WarningSeverity.LOW));
 
-        return new Text[]{new Text(content, Processor.getEmphasisFontData())};
+        return new Text[]{new Text(content, Processor.current().getEmphasisFontData())};
     }
 }
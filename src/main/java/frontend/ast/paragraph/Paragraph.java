@@ -3,10 +3,11 @@ package frontend.ast.paragraph;
 import creation.stamp.ParagraphStamp;
 import frontend.ast.structure.BodyNode;
 import frontend.ast.Node;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.ToString;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 
 /**
  * The paragraph node represents a paragraph, which consists of one or more paragraph instruction nodes.
@@ -23,8 +24,11 @@ public class Paragraph extends BodyNode {
     /**
      * Contains all instructions in the order of appearance in a paragraph.
      * Note that a paragraph cannot be empty.
+     * Most paragraphs only consist of a few instructions, so the list starts small and is trimmed once the paragraph
+     * has been parsed.
      */
-    private final LinkedList<ParagraphInstruction> paragraphInstructions = new LinkedList<>();
+    @Getter
+    private final ArrayList<ParagraphInstruction> paragraphInstructions = new ArrayList<>(2);
 
     /**
      * Adds the paragraph instruction to the back of the queue
@@ -32,7 +36,15 @@ public class Paragraph extends BodyNode {
      * @param instruction the non-null instruction that should be added
      */
     public void enqueueParagraphInstruction(@NonNull final ParagraphInstruction instruction) {
-        paragraphInstructions.addLast(instruction);
+        paragraphInstructions.add(instruction);
+    }
+
+    /**
+     * Releases the capacity of the instruction list that is not used.
+     * This should be called once all instructions of the paragraph have been added.
+     */
+    public void compact() {
+        paragraphInstructions.trimToSize();
     }
 
     /**
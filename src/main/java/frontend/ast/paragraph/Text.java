@@ -47,6 +47,6 @@ public class Text extends ParagraphInstruction {
      */
     @Override
     public creation.content.text.Text[] toTextComponent() {
-        return new creation.content.text.Text[]{new creation.content.text.Text(content, Processor.getSentenceFontData())};
+        return new creation.content.text.Text[]{new creation.content.text.Text(content, Processor.current().getSentenceFontData())};
     }
 }
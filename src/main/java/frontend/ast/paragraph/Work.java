@@ -48,6 +48,6 @@ public class Work extends ParagraphInstruction {
      */
     @Override
     public Text[] toTextComponent() {
-        return new Text[]{new Text(workContent, Processor.getWorkFontData())};
+        return new Text[]{new Text(workContent, Processor.current().getWorkFontData())};
     }
 }
@@ -6,6 +6,7 @@ import error.IncorrectFormatException;
 import error.MissingMemberException;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
 import processing.Processor;
 
 /**
@@ -17,6 +18,7 @@ import processing.Processor;
  */
 @Getter
 @Setter
+@ToString
 public class Image extends BodyNode {
 
     /**
@@ -91,15 +93,17 @@ public class Image extends BodyNode {
         else if (width.isBlank()) throw new MissingMemberException(MissingMemberException.ERR_MSG_1);
 
         try {
+            // The node may be handled more than once, so the value itself must not be changed
+            var value = width;
             float unit;
-            if (width.endsWith("in")) {
-                width = width.substring(0, width.length() - 2);
+            if (value.endsWith("in")) {
+                value = value.substring(0, value.length() - 2);
                 unit = Processor.POINTS_PER_INCH;
             } else {
                 unit = Processor.POINTS_PER_MM;
             }
 
-            float asNumber = Float.parseFloat(width);
+            float asNumber = Float.parseFloat(value);
             if (asNumber < 0) throw new IncorrectFormatException(IncorrectFormatException.ERR_MSG_2);
             return asNumber * unit;
         } catch (NumberFormatException e) {
@@ -119,15 +123,17 @@ public class Image extends BodyNode {
         else if (height.isBlank()) throw new MissingMemberException(MissingMemberException.ERR_MSG_1);
 
         try {
+            // The node may be handled more than once, so the value itself must not be changed
+            var value = height;
             float unit;
-            if (height.endsWith("in")) {
-                height = height.substring(0, height.length() - 2);
+            if (value.endsWith("in")) {
+                value = value.substring(0, value.length() - 2);
                 unit = Processor.POINTS_PER_INCH;
             } else {
                 unit = Processor.POINTS_PER_MM;
             }
 
-            float asNumber = Float.parseFloat(height);
+            float asNumber = Float.parseFloat(value);
             if (asNumber < 0) throw new IncorrectFormatException(IncorrectFormatException.ERR_MSG_2);
             return asNumber * unit;
         } catch (NumberFormatException e) {
@@ -142,7 +148,7 @@ public class Image extends BodyNode {
      * @return the default image alignment of the style guide if there is no alignment, or the alignment constant
      */
     private ContentAlignment tryGetAlignment() {
-        if (alignment == null) return Processor.getUsedStyleGuide().defaultImageAlignment();
+        if (alignment == null) return Processor.current().getUsedStyleGuide().defaultImageAlignment();
         else if (alignment.isBlank()) throw new MissingMemberException(MissingMemberException.ERR_MSG_1);
 
         return switch (alignment) {
@@ -0,0 +1,51 @@
+package frontend.ast.structure;
+
+import frontend.lexical_analysis.DebugTokenInfo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The include node marks the position at which the body of another file is included into the document.
+ * It only exists until the included files have been parsed, and is then replaced by their body nodes, so the node
+ * is never handled in the backend.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class Include extends BodyNode {
+
+    /**
+     * The path of the included file, which is relative to the directory of the including file
+     */
+    @NonNull
+    private final String path;
+
+    /**
+     * Points to the path in the including file, which is used if the file cannot be included
+     */
+    @NonNull
+    @ToString.Exclude
+    private final DebugTokenInfo debugInfo;
+
+    /**
+     * The include node does not produce warnings
+     */
+    @Override
+    public void checkForWarnings() {
+        // Does not produce warnings
+    }
+
+    /**
+     * Include nodes are replaced before processing, so handling one would be an internal compiler error
+     */
+    @Override
+    public void handleBodyElement() {
+        throw new IllegalStateException("The included file " + path + " should have been resolved before");
+    }
+
+}
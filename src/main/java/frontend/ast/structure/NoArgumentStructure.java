@@ -47,8 +47,10 @@ public class NoArgumentStructure extends BodyNode {
         switch (type) {
             case TITLE -> TitleStamp.renderTitle();
             case HEADER -> TitlePageStamp.renderTitlePage();
-            case BLANKPAGE -> PageCreator.createBlankPage(
-                    Processor.getDocumentBody().getLast() == this);
+            case BLANKPAGE -> {
+                final var documentBody = Processor.current().getDocumentBody();
+                PageCreator.createBlankPage(documentBody.get(documentBody.size() - 1) == this);
+            }
             default -> throw new PippException("Document type " + type + " is not yet implemented!");
         }
     }
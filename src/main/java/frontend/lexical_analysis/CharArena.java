@@ -0,0 +1,145 @@
+package frontend.lexical_analysis;
+
+import lombok.NonNull;
+
+/**
+ * Collects the characters of the tokens that are currently scanned in large shared blocks, so that tokens can refer
+ * to their value as a slice of a block instead of each owning a String.
+ * The characters of the current token are always stored contiguously at the end of the current block.
+ * Once a token does not fit anymore, its characters are moved to a new block, and the old block stays alive only as
+ * long as tokens refer to it.
+ * Note that the arena stores the characters after the scanner has processed them, as texts collapse spaces, escape
+ * quotation marks, etc., and the buffer of the input is reused for each chunk.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+class CharArena implements CharSequence {
+
+    /**
+     * Determines the minimum size of a block
+     */
+    static final int BLOCK_SIZE = 16 * 1024;
+
+    /**
+     * The block that contains the characters of the current token
+     */
+    private char[] block = new char[BLOCK_SIZE];
+
+    /**
+     * The index of the first character of the current token in the block
+     */
+    private int start;
+
+    /**
+     * The index after the last character of the current token in the block
+     */
+    private int end;
+
+    /**
+     * Appends the character to the current token
+     *
+     * @param character the character that should be appended
+     */
+    void append(final char character) {
+        ensureCapacity(1);
+        block[end++] = character;
+    }
+
+    /**
+     * Appends the specified range of the buffer to the current token
+     *
+     * @param buffer the non-null buffer that contains the characters
+     * @param offset the index of the first character that should be appended
+     * @param length the amount of characters that should be appended
+     */
+    void append(@NonNull final char[] buffer, final int offset, final int length) {
+        ensureCapacity(length);
+        System.arraycopy(buffer, offset, block, end, length);
+        end += length;
+    }
+
+    /**
+     * Yields true if the current token only contains whitespace characters after the specified index
+     *
+     * @param from the index relative to the start of the current token
+     * @return true if all characters starting at the index are whitespace characters
+     */
+    boolean isBlankFrom(final int from) {
+        for (int i = start + from; i < end; i++) if (!Character.isWhitespace(block[i])) return false;
+        return true;
+    }
+
+    /**
+     * Yields the block that contains the current token.
+     * The block must not be modified by the caller.
+     *
+     * @return the block of the current token
+     */
+    char[] block() {
+        return block;
+    }
+
+    /**
+     * Yields the index of the first character of the current token in its block
+     *
+     * @return the start of the current token
+     */
+    int start() {
+        return start;
+    }
+
+    /**
+     * Finishes the current token, so that its characters are never modified again, and starts a new empty token
+     */
+    void finishToken() {
+        start = end;
+    }
+
+    /**
+     * Discards the characters of the current token, and starts a new empty token
+     */
+    void discardToken() {
+        end = start;
+    }
+
+    /**
+     * Makes sure that the specified amount of characters fits after the current token.
+     * If it does not, the current token is moved to a new block.
+     *
+     * @param additional the amount of characters that should fit
+     */
+    private void ensureCapacity(final int additional) {
+        if (end + additional <= block.length) return;
+
+        final int length = end - start;
+        final var newBlock = new char[Math.max(BLOCK_SIZE, 2 * (length + additional))];
+        System.arraycopy(block, start, newBlock, 0, length);
+
+        block = newBlock;
+        start = 0;
+        end = length;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= end - start) throw new IndexOutOfBoundsException(index);
+        return block[start + index];
+    }
+
+    @Override
+    public CharSequence subSequence(final int from, final int to) {
+        return new String(block, start + from, to - from);
+    }
+
+    @Override
+    public String toString() {
+        return new String(block, start, end - start);
+    }
+
+}
@@ -1,38 +1,123 @@
 package frontend.lexical_analysis;
 
-import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * Used to include debug information in tokens that are used for
  * error messages, debugging, etc.
+ * The scanner only stores the line number and the source offset of the token, and the line is only rebuilt
+ * using the {@link SourceMap} once it is requested.
  *
  * @version 1.0
  * @since 1.0
  */
-@Data
+@ToString
+@EqualsAndHashCode
 public class DebugTokenInfo {
 
     /**
      * Stores the line number of the start of the token in the input file.
      * Line numbers are indexed at one, not zero-indexed.
      */
+    @Getter
+    @Setter
     private int lineNumber;
 
     /**
      * Points to the input file.
      * Could be the document, the bibliography, etc.
      */
+    @Getter
+    @Setter
     private String filePath;
 
     /**
      * Provides a textual pointer to the token used for error messages.
      * Contains the entire line until the token and has a caret ^ pointing to it.
+     * Is null until it is either set or rebuilt from the source map.
      */
+    @Setter
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String currentLine;
 
+    /**
+     * The source the token was scanned from, or null if the current line is set explicitly
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private SourceMap sourceMap;
+
+    /**
+     * The source offset after the last character of the current line that belongs to the token
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private int endOffset;
+
+    /**
+     * Creates empty debug information, which can be filled using the setters
+     */
+    public DebugTokenInfo() {
+    }
+
+    /**
+     * Creates the debug information of a token that has been scanned from the specified source
+     *
+     * @param sourceMap  the non-null source the token was scanned from
+     * @param lineNumber the one-indexed line number of the token
+     * @param endOffset  the source offset after the last character of the line that belongs to the token
+     */
+    public DebugTokenInfo(@NonNull final SourceMap sourceMap, final int lineNumber, final int endOffset) {
+        setSource(sourceMap, lineNumber, endOffset);
+    }
+
+    /**
+     * Stores where the token was scanned, so that the current line can be rebuilt once it is requested
+     *
+     * @param sourceMap  the non-null source the token was scanned from
+     * @param lineNumber the one-indexed line number of the token
+     * @param endOffset  the source offset after the last character of the line that belongs to the token
+     */
+    void setSource(@NonNull final SourceMap sourceMap, final int lineNumber, final int endOffset) {
+        this.sourceMap = sourceMap;
+        this.filePath = sourceMap.getFilePath();
+        this.lineNumber = lineNumber;
+        this.endOffset = endOffset;
+    }
+
+    /**
+     * Moves the token to the specified source, after the lines and characters in front of it have changed
+     *
+     * @param sourceMap   the non-null source that now contains the token
+     * @param lineDelta   the amount of lines that have been added in front of the token
+     * @param offsetDelta the amount of characters that have been added in front of the token
+     */
+    void shift(@NonNull final SourceMap sourceMap, final int lineDelta, final int offsetDelta) {
+        setSource(sourceMap, lineNumber + lineDelta, endOffset + offsetDelta);
+        currentLine = null;
+    }
+
+    /**
+     * Yields the entire line until the token, and rebuilds it from the source the first time it is requested
+     *
+     * @return the current line, or null if it is unknown
+     */
+    @ToString.Include(name = "currentLine")
+    @EqualsAndHashCode.Include
+    public String getCurrentLine() {
+        if (currentLine == null && sourceMap != null) currentLine = sourceMap.line(lineNumber, endOffset);
+
+        return currentLine;
+    }
+
     public String errorMessage(@NonNull final String description) {
-        var caretBuilder = " ".repeat(currentLine.length()) + "^";
-        return "\n" + filePath + ":" + lineNumber + " " + description + "\n" + currentLine + "\n" + caretBuilder;
+        final var line = getCurrentLine();
+        var caretBuilder = " ".repeat(line.length()) + "^";
+        return "\n" + filePath + ":" + lineNumber + " " + description + "\n" + line + "\n" + caretBuilder;
     }
 }
@@ -0,0 +1,246 @@
+package frontend.lexical_analysis;
+
+import frontend.FrontEndBridge;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps the tokens of a document up to date while it is edited, for example by an editor or a watch-based rebuild.
+ * Besides the token stream, the state of the {@link TableScanner} is recorded at the start of each line, which
+ * includes whether a text is open, whether a character is escaped and whether a new line has just been converted.
+ * After an edit, scanning restarts at the nearest line in front of the edit at which no token is open, and stops
+ * once it reaches a line behind the edit that starts in the same state as before. The tokens behind that line are
+ * reused, and only their positions are updated.
+ * Note that tokens reused in this way are the same objects as before, whose debug information is moved.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class IncrementalLexer {
+
+    /**
+     * The path of the document used for debug and error purposes
+     */
+    private final String filePath;
+
+    /**
+     * The current text of the document
+     */
+    @Getter
+    private String text = "";
+
+    /**
+     * The current tokens of the document
+     */
+    private List<Token> tokens = new ArrayList<>();
+
+    /**
+     * The source offset at which each line starts, where the first line is stored at index zero
+     */
+    private int[] lineStarts = new int[]{0};
+
+    /**
+     * The state of the scanner at the start of each line
+     */
+    private int[] lineStates = new int[]{0};
+
+    /**
+     * The index of the first token that has been submitted after the start of each line
+     */
+    private int[] lineTokenIndices = new int[]{0};
+
+    /**
+     * The amount of lines of the document
+     */
+    private int amountOfLines = 1;
+
+    /**
+     * Creates an incremental lexer for an empty document
+     *
+     * @param filePath the non-null path of the document used for debug and error purposes
+     */
+    public IncrementalLexer(@NonNull final String filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Yields the current tokens of the document
+     *
+     * @return the unmodifiable list of tokens
+     */
+    public List<Token> getTokens() {
+        return Collections.unmodifiableList(tokens);
+    }
+
+    /**
+     * Replaces the entire text of the document
+     *
+     * @param newText the non-null new text
+     * @return the diff of the token stream
+     */
+    public TokenDiff lex(@NonNull final String newText) {
+        return edit(0, text.length(), newText);
+    }
+
+    /**
+     * Replaces the specified range of the text, and scans the affected lines again.
+     * If scanning fails, the lexer keeps the previous text and tokens.
+     *
+     * @param start       the index of the first character that should be replaced
+     * @param end         the index after the last character that should be replaced
+     * @param replacement the non-null text that is inserted instead
+     * @return the diff of the token stream
+     */
+    public TokenDiff edit(final int start, final int end, @NonNull final String replacement) {
+        Objects.checkFromToIndex(start, end, text.length());
+
+        final var newText = text.substring(0, start) + replacement + text.substring(end);
+        final int offsetDelta = replacement.length() - (end - start);
+        final int newEditEnd = start + replacement.length();
+
+        // Restart at the nearest line in front of the edit at which no token is open
+        int firstLine = lineOf(start);
+        while (!TableScanner.isLineStart(lineStates[firstLine])) firstLine--;
+
+        final int firstOffset = lineStarts[firstLine];
+        final int firstTokenIndex = lineTokenIndices[firstLine];
+
+        // The characters and lines in front of the first line have not changed
+        final var sourceMap = new SourceMap(filePath);
+        sourceMap.retain(newText.toCharArray(), 0, firstOffset);
+        for (int line = 1; line <= firstLine; line++) sourceMap.addLine(lineStarts[line]);
+
+        // A new bridge per edit ensures that no tokens of a failed edit are left over
+        final var sink = new FrontEndBridge("");
+        final var lexer = new TableScanner(sink);
+        lexer.restore(sourceMap, lineStates[firstLine], firstLine + 1, firstOffset);
+
+        final var newLines = new LineTable(Arrays.copyOf(lineStarts, firstLine + 1),
+                Arrays.copyOf(lineStates, firstLine + 1), Arrays.copyOf(lineTokenIndices, firstLine + 1));
+        final var inserted = new ArrayList<Token>();
+
+        int resynchronisedLine = -1;
+        for (int offset = firstOffset; offset < newText.length() && resynchronisedLine < 0; offset++) {
+            final int previousLine = lexer.getCurrentLine();
+            lexer.scan(newText.charAt(offset));
+            drain(sink, inserted);
+
+            if (lexer.getCurrentLine() == previousLine) continue;
+
+            final int lineStart = offset + 1;
+            final int state = lexer.getState();
+            newLines.add(lineStart, state, firstTokenIndex + inserted.size());
+
+            // Behind the edit, the remaining tokens are the same if the line starts in the same state as before
+            if (lineStart >= newEditEnd && TableScanner.isLineStart(state)) {
+                final int oldLine = Arrays.binarySearch(lineStarts, 0, amountOfLines, lineStart - offsetDelta);
+                if (oldLine >= 0 && lineStates[oldLine] == state) resynchronisedLine = oldLine;
+            }
+        }
+
+        final int tailTokenIndex;
+        if (resynchronisedLine < 0) {
+            lexer.submitToken();
+            drain(sink, inserted);
+            tailTokenIndex = tokens.size();
+        } else tailTokenIndex = lineTokenIndices[resynchronisedLine];
+
+        // Scanning succeeded, so the new state can be committed
+        final var removed = new ArrayList<>(tokens.subList(firstTokenIndex, tailTokenIndex));
+        final var newTokens = new ArrayList<Token>(firstTokenIndex + inserted.size() + tokens.size() - tailTokenIndex);
+        newTokens.addAll(tokens.subList(0, firstTokenIndex));
+        newTokens.addAll(inserted);
+
+        if (resynchronisedLine >= 0) {
+            final int lineDelta = newLines.size - 1 - resynchronisedLine;
+            final int tokenDelta = newTokens.size() - tailTokenIndex;
+
+            final int retainedEnd = newLines.starts[newLines.size - 1];
+            sourceMap.retain(newText.toCharArray(), retainedEnd, newText.length() - retainedEnd);
+            for (int line = resynchronisedLine + 1; line < amountOfLines; line++) {
+                sourceMap.addLine(lineStarts[line] + offsetDelta);
+                newLines.add(lineStarts[line] + offsetDelta, lineStates[line], lineTokenIndices[line] + tokenDelta);
+            }
+
+            for (var token : tokens.subList(tailTokenIndex, tokens.size())) {
+                token.getDebugInfo().shift(sourceMap, lineDelta, offsetDelta);
+                newTokens.add(token);
+            }
+        }
+
+        text = newText;
+        tokens = newTokens;
+        lineStarts = newLines.starts;
+        lineStates = newLines.states;
+        lineTokenIndices = newLines.tokenIndices;
+        amountOfLines = newLines.size;
+
+        return new TokenDiff(firstTokenIndex, removed, inserted);
+    }
+
+    /**
+     * Yields the index of the line that contains the specified offset
+     *
+     * @param offset the source offset
+     * @return the zero-based index of the line
+     */
+    private int lineOf(final int offset) {
+        final int index = Arrays.binarySearch(lineStarts, 0, amountOfLines, offset);
+
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Moves the submitted tokens to the destination.
+     * Shared tokens are replaced by copies with their own debug information, as their positions are moved by edits.
+     *
+     * @param sink        the bridge the tokens have been submitted to
+     * @param destination the list the tokens are added to
+     */
+    private static void drain(final FrontEndBridge sink, final List<Token> destination) {
+        while (sink.containsTokens()) {
+            final var token = sink.dequeueToken();
+            destination.add(token.isShared() ? token.unshare(sink.getDequeuedDebugInfo()) : token);
+        }
+    }
+
+    /**
+     * Collects the recorded information of each line while scanning
+     */
+    private static class LineTable {
+
+        private int[] starts;
+        private int[] states;
+        private int[] tokenIndices;
+        private int size;
+
+        private LineTable(final int[] starts, final int[] states, final int[] tokenIndices) {
+            this.starts = starts;
+            this.states = states;
+            this.tokenIndices = tokenIndices;
+            this.size = starts.length;
+        }
+
+        private void add(final int start, final int state, final int tokenIndex) {
+            if (size == starts.length) {
+                final int capacity = Math.max(16, 2 * size);
+                starts = Arrays.copyOf(starts, capacity);
+                states = Arrays.copyOf(states, capacity);
+                tokenIndices = Arrays.copyOf(tokenIndices, capacity);
+            }
+
+            starts[size] = start;
+            states[size] = state;
+            tokenIndices[size] = tokenIndex;
+            size++;
+        }
+
+    }
+
+}
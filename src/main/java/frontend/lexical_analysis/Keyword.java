@@ -0,0 +1,177 @@
+package frontend.lexical_analysis;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Defines the builtin keywords of Pipp.
+ * The scanner maps the characters of a keyword token to its constant using a perfect hash table, which is computed
+ * once when the class is loaded. This means that recognising a keyword neither requires comparing it to every
+ * keyword nor creating a String object.
+ * Later stages can use the constant (or its ordinal) on the {@link Token}, instead of comparing keyword strings.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public enum Keyword {
+
+    APPENDIX("appendix"),
+    ALLOW("allow"),
+    ASSESSOR("assessor"),
+    AREA("area"),
+    AUTHOR("author"),
+    BIBLIOGRAPHY("bibliography"),
+    BLANK("blank"),
+    BOLD("bold"),
+    CHAPTER("chapter"),
+    CHAPTERS("chapters"),
+    CHAIR("chair"),
+    CITATION("citation"),
+    CONFIG("config"),
+    COLOUR("colour"),
+    DATE("date"),
+    DISPLAY("display"),
+    ENDNOTES("endnotes"),
+    EMPHASISE("emphasise"),
+    EMAIL("email"),
+    FIRSTNAME("firstname"),
+    FONT("font"),
+    HEADER("header"),
+    HEIGHT("height"),
+    ITALIC("italic"),
+    ID("id"),
+    IMAGE("image"),
+    IN("in"),
+    INCLUDE("include"),
+    INDENTATION("indentation"),
+    INSTITUTION("institution"),
+    LASTNAME("lastname"),
+    LAYOUT("layout"),
+    LIMIT("limit"),
+    NAME("name"),
+    NUMERATION("numeration"),
+    MARGIN("margin"),
+    OF("of"),
+    PAGE("page"),
+    PARAGRAPH("paragraph"),
+    PUBLICATION("publication"),
+    ROLE("role"),
+    SEMESTER("semester"),
+    SENTENCE("sentence"),
+    SIZE("size"),
+    STRUCTURE("structure"),
+    STYLE("style"),
+    SPACING("spacing"),
+    SKIP("skip"),
+    TABLEOFCONTENTS("tableofcontents"),
+    TITLE("title"),
+    TITLEPAGE("titlepage"),
+    TYPE("type"),
+    YEAR("year"),
+    WIDTH("width"),
+    WWW("www"),
+    WORK("work"),
+    WHITESPACE("whitespace");
+
+    /**
+     * The size of the hash table, which must be a power of two.
+     * It is larger than the amount of keywords so that a collision-free seed can be found quickly.
+     */
+    private static final int TABLE_SIZE = 512;
+
+    /**
+     * Maps each hash slot to the ordinal of its keyword plus one, or zero if the slot is empty
+     */
+    private static final byte[] TABLE = new byte[TABLE_SIZE];
+
+    /**
+     * The multiplier of the hash function, which is chosen so that no two keywords share a slot
+     */
+    private static final int SEED;
+
+    /**
+     * The constants in the order of their ordinals, which prevents copying the array on each lookup
+     */
+    private static final Keyword[] VALUES = values();
+
+    static {
+        int seed = 31;
+        while (!tryFillTable(seed)) seed += 2;
+        SEED = seed;
+    }
+
+    /**
+     * The keyword as it has to be written by the user
+     */
+    @Getter
+    private final String lexeme;
+
+    Keyword(final String lexeme) {
+        this.lexeme = lexeme;
+    }
+
+    /**
+     * Looks up the keyword of the specified span of characters.
+     *
+     * @param characters the non-null characters that contain the span
+     * @param start      the index of the first character of the span
+     * @param end        the index after the last character of the span
+     * @return the keyword constant, or null if the span is not a builtin keyword
+     */
+    public static Keyword lookup(@NonNull final CharSequence characters, final int start, final int end) {
+        int hash = end - start;
+        for (int i = start; i < end; i++) hash = hash * SEED + characters.charAt(i);
+
+        final int entry = TABLE[slot(hash)];
+        if (entry == 0) return null;
+
+        final var keyword = VALUES[entry - 1];
+        final var lexeme = keyword.lexeme;
+        if (lexeme.length() != end - start) return null;
+
+        for (int i = 0; i < lexeme.length(); i++) {
+            if (lexeme.charAt(i) != characters.charAt(start + i)) return null;
+        }
+
+        return keyword;
+    }
+
+    /**
+     * Looks up the keyword of the specified text.
+     *
+     * @param text the non-null text that should be looked up
+     * @return the keyword constant, or null if the text is not a builtin keyword
+     */
+    public static Keyword lookup(@NonNull final String text) {
+        return lookup(text, 0, text.length());
+    }
+
+    /**
+     * Tries to insert all keywords into the table using the specified seed
+     *
+     * @param seed the multiplier of the hash function
+     * @return true if all keywords have their own slot, false if there was a collision
+     */
+    private static boolean tryFillTable(final int seed) {
+        Arrays.fill(TABLE, (byte) 0);
+
+        for (var keyword : values()) {
+            int hash = keyword.lexeme.length();
+            for (int i = 0; i < keyword.lexeme.length(); i++) hash = hash * seed + keyword.lexeme.charAt(i);
+
+            final int slot = slot(hash);
+            if (TABLE[slot] != 0) return false;
+
+            TABLE[slot] = (byte) (keyword.ordinal() + 1);
+        }
+
+        return true;
+    }
+
+    private static int slot(final int hash) {
+        return (hash ^ (hash >>> 9)) & (TABLE_SIZE - 1);
+    }
+
+}
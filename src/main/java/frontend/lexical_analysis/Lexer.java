@@ -0,0 +1,72 @@
+package frontend.lexical_analysis;
+
+import lombok.NonNull;
+
+import java.io.File;
+
+/**
+ * Describes an engine for the lexical analysis of .pipp files.
+ * A lexer scans the characters of a source and submits the tokens it finds to the FrontEndBridge.
+ * All engines have to produce exactly the same tokens, including their debug information, and throw the same
+ * exceptions.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public interface Lexer {
+
+    /**
+     * Prepares the lexer for the next source, which cannot be read again to report errors
+     *
+     * @param filePath the non-null path to the source used for debug and error purposes
+     */
+    void resetFile(@NonNull String filePath);
+
+    /**
+     * Prepares the lexer for the next source, which is the specified file
+     *
+     * @param filePath the non-null path to the source used for debug and error purposes
+     * @param file     the non-null file that is scanned next
+     */
+    void resetFile(@NonNull String filePath, @NonNull File file);
+
+    /**
+     * Prepares the lexer for the part of a source that starts at the beginning of the specified line, outside any
+     * token or comment. The characters in front of the part are not scanned, but the tokens refer to their position
+     * within the whole source. The part cannot be read again to report errors.
+     *
+     * @param filePath   the non-null path to the source used for debug and error purposes
+     * @param lineNumber the one-indexed number of the first line of the part
+     * @param offset     the source offset of the first character of the part
+     */
+    void resetFile(@NonNull String filePath, int lineNumber, int offset);
+
+    /**
+     * Scans the specified range of the buffer, and submits all tokens found along the way
+     *
+     * @param buffer the non-null buffer that contains the characters that should be scanned
+     * @param offset the index of the first character that should be scanned
+     * @param length the amount of characters that should be scanned
+     */
+    void scan(@NonNull char[] buffer, int offset, int length);
+
+    /**
+     * Scans the next character of the user input, and submits the token once found
+     *
+     * @param current the next character that should be scanned
+     */
+    void scan(char current);
+
+    /**
+     * Submits the current token if there is one, which is necessary once the end of the source has been reached
+     */
+    void submitToken();
+
+    /**
+     * Yields the number of the line that is currently scanned, which is also the line number of the next token
+     *
+     * @return the one-indexed line number
+     */
+    int getCurrentLine();
+
+}
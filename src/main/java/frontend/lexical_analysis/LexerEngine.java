@@ -0,0 +1,38 @@
+package frontend.lexical_analysis;
+
+import frontend.FrontEndBridge;
+import lombok.NonNull;
+
+/**
+ * The LexerEngine enumeration declares the available implementations of the {@link Lexer}.
+ * All engines produce the same tokens.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public enum LexerEngine {
+
+    /**
+     * The hand-written {@link Scanner}, which tracks its state in several flags
+     */
+    SCANNER,
+
+    /**
+     * The {@link TableScanner}, which looks up each transition in a table over character classes
+     */
+    TABLE;
+
+    /**
+     * Creates a new lexer of this engine
+     *
+     * @param frontEndBridge the non-null bridge the lexer submits its tokens to
+     * @return the new lexer
+     */
+    public Lexer create(@NonNull final FrontEndBridge frontEndBridge) {
+        return switch (this) {
+            case SCANNER -> new Scanner(frontEndBridge);
+            case TABLE -> new TableScanner(frontEndBridge);
+        };
+    }
+
+}
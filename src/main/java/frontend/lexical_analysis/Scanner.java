@@ -4,93 +4,56 @@ import error.MissingMemberException;
 import frontend.FrontEndBridge;
 import lombok.NonNull;
 
+import java.io.File;
+import java.util.Arrays;
+import java.util.Objects;
+
 /**
  * Responsible for the lexical analysis of .pipp files.
  * This class should only be instantiated by the FrontEndBridge class, which is used as an
  * interface between the Scanner and the Parser.
  * Note that the scanner ignores comments when a new line starts with the hash character #.
  */
-public class Scanner {
+public class Scanner implements Lexer {
 
     /**
      * Defines the keywords that come with Pipp.
      * Lowercase words without any special characters in them must match one of these keywords,
      * otherwise an exception is thrown.
+     *
+     * @see Keyword
      */
-    protected static final String[] builtinKeywords = new String[]{
-            "appendix",
-            "allow",
-            "assessor",
-            "area",
-            "author",
-            "bibliography",
-            "blank",
-            "bold",
-            "chapter",
-            "chapters",
-            "chair",
-            "citation",
-            "config",
-            "colour",
-            "date",
-            "display",
-            "endnotes",
-            "emphasise",
-            "email",
-            "firstname",
-            "font",
-            "header",
-            "height",
-            "italic",
-            "id",
-            "image",
-            "in",
-            "indentation",
-            "institution",
-            "lastname",
-            "layout",
-            "limit",
-            "name",
-            "numeration",
-            "margin",
-            "of",
-            "page",
-            "paragraph",
-            "publication",
-            "role",
-            "semester",
-            "sentence",
-            "size",
-            "structure",
-            "style",
-            "spacing",
-            "skip",
-            "tableofcontents",
-            "title",
-            "titlepage",
-            "type",
-            "year",
-            "width",
-            "www",
-            "work",
-            "whitespace"
-    };
+    protected static final String[] builtinKeywords = Arrays.stream(Keyword.values())
+            .map(Keyword::getLexeme)
+            .toArray(String[]::new);
     /**
      * The reference to the front end bridge, which is used for communication purposes between
      * the scanner and the parser.
      */
     private final FrontEndBridge frontEndBridge;
-    private final StringBuilder currentLineBuilder = new StringBuilder();
+    /**
+     * Indexes the lines of the source that is currently being scanned, so that tokens only have to store where they
+     * were found, and the line can be rebuilt for error messages.
+     */
+    private SourceMap sourceMap = new SourceMap(null);
+    /**
+     * Counts the characters that have been scanned in the current source
+     */
+    private int sourceOffset;
+    /**
+     * Saves the character that has been scanned last, which determines the current line of INDENT tokens
+     */
+    private char lastCharacter;
     /**
      * Saves the type of the currently scanned token during the scanning process,
      * and resets it each time a token is submitted.
      */
     private TokenType currentTokenType;
     /**
-     * Saves the value of the currently scanned token during the scanning process,
-     * and resets it each time a token is submitted.
+     * Saves the value of the currently scanned token during the scanning process.
+     * Submitted tokens keep referring to their characters in the arena, instead of copying them into a String.
      */
-    private StringBuilder currentlyReadValue = new StringBuilder();
+    private final CharArena currentlyReadValue = new CharArena();
     /**
      * Yields true if the scanner is currently in a comment and should therefore ignore all characters
      * until after the first NEW_LINE token.
@@ -108,10 +71,6 @@ public class Scanner {
      * a different character is read.
      */
     private int currentAmountOfTabs = 0;
-    /**
-     * Saves the path to the file that is currently being scanned for debug and error purposes
-     */
-    private String currentFilePath;
     /**
      * Tracks the current character of the current line.
      * Characters are not zero-indexed, but start at one.
@@ -138,16 +97,138 @@ public class Scanner {
         this.frontEndBridge = frontEndBridge;
     }
 
+    /**
+     * Prepares the scanner for the next source, which cannot be read again to report errors.
+     * The scanned characters are therefore retained for error messages.
+     *
+     * @param filePath the non-null path to the source used for debug and error purposes
+     */
+    @Override
     public void resetFile(@NonNull final String filePath) {
+        reset(new SourceMap(filePath));
+    }
+
+    /**
+     * Prepares the scanner for the next source, which is the specified file.
+     * The file is read again if an error has to be reported.
+     *
+     * @param filePath the non-null path to the source used for debug and error purposes
+     * @param file     the non-null file that is scanned next
+     */
+    @Override
+    public void resetFile(@NonNull final String filePath, @NonNull final File file) {
+        reset(new SourceMap(filePath, file));
+    }
+
+    /**
+     * Prepares the scanner for the part of a source that starts at the beginning of the specified line, outside any
+     * token or comment. The scanned characters are retained for error messages.
+     *
+     * @param filePath   the non-null path to the source used for debug and error purposes
+     * @param lineNumber the one-indexed number of the first line of the part
+     * @param offset     the source offset of the first character of the part
+     */
+    @Override
+    public void resetFile(@NonNull final String filePath, final int lineNumber, final int offset) {
+        reset(new SourceMap(filePath, lineNumber, offset));
+        sourceOffset = offset;
+        currentLine = lineNumber;
+        lastCharacter = '\n';
+    }
+
+    @Override
+    public int getCurrentLine() {
+        return currentLine;
+    }
+
+    private void reset(final SourceMap sourceMap) {
+        this.sourceMap = sourceMap;
+        sourceOffset = 0;
         currentLine = 1;
         charInLine = 0;
         currentAmountOfTabs = 0;
         inComment = false;
         isEscapingACharacter = false;
         currentTokenType = null;
-        currentlyReadValue.setLength(0);
-        currentLineBuilder.setLength(0);
-        currentFilePath = filePath;
+        currentlyReadValue.discardToken();
+    }
+
+    /**
+     * Scans the specified range of the buffer, and submits all tokens found along the way.
+     * This yields exactly the same tokens as scanning each character on its own, but appends whole spans of
+     * ordinary characters at once while inside a text.
+     *
+     * @param buffer the non-null buffer that contains the characters that should be scanned
+     * @param offset the index of the first character that should be scanned
+     * @param length the amount of characters that should be scanned
+     */
+    @Override
+    public void scan(@NonNull final char[] buffer, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset + length > buffer.length) throw new IndexOutOfBoundsException();
+
+        final int end = offset + length;
+        int index = offset;
+        while (index < end) {
+            if (currentTokenType == TokenType.TEXT && !inComment) {
+                final int spanEnd = scanTextSpan(buffer, index, end);
+                if (spanEnd > index) {
+                    index = spanEnd;
+                    continue;
+                }
+            }
+
+            scan(buffer[index++]);
+        }
+    }
+
+    /**
+     * Appends the span of ordinary text characters starting at the specified index to the current text.
+     * Ordinary characters are all characters that do not have a special meaning inside a text, which means that
+     * quotation marks, backslashes, new lines, tabs and carriage returns end the span.
+     * Just like when scanning a single character, multiple spaces are turned into a single space.
+     *
+     * @param buffer the buffer that contains the characters
+     * @param start  the index of the first character of the span
+     * @param end    the index after the last character that may be part of the span
+     * @return the index after the last character of the span, which is the start if there is no span
+     */
+    private int scanTextSpan(final char[] buffer, final int start, final int end) {
+        int index = start;
+        while (index < end) {
+            final char current = buffer[index];
+
+            if (current == '"' || current == '\\' || current == '\n' || current == '\t' || current == '\r') break;
+            else if (current == ' ') {
+                if (currentlyReadValue.charAt(currentlyReadValue.length() - 1) != ' ') currentlyReadValue.append(' ');
+                index++;
+            } else {
+                final int wordStart = index;
+                while (index < end && isOrdinaryWordCharacter(buffer[index])) index++;
+                currentlyReadValue.append(buffer, wordStart, index - wordStart);
+            }
+        }
+
+        if (index > start) {
+            sourceMap.retain(buffer, start, index - start);
+            sourceOffset += index - start;
+            lastCharacter = buffer[index - 1];
+            charInLine += index - start;
+            currentAmountOfTabs = 0;
+            hasConvertedTextNewLine = false;
+        }
+
+        return index;
+    }
+
+    /**
+     * Yields true if the character can be appended to a text without any special treatment
+     *
+     * @param current the character that should be checked
+     * @return true if the character is neither a space nor has a special meaning inside a text
+     */
+    private static boolean isOrdinaryWordCharacter(final char current) {
+        return current != '"' && current != '\\' && current != '\n' && current != '\t' && current != '\r' &&
+                current != ' ';
     }
 
     /**
@@ -155,13 +236,14 @@ public class Scanner {
      *
      * @param current the next character that should be scanned
      */
+    @Override
     public void scan(final char current) {
         // We are scanning the next character, so the counter is incremented
         charInLine++;
 
-        if (current == '\t') currentLineBuilder.append("[\\t]");
-        else if (current == '\n') currentLineBuilder.append("[\\n]");
-        else currentLineBuilder.append(current);
+        sourceOffset++;
+        lastCharacter = current;
+        sourceMap.retain(current);
 
         // Starts ignoring the line if the first character of a line is a comment (#)
         if (charInLine == 1 && current == '#') {
@@ -174,7 +256,7 @@ public class Scanner {
             inComment = false;
             charInLine = 0;
             currentLine++;
-            currentLineBuilder.setLength(0);
+            sourceMap.addLine(sourceOffset);
         }
 
         // Ignores all input if in a comment or if scanning a carriage return character
@@ -214,7 +296,7 @@ public class Scanner {
                 charInLine = 0;
                 submitToken();
                 currentLine++;
-                currentLineBuilder.setLength(0);
+                sourceMap.addLine(sourceOffset);
             }
 
             // A quotation mark begins or ends a text token
@@ -237,13 +319,13 @@ public class Scanner {
                     // In this case, the current character is an escaped quotation mark
                     if (isEscapingACharacter) {
                         isEscapingACharacter = false;
-                        currentlyReadValue.append("\"");
+                        currentlyReadValue.append('"');
                     }
 
                     // In this case, the current character is the end of a text
                     else {
                         // Should not create empty strings
-                        if (currentlyReadValue.substring(1, currentlyReadValue.length()).isBlank()) {
+                        if (currentlyReadValue.isBlankFrom(1)) {
                             throw new MissingMemberException("1: A text component cannot be blank.");
                         } else {
                             // We still want to include the quotation mark in the text
@@ -284,7 +366,7 @@ public class Scanner {
                     // If the user is already escaping a character and the backslash is escaped, append it (\\)
                     if (isEscapingACharacter) {
                         isEscapingACharacter = false;
-                        currentlyReadValue.append("\\");
+                        currentlyReadValue.append('\\');
                     } else isEscapingACharacter = true;
                 } else if (current != '\n' && current != '\t') {
                     hasConvertedTextNewLine = false;
@@ -296,12 +378,12 @@ public class Scanner {
                 else if (!hasConvertedTextNewLine) {
                     if (current == '\n') {
                         currentLine++;
-                        currentLineBuilder.setLength(0);
+                        sourceMap.addLine(sourceOffset);
                     }
 
                     hasConvertedTextNewLine = true;
                     if (currentlyReadValue.charAt(currentlyReadValue.length() - 1) != ' ')
-                        currentlyReadValue.append(" ");
+                        currentlyReadValue.append(' ');
                 }
             }
 
@@ -320,47 +402,88 @@ public class Scanner {
      * If there is a current token, this creates the type / value pair, notifies the FrontEndBridge
      * of the existence of the token, and then resets the token variables.
      */
+    @Override
     public void submitToken() {
         // Should only submit a token if it exists
         if (currentTokenType == null) return;
 
-        // Create the token object with the token type and value pair
-        var token = new Token(currentTokenType, currentlyReadValue.toString());
+        final var token = createToken(currentTokenType, currentlyReadValue, currentAmountOfTabs);
 
-        // In text tokens, the quotation marks do not have to be included ("Test" -> Test)
-        if (token.type == TokenType.TEXT) token.value = token.value.substring(1, token.value.length() - 1);
+        // Tell the front end bridge that this token exists
+        enqueueToken(frontEndBridge, token, sourceMap, currentLine, sourceOffset, lastCharacter);
 
-        StringBuilder debugLine = new StringBuilder(currentLineBuilder.toString());
-        if (token.type == TokenType.INDENT && !currentLineBuilder.toString().endsWith("]"))
-            debugLine.deleteCharAt(debugLine.length() - 1);
+        // Reset token variables
+        currentTokenType = null;
+        // Only tokens that refer to the arena have to keep their characters
+        if (token.isShared() || token.type == TokenType.INDENT || token.keyword != null)
+            currentlyReadValue.discardToken();
+        else currentlyReadValue.finishToken();
+    }
 
-        token.getDebugInfo().setFilePath(currentFilePath);
-        token.getDebugInfo().setLineNumber(currentLine);
-        token.getDebugInfo().setCurrentLine(debugLine.toString());
+    /**
+     * Creates the token object with the token type and value pair.
+     * The value is only a slice of the arena, and keywords use the value of their constant, instead.
+     * Structural tokens are shared instances.
+     *
+     * @param type        the type of the token
+     * @param value       the arena that contains the characters of the token
+     * @param indentation the amount of tabs, which is used as the value of INDENT tokens
+     * @return the token, which does not have debug information, yet
+     */
+    static Token createToken(final TokenType type, final CharArena value, final int indentation) {
+        final int length = value.length();
+        if (type == TokenType.KEYWORD) {
+            final var keyword = Keyword.lookup(value, 0, length);
+            return keyword == null
+                    ? new Token(TokenType.KEYWORD, value.block(), value.start(), length)
+                    : new Token(keyword);
+        }
 
-        // Verify the integrity of KEYWORD tokens
-        if (token.type == TokenType.KEYWORD) {
-            var isLegalKeyword = false;
-            for (var keyword : builtinKeywords) {
-                if (keyword.equals(token.value)) {
-                    isLegalKeyword = true;
-                    break;
-                }
-            }
+        // INDENT tokens use the amount of tabs as their token values
+        else if (type == TokenType.INDENT) return Token.indent(indentation);
 
-            if (!isLegalKeyword) throw new IllegalArgumentException(token.getDebugInfo().errorMessage(
-                    "Unknown keyword:  '" + token.value + "'"));
+        else if (type == TokenType.NEW_LINE || type == TokenType.LIST_SEPARATOR) return Token.shared(type);
+
+        // In text tokens, the quotation marks do not have to be included ("Test" -> Test)
+        else if (type == TokenType.TEXT) {
+            Objects.checkFromToIndex(1, length - 1, length);
+            return new Token(TokenType.TEXT, value.block(), value.start() + 1, length - 2);
+        } else return new Token(type, value.block(), value.start(), length);
+    }
+
+    /**
+     * Verifies the integrity of KEYWORD tokens, and enqueues the token together with where it has been found.
+     * The position is stored in the debug information of the token, or by the queue if the token is shared.
+     *
+     * @param frontEndBridge the bridge the token is enqueued in
+     * @param token          the token that has been created
+     * @param sourceMap      the source that is scanned
+     * @param lineNumber     the current line
+     * @param sourceOffset   the amount of characters that have been scanned
+     * @param lastCharacter  the character that has been scanned last
+     * @throws IllegalArgumentException if the token is an unknown keyword
+     */
+    static void enqueueToken(final FrontEndBridge frontEndBridge, final Token token, final SourceMap sourceMap,
+                             final int lineNumber, final int sourceOffset, final char lastCharacter) {
+        // The current line of INDENT tokens does not include the character that ended them,
+        // unless it is displayed with brackets ([\t], [\n]) anyway
+        int debugEndOffset = sourceOffset;
+        if (token.type == TokenType.INDENT && lastCharacter != '\t' && lastCharacter != '\n' && lastCharacter != ']')
+            debugEndOffset--;
+
+        if (token.isShared()) {
+            frontEndBridge.enqueueToken(token, sourceMap, lineNumber, debugEndOffset);
+            return;
         }
 
-        // INDENT tokens use the amount of tabs as their token values
-        else if (token.type == TokenType.INDENT) token.value = Integer.toString(currentAmountOfTabs);
+        token.getDebugInfo().setSource(sourceMap, lineNumber, debugEndOffset);
 
-        // Tell the front end bridge that this token exists
-        frontEndBridge.enqueueToken(token);
+        // Verify the integrity of KEYWORD tokens
+        if (token.type == TokenType.KEYWORD && token.keyword == null)
+            throw new IllegalArgumentException(token.getDebugInfo().errorMessage(
+                    "Unknown keyword:  '" + token.getValue() + "'"));
 
-        // Reset token variables
-        currentTokenType = null;
-        currentlyReadValue = new StringBuilder();
+        frontEndBridge.enqueueToken(token);
     }
 
 }
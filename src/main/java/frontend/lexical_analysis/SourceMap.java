@@ -0,0 +1,274 @@
+package frontend.lexical_analysis;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+
+/**
+ * Indexes the lines of a scanned source, so that tokens only have to store their line number and source offset.
+ * The line a token refers to is only rebuilt once it is requested, which usually only happens when an error
+ * is reported.
+ * If the source is a file, the file is read again once a line is requested, but only if its size and modification
+ * time are still the same as when it has been scanned. Only the characters of the line that is currently scanned are
+ * retained, which are used instead if the file has changed or cannot be read. Lines that cannot be rebuilt are
+ * displayed empty, so that reporting an error never fails itself.
+ * Otherwise, the scanned characters are retained, as they cannot be read again.
+ * A source map may also index only a part of a source that starts at the beginning of a line, so that the scanned
+ * tokens refer to their position within the whole source. The lines in front of the part are then displayed empty.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class SourceMap {
+
+    /**
+     * Points to the input file.
+     * Could be the document, the bibliography, etc.
+     */
+    @Getter
+    private final String filePath;
+
+    /**
+     * The file that is read again to rebuild lines, or null if the scanned characters are retained, instead
+     */
+    private final File file;
+
+    /**
+     * The size and modification time of the file when it has been scanned, or null if the file is not read again
+     */
+    private final BasicFileAttributes scannedAttributes;
+
+    /**
+     * The scanned characters, or null if the source is a file
+     */
+    private final StringBuilder retainedCharacters;
+
+    /**
+     * The scanned characters of the current line if the source is a file, or null otherwise
+     */
+    private final StringBuilder currentLineCharacters;
+
+    /**
+     * The source offset of the first character of the current line
+     */
+    private int currentLineStart;
+
+    /**
+     * The source offset after the last character that has been passed to {@link #retain(char[], int, int)}
+     */
+    private int scannedEnd;
+
+    /**
+     * True if the file has changed or cannot be read, so that it is not read again
+     */
+    private boolean fileIsUnavailable;
+
+    /**
+     * The source offset of the first retained character
+     */
+    private final int retainedStart;
+
+    /**
+     * The amount of lines in front of the indexed part of the source
+     */
+    private final int lineBase;
+
+    /**
+     * The source offsets at which each indexed line starts, where the first indexed line is stored at index one
+     */
+    private int[] lineStarts = new int[64];
+
+    /**
+     * The amount of lines that have been indexed
+     */
+    private int amountOfLines;
+
+    /**
+     * The text of the file, which is read once the first line is requested
+     */
+    private String fileText;
+
+    /**
+     * Creates a source map that retains the scanned characters
+     *
+     * @param filePath the path used in error messages, which may be null
+     */
+    public SourceMap(final String filePath) {
+        this(filePath, 1, 0);
+    }
+
+    /**
+     * Creates a source map that retains the scanned characters of the part of a source that starts at the beginning
+     * of the specified line
+     *
+     * @param filePath   the path used in error messages, which may be null
+     * @param lineNumber the one-indexed number of the first line of the part
+     * @param offset     the source offset of the first character of the part
+     */
+    SourceMap(final String filePath, final int lineNumber, final int offset) {
+        if (lineNumber < 1 || offset < 0) throw new IllegalArgumentException("The part must start within the source");
+
+        this.filePath = filePath;
+        this.file = null;
+        this.scannedAttributes = null;
+        this.retainedCharacters = new StringBuilder();
+        this.currentLineCharacters = null;
+        this.retainedStart = offset;
+        this.lineBase = lineNumber - 1;
+        this.scannedEnd = offset;
+        addLine(offset);
+    }
+
+    /**
+     * Creates a source map that reads the specified file again to rebuild lines.
+     * The source map should be created when the file is scanned, as it remembers the size and modification time of
+     * the file at that time.
+     *
+     * @param filePath the path used in error messages, which may be null
+     * @param file     the non-null file that is scanned
+     */
+    public SourceMap(final String filePath, @NonNull final File file) {
+        this.filePath = filePath;
+        this.file = file;
+        this.scannedAttributes = attributesOf(file);
+        this.retainedCharacters = null;
+        this.currentLineCharacters = new StringBuilder();
+        this.retainedStart = 0;
+        this.lineBase = 0;
+        addLine(0);
+    }
+
+    /**
+     * Retains the specified scanned characters.
+     * Each scanned character has to be passed to the source map, before or after the start of its line is marked.
+     *
+     * @param buffer the buffer that contains the characters
+     * @param offset the index of the first character
+     * @param length the amount of characters
+     */
+    void retain(final char[] buffer, final int offset, final int length) {
+        if (retainedCharacters != null) retainedCharacters.append(buffer, offset, length);
+        else {
+            // Characters of previous lines that are passed after the start of the current line has been marked
+            final int skipped = Math.min(length, Math.max(0, currentLineStart - scannedEnd));
+            currentLineCharacters.append(buffer, offset + skipped, length - skipped);
+        }
+
+        scannedEnd += length;
+    }
+
+    /**
+     * Retains the specified scanned character
+     *
+     * @param character the character
+     */
+    void retain(final char character) {
+        if (retainedCharacters != null) retainedCharacters.append(character);
+        else if (scannedEnd >= currentLineStart) currentLineCharacters.append(character);
+
+        scannedEnd++;
+    }
+
+    /**
+     * Marks the start of the next line
+     *
+     * @param offset the source offset of the first character of the next line
+     */
+    void addLine(final int offset) {
+        amountOfLines++;
+        if (amountOfLines == lineStarts.length) lineStarts = Arrays.copyOf(lineStarts, 2 * lineStarts.length);
+        lineStarts[amountOfLines] = offset;
+
+        if (currentLineCharacters != null) {
+            // Only keeps the characters of the new line that have already been passed
+            if (offset <= scannedEnd) currentLineCharacters.delete(0, offset - currentLineStart);
+            else currentLineCharacters.setLength(0);
+        }
+        currentLineStart = offset;
+    }
+
+    /**
+     * Rebuilds the line until the specified offset, as displayed in error messages.
+     * Tabs and new lines are displayed as [\t] and [\n].
+     *
+     * @param lineNumber the one-indexed number of the line
+     * @param endOffset  the source offset after the last character that should be included
+     * @return the displayed line
+     */
+    public String line(final int lineNumber, final int endOffset) {
+        if (lineNumber < 1 || lineNumber > lineBase + amountOfLines)
+            throw new IndexOutOfBoundsException("Unknown line number: " + lineNumber);
+        if (lineNumber <= lineBase) return "";
+
+        final int index = lineNumber - lineBase;
+        final CharSequence text;
+        final int start;
+        final var sourceText = text();
+        if (sourceText != null) {
+            text = sourceText;
+            start = lineStarts[index] - retainedStart;
+        } else if (index == amountOfLines) {
+            text = currentLineCharacters;
+            start = 0;
+        } else return "";
+
+        final int end = Math.min(endOffset - lineStarts[index] + start, text.length());
+        final var line = new StringBuilder();
+        for (int i = start; i < end; i++) {
+            final char current = text.charAt(i);
+            if (current == '\t') line.append("[\\t]");
+            else if (current == '\n') line.append("[\\n]");
+            else line.append(current);
+        }
+
+        return line.toString();
+    }
+
+    /**
+     * Yields the scanned characters, reading the file if necessary.
+     * The file is decoded in the same way as it is when it is scanned, so that offsets match.
+     *
+     * @return the text of the source, or null if the file has changed since it has been scanned, or cannot be read
+     */
+    private CharSequence text() {
+        if (retainedCharacters != null) return retainedCharacters;
+
+        if (fileText == null && !fileIsUnavailable) {
+            final var attributes = attributesOf(file);
+            fileIsUnavailable = scannedAttributes == null || attributes == null
+                    || attributes.size() != scannedAttributes.size()
+                    || !attributes.lastModifiedTime().equals(scannedAttributes.lastModifiedTime());
+
+            if (!fileIsUnavailable) {
+                try {
+                    fileText = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    fileIsUnavailable = true;
+                }
+            }
+        }
+
+        return fileText;
+    }
+
+    /**
+     * Reads the size and modification time of the file
+     *
+     * @param file the file
+     * @return the attributes of the file, or null if they cannot be read
+     */
+    private static BasicFileAttributes attributesOf(final File file) {
+        try {
+            return Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,412 @@
+package frontend.lexical_analysis;
+
+import error.MissingMemberException;
+import frontend.FrontEndBridge;
+import lombok.NonNull;
+
+import java.io.File;
+import java.util.Arrays;
+
+/**
+ * Responsible for the lexical analysis of .pipp files, using a deterministic finite automaton.
+ * Each character is mapped to a character class, and the next state as well as the action that should be performed
+ * are looked up in a compact transition table. This produces exactly the same tokens as the {@link Scanner}.
+ * Whether a text has just converted a new line into a space is part of the state, as it persists across tokens.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class TableScanner implements Lexer {
+
+    // Character classes
+    private static final int TAB = 0;
+    private static final int SPACE = 1;
+    private static final int COMMA = 2;
+    private static final int NEW_LINE = 3;
+    private static final int QUOTE = 4;
+    private static final int BACKSLASH = 5;
+    private static final int HASH = 6;
+    private static final int CARRIAGE_RETURN = 7;
+    private static final int OTHER = 8;
+    private static final int CLASS_COUNT = 9;
+
+    // Base states, which are doubled to track whether a text has just converted a new line into a space
+    private static final int LINE_START = 0;
+    private static final int IDLE = 1;
+    private static final int KEYWORD = 2;
+    private static final int INDENT = 3;
+    private static final int TEXT = 4;
+    private static final int TEXT_ESCAPE = 5;
+    private static final int COMMENT = 6;
+    private static final int BASE_STATE_COUNT = 7;
+
+    // Actions
+    private static final int NONE = 0;
+    private static final int APPEND = 1;
+    private static final int APPEND_TEXT = 2;
+    private static final int APPEND_SPACE = 3;
+    private static final int TEXT_NEW_LINE = 4;
+    private static final int SUBMIT = 5;
+    private static final int SUBMIT_AND_APPEND = 6;
+    private static final int SUBMIT_LIST_SEPARATOR = 7;
+    private static final int SUBMIT_NEW_LINE = 8;
+    private static final int START_INDENT = 9;
+    private static final int COUNT_TAB = 10;
+    private static final int CLOSE_TEXT = 11;
+    private static final int END_COMMENT = 12;
+
+    // Effects on the converted new line flag of the state
+    private static final int KEEP = 0;
+    private static final int SET = 1;
+    private static final int CLEAR = 2;
+
+    private static final int ACTION_BITS = 4;
+    private static final int ACTION_MASK = (1 << ACTION_BITS) - 1;
+
+    /**
+     * Maps the ASCII characters to their character classes. All other characters are of the class OTHER.
+     */
+    private static final byte[] CLASSES = new byte[128];
+
+    /**
+     * The transition table, indexed by state and character class.
+     * Each entry contains the next state in the upper bits and the action in the lower bits.
+     */
+    private static final short[] TRANSITIONS = new short[2 * BASE_STATE_COUNT * CLASS_COUNT];
+
+    static {
+        Arrays.fill(CLASSES, (byte) OTHER);
+        CLASSES['\t'] = TAB;
+        CLASSES[' '] = SPACE;
+        CLASSES[','] = COMMA;
+        CLASSES['\n'] = NEW_LINE;
+        CLASSES['"'] = QUOTE;
+        CLASSES['\\'] = BACKSLASH;
+        CLASSES['#'] = HASH;
+        CLASSES['\r'] = CARRIAGE_RETURN;
+
+        for (int base : new int[]{LINE_START, IDLE, KEYWORD, INDENT}) {
+            on(base, TAB, INDENT, base == INDENT ? COUNT_TAB : START_INDENT, KEEP);
+            on(base, SPACE, IDLE, SUBMIT, KEEP);
+            on(base, COMMA, IDLE, SUBMIT_LIST_SEPARATOR, KEEP);
+            on(base, NEW_LINE, LINE_START, SUBMIT_NEW_LINE, KEEP);
+            on(base, QUOTE, TEXT, SUBMIT_AND_APPEND, KEEP);
+
+            // All other characters are part of keywords
+            final int keywordAction = base == KEYWORD ? APPEND : SUBMIT_AND_APPEND;
+            on(base, BACKSLASH, KEYWORD, keywordAction, KEEP);
+            on(base, OTHER, KEYWORD, keywordAction, KEEP);
+
+            // Comments can only start at the first character of a line
+            if (base == LINE_START) on(base, HASH, COMMENT, NONE, KEEP);
+            else on(base, HASH, KEYWORD, keywordAction, KEEP);
+
+            // Carriage returns are ignored, but are still the first character of a line
+            on(base, CARRIAGE_RETURN, base == LINE_START ? IDLE : base, NONE, KEEP);
+        }
+
+        for (int base : new int[]{TEXT, TEXT_ESCAPE}) {
+            if (base == TEXT) {
+                on(base, QUOTE, IDLE, CLOSE_TEXT, KEEP);
+                on(base, BACKSLASH, TEXT_ESCAPE, NONE, CLEAR);
+            } else {
+                on(base, QUOTE, TEXT, APPEND, KEEP);
+                on(base, BACKSLASH, TEXT, APPEND, CLEAR);
+            }
+
+            // Characters that cannot be escaped do not end the escape
+            for (int characterClass : new int[]{SPACE, COMMA, HASH, OTHER})
+                on(base, characterClass, base, APPEND_TEXT, CLEAR);
+
+            on(base, CARRIAGE_RETURN, base, NONE, KEEP);
+
+            // New lines and tabs are converted into a single space, but not repeatedly
+            for (int converted = 0; converted < 2; converted++) {
+                set(base, converted, NEW_LINE, base, converted == 1 ? NONE : TEXT_NEW_LINE, SET);
+                set(base, converted, TAB, base, converted == 1 ? NONE : APPEND_SPACE, SET);
+            }
+        }
+
+        for (int characterClass = 0; characterClass < CLASS_COUNT; characterClass++)
+            on(COMMENT, characterClass, characterClass == NEW_LINE ? LINE_START : COMMENT,
+                    characterClass == NEW_LINE ? END_COMMENT : NONE, KEEP);
+    }
+
+    /**
+     * The reference to the front end bridge, which is used for communication purposes between
+     * the scanner and the parser.
+     */
+    private final FrontEndBridge frontEndBridge;
+
+    /**
+     * Saves the value of the currently scanned token during the scanning process
+     */
+    private final CharArena currentlyReadValue = new CharArena();
+
+    /**
+     * Indexes the lines of the source that is currently being scanned
+     */
+    private SourceMap sourceMap = new SourceMap(null);
+
+    /**
+     * The current state, which is the base state doubled plus one if a text has just converted a new line
+     */
+    private int state = LINE_START << 1;
+
+    /**
+     * Counts the tabs of the current INDENT token
+     */
+    private int currentAmountOfTabs;
+
+    /**
+     * Counts the characters that have been scanned in the current source
+     */
+    private int sourceOffset;
+
+    /**
+     * Saves the character that has been scanned last
+     */
+    private char lastCharacter;
+
+    /**
+     * Tracks the current line. Is one-indexed.
+     */
+    private int currentLine = 1;
+
+    /**
+     * Creates a new instance of the scanner and passes the front end bridge as the
+     * parent as an interface between the scanner and parser
+     *
+     * @param frontEndBridge - the instance of the FrontEndBridge used for communication
+     */
+    public TableScanner(final FrontEndBridge frontEndBridge) {
+        this.frontEndBridge = frontEndBridge;
+    }
+
+    /**
+     * Adds the transition for both variants of the base state
+     */
+    private static void on(final int base, final int characterClass, final int nextBase, final int action,
+                           final int effect) {
+        set(base, 0, characterClass, nextBase, action, effect);
+        set(base, 1, characterClass, nextBase, action, effect);
+    }
+
+    /**
+     * Adds the transition for the variant of the base state
+     */
+    private static void set(final int base, final int converted, final int characterClass, final int nextBase,
+                            final int action, final int effect) {
+        final int nextConverted = effect == KEEP ? converted : effect == SET ? 1 : 0;
+        final int next = nextBase << 1 | nextConverted;
+
+        TRANSITIONS[(base << 1 | converted) * CLASS_COUNT + characterClass] = (short) (next << ACTION_BITS | action);
+    }
+
+    @Override
+    public void resetFile(@NonNull final String filePath) {
+        reset(new SourceMap(filePath));
+    }
+
+    @Override
+    public void resetFile(@NonNull final String filePath, @NonNull final File file) {
+        reset(new SourceMap(filePath, file));
+    }
+
+    @Override
+    public void resetFile(@NonNull final String filePath, final int lineNumber, final int offset) {
+        restore(new SourceMap(filePath, lineNumber, offset), LINE_START << 1, lineNumber, offset);
+    }
+
+    private void reset(final SourceMap sourceMap) {
+        this.sourceMap = sourceMap;
+        sourceOffset = 0;
+        currentLine = 1;
+        currentAmountOfTabs = 0;
+        // Just like the flags of the Scanner, a converted new line is remembered across sources
+        state = LINE_START << 1 | (state & 1);
+        currentlyReadValue.discardToken();
+    }
+
+    /**
+     * Continues scanning the specified source at the start of a line, in the state that has been recorded there
+     *
+     * @param sourceMap  the source, which must contain the lines before the current line
+     * @param state      the state recorded at the start of the line
+     * @param lineNumber the one-indexed number of the line
+     * @param offset     the source offset of the first character of the line
+     */
+    void restore(final SourceMap sourceMap, final int state, final int lineNumber, final int offset) {
+        this.sourceMap = sourceMap;
+        this.state = state;
+        this.currentLine = lineNumber;
+        this.sourceOffset = offset;
+        this.currentAmountOfTabs = 0;
+        this.lastCharacter = '\n';
+        currentlyReadValue.discardToken();
+    }
+
+    /**
+     * Yields the current state, which can be restored at the start of a line
+     *
+     * @return the state
+     */
+    int getState() {
+        return state;
+    }
+
+    @Override
+    public int getCurrentLine() {
+        return currentLine;
+    }
+
+    /**
+     * Yields true if no token is open in the specified state, because the scanner is at the start of a line.
+     * Scanning can then be resumed without knowing anything about the characters before.
+     *
+     * @param state the state
+     * @return true if the state is the start of a line
+     */
+    static boolean isLineStart(final int state) {
+        return state >> 1 == LINE_START;
+    }
+
+    @Override
+    public void scan(@NonNull final char[] buffer, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset + length > buffer.length) throw new IndexOutOfBoundsException();
+
+        sourceMap.retain(buffer, offset, length);
+
+        final int end = offset + length;
+        for (int i = offset; i < end; i++) step(buffer[i]);
+    }
+
+    @Override
+    public void scan(final char current) {
+        sourceMap.retain(current);
+
+        step(current);
+    }
+
+    /**
+     * Performs the transition for the character, which has already been retained if necessary
+     *
+     * @param current the next character that should be scanned
+     */
+    private void step(final char current) {
+        sourceOffset++;
+        lastCharacter = current;
+
+        final int characterClass = current < CLASSES.length ? CLASSES[current] : OTHER;
+        final int previous = state;
+        final int transition = TRANSITIONS[previous * CLASS_COUNT + characterClass];
+        state = transition >>> ACTION_BITS;
+
+        switch (transition & ACTION_MASK) {
+            case NONE -> {
+            }
+            case APPEND -> currentlyReadValue.append(current);
+            case APPEND_TEXT -> {
+                if (current != ' ' || lastValueCharacter() != ' ') currentlyReadValue.append(current);
+            }
+            case APPEND_SPACE -> {
+                if (lastValueCharacter() != ' ') currentlyReadValue.append(' ');
+            }
+            case TEXT_NEW_LINE -> {
+                newLine();
+                if (lastValueCharacter() != ' ') currentlyReadValue.append(' ');
+            }
+            case SUBMIT -> submit(previous);
+            case SUBMIT_AND_APPEND -> {
+                submit(previous);
+                currentlyReadValue.append(current);
+            }
+            case SUBMIT_LIST_SEPARATOR -> {
+                submit(previous);
+                currentlyReadValue.append(current);
+                submit(TokenType.LIST_SEPARATOR);
+            }
+            case SUBMIT_NEW_LINE -> {
+                submit(previous);
+                currentlyReadValue.append(current);
+                submit(TokenType.NEW_LINE);
+                newLine();
+            }
+            case START_INDENT -> {
+                submit(previous);
+                currentAmountOfTabs = 1;
+            }
+            case COUNT_TAB -> currentAmountOfTabs++;
+            case CLOSE_TEXT -> {
+                // Should not create empty strings
+                if (currentlyReadValue.isBlankFrom(1))
+                    throw new MissingMemberException("1: A text component cannot be blank.");
+
+                currentlyReadValue.append(current);
+                submit(TokenType.TEXT);
+            }
+            case END_COMMENT -> newLine();
+            default -> throw new IllegalStateException("Unknown action in state " + previous);
+        }
+    }
+
+    @Override
+    public void submitToken() {
+        final int base = state >> 1;
+        if (tokenTypeOf(base) == null) return;
+
+        submit(state);
+        state = IDLE << 1 | (state & 1);
+    }
+
+    /**
+     * Submits the token that is scanned in the specified state, if there is one
+     *
+     * @param previousState the state in which the token has been scanned
+     */
+    private void submit(final int previousState) {
+        final var type = tokenTypeOf(previousState >> 1);
+        if (type != null) submit(type);
+    }
+
+    /**
+     * Creates the token of the specified type from the current value, and notifies the FrontEndBridge
+     * of the existence of the token
+     *
+     * @param type the type of the token
+     */
+    private void submit(final TokenType type) {
+        final var token = Scanner.createToken(type, currentlyReadValue, currentAmountOfTabs);
+        Scanner.enqueueToken(frontEndBridge, token, sourceMap, currentLine, sourceOffset, lastCharacter);
+
+        // Only tokens that refer to the arena have to keep their characters
+        if (token.isShared() || token.type == TokenType.INDENT || token.keyword != null)
+            currentlyReadValue.discardToken();
+        else currentlyReadValue.finishToken();
+    }
+
+    /**
+     * Yields the type of the token that is scanned in the base state
+     *
+     * @param base the base state
+     * @return the token type, or null if there is no current token in the state
+     */
+    private static TokenType tokenTypeOf(final int base) {
+        return switch (base) {
+            case KEYWORD -> TokenType.KEYWORD;
+            case INDENT -> TokenType.INDENT;
+            case TEXT, TEXT_ESCAPE -> TokenType.TEXT;
+            default -> null;
+        };
+    }
+
+    private char lastValueCharacter() {
+        return currentlyReadValue.charAt(currentlyReadValue.length() - 1);
+    }
+
+    private void newLine() {
+        currentLine++;
+        sourceMap.addLine(sourceOffset);
+    }
+
+}
@@ -2,21 +2,42 @@ package frontend.lexical_analysis;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.ToString;
 
 /**
  * Creates a token used by the scanner to divide input into tokens.
  * Consists of a {@link TokenType} and a token value.
+ * Tokens created by the scanner only refer to a slice of the scanned characters, and the value is only turned into a
+ * String once it is requested.
+ * NEW_LINE, LIST_SEPARATOR and INDENT tokens created by the scanner are shared instances, which do not carry debug
+ * information. Their positions are stored by the {@link frontend.TokenQueue} that contains them, instead.
  *
  * @version 1.0
  * @since 1.0
  */
-@ToString
-@EqualsAndHashCode
+@ToString(onlyExplicitlyIncluded = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Token {
 
     /**
-     * Used to include debug information for debugging purposes and error messages
+     * The amount of tabs up to which INDENT tokens are shared
+     */
+    private static final int SHARED_INDENTATIONS = 16;
+
+    private static final Token NEW_LINE_TOKEN = new Token(TokenType.NEW_LINE, "\n", -1);
+    private static final Token LIST_SEPARATOR_TOKEN = new Token(TokenType.LIST_SEPARATOR, ",", -1);
+    private static final Token[] INDENT_TOKENS = new Token[SHARED_INDENTATIONS];
+
+    static {
+        for (int i = 0; i < SHARED_INDENTATIONS; i++)
+            INDENT_TOKENS[i] = new Token(TokenType.INDENT, Integer.toString(i), i);
+    }
+
+    /**
+     * Used to include debug information for debugging purposes and error messages.
+     * Note that the debug information is not part of the identity of a token.
+     * Is null if the token is shared.
      */
     @Getter
     private final DebugTokenInfo debugInfo;
@@ -24,13 +45,40 @@ public class Token {
     /**
      * The constant type of the token used by the parser to parse input
      */
+    @ToString.Include
+    @EqualsAndHashCode.Include
     public TokenType type;
-    
+
     /**
-     * The value of the token.
-     * Depending on the token type this may be the name of the keyword, the content of a text, etc.
+     * The keyword this token represents, or null if the token is not a KEYWORD token or its value is unknown.
+     * Comparing this constant is cheaper than comparing the value of the token.
+     */
+    public Keyword keyword;
+
+    /**
+     * The amount of tabs of an INDENT token created by the scanner, or -1 if the amount is stored as the value
      */
-    public String value;
+    private int indentation = -1;
+
+    /**
+     * The value of the token, or null if it has not been created from the slice, yet.
+     */
+    private String value;
+
+    /**
+     * The characters that contain the value of the token, or null if the value is a String already
+     */
+    private char[] source;
+
+    /**
+     * The index of the first character of the value in the source
+     */
+    private int offset;
+
+    /**
+     * The amount of characters of the value in the source
+     */
+    private int length;
 
     /**
      * Instantiates a new token using the desired token type and value and automatically creates an
@@ -42,7 +90,151 @@ public class Token {
     public Token(TokenType type, String value) {
         this.type = type;
         this.value = value;
+        this.keyword = type == TokenType.KEYWORD && value != null ? Keyword.lookup(value) : null;
+        debugInfo = new DebugTokenInfo();
+    }
+
+    /**
+     * Instantiates a new KEYWORD token for the specified keyword, using its lexeme as the token value.
+     *
+     * @param keyword the non-null keyword that the token represents
+     */
+    public Token(@NonNull final Keyword keyword) {
+        this.type = TokenType.KEYWORD;
+        this.value = keyword.getLexeme();
+        this.keyword = keyword;
+        debugInfo = new DebugTokenInfo();
+    }
+
+    /**
+     * Instantiates a new INDENT token for the specified amount of tabs.
+     * The token value is the amount of tabs.
+     *
+     * @param indentation the amount of tabs
+     */
+    public Token(final int indentation) {
+        this.type = TokenType.INDENT;
+        this.indentation = indentation;
+        debugInfo = new DebugTokenInfo();
+    }
+
+    /**
+     * Instantiates a shared token, which does not have debug information
+     *
+     * @param type        the type of the token
+     * @param value       the value of the token
+     * @param indentation the amount of tabs of an INDENT token, or -1
+     */
+    private Token(final TokenType type, final String value, final int indentation) {
+        this.type = type;
+        this.value = value;
+        this.indentation = indentation;
+        debugInfo = null;
+    }
+
+    /**
+     * Instantiates an unshared copy of the specified token
+     *
+     * @param token     the non-null token that should be copied
+     * @param debugInfo the non-null debug information of the copy
+     */
+    private Token(@NonNull final Token token, @NonNull final DebugTokenInfo debugInfo) {
+        this.type = token.type;
+        this.keyword = token.keyword;
+        this.indentation = token.indentation;
+        this.value = token.getValue();
+        this.debugInfo = debugInfo;
+    }
+
+    /**
+     * Yields the shared NEW_LINE or LIST_SEPARATOR token
+     *
+     * @param type the type of the token, which must either be NEW_LINE or LIST_SEPARATOR
+     * @return the shared token
+     * @throws IllegalArgumentException if the type is not a structural token type
+     */
+    static Token shared(@NonNull final TokenType type) {
+        return switch (type) {
+            case NEW_LINE -> NEW_LINE_TOKEN;
+            case LIST_SEPARATOR -> LIST_SEPARATOR_TOKEN;
+            default -> throw new IllegalArgumentException("There is no shared " + type + " token");
+        };
+    }
+
+    /**
+     * Yields an INDENT token for the specified amount of tabs, which is shared unless the amount is very large
+     *
+     * @param indentation the amount of tabs
+     * @return the INDENT token
+     */
+    static Token indent(final int indentation) {
+        return indentation < SHARED_INDENTATIONS ? INDENT_TOKENS[indentation] : new Token(indentation);
+    }
+
+    /**
+     * Yields a copy of this token that has its own debug information, which is required to move a token
+     *
+     * @param debugInfo the non-null debug information of the copy
+     * @return the unshared copy
+     */
+    Token unshare(@NonNull final DebugTokenInfo debugInfo) {
+        return new Token(this, debugInfo);
+    }
+
+    /**
+     * Yields true if this token is a shared instance, which does not have debug information
+     *
+     * @return true if the token is shared
+     */
+    public boolean isShared() {
+        return debugInfo == null;
+    }
+
+    /**
+     * Instantiates a new token whose value is a slice of the specified characters.
+     * The characters must not be modified afterwards.
+     *
+     * @param type   the type of the token (text, keyword, etc.)
+     * @param source the non-null characters that contain the value
+     * @param offset the index of the first character of the value
+     * @param length the amount of characters of the value
+     */
+    Token(final TokenType type, @NonNull final char[] source, final int offset, final int length) {
+        this.type = type;
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+        this.keyword = type == TokenType.KEYWORD ? Keyword.lookup(getValue()) : null;
         debugInfo = new DebugTokenInfo();
     }
 
+    /**
+     * Yields the value of the token, and creates the String from the slice the first time it is requested.
+     * Depending on the token type this may be the name of the keyword, the content of a text, etc.
+     *
+     * @return the value of the token, which may be null for tokens that are only used as a pattern by the parser
+     */
+    @ToString.Include(name = "value")
+    @EqualsAndHashCode.Include
+    public String getValue() {
+        if (value == null) {
+            if (source != null) {
+                value = new String(source, offset, length);
+                source = null;
+            } else if (indentation >= 0) value = Integer.toString(indentation);
+        }
+
+        return value;
+    }
+
+    /**
+     * Yields the amount of tabs of an INDENT token without creating a String
+     *
+     * @return the amount of tabs
+     * @throws NumberFormatException if the value of the token is not a number
+     */
+    public int getIndentation() {
+        return indentation >= 0 ? indentation : Integer.parseInt(value);
+    }
+
 }
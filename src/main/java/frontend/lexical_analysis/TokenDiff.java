@@ -0,0 +1,58 @@
+package frontend.lexical_analysis;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Describes how the token stream of a document changed after an edit.
+ * The tokens in front of the start index and after the removed tokens are the same token objects as before,
+ * although the debug information of the latter points to their new position.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@ToString
+public class TokenDiff {
+
+    /**
+     * The index of the first token that has been replaced
+     */
+    private final int start;
+
+    /**
+     * The tokens that have been removed, starting at the start index of the previous token stream
+     */
+    private final List<Token> removed;
+
+    /**
+     * The tokens that have been inserted instead, starting at the start index of the new token stream
+     */
+    private final List<Token> inserted;
+
+    /**
+     * Creates the diff of an edit
+     *
+     * @param start    the index of the first token that has been replaced
+     * @param removed  the non-null tokens that have been removed
+     * @param inserted the non-null tokens that have been inserted
+     */
+    public TokenDiff(final int start, @NonNull final List<Token> removed, @NonNull final List<Token> inserted) {
+        this.start = start;
+        this.removed = List.copyOf(removed);
+        this.inserted = List.copyOf(inserted);
+    }
+
+    /**
+     * Yields true if the edit did not change the tokens, apart from their positions
+     *
+     * @return true if no tokens have been removed or inserted
+     */
+    public boolean isEmpty() {
+        return removed.isEmpty() && inserted.isEmpty();
+    }
+
+}
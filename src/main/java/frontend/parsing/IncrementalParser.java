@@ -0,0 +1,280 @@
+package frontend.parsing;
+
+import frontend.FrontEndBridge;
+import frontend.ast.AST;
+import frontend.ast.structure.BodyNode;
+import frontend.ast.structure.Include;
+import frontend.lexical_analysis.LexerEngine;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses a document again after it has been edited, for example by a live preview, and reuses the body nodes of
+ * the parts of the document that have not changed.
+ * The document is divided into blocks, which end after an empty line outside a text or comment. An empty line
+ * always ends the current instruction, so each block can be parsed on its own and yields the same body nodes as
+ * parsing the whole document. The only exception is the last token of the document, which the parser ignores if it
+ * starts another instruction, so a last block that consists of a single token does not yield body nodes.
+ * Each block is scanned starting at its own line and offset, so that the debug information refers to the position
+ * within the document.
+ * Blocks are keyed by their content, so a block that has only moved is reused, too, unless it contains an include,
+ * whose position is used for error messages, or consists of a single token.
+ * The first block is always parsed again, as it contains the configuration of the document.
+ * If any block cannot be parsed, the whole document is parsed instead, so that the error message refers to the
+ * correct line.
+ * Note that reused body nodes are the same objects as in the previous AST.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class IncrementalParser {
+
+    /**
+     * The path of the document used for error messages
+     */
+    private final String filePath;
+
+    /**
+     * The engine that is used for the lexical analysis of the blocks
+     */
+    private final LexerEngine engine;
+
+    /**
+     * The blocks of the document that has been parsed last
+     */
+    private List<Block> blocks = List.of();
+
+    /**
+     * The amount of blocks that have been parsed by the last call, including the first block
+     */
+    @Getter
+    private int parsedBlocks;
+
+    /**
+     * The amount of blocks whose body nodes have been reused by the last call
+     */
+    @Getter
+    private int reusedBlocks;
+
+    /**
+     * Creates an incremental parser that uses the table-driven lexer engine
+     *
+     * @param filePath the non-null path of the document used for error messages
+     */
+    public IncrementalParser(@NonNull final String filePath) {
+        this(filePath, LexerEngine.TABLE);
+    }
+
+    /**
+     * Creates an incremental parser that uses the specified lexer engine
+     *
+     * @param filePath the non-null path of the document used for error messages
+     * @param engine   the non-null engine that is used for the lexical analysis
+     */
+    public IncrementalParser(@NonNull final String filePath, @NonNull final LexerEngine engine) {
+        this.filePath = filePath;
+        this.engine = engine;
+    }
+
+    /**
+     * Parses the specified version of the document, and only parses the blocks that have changed since the last call
+     *
+     * @param text the non-null current text of the document
+     * @return the AST of the document, which does not contain bibliography sources
+     * @throws IllegalArgumentException if the document is invalid
+     */
+    public AST parse(@NonNull final String text) {
+        // The blocks of the previous version that can still be reused, by their content
+        final Map<String, ArrayDeque<Block>> reusable = new HashMap<>();
+        for (int i = 1; i < blocks.size(); i++)
+            reusable.computeIfAbsent(blocks.get(i).text(), key -> new ArrayDeque<>()).add(blocks.get(i));
+
+        final var newBlocks = new ArrayList<Block>();
+        int parsed = 0;
+        int reused = 0;
+        AST ast = null;
+
+        try {
+            int start = 0;
+            int lineNumber = 1;
+            boolean tokensBefore = false;
+            while (start < text.length() || ast == null) {
+                final int end = endOfBlock(text, start);
+                final var blockText = text.substring(start, end);
+
+                final var candidate = ast == null ? null : reusableBlock(reusable.get(blockText), lineNumber);
+                final Block block;
+                if (candidate != null) {
+                    block = candidate;
+                    for (var node : block.nodes()) ast.enqueueDocumentNode(node);
+                    reused++;
+                } else {
+                    final var bridge = new FrontEndBridge("");
+                    final int amountOfLines = scan(bridge, text, start, end, lineNumber);
+                    final int amountOfTokens = bridge.containsTokens(2) ? 2 : bridge.containsTokens() ? 1 : 0;
+                    final var parser = new Parser(bridge);
+
+                    // The whole document ignores its last token if it starts another instruction
+                    if (ast == null) parser.start();
+                    else if (end < text.length() || !tokensBefore || amountOfTokens > 1) parser.startInstructions();
+
+                    block = new Block(blockText, lineNumber, amountOfLines, amountOfTokens,
+                            List.copyOf(parser.getAst().getDocumentBody()));
+                    if (ast == null) ast = parser.getAst();
+                    else for (var node : block.nodes()) ast.enqueueDocumentNode(node);
+                    parsed++;
+                }
+
+                newBlocks.add(block);
+                tokensBefore |= block.amountOfTokens() > 0;
+                lineNumber += block.amountOfLines();
+                start = end;
+            }
+        } catch (RuntimeException e) {
+            // Parsing the whole document reports the error with the correct line, or shows that the blocks are
+            // not independent after all
+            blocks = List.of();
+            ast = parseEntirely(text);
+            parsedBlocks = 1;
+            reusedBlocks = 0;
+            return ast;
+        }
+
+        blocks = newBlocks;
+        parsedBlocks = parsed;
+        reusedBlocks = reused;
+        return ast;
+    }
+
+    /**
+     * Parses the whole document at once
+     *
+     * @param text the text of the document
+     * @return the AST of the document
+     */
+    private AST parseEntirely(final String text) {
+        final var bridge = new FrontEndBridge("");
+        final var lexer = engine.create(bridge);
+        lexer.resetFile(filePath);
+
+        final var characters = text.toCharArray();
+        lexer.scan(characters, 0, characters.length);
+        lexer.submitToken();
+
+        final var parser = new Parser(bridge);
+        parser.start();
+        return parser.getAst();
+    }
+
+    /**
+     * Yields a previous block with the same content that can be used at the specified line.
+     * Blocks that contain an include are only reused at the same line, as the include refers to its position.
+     * Blocks that consist of a single token are never reused, as their body nodes depend on whether they are the
+     * last block of the document.
+     *
+     * @param candidates the unused previous blocks with the same content, or null if there are none
+     * @param lineNumber the one-indexed number of the first line of the block
+     * @return the block that can be reused, or null if the block has to be parsed
+     */
+    private static Block reusableBlock(final ArrayDeque<Block> candidates, final int lineNumber) {
+        if (candidates == null) return null;
+
+        for (var iterator = candidates.iterator(); iterator.hasNext(); ) {
+            final var block = iterator.next();
+            if (block.amountOfTokens() != 1 && (block.lineNumber() == lineNumber
+                    || block.nodes().stream().noneMatch(Include.class::isInstance))) {
+                iterator.remove();
+                return block;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Scans the specified block of the document, starting at its position within the document
+     *
+     * @param bridge     the bridge the tokens of the block are submitted to
+     * @param text       the text of the document
+     * @param start      the index of the first character of the block
+     * @param end        the index after the last character of the block
+     * @param lineNumber the one-indexed number of the first line of the block
+     * @return the amount of lines the lexer has counted in the block, which is less than the amount of new line
+     * characters if a text contains consecutive new lines
+     */
+    private int scan(final FrontEndBridge bridge, final String text, final int start, final int end,
+                     final int lineNumber) {
+        final var lexer = engine.create(bridge);
+        lexer.resetFile(filePath, lineNumber, start);
+
+        final var characters = new char[end - start];
+        text.getChars(start, end, characters, 0);
+        lexer.scan(characters, 0, characters.length);
+        lexer.submitToken();
+
+        return lexer.getCurrentLine() - lineNumber;
+    }
+
+    /**
+     * Yields the end of the block that starts at the specified index, which is the index after the first empty
+     * line outside a text or comment, or the end of the text
+     *
+     * @param text  the text of the document
+     * @param start the index of the first character of the block, which must be the start of a line
+     * @return the index after the last character of the block
+     */
+    static int endOfBlock(final String text, final int start) {
+        boolean inText = false;
+        boolean escaped = false;
+        boolean inComment = false;
+        boolean lineIsEmpty = true;
+        boolean lineStart = true;
+
+        for (int i = start; i < text.length(); i++) {
+            final char character = text.charAt(i);
+
+            if (inText) {
+                if (escaped) escaped = false;
+                else if (character == '\\') escaped = true;
+                else if (character == '"') inText = false;
+                continue;
+            }
+
+            if (character == '\n') {
+                if (lineIsEmpty && !inComment && i > start) return i + 1;
+
+                inComment = false;
+                lineIsEmpty = true;
+                lineStart = true;
+                continue;
+            }
+
+            if (character == '#' && lineStart) inComment = true;
+            else if (character == '"' && !inComment) inText = true;
+
+            if (character != '\r') lineIsEmpty = false;
+            lineStart = false;
+        }
+
+        return text.length();
+    }
+
+    /**
+     * A part of the document that can be parsed on its own
+     *
+     * @param text           the text of the block
+     * @param lineNumber     the one-indexed number of the first line of the block
+     * @param amountOfLines  the amount of lines the lexer has counted in the block
+     * @param amountOfTokens the amount of tokens of the block, where more than two tokens are counted as two
+     * @param nodes          the body nodes the block consists of
+     */
+    private record Block(String text, int lineNumber, int amountOfLines, int amountOfTokens, List<BodyNode> nodes) {
+    }
+
+}
@@ -15,14 +15,19 @@ import frontend.ast.paragraph.Emphasise;
 import frontend.ast.paragraph.Paragraph;
 import frontend.ast.paragraph.Text;
 import frontend.ast.structure.Image;
+import frontend.ast.structure.Include;
 import frontend.ast.structure.NoArgumentStructure;
+import frontend.lexical_analysis.Keyword;
 import frontend.lexical_analysis.Token;
 import frontend.lexical_analysis.TokenType;
+import lombok.Getter;
 import lombok.NonNull;
-import processing.Processor;
 import processing.constant.StructureType;
 
-import java.util.function.Consumer;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The Parser class is responsible for creating a syntax tree for the Pipp document.
@@ -33,54 +38,6 @@ import java.util.function.Consumer;
  */
 public class Parser {
 
-    private static final String AUTHOR_KEYWORD = "author";
-    private static final String AREA_KEYWORD = "area";
-    private static final String YEAR_KEYWORD = "year";
-    private static final String BIBLIOGRAPHY_KEYWORD = "bibliography";
-    private static final String SEMESTER_KEYWORD = "semester";
-    private static final String INSTITUTION_KEYWORD = "institution";
-    private static final String CHAIR_KEYWORD = "chair";
-    private static final String DATE_KEYWORD = "date";
-    private static final String EMAIL_KEYWORD = "email";
-    private static final String ASSESSOR_KEYWORD = "assessor";
-    private static final String FIRST_NAME_KEYWORD = "firstname";
-    private static final String LAST_NAME_KEYWORD = "lastname";
-    private static final String NAME_KEYWORD = "name";
-    private static final String IN_KEYWORD = "in";
-    private static final String SKIP_KEYWORD = "skip";
-    private static final String EMPHASISE_KEYWORD = "emphasise";
-    private static final String WORK_KEYWORD = "work";
-    private static final String CHAPTER_KEYWORD = "chapter";
-    private static final String CHAPTERS_KEYWORD = "chapters";
-    private static final String COLOUR_KEYWORD = "colour";
-    private static final String LAYOUT_KEYWORD = "layout";
-    private static final String CONFIGURATION_KEYWORD = "config";
-    private static final String HEADER_KEYWORD = "header";
-    private static final String TITLE_KEYWORD = "title";
-    private static final String ID_KEYWORD = "id";
-    private static final String SIZE_KEYWORD = "size";
-    private static final String NUMERATION_KEYWORD = "numeration";
-    private static final String CITATION_KEYWORD = "citation";
-    private static final String IMAGE_KEYWORD = "image";
-    private static final String BLANK_KEYWORD = "blank";
-    private static final String LIMIT_KEYWORD = "limit";
-    private static final String ALLOW_KEYWORD = "allow";
-    private static final String PARAGRAPH_KEYWORD = "paragraph";
-    private static final String SENTENCE_KEYWORD = "sentence";
-    private static final String FONT_KEYWORD = "font";
-    private static final String WIDTH_KEYWORD = "width";
-    private static final String DISPLAY_KEYWORD = "display";
-    private static final String OF_KEYWORD = "of";
-    private static final String ROLE_KEYWORD = "role";
-    private static final String MARGIN_KEYWORD = "margin";
-    private static final String SPACING_KEYWORD = "spacing";
-    private static final String INDENTATION_KEYWORD = "indentation";
-    private static final String HEIGHT_KEYWORD = "height";
-    private static final String STRUCTURE_KEYWORD = "structure";
-    private static final String PUBLICATION_KEYWORD = "publication";
-    private static final String TYPE_KEYWORD = "type";
-    private static final String PAGE_KEYWORD = "page";
-    private static final String STYLE_KEYWORD = "style";
 
     private static final String DOCUMENT_TITLE_CONTAINER_NAME = "Document Title";
     private static final String CHAPTER_CONTAINER_NAME = "Chapter";
@@ -93,6 +50,60 @@ public class Parser {
     private static final String BIBLIOGRAPHY_AUTHOR_CONTAINER_NAME = "Bibliography Assessor";
     private static final String ASSESSOR_CONTAINER_NAME = "Assessor";
 
+    /*
+     * The keywords that continue a list of the respective production.
+     * Productions are selected by switching over the keyword of the current token, which the scanner has already
+     * looked up, so that no keyword strings need to be compared while parsing.
+     */
+    private static final Set<Keyword> INSTRUCTION_KEYWORDS = EnumSet.of(Keyword.HEADER, Keyword.TITLE,
+            Keyword.CITATION, Keyword.EMPHASISE, Keyword.WORK, Keyword.BLANK, Keyword.IMAGE, Keyword.CHAPTER,
+            Keyword.INCLUDE);
+    private static final Set<Keyword> PARAGRAPH_INSTRUCTION_KEYWORDS = EnumSet.of(Keyword.CITATION, Keyword.WORK,
+            Keyword.EMPHASISE);
+    private static final Set<Keyword> TITLE_TEXTUAL_KEYWORDS = EnumSet.of(Keyword.EMPHASISE, Keyword.WORK);
+    private static final Set<Keyword> LIST_ITEM_KEYWORDS = EnumSet.of(Keyword.OF);
+    private static final Set<Keyword> FONT_KEYWORDS = EnumSet.of(Keyword.FONT);
+    private static final Set<Keyword> BIBLIOGRAPHY_ITEM_LIST_KEYWORDS = EnumSet.of(Keyword.ID);
+    private static final Set<Keyword> BIBLIOGRAPHY_ITEM_KEYWORDS = EnumSet.of(Keyword.TYPE, Keyword.AUTHOR,
+            Keyword.TITLE, Keyword.PUBLICATION);
+    private static final Set<Keyword> BIBLIOGRAPHY_ITEM_PUBLICATION_KEYWORDS = EnumSet.of(Keyword.NAME, Keyword.YEAR);
+    private static final Set<Keyword> IMAGE_DECLARATION_KEYWORDS = EnumSet.of(Keyword.ID, Keyword.WIDTH,
+            Keyword.HEIGHT, Keyword.SIZE, Keyword.DISPLAY);
+    private static final Set<Keyword> CONFIG_LIST_KEYWORDS = EnumSet.of(Keyword.STYLE, Keyword.TITLE, Keyword.AUTHOR,
+            Keyword.ASSESSOR, Keyword.PUBLICATION, Keyword.TYPE);
+    private static final Set<Keyword> PUBLICATION_CONFIGURATION_KEYWORDS = EnumSet.of(Keyword.TITLE, Keyword.DATE,
+            Keyword.INSTITUTION, Keyword.SEMESTER, Keyword.CHAIR);
+    private static final Set<Keyword> NAME_SPECIFICATION_WITH_OPT_ID_KEYWORDS = EnumSet.of(Keyword.ID, Keyword.AREA,
+            Keyword.EMAIL);
+    private static final Set<Keyword> OPTIONAL_CUSTOM_STYLE_LIST_KEYWORDS = EnumSet.of(Keyword.LAYOUT,
+            Keyword.NUMERATION, Keyword.STRUCTURE);
+    private static final Set<Keyword> STRUCTURE_STYLE_KEYWORDS = EnumSet.of(Keyword.PARAGRAPH, Keyword.CHAPTER,
+            Keyword.SENTENCE, Keyword.WORK, Keyword.EMPHASISE);
+    private static final Set<Keyword> CHAPTERS_STRUCTURE_STYLE_KEYWORDS = EnumSet.of(Keyword.DISPLAY, Keyword.SPACING);
+    private static final Set<Keyword> CHAPTER_FONT_STYLE_KEYWORDS = EnumSet.of(Keyword.SENTENCE, Keyword.EMPHASISE,
+            Keyword.WORK);
+    private static final Set<Keyword> FONT_STYLE_LIST_KEYWORDS = EnumSet.of(Keyword.NAME, Keyword.SIZE,
+            Keyword.COLOUR);
+    private static final Set<Keyword> PAGE_NUMERATION_STYLE_LIST_KEYWORDS = EnumSet.of(Keyword.IN, Keyword.DISPLAY,
+            Keyword.LIMIT, Keyword.MARGIN, Keyword.SKIP, Keyword.AUTHOR);
+    private static final Set<Keyword> LAYOUT_STYLE_LIST_KEYWORDS = EnumSet.of(Keyword.WIDTH, Keyword.HEIGHT,
+            Keyword.MARGIN, Keyword.SPACING);
+    private static final Set<Keyword> CITATION_DETAILS_KEYWORDS = EnumSet.of(Keyword.ID, Keyword.OF, Keyword.PAGE);
+
+    /*
+     * The tokens the current token is compared to when consuming it, which are shared so that no token needs to be
+     * created per comparison
+     */
+    private static final Token TEXT_TOKEN = new Token(TokenType.TEXT, null);
+    private static final Token NEW_LINE_TOKEN = new Token(TokenType.NEW_LINE, null);
+    private static final Token INDENT_TOKEN = new Token(TokenType.INDENT, null);
+    private static final Token LIST_SEPARATOR_TOKEN = new Token(TokenType.LIST_SEPARATOR, ",");
+    private static final Token[] KEYWORD_TOKENS = new Token[Keyword.values().length];
+
+    static {
+        for (var keyword : Keyword.values()) KEYWORD_TOKENS[keyword.ordinal()] = new Token(keyword);
+    }
+
     /**
      * The bridge is responsible for providing an interface between the Parser and the Scanner
      * The Parser can access the tokens scanned by the Scanner, and dequeue them.
@@ -104,6 +115,7 @@ public class Parser {
      * The abstract syntax tree of the document.
      * The parser builds the AST depending on the text specified by the user.
      */
+    @Getter
     private final AST ast;
     /**
      * Tracks the current token, which needs to be parsed
@@ -135,6 +147,11 @@ public class Parser {
      * (for example, the title configuration)
      */
     private String currentlyParsedContainer = "Configuration";
+    /**
+     * Maps the values that are likely to repeat throughout a document, such as citation sources and font names,
+     * to the instance that is stored in the AST, so that equal values share one string
+     */
+    private final Map<String, String> sharedValues = new HashMap<>();
 
     /**
      * Creates the parser by supplying the bridge.
@@ -148,12 +165,10 @@ public class Parser {
 
     /**
      * Once done parsing, it throws an error if there are still tokens.
-     * If there are no more tokens, it starts the processing phase, instead.
+     * The processing phase is started by the bridge once the parser is done.
      */
     private void finishParsing() {
         if (frontEndBridge.containsTokens()) error();
-
-        Processor.processAST(ast);
     }
 
     /**
@@ -175,7 +190,7 @@ public class Parser {
             throw new IllegalStateException("Should not check for indentation level if the current token is" +
                     " not an indentation token");
 
-        return Integer.parseInt(current.value);
+        return current.getIndentation();
     }
 
     /**
@@ -195,11 +210,11 @@ public class Parser {
     private void remainIndentation() {
         if (frontEndBridge.containsTokens() && currentIndentationLevel > 0) {
             if (current.type != TokenType.INDENT)
-                throw new IllegalStateException(current.getDebugInfo().errorMessage("Should remain at the current " +
+                throw new IllegalStateException(frontEndBridge.getDequeuedDebugInfo().errorMessage("Should remain at the current " +
                         "indentation level (" + currentIndentationLevel + "). Instead" +
-                        " found unexpected token: " + current.value));
+                        " found unexpected token: " + current.getValue()));
 
-            if (Integer.parseInt(current.value) != currentIndentationLevel) indendationError();
+            if (current.getIndentation() != currentIndentationLevel) indendationError();
             else if (frontEndBridge.containsTokens()) current = frontEndBridge.dequeueToken();
             else error();
         }
@@ -217,8 +232,8 @@ public class Parser {
     private void consume(final Token requiredToken) {
         var priorCurrent = current;
 
-        if (isKeyword() && requiredToken.type == TokenType.KEYWORD &&
-                current.value.equals(requiredToken.value) || current.type != TokenType.KEYWORD &&
+        if (isKeyword() && requiredToken.type == TokenType.KEYWORD && current.keyword == requiredToken.keyword ||
+                current.type != TokenType.KEYWORD &&
                 current.type == requiredToken.type) {
             if (frontEndBridge.containsTokens()) current = frontEndBridge.dequeueToken();
         } else throw new IllegalArgumentException("Unexpected token: " + current + ". Expected: " + requiredToken);
@@ -231,48 +246,42 @@ public class Parser {
      * consume a token directly. In that case, an IllegalArgumentException is thrown.
      */
     private void error() {
-        throw new IllegalArgumentException(current.getDebugInfo().errorMessage("Unexpected token: " + current.type));
+        throw new IllegalArgumentException(frontEndBridge.getDequeuedDebugInfo().errorMessage("Unexpected token: " + current.type));
     }
 
-    private void expectKeyword(Consumer<String> handler, String... keywords) {
-        var currentIsAcceptableKeyword = false;
-        if (isKeyword()) {
-            do {
-                handler.accept(current.value);
-
-                boolean insufficientIndentation = handleLookaheadIndentation(keywords);
-                if (insufficientIndentation) break;
+    /**
+     * Yields the keyword of the current token, which is used to select the production.
+     * If the current token is not a keyword, an IllegalArgumentException is thrown.
+     *
+     * @return - the keyword of the current token
+     */
+    private Keyword expectKeyword() {
+        if (!isKeyword()) error();
 
-                currentIsAcceptableKeyword = false;
-                for (var keyword : keywords) {
-                    if (current.value.equals(keyword)) {
-                        currentIsAcceptableKeyword = true;
-                        break;
-                    }
-                }
-            } while (currentIsAcceptableKeyword);
-        } else error();
+        return current.keyword;
     }
 
-    private boolean handleLookaheadIndentation(@NonNull String... keywords) {
-        if (current.type != TokenType.INDENT || indentTokenToInt() < currentIndentationLevel) return true;
+    /**
+     * Decides if a list continues after one of its items has been parsed, which is the case if the item is followed
+     * by an INDENT token of the current level and one of the specified keywords.
+     * In that case, the INDENT token is consumed.
+     *
+     * @param keywords - the keywords that can start the next item of the list
+     * @return - true if the current token is the first keyword of the next item, false if the list has ended
+     */
+    private boolean continuesWith(@NonNull final Set<Keyword> keywords) {
+        if (current.type != TokenType.INDENT || indentTokenToInt() < currentIndentationLevel) return false;
 
-        var ahead = frontEndBridge.lookahead(0);
-        for (var keyword : keywords) {
-            if (frontEndBridge.containsTokens() && ahead.value.equals(keyword)) {
-                remainIndentation();
-                return false;
-            }
-        }
+        if (keywords.contains(frontEndBridge.lookahead(0).keyword)) remainIndentation();
 
-        return false;
+        return keywords.contains(current.keyword);
     }
 
     /**
      * This method is called whenever an indentation is expected, but not given by the user
      */
     private void indendationError() {
-        throw new IllegalArgumentException(current.getDebugInfo().errorMessage("Indentation error." +
+        throw new IllegalArgumentException(frontEndBridge.getDequeuedDebugInfo().errorMessage("Indentation error." +
                 " The required level is: " + (currentIndentationLevel + 1)));
     }
 
@@ -282,7 +291,7 @@ public class Parser {
     public void bibliography() {
         if (frontEndBridge.containsTokens()) {
             current = frontEndBridge.dequeueToken();
-            consumeKeyword(BIBLIOGRAPHY_KEYWORD);
+            consumeKeyword(Keyword.BIBLIOGRAPHY);
             newline();
             expectIndentation();
             bibliographyItemList();
@@ -296,41 +305,42 @@ public class Parser {
      * BibliographyItemList := "id" INDENT BibliographyItem DEDENT
      */
     private void bibliographyItemList() {
-        expectKeyword(it -> {
+        do {
+            expectKeyword();
             lastNode = new BibliographySource();
-            consumeKeyword(ID_KEYWORD);
+            consumeKeyword(Keyword.ID);
             textual();
-            ((BibliographySource) lastNode).setId(last.value);
+            ((BibliographySource) lastNode).setId(last.getValue());
             expectIndentation();
             bibliographyItem();
 
             ast.includeBibliographySource((BibliographySource) lastNode);
             forgoIndentation();
-        }, ID_KEYWORD);
+        } while (continuesWith(BIBLIOGRAPHY_ITEM_LIST_KEYWORDS));
     }
 
     /**
      * BibliographyItem := Type | Author | Title | PublicationInfo
      */
     private void bibliographyItem() {
-        expectKeyword(it -> {
-            switch (it) {
-                case TYPE_KEYWORD -> {
-                    consumeKeyword(TYPE_KEYWORD);
+        do {
+            switch (expectKeyword()) {
+                case TYPE -> {
+                    consumeKeyword(Keyword.TYPE);
                     textual();
-                    ((BibliographySource) lastNode).setType(last.value);
+                    ((BibliographySource) lastNode).setType(last.getValue());
                 }
-                case TITLE_KEYWORD -> {
-                    consumeKeyword(TITLE_KEYWORD);
+                case TITLE -> {
+                    consumeKeyword(Keyword.TITLE);
                     textual();
-                    ((BibliographySource) lastNode).setTitle(last.value);
+                    ((BibliographySource) lastNode).setTitle(last.getValue());
                 }
-                case AUTHOR_KEYWORD -> {
-                    consumeKeyword(AUTHOR_KEYWORD);
+                case AUTHOR -> {
+                    consumeKeyword(Keyword.AUTHOR);
                     bibliographyItemAuthor();
                 }
-                case PUBLICATION_KEYWORD -> {
-                    consumeKeyword(PUBLICATION_KEYWORD);
+                case PUBLICATION -> {
+                    consumeKeyword(Keyword.PUBLICATION);
                     newline();
                     expectIndentation();
                     bibliographyItemPublication();
@@ -338,21 +348,25 @@ public class Parser {
                 }
                 default -> error();
             }
-        }, TYPE_KEYWORD, AUTHOR_KEYWORD, TITLE_KEYWORD, PUBLICATION_KEYWORD);
+        } while (continuesWith(BIBLIOGRAPHY_ITEM_KEYWORDS));
     }
 
     private void bibliographyItemPublication() {
-        expectKeyword(it -> {
-            if (it.equals(NAME_KEYWORD)) {
-                consumeKeyword(NAME_KEYWORD);
-                textual();
-                ((BibliographySource) lastNode).getPublication().setName(last.value);
-            } else if (it.equals(YEAR_KEYWORD)) {
-                consumeKeyword(YEAR_KEYWORD);
-                textual();
-                ((BibliographySource) lastNode).getPublication().setYear(last.value);
-            } else error();
-        }, NAME_KEYWORD, YEAR_KEYWORD);
+        do {
+            switch (expectKeyword()) {
+                case NAME -> {
+                    consumeKeyword(Keyword.NAME);
+                    textual();
+                    ((BibliographySource) lastNode).getPublication().setName(last.getValue());
+                }
+                case YEAR -> {
+                    consumeKeyword(Keyword.YEAR);
+                    textual();
+                    ((BibliographySource) lastNode).getPublication().setYear(last.getValue());
+                }
+                default -> error();
+            }
+        } while (continuesWith(BIBLIOGRAPHY_ITEM_PUBLICATION_KEYWORDS));
     }
 
     private void bibliographyItemAuthor() {
@@ -368,29 +382,34 @@ public class Parser {
 
     private void explicitBibliographyItemAuthor() {
         if (isKeyword()) {
-            switch (current.value) {
-                case NAME_KEYWORD, FIRST_NAME_KEYWORD, TITLE_KEYWORD -> nameSpecification();
-                case OF_KEYWORD -> expectKeyword(it -> {
-                    consumeKeyword(OF_KEYWORD);
-
-                    if (current.type == TokenType.NEW_LINE) {
-                        newline();
-                        expectIndentation();
-                        nameSpecification();
-                        forgoIndentation();
-                    } else if (current.type == TokenType.TEXT) bibliographyInlineAuthor();
-                    else error();
-                }, OF_KEYWORD);
+            switch (current.keyword) {
+                case NAME, FIRSTNAME, TITLE -> nameSpecification();
+                case OF -> bibliographyAuthorList();
                 default -> error();
             }
         } else error();
     }
 
+    private void bibliographyAuthorList() {
+        do {
+            expectKeyword();
+            consumeKeyword(Keyword.OF);
+
+            if (current.type == TokenType.NEW_LINE) {
+                newline();
+                expectIndentation();
+                nameSpecification();
+                forgoIndentation();
+            } else if (current.type == TokenType.TEXT) bibliographyInlineAuthor();
+            else error();
+        } while (continuesWith(LIST_ITEM_KEYWORDS));
+    }
+
     private void bibliographyInlineAuthor() {
         textual();
 
         var author = new Author();
-        author.setName(last.value);
+        author.setName(last.getValue());
 
         ((BibliographySource) lastNode).getAuthors().add(author);
     }
@@ -406,11 +425,24 @@ public class Parser {
         }
     }
 
+    /**
+     * S := InstructionList | epsilon
+     * Parses a part of the document body on its own, which must start at the beginning of an instruction.
+     * The instructions are added to the body of the AST, and a configuration is not allowed.
+     */
+    public void startInstructions() {
+        if (frontEndBridge.containsTokens()) {
+            current = frontEndBridge.dequeueToken();
+            instructionList();
+            finishParsing();
+        }
+    }
+
     /**
      * Document := ConfigContainer InstructionList | InstructionList
      */
     private void document() {
-        if (isKeyword(CONFIGURATION_KEYWORD)) configContainer();
+        if (isKeyword(Keyword.CONFIG)) configContainer();
         instructionList();
     }
 
@@ -421,30 +453,29 @@ public class Parser {
                 case NEW_LINE -> newline();
                 case INDENT -> chapter();
                 case KEYWORD -> {
-                    switch (current.value) {
-                        case HEADER_KEYWORD -> header();
-                        case TITLE_KEYWORD -> title();
-                        case BLANK_KEYWORD -> blank();
-                        case IMAGE_KEYWORD -> image();
-                        case CHAPTER_KEYWORD -> chapter();
-                        case EMPHASISE_KEYWORD, WORK_KEYWORD, CITATION_KEYWORD -> paragraph();
+                    switch (expectKeyword()) {
+                        case HEADER -> header();
+                        case TITLE -> title();
+                        case BLANK -> blank();
+                        case IMAGE -> image();
+                        case CHAPTER -> chapter();
+                        case INCLUDE -> include();
+                        case EMPHASISE, WORK, CITATION -> paragraph();
                         default -> error();
                     }
                 }
                 default -> paragraph();
             }
         } while (frontEndBridge.containsTokens() && (current.type == TokenType.TEXT ||
-                current.type == TokenType.NEW_LINE || current.type == TokenType.INDENT || isKeyword()
-                && (isKeyword(HEADER_KEYWORD) || isKeyword(TITLE_KEYWORD) || isKeyword(CITATION_KEYWORD) ||
-                isKeyword(EMPHASISE_KEYWORD) || isKeyword(WORK_KEYWORD) || isKeyword(BLANK_KEYWORD) ||
-                isKeyword(IMAGE_KEYWORD) || isKeyword(CHAPTER_KEYWORD))));
+                current.type == TokenType.NEW_LINE || current.type == TokenType.INDENT ||
+                INSTRUCTION_KEYWORDS.contains(current.keyword)));
     }
 
     /**
      * Title := "title" Newline
      */
     private void title() {
-        consumeKeyword(TITLE_KEYWORD);
+        consumeKeyword(Keyword.TITLE);
         newline();
         ast.enqueueDocumentNode(new NoArgumentStructure(StructureType.TITLE));
     }
@@ -453,7 +484,7 @@ public class Parser {
      * Header := "header" Newline
      */
     private void header() {
-        consumeKeyword(HEADER_KEYWORD);
+        consumeKeyword(Keyword.HEADER);
         newline();
         ast.enqueueDocumentNode(new NoArgumentStructure(StructureType.HEADER));
     }
@@ -462,11 +493,22 @@ public class Parser {
      * Blank := "blank" Newline
      */
     private void blank() {
-        consumeKeyword(BLANK_KEYWORD);
+        consumeKeyword(Keyword.BLANK);
         newline();
         ast.enqueueDocumentNode(new NoArgumentStructure(StructureType.BLANKPAGE));
     }
 
+    /**
+     * Include := "include" Textual
+     * The included file is not parsed here, but replaced by its body nodes once the document has been parsed.
+     */
+    private void include() {
+        consumeKeyword(Keyword.INCLUDE);
+        textual();
+
+        ast.enqueueDocumentNode(new Include(last.getValue(), last.getDebugInfo()));
+    }
+
     /**
      * Chapter := (Tab)* "chapter" Textual
      */
@@ -476,14 +518,14 @@ public class Parser {
         int level = 0;
         while (current.type == TokenType.INDENT) {
             level += indentTokenToInt();
-            consume(new Token(TokenType.INDENT, null));
+            consume(INDENT_TOKEN);
         }
 
         final var chapter = new frontend.ast.structure.Chapter();
         chapter.setLevel(level);
         lastNode = chapter;
 
-        consumeKeyword(CHAPTER_KEYWORD);
+        consumeKeyword(Keyword.CHAPTER);
 
         if (current.type == TokenType.NEW_LINE) {
             newline();
@@ -492,7 +534,7 @@ public class Parser {
             forgoIndentation();
         } else if (current.type == TokenType.TEXT) {
             textual();
-            chapter.getTitle().add(new TitleText(last.value));
+            chapter.getTitle().add(new TitleText(last.getValue()));
         } else error();
 
         ast.enqueueDocumentNode(chapter);
@@ -502,7 +544,7 @@ public class Parser {
      * Image := "image" NewLine ImageDeclaration | "image" ImageInlineDeclaration
      */
     private void image() {
-        consumeKeyword(IMAGE_KEYWORD);
+        consumeKeyword(Keyword.IMAGE);
         lastNode = new Image();
 
         if (current.type == TokenType.NEW_LINE) {
@@ -519,36 +561,36 @@ public class Parser {
     private void imageDeclaration() {
         expectIndentation();
 
-        expectKeyword(it -> {
-            switch (it) {
-                case ID_KEYWORD -> {
-                    consumeKeyword(ID_KEYWORD);
+        do {
+            switch (expectKeyword()) {
+                case ID -> {
+                    consumeKeyword(Keyword.ID);
                     textual();
-                    ((Image) lastNode).setId(last.value);
+                    ((Image) lastNode).setId(last.getValue());
                 }
-                case WIDTH_KEYWORD -> {
-                    consumeKeyword(WIDTH_KEYWORD);
+                case WIDTH -> {
+                    consumeKeyword(Keyword.WIDTH);
                     textual();
-                    ((Image) lastNode).setWidth(last.value);
+                    ((Image) lastNode).setWidth(last.getValue());
                 }
-                case HEIGHT_KEYWORD -> {
-                    consumeKeyword(HEIGHT_KEYWORD);
+                case HEIGHT -> {
+                    consumeKeyword(Keyword.HEIGHT);
                     textual();
-                    ((Image) lastNode).setHeight(last.value);
+                    ((Image) lastNode).setHeight(last.getValue());
                 }
-                case SIZE_KEYWORD -> {
-                    consumeKeyword(SIZE_KEYWORD);
+                case SIZE -> {
+                    consumeKeyword(Keyword.SIZE);
                     textual();
-                    ((Image) lastNode).setSize(last.value);
+                    ((Image) lastNode).setSize(last.getValue());
                 }
-                case DISPLAY_KEYWORD -> {
-                    consumeKeyword(DISPLAY_KEYWORD);
+                case DISPLAY -> {
+                    consumeKeyword(Keyword.DISPLAY);
                     textual();
-                    ((Image) lastNode).setAlignment(last.value);
+                    ((Image) lastNode).setAlignment(last.getValue());
                 }
                 default -> error();
             }
-        }, ID_KEYWORD, WIDTH_KEYWORD, HEIGHT_KEYWORD, SIZE_KEYWORD, DISPLAY_KEYWORD);
+        } while (continuesWith(IMAGE_DECLARATION_KEYWORDS));
 
         ast.enqueueDocumentNode((Image) lastNode);
         forgoIndentation();
@@ -561,8 +603,8 @@ public class Parser {
      */
     private void imageInlineDeclaration() {
         if (current.type == TokenType.TEXT) {
-            consume(new Token(TokenType.TEXT, null));
-            ((Image) lastNode).setId(last.value);
+            consume(TEXT_TOKEN);
+            ((Image) lastNode).setId(last.getValue());
 
             if (current.type == TokenType.LIST_SEPARATOR) sizedImageInlineDeclaration();
         } else error();
@@ -574,16 +616,16 @@ public class Parser {
         listSeparator();
 
         if (current.type == TokenType.TEXT) {
-            consume(new Token(TokenType.TEXT, null));
-            var secondArgument = last.value;
+            consume(TEXT_TOKEN);
+            var secondArgument = last.getValue();
 
             if (current.type == TokenType.LIST_SEPARATOR) {
                 listSeparator();
                 ((Image) lastNode).setWidth(secondArgument);
 
                 if (current.type == TokenType.TEXT) {
-                    consume(new Token(TokenType.TEXT, null));
-                    ((Image) lastNode).setHeight(last.value);
+                    consume(TEXT_TOKEN);
+                    ((Image) lastNode).setHeight(last.getValue());
                 } else error();
             } else {
                 ((Image) lastNode).setSize(secondArgument);
@@ -595,7 +637,7 @@ public class Parser {
      * ConfigContainer := "config" Newline INDENT ConfigList DEDENT
      */
     private void configContainer() {
-        consumeKeyword(CONFIGURATION_KEYWORD);
+        consumeKeyword(Keyword.CONFIG);
         newline();
         expectIndentation();
         configList();
@@ -606,20 +648,20 @@ public class Parser {
      * ConfigList := Configuration | Configuration ConfigList
      */
     private void configList() {
-        expectKeyword(it -> {
-            switch (it) {
-                case TITLE_KEYWORD -> {
+        do {
+            switch (expectKeyword()) {
+                case TITLE -> {
                     currentlyParsedContainer = DOCUMENT_TITLE_CONTAINER_NAME;
                     titleConfiguration();
                 }
-                case STYLE_KEYWORD -> styleConfiguration();
-                case AUTHOR_KEYWORD -> authorConfiguration();
-                case ASSESSOR_KEYWORD -> assessorConfiguration();
-                case PUBLICATION_KEYWORD -> publicationConfiguration();
-                case TYPE_KEYWORD -> typeConfiguration();
+                case STYLE -> styleConfiguration();
+                case AUTHOR -> authorConfiguration();
+                case ASSESSOR -> assessorConfiguration();
+                case PUBLICATION -> publicationConfiguration();
+                case TYPE -> typeConfiguration();
                 default -> error();
             }
-        }, STYLE_KEYWORD, TITLE_KEYWORD, AUTHOR_KEYWORD, ASSESSOR_KEYWORD, PUBLICATION_KEYWORD, TYPE_KEYWORD);
+        } while (continuesWith(CONFIG_LIST_KEYWORDS));
     }
 
     /**
@@ -631,20 +673,20 @@ public class Parser {
     private void publicationConfiguration() {
         currentlyParsedContainer = PUBLICATION_CONFIGURATION_CONTAINER_NAME;
 
-        consumeKeyword(PUBLICATION_KEYWORD);
+        consumeKeyword(Keyword.PUBLICATION);
         newline();
         expectIndentation();
 
-        expectKeyword(it -> {
-            switch (it) {
-                case TITLE_KEYWORD -> titleConfiguration();
-                case DATE_KEYWORD -> dateConfiguration();
-                case INSTITUTION_KEYWORD -> institutionConfiguration();
-                case SEMESTER_KEYWORD -> semesterConfiguration();
-                case CHAIR_KEYWORD -> chairConfiguration();
+        do {
+            switch (expectKeyword()) {
+                case TITLE -> titleConfiguration();
+                case DATE -> dateConfiguration();
+                case INSTITUTION -> institutionConfiguration();
+                case SEMESTER -> semesterConfiguration();
+                case CHAIR -> chairConfiguration();
                 default -> error();
             }
-        }, TITLE_KEYWORD, DATE_KEYWORD, INSTITUTION_KEYWORD, SEMESTER_KEYWORD, CHAIR_KEYWORD);
+        } while (continuesWith(PUBLICATION_CONFIGURATION_KEYWORDS));
 
         forgoIndentation();
     }
@@ -653,11 +695,11 @@ public class Parser {
      * DateConfiguration := "date" Textual
      */
     private void dateConfiguration() {
-        consumeKeyword(DATE_KEYWORD);
+        consumeKeyword(Keyword.DATE);
         textual();
 
         if (currentlyParsedContainer.equals(PUBLICATION_CONFIGURATION_CONTAINER_NAME)) {
-            ast.getConfiguration().getPublication().setDate(last.value);
+            ast.getConfiguration().getPublication().setDate(last.getValue());
             lastNode = ast.getConfiguration().getPublication();
         } else error();
     }
@@ -666,11 +708,11 @@ public class Parser {
      * InstitutionConfiguration := "institution" Textual
      */
     private void institutionConfiguration() {
-        consumeKeyword(INSTITUTION_KEYWORD);
+        consumeKeyword(Keyword.INSTITUTION);
         textual();
 
         if (currentlyParsedContainer.equals(PUBLICATION_CONFIGURATION_CONTAINER_NAME)) {
-            ast.getConfiguration().getPublication().setInstitution(last.value);
+            ast.getConfiguration().getPublication().setInstitution(last.getValue());
             lastNode = ast.getConfiguration().getPublication();
         } else error();
     }
@@ -679,11 +721,11 @@ public class Parser {
      * ChairConfiguration := "chair" Textual
      */
     private void chairConfiguration() {
-        consumeKeyword(CHAIR_KEYWORD);
+        consumeKeyword(Keyword.CHAIR);
         textual();
 
         if (currentlyParsedContainer.equals(PUBLICATION_CONFIGURATION_CONTAINER_NAME)) {
-            ast.getConfiguration().getPublication().setChair(last.value);
+            ast.getConfiguration().getPublication().setChair(last.getValue());
             lastNode = ast.getConfiguration().getPublication();
         } else error();
     }
@@ -692,11 +734,11 @@ public class Parser {
      * SemesterConfiguration := "semester" Textual
      */
     private void semesterConfiguration() {
-        consumeKeyword(SEMESTER_KEYWORD);
+        consumeKeyword(Keyword.SEMESTER);
         textual();
 
         if (currentlyParsedContainer.equals(PUBLICATION_CONFIGURATION_CONTAINER_NAME)) {
-            ast.getConfiguration().getPublication().setSemester(last.value);
+            ast.getConfiguration().getPublication().setSemester(last.getValue());
             lastNode = ast.getConfiguration().getPublication();
         } else error();
     }
@@ -705,10 +747,10 @@ public class Parser {
      * TypeConfiguration := "type" Textual
      */
     private void typeConfiguration() {
-        consumeKeyword(TYPE_KEYWORD);
+        consumeKeyword(Keyword.TYPE);
         textual();
 
-        ast.getConfiguration().setDocumentType(last.value);
+        ast.getConfiguration().setDocumentType(last.getValue());
         lastNode = ast.getConfiguration();
     }
 
@@ -718,7 +760,7 @@ public class Parser {
     private void assessorConfiguration() {
         currentlyParsedContainer = ASSESSOR_CONTAINER_NAME;
 
-        consumeKeyword(ASSESSOR_KEYWORD);
+        consumeKeyword(Keyword.ASSESSOR);
 
         if (current.type == TokenType.NEW_LINE) {
             newline();
@@ -729,7 +771,7 @@ public class Parser {
             textual();
 
             var assessor = new Assessor();
-            assessor.setName(last.value);
+            assessor.setName(last.getValue());
             ast.getConfiguration().getAssessors().add(assessor);
             lastNode = assessor;
         } else error();
@@ -740,9 +782,9 @@ public class Parser {
      */
     private void assessorSpecification() {
         if (isKeyword()) {
-            switch (current.value) {
-                case NAME_KEYWORD, LAST_NAME_KEYWORD, TITLE_KEYWORD -> nameSpecificationWithOptRole();
-                case OF_KEYWORD -> assessorList();
+            switch (current.keyword) {
+                case NAME, LASTNAME, TITLE -> nameSpecificationWithOptRole();
+                case OF -> assessorList();
                 default -> error();
             }
         } else error();
@@ -752,8 +794,9 @@ public class Parser {
      * AssessorList := AssessorItem | AssessorItem AssessorList
      */
     private void assessorList() {
-        expectKeyword(it -> {
-            consumeKeyword(OF_KEYWORD);
+        do {
+            expectKeyword();
+            consumeKeyword(Keyword.OF);
 
             if (current.type == TokenType.NEW_LINE) {
                 newline();
@@ -765,11 +808,11 @@ public class Parser {
 
                 if (currentlyParsedContainer.equals(ASSESSOR_CONTAINER_NAME)) {
                     var assessor = new Assessor();
-                    assessor.setName(last.value);
+                    assessor.setName(last.getValue());
                     ast.getConfiguration().getAssessors().add(assessor);
                 }
             }
-        }, OF_KEYWORD);
+        } while (continuesWith(LIST_ITEM_KEYWORDS));
     }
 
     /**
@@ -777,14 +820,13 @@ public class Parser {
      */
     private void nameSpecificationWithOptRole() {
         nameSpecification();
-        if (frontEndBridge.lookahead(0).type == TokenType.KEYWORD &&
-                frontEndBridge.lookahead(0).value.equals(ROLE_KEYWORD)) {
+        if (frontEndBridge.lookahead(0).keyword == Keyword.ROLE) {
             remainIndentation();
-            consumeKeyword(ROLE_KEYWORD);
+            consumeKeyword(Keyword.ROLE);
             textual();
 
             if (currentlyParsedContainer.equals(ASSESSOR_CONTAINER_NAME)) {
-                ((Assessor) lastNode).setRole(last.value);
+                ((Assessor) lastNode).setRole(last.getValue());
             } else error();
         }
     }
@@ -793,7 +835,7 @@ public class Parser {
      * AuthorConfiguration := "author" INDENT NewLine AuthorSpecification DEDENT | "author" Textual
      */
     private void authorConfiguration() {
-        consumeKeyword(AUTHOR_KEYWORD);
+        consumeKeyword(Keyword.AUTHOR);
 
         if (current.type == TokenType.NEW_LINE) {
             newline();
@@ -804,7 +846,7 @@ public class Parser {
             textual();
 
             var author = new Author();
-            author.setName(last.value);
+            author.setName(last.getValue());
 
             ast.getConfiguration().getAuthors().add(author);
         } else error();
@@ -816,9 +858,9 @@ public class Parser {
     private void authorSpecification() {
         if (isKeyword()) {
             currentlyParsedContainer = AUTHOR_CONTAINER_NAME;
-            switch (current.value) {
-                case NAME_KEYWORD, FIRST_NAME_KEYWORD, TITLE_KEYWORD, EMAIL_KEYWORD, AREA_KEYWORD -> nameSpecificationWithOptId();
-                case OF_KEYWORD -> authorList();
+            switch (current.keyword) {
+                case NAME, FIRSTNAME, TITLE, EMAIL, AREA -> nameSpecificationWithOptId();
+                case OF -> authorList();
                 default -> error();
             }
         } else error();
@@ -828,8 +870,9 @@ public class Parser {
      * AuthorList := AuthorItem | AuthorItem AuthorList
      */
     private void authorList() {
-        expectKeyword(it -> {
-            consumeKeyword(OF_KEYWORD);
+        do {
+            expectKeyword();
+            consumeKeyword(Keyword.OF);
 
             if (current.type == TokenType.NEW_LINE) {
                 newline();
@@ -841,11 +884,11 @@ public class Parser {
 
                 if (currentlyParsedContainer.equals(AUTHOR_CONTAINER_NAME)) {
                     var author = new Author();
-                    author.setName(last.value);
+                    author.setName(last.getValue());
                     ast.getConfiguration().getAuthors().add(author);
                 }
             } else error();
-        }, OF_KEYWORD);
+        } while (continuesWith(LIST_ITEM_KEYWORDS));
     }
 
     /**
@@ -854,54 +897,50 @@ public class Parser {
     private void nameSpecificationWithOptId() {
         nameSpecification();
 
-        if (frontEndBridge.lookahead(0).type == TokenType.KEYWORD &&
-                (frontEndBridge.lookahead(0).value.equals(ID_KEYWORD) ||
-                frontEndBridge.lookahead(0).value.equals(AREA_KEYWORD) ||
-                frontEndBridge.lookahead(0).value.equals(EMAIL_KEYWORD))
-        ) {
+        if (NAME_SPECIFICATION_WITH_OPT_ID_KEYWORDS.contains(frontEndBridge.lookahead(0).keyword)) {
             remainIndentation();
 
-            expectKeyword(it -> {
-                switch (it) {
-                    case ID_KEYWORD -> authorId();
-                    case AREA_KEYWORD -> authorArea();
-                    case EMAIL_KEYWORD -> authorEmail();
+            do {
+                switch (expectKeyword()) {
+                    case ID -> authorId();
+                    case AREA -> authorArea();
+                    case EMAIL -> authorEmail();
                     default -> error();
                 }
-            }, ID_KEYWORD, AREA_KEYWORD, EMAIL_KEYWORD);
+            } while (continuesWith(NAME_SPECIFICATION_WITH_OPT_ID_KEYWORDS));
         }
     }
 
     private void authorId() {
         if (currentlyParsedContainer.equals(AUTHOR_CONTAINER_NAME)) {
-            if (isKeyword(ID_KEYWORD)) {
-                consume(new Token(TokenType.KEYWORD, ID_KEYWORD));
+            if (isKeyword(Keyword.ID)) {
+                consumeKeyword(Keyword.ID);
                 textual();
             } else error();
 
-            ((Author) lastNode).setId(last.value);
+            ((Author) lastNode).setId(last.getValue());
         } else error();
     }
 
     private void authorArea() {
         if (currentlyParsedContainer.equals(AUTHOR_CONTAINER_NAME)) {
-            if (isKeyword(AREA_KEYWORD)) {
-                consume(new Token(TokenType.KEYWORD, AREA_KEYWORD));
+            if (isKeyword(Keyword.AREA)) {
+                consumeKeyword(Keyword.AREA);
                 textual();
             } else error();
 
-            ((Author) lastNode).setArea(last.value);
+            ((Author) lastNode).setArea(last.getValue());
         } else error();
     }
 
     private void authorEmail() {
         if (currentlyParsedContainer.equals(AUTHOR_CONTAINER_NAME)) {
-            if (isKeyword(EMAIL_KEYWORD)) {
-                consume(new Token(TokenType.KEYWORD, EMAIL_KEYWORD));
+            if (isKeyword(Keyword.EMAIL)) {
+                consumeKeyword(Keyword.EMAIL);
                 textual();
             } else error();
 
-            ((Author) lastNode).setEmailAddress(last.value);
+            ((Author) lastNode).setEmailAddress(last.getValue());
         } else error();
     }
 
@@ -910,23 +949,23 @@ public class Parser {
      */
     private void nameSpecification() {
         String title = null;
-        if (isKeyword(TITLE_KEYWORD)) {
-            consumeKeyword(TITLE_KEYWORD);
+        if (isKeyword(Keyword.TITLE)) {
+            consumeKeyword(Keyword.TITLE);
             textual();
             remainIndentation();
 
-            title = last.value;
+            title = last.getValue();
         }
 
         if (isKeyword()) {
-            if (current.value.equals(NAME_KEYWORD)) {
+            if (current.keyword == Keyword.NAME) {
                 name();
 
                 switch (currentlyParsedContainer) {
                     case AUTHOR_CONTAINER_NAME -> {
                         var author = new Author();
                         author.setTitle(title);
-                        author.setName(last.value);
+                        author.setName(last.getValue());
 
                         ast.getConfiguration().getAuthors().add(author);
                         lastNode = author;
@@ -934,28 +973,28 @@ public class Parser {
                     case ASSESSOR_CONTAINER_NAME -> {
                         var assessor = new Assessor();
                         assessor.setTitle(title);
-                        assessor.setName(last.value);
+                        assessor.setName(last.getValue());
                         ast.getConfiguration().getAssessors().add(assessor);
                         lastNode = assessor;
                     }
                     case BIBLIOGRAPHY_AUTHOR_CONTAINER_NAME -> {
                         var author = new Author();
                         author.setTitle(title);
-                        author.setName(last.value);
+                        author.setName(last.getValue());
 
                         ((BibliographySource) lastNode).getAuthors().add(author);
                     }
                     default -> error();
                 }
-            } else if (current.value.equals(FIRST_NAME_KEYWORD)) {
+            } else if (current.keyword == Keyword.FIRSTNAME) {
                 firstname();
 
-                var firstname = last.value;
+                var firstname = last.getValue();
 
                 remainIndentation();
                 lastname();
 
-                var lastname = last.value;
+                var lastname = last.getValue();
 
                 switch (currentlyParsedContainer) {
                     case AUTHOR_CONTAINER_NAME -> {
@@ -993,7 +1032,7 @@ public class Parser {
      * FirstName := "firstname" Textual
      */
     private void firstname() {
-        consumeKeyword(FIRST_NAME_KEYWORD);
+        consumeKeyword(Keyword.FIRSTNAME);
         textual();
     }
 
@@ -1001,7 +1040,7 @@ public class Parser {
      * LastName := "lastname" Textual
      */
     private void lastname() {
-        consumeKeyword(LAST_NAME_KEYWORD);
+        consumeKeyword(Keyword.LASTNAME);
         textual();
     }
 
@@ -1009,7 +1048,7 @@ public class Parser {
      * Name := "name" Textual
      */
     private void name() {
-        consumeKeyword(NAME_KEYWORD);
+        consumeKeyword(Keyword.NAME);
         textual();
     }
 
@@ -1017,7 +1056,7 @@ public class Parser {
      * TitleConfiguration := "title" Textual | "title" NewLine INDENT CitedTextual DEDENT
      */
     private void titleConfiguration() {
-        consumeKeyword(TITLE_KEYWORD);
+        consumeKeyword(Keyword.TITLE);
 
         if (current.type == TokenType.NEW_LINE) {
             newline();
@@ -1028,10 +1067,10 @@ public class Parser {
             textual();
 
             if (currentlyParsedContainer.equals(DOCUMENT_TITLE_CONTAINER_NAME)) {
-                ast.getConfiguration().getTitle().add(new TitleText(last.value));
+                ast.getConfiguration().getTitle().add(new TitleText(last.getValue()));
                 lastNode = ast.getConfiguration().getTitle();
             } else if (currentlyParsedContainer.equals(PUBLICATION_CONFIGURATION_CONTAINER_NAME)) {
-                ast.getConfiguration().getPublication().getTitle().add(new TitleText(last.value));
+                ast.getConfiguration().getPublication().getTitle().add(new TitleText(last.getValue()));
                 lastNode = ast.getConfiguration().getPublication().getTitle();
             }
         } else error();
@@ -1041,11 +1080,11 @@ public class Parser {
      * StyleConfiguration := "style" Textual | "style" NewLine INDENT CustomStyle DEDENT
      */
     private void styleConfiguration() {
-        consumeKeyword(STYLE_KEYWORD);
+        consumeKeyword(Keyword.STYLE);
 
         if (current.type == TokenType.TEXT) {
             textual();
-            ast.getConfiguration().getStyle().setBaseStyle(last.value);
+            ast.getConfiguration().getStyle().setBaseStyle(last.getValue());
             lastNode = ast.getConfiguration().getStyle();
         } else {
             newline();
@@ -1059,10 +1098,10 @@ public class Parser {
      * CustomStyle := "of" Textual OptionalCustomStyleList
      */
     private void customStyle() {
-        consumeKeyword(OF_KEYWORD);
+        consumeKeyword(Keyword.OF);
         textual();
 
-        ast.getConfiguration().getStyle().setBaseStyle(last.value);
+        ast.getConfiguration().getStyle().setBaseStyle(last.getValue());
         lastNode = ast.getConfiguration().getStyle();
 
         remainIndentation();
@@ -1076,14 +1115,14 @@ public class Parser {
      * StructuresStyle | CustomStyleList
      */
     private void optionalCustomStyleList() {
-        expectKeyword(it -> {
-            switch (it) {
-                case LAYOUT_KEYWORD -> generalLayoutStyle();
-                case NUMERATION_KEYWORD -> pageNumerationStyle();
-                case STRUCTURE_KEYWORD -> structureStyle();
+        do {
+            switch (expectKeyword()) {
+                case LAYOUT -> generalLayoutStyle();
+                case NUMERATION -> pageNumerationStyle();
+                case STRUCTURE -> structureStyle();
                 default -> error();
             }
-        }, LAYOUT_KEYWORD, NUMERATION_KEYWORD, STRUCTURE_KEYWORD);
+        } while (continuesWith(OPTIONAL_CUSTOM_STYLE_LIST_KEYWORDS));
     }
 
     /**
@@ -1091,30 +1130,30 @@ public class Parser {
      */
     private void structureStyle() {
         if (isKeyword()) {
-            consumeKeyword(STRUCTURE_KEYWORD);
+            consumeKeyword(Keyword.STRUCTURE);
             newline();
             expectIndentation();
 
-            expectKeyword(it -> {
-                switch (it) {
-                    case PARAGRAPH_KEYWORD -> paragraphStructureStyle();
-                    case CHAPTER_KEYWORD -> chapterStructureStyle();
-                    case CHAPTERS_KEYWORD -> chaptersStructureStyle();
-                    case SENTENCE_KEYWORD -> {
+            do {
+                switch (expectKeyword()) {
+                    case PARAGRAPH -> paragraphStructureStyle();
+                    case CHAPTER -> chapterStructureStyle();
+                    case CHAPTERS -> chaptersStructureStyle();
+                    case SENTENCE -> {
                         currentlyParsedContainer = SENTENCE_STRUCTURE_CONTAINER_NAME;
                         sentenceStructureStyle();
                     }
-                    case WORK_KEYWORD -> {
+                    case WORK -> {
                         currentlyParsedContainer = WORK_STRUCTURE_CONTAINER_NAME;
                         workStructureStyle();
                     }
-                    case EMPHASISE_KEYWORD -> {
+                    case EMPHASISE -> {
                         currentlyParsedContainer = EMPHASIS_STRUCTURE_CONTAINER_NAME;
                         emphasisStructureStyle();
                     }
                     default -> error();
                 }
-            }, PARAGRAPH_KEYWORD, CHAPTER_KEYWORD, SENTENCE_KEYWORD, WORK_KEYWORD, EMPHASISE_KEYWORD);
+            } while (continuesWith(STRUCTURE_STYLE_KEYWORDS));
 
             forgoIndentation();
         } else error();
@@ -1124,24 +1163,24 @@ public class Parser {
      * ChaptersStructureStyle := "chapters" NewLine INDENT (Display | Spacing) DEDENT
      */
     private void chaptersStructureStyle() {
-        consumeKeyword(CHAPTERS_KEYWORD);
+        consumeKeyword(Keyword.CHAPTERS);
         newline();
         expectIndentation();
-        expectKeyword(it -> {
-            switch (it) {
-                case DISPLAY_KEYWORD -> {
-                    consumeKeyword(DISPLAY_KEYWORD);
+        do {
+            switch (expectKeyword()) {
+                case DISPLAY -> {
+                    consumeKeyword(Keyword.DISPLAY);
                     textual();
-                    ast.getConfiguration().getStyle().getStructure().getChapters().setChapterAlignment(last.value);
+                    ast.getConfiguration().getStyle().getStructure().getChapters().setChapterAlignment(last.getValue());
                 }
-                case SPACING_KEYWORD -> {
-                    consumeKeyword(SPACING_KEYWORD);
+                case SPACING -> {
+                    consumeKeyword(Keyword.SPACING);
                     textual();
-                    ast.getConfiguration().getStyle().getStructure().getChapters().setLineSpacing(last.value);
+                    ast.getConfiguration().getStyle().getStructure().getChapters().setLineSpacing(last.getValue());
                 }
                 default -> error();
             }
-        }, DISPLAY_KEYWORD, SPACING_KEYWORD);
+        } while (continuesWith(CHAPTERS_STRUCTURE_STYLE_KEYWORDS));
         forgoIndentation();
     }
 
@@ -1149,7 +1188,7 @@ public class Parser {
      * SentenceStructureStyle := "sentence" NewLine INDENT SentenceStructureStyleList DEDENT
      */
     private void sentenceStructureStyle() {
-        consumeKeyword(SENTENCE_KEYWORD);
+        consumeKeyword(Keyword.SENTENCE);
         newline();
         expectIndentation();
         sentenceStructureStyleList();
@@ -1160,24 +1199,22 @@ public class Parser {
      * ChapterStructureStyle := "chapter" NewLine INDENT SentenceStructureStyleList DEDENT
      */
     private void chapterStructureStyle() {
-        consumeKeyword(CHAPTER_KEYWORD);
+        consumeKeyword(Keyword.CHAPTER);
         textual();
 
         final var currentChapter = new Chapter();
         lastNode = currentChapter;
-        ((Chapter) lastNode).setAffectedLevel(last.value);
+        ((Chapter) lastNode).setAffectedLevel(last.getValue());
 
         expectIndentation();
 
-        expectKeyword(it -> {
-            if (it.equals(FONT_KEYWORD)) {
-                consumeKeyword(FONT_KEYWORD);
-                newline();
-                expectIndentation();
-                chapterFontStyle();
-                forgoIndentation();
-            } else error();
-        });
+        if (expectKeyword() == Keyword.FONT) {
+            consumeKeyword(Keyword.FONT);
+            newline();
+            expectIndentation();
+            chapterFontStyle();
+            forgoIndentation();
+        } else error();
 
         ast.getConfiguration().getStyle().getStructure().getSingleChapters().add(currentChapter);
 
@@ -1185,19 +1222,19 @@ public class Parser {
     }
 
     private void chapterFontStyle() {
-        expectKeyword(it -> {
-            switch (it) {
-                case SENTENCE_KEYWORD -> {
+        do {
+            switch (expectKeyword()) {
+                case SENTENCE -> {
                     currentlyParsedContainer = SENTENCE_STRUCTURE_CONTAINER_NAME;
-                    consumeKeyword(SENTENCE_KEYWORD);
+                    consumeKeyword(Keyword.SENTENCE);
                 }
-                case EMPHASISE_KEYWORD -> {
+                case EMPHASISE -> {
                     currentlyParsedContainer = EMPHASIS_STRUCTURE_CONTAINER_NAME;
-                    consumeKeyword(EMPHASISE_KEYWORD);
+                    consumeKeyword(Keyword.EMPHASISE);
                 }
-                case WORK_KEYWORD -> {
+                case WORK -> {
                     currentlyParsedContainer = WORK_STRUCTURE_CONTAINER_NAME;
-                    consumeKeyword(WORK_KEYWORD);
+                    consumeKeyword(Keyword.WORK);
                 }
                 default -> error();
             }
@@ -1206,14 +1243,14 @@ public class Parser {
             expectIndentation();
             fontStyleList();
             forgoIndentation();
-        }, SENTENCE_KEYWORD, EMPHASISE_KEYWORD, WORK_KEYWORD);
+        } while (continuesWith(CHAPTER_FONT_STYLE_KEYWORDS));
     }
 
     /**
      * WorkStructureStyle := "work" NewLine INDENT WorkStructureStyleList DEDENT
      */
     private void workStructureStyle() {
-        consumeKeyword(WORK_KEYWORD);
+        consumeKeyword(Keyword.WORK);
         newline();
         expectIndentation();
         workStructureStyleList();
@@ -1224,7 +1261,7 @@ public class Parser {
      * WorkStructureStyle := "emphasise" NewLine INDENT EmphasisStructureStyleList DEDENT
      */
     private void emphasisStructureStyle() {
-        consumeKeyword(EMPHASISE_KEYWORD);
+        consumeKeyword(Keyword.EMPHASISE);
         newline();
         expectIndentation();
         emphasisStructureStyleList();
@@ -1235,20 +1272,17 @@ public class Parser {
      * SentenceStructureStyleList := "font" Font
      */
     private void sentenceStructureStyleList() {
-        expectKeyword(it -> {
-            if (it.equals(FONT_KEYWORD)) {
-                font();
-            } else {
-                error();
-            }
-        }, FONT_KEYWORD);
+        do {
+            if (expectKeyword() == Keyword.FONT) font();
+            else error();
+        } while (continuesWith(FONT_KEYWORDS));
     }
 
     /**
      * Font := "font" NewLine INDENT FontStyleList DEDENT
      */
     private void font() {
-        consumeKeyword(FONT_KEYWORD);
+        consumeKeyword(Keyword.FONT);
         newline();
         expectIndentation();
         fontStyleList();
@@ -1256,38 +1290,38 @@ public class Parser {
     }
 
     private void workStructureStyleList() {
-        expectKeyword(it -> {
-            if (it.equals(FONT_KEYWORD)) font();
+        do {
+            if (expectKeyword() == Keyword.FONT) font();
             else error();
-        }, FONT_KEYWORD);
+        } while (continuesWith(FONT_KEYWORDS));
     }
 
     private void emphasisStructureStyleList() {
-        expectKeyword(it -> {
-            switch (it) {
-                case FONT_KEYWORD -> font();
-                case ALLOW_KEYWORD -> {
-                    consumeKeyword(ALLOW_KEYWORD);
+        do {
+            switch (expectKeyword()) {
+                case FONT -> font();
+                case ALLOW -> {
+                    consumeKeyword(Keyword.ALLOW);
                     textual();
-                    ast.getConfiguration().getStyle().getStructure().getEmphasis().setAllowEmphasis(last.value);
+                    ast.getConfiguration().getStyle().getStructure().getEmphasis().setAllowEmphasis(last.getValue());
                 }
                 default -> error();
             }
-        }, FONT_KEYWORD);
+        } while (continuesWith(FONT_KEYWORDS));
     }
 
     /**
      * ParagraphStructureStyle := "paragraph" NewLine INDENT "indentation" Textual DEDENT
      */
     private void paragraphStructureStyle() {
-        consumeKeyword(PARAGRAPH_KEYWORD);
+        consumeKeyword(Keyword.PARAGRAPH);
         newline();
 
         expectIndentation();
-        consume(new Token(TokenType.KEYWORD, INDENTATION_KEYWORD));
+        consumeKeyword(Keyword.INDENTATION);
         textual();
 
-        ast.getConfiguration().getStyle().getStructure().getParagraph().setIndentation(last.value);
+        ast.getConfiguration().getStyle().getStructure().getParagraph().setIndentation(last.getValue());
 
         lastNode = ast.getConfiguration().getStyle().getStructure().getParagraph();
 
@@ -1302,36 +1336,36 @@ public class Parser {
      * "name" Textual | "size" Textual | "colour" Textual
      */
     private void fontStyleList() {
-        expectKeyword(it -> {
-            switch (it) {
-                case NAME_KEYWORD -> fontName();
-                case SIZE_KEYWORD -> fontSize();
-                case COLOUR_KEYWORD -> fontColour();
+        do {
+            switch (expectKeyword()) {
+                case NAME -> fontName();
+                case SIZE -> fontSize();
+                case COLOUR -> fontColour();
                 default -> error();
             }
-        }, NAME_KEYWORD, SIZE_KEYWORD, COLOUR_KEYWORD);
+        } while (continuesWith(FONT_STYLE_LIST_KEYWORDS));
     }
 
     /**
      * FontName := "name" Textual
      */
     private void fontName() {
-        consumeKeyword(NAME_KEYWORD);
+        consumeKeyword(Keyword.NAME);
         textual();
 
         var structure = ast.getConfiguration().getStyle().getStructure();
         switch (currentlyParsedContainer) {
             case SENTENCE_STRUCTURE_CONTAINER_NAME -> {
-                if (lastNode instanceof Chapter chapter) chapter.getSentenceFont().setName(last.value);
-                else structure.getSentence().getFont().setName(last.value);
+                if (lastNode instanceof Chapter chapter) chapter.getSentenceFont().setName(sharedValue());
+                else structure.getSentence().getFont().setName(sharedValue());
             }
             case WORK_STRUCTURE_CONTAINER_NAME -> {
-                if (lastNode instanceof Chapter chapter) chapter.getWorkFont().setName(last.value);
-                else structure.getWork().getFont().setName(last.value);
+                if (lastNode instanceof Chapter chapter) chapter.getWorkFont().setName(sharedValue());
+                else structure.getWork().getFont().setName(sharedValue());
             }
             case EMPHASIS_STRUCTURE_CONTAINER_NAME -> {
-                if (lastNode instanceof Chapter chapter) chapter.getEmphasisFont().setName(last.value);
-                else structure.getEmphasis().getFont().setName(last.value);
+                if (lastNode instanceof Chapter chapter) chapter.getEmphasisFont().setName(sharedValue());
+                else structure.getEmphasis().getFont().setName(sharedValue());
             }
             default -> error();
         }
@@ -1341,44 +1375,44 @@ public class Parser {
      * FontSize := "size" Textual
      */
     private void fontSize() {
-        consumeKeyword(SIZE_KEYWORD);
+        consumeKeyword(Keyword.SIZE);
         textual();
 
         var structure = ast.getConfiguration().getStyle().getStructure();
         switch (currentlyParsedContainer) {
             case SENTENCE_STRUCTURE_CONTAINER_NAME -> {
-                if (lastNode instanceof Chapter chapter) chapter.getSentenceFont().setSize(last.value);
-                else structure.getSentence().getFont().setSize(last.value);
+                if (lastNode instanceof Chapter chapter) chapter.getSentenceFont().setSize(sharedValue());
+                else structure.getSentence().getFont().setSize(sharedValue());
             }
             case WORK_STRUCTURE_CONTAINER_NAME -> {
-                if (lastNode instanceof Chapter chapter) chapter.getWorkFont().setSize(last.value);
-                else structure.getWork().getFont().setSize(last.value);
+                if (lastNode instanceof Chapter chapter) chapter.getWorkFont().setSize(sharedValue());
+                else structure.getWork().getFont().setSize(sharedValue());
             }
             case EMPHASIS_STRUCTURE_CONTAINER_NAME -> {
-                if (lastNode instanceof Chapter chapter) chapter.getEmphasisFont().setSize(last.value);
-                else structure.getEmphasis().getFont().setSize(last.value);
+                if (lastNode instanceof Chapter chapter) chapter.getEmphasisFont().setSize(sharedValue());
+                else structure.getEmphasis().getFont().setSize(sharedValue());
             }
             default -> error();
         }
     }
 
     private void fontColour() {
-        consumeKeyword(COLOUR_KEYWORD);
+        consumeKeyword(Keyword.COLOUR);
         textual();
 
         var structure = ast.getConfiguration().getStyle().getStructure();
         switch (currentlyParsedContainer) {
             case SENTENCE_STRUCTURE_CONTAINER_NAME -> {
-                if (lastNode instanceof Chapter chapter) chapter.getSentenceFont().setColour(last.value);
-                else structure.getSentence().getFont().setColour(last.value);
+                if (lastNode instanceof Chapter chapter) chapter.getSentenceFont().setColour(sharedValue());
+                else structure.getSentence().getFont().setColour(sharedValue());
             }
             case WORK_STRUCTURE_CONTAINER_NAME -> {
-                if (lastNode instanceof Chapter chapter) chapter.getWorkFont().setColour(last.value);
-                else structure.getWork().getFont().setColour(last.value);
+                if (lastNode instanceof Chapter chapter) chapter.getWorkFont().setColour(sharedValue());
+                else structure.getWork().getFont().setColour(sharedValue());
             }
             case EMPHASIS_STRUCTURE_CONTAINER_NAME -> {
-                if (lastNode instanceof Chapter chapter) chapter.getEmphasisFont().setColour(last.value);
-                else structure.getEmphasis().getFont().setColour(last.value);
+                if (lastNode instanceof Chapter chapter) chapter.getEmphasisFont().setColour(sharedValue());
+                else structure.getEmphasis().getFont().setColour(sharedValue());
             }
             default -> error();
         }
@@ -1390,7 +1424,7 @@ public class Parser {
     private void pageNumerationStyle() {
         currentlyParsedContainer = "Numeration";
 
-        consumeKeyword(NUMERATION_KEYWORD);
+        consumeKeyword(Keyword.NUMERATION);
         newline();
         expectIndentation();
         pageNumerationStyleList();
@@ -1407,41 +1441,41 @@ public class Parser {
      * "author" AuthorNameType
      */
     private void pageNumerationStyleList() {
-        expectKeyword(it -> {
-            switch (current.value) {
-                case IN_KEYWORD -> {
-                    consumeKeyword(IN_KEYWORD);
+        do {
+            switch (expectKeyword()) {
+                case IN -> {
+                    consumeKeyword(Keyword.IN);
                     textual();
-                    ast.getConfiguration().getStyle().getNumeration().setNumerationType(last.value);
+                    ast.getConfiguration().getStyle().getNumeration().setNumerationType(last.getValue());
                 }
-                case DISPLAY_KEYWORD -> {
-                    consumeKeyword(DISPLAY_KEYWORD);
+                case DISPLAY -> {
+                    consumeKeyword(Keyword.DISPLAY);
                     textual();
-                    ast.getConfiguration().getStyle().getNumeration().setPosition(last.value);
+                    ast.getConfiguration().getStyle().getNumeration().setPosition(last.getValue());
                 }
-                case LIMIT_KEYWORD -> {
-                    consumeKeyword(LIMIT_KEYWORD);
+                case LIMIT -> {
+                    consumeKeyword(Keyword.LIMIT);
                     textual();
-                    ast.getConfiguration().getStyle().getNumeration().setAuthorLimit(last.value);
+                    ast.getConfiguration().getStyle().getNumeration().setAuthorLimit(last.getValue());
                 }
-                case MARGIN_KEYWORD -> {
-                    consumeKeyword(MARGIN_KEYWORD);
+                case MARGIN -> {
+                    consumeKeyword(Keyword.MARGIN);
                     textual();
-                    ast.getConfiguration().getStyle().getNumeration().setMargin(last.value);
+                    ast.getConfiguration().getStyle().getNumeration().setMargin(last.getValue());
                 }
-                case SKIP_KEYWORD -> {
-                    consumeKeyword(SKIP_KEYWORD);
+                case SKIP -> {
+                    consumeKeyword(Keyword.SKIP);
                     textualList();
                 }
-                case AUTHOR_KEYWORD -> {
-                    consumeKeyword(AUTHOR_KEYWORD);
+                case AUTHOR -> {
+                    consumeKeyword(Keyword.AUTHOR);
                     authorNameType();
                 }
                 default -> error();
             }
 
             lastNode = ast.getConfiguration().getStyle().getNumeration();
-        }, IN_KEYWORD, DISPLAY_KEYWORD, LIMIT_KEYWORD, MARGIN_KEYWORD, SKIP_KEYWORD, AUTHOR_KEYWORD);
+        } while (continuesWith(PAGE_NUMERATION_STYLE_LIST_KEYWORDS));
     }
 
     /**
@@ -1449,24 +1483,24 @@ public class Parser {
      */
     private void authorNameType() {
         if (isKeyword()) {
-            switch (current.value) {
-                case FIRST_NAME_KEYWORD -> consumeKeyword(FIRST_NAME_KEYWORD);
-                case LAST_NAME_KEYWORD -> consumeKeyword(LAST_NAME_KEYWORD);
-                case NAME_KEYWORD -> consumeKeyword(NAME_KEYWORD);
+            switch (current.keyword) {
+                case FIRSTNAME -> consumeKeyword(Keyword.FIRSTNAME);
+                case LASTNAME -> consumeKeyword(Keyword.LASTNAME);
+                case NAME -> consumeKeyword(Keyword.NAME);
                 default -> error();
             }
             newline();
         } else if (current.type == TokenType.TEXT) textual();
         else error();
 
-        ast.getConfiguration().getStyle().getNumeration().setAuthorName(last.value);
+        ast.getConfiguration().getStyle().getNumeration().setAuthorName(last.getValue());
     }
 
     /**
      * GeneralLayoutStyle := "layout" NewLine INDENT LayoutStyleList DEDENT
      */
     private void generalLayoutStyle() {
-        consumeKeyword(LAYOUT_KEYWORD);
+        consumeKeyword(Keyword.LAYOUT);
         newline();
         expectIndentation();
         layoutStyleList();
@@ -1481,33 +1515,33 @@ public class Parser {
      * "spacing" Textual LayoutStyleList
      */
     private void layoutStyleList() {
-        expectKeyword(it -> {
-            switch (it) {
-                case WIDTH_KEYWORD -> {
-                    consumeKeyword(WIDTH_KEYWORD);
+        do {
+            switch (expectKeyword()) {
+                case WIDTH -> {
+                    consumeKeyword(Keyword.WIDTH);
                     textual();
-                    ast.getConfiguration().getStyle().getLayout().setWidth(last.value);
+                    ast.getConfiguration().getStyle().getLayout().setWidth(last.getValue());
                 }
-                case HEIGHT_KEYWORD -> {
-                    consumeKeyword(HEIGHT_KEYWORD);
+                case HEIGHT -> {
+                    consumeKeyword(Keyword.HEIGHT);
                     textual();
-                    ast.getConfiguration().getStyle().getLayout().setHeight(last.value);
+                    ast.getConfiguration().getStyle().getLayout().setHeight(last.getValue());
                 }
-                case MARGIN_KEYWORD -> {
-                    consumeKeyword(MARGIN_KEYWORD);
+                case MARGIN -> {
+                    consumeKeyword(Keyword.MARGIN);
                     textual();
-                    ast.getConfiguration().getStyle().getLayout().setMargin(last.value);
+                    ast.getConfiguration().getStyle().getLayout().setMargin(last.getValue());
                 }
-                case SPACING_KEYWORD -> {
-                    consumeKeyword(SPACING_KEYWORD);
+                case SPACING -> {
+                    consumeKeyword(Keyword.SPACING);
                     textual();
-                    ast.getConfiguration().getStyle().getLayout().setSpacing(last.value);
+                    ast.getConfiguration().getStyle().getLayout().setSpacing(last.getValue());
                 }
                 default -> error();
             }
 
             lastNode = ast.getConfiguration().getStyle().getLayout();
-        }, WIDTH_KEYWORD, HEIGHT_KEYWORD, MARGIN_KEYWORD, SPACING_KEYWORD);
+        } while (continuesWith(LAYOUT_STYLE_LIST_KEYWORDS));
     }
 
 
@@ -1520,11 +1554,11 @@ public class Parser {
             if (wasFirst) wasFirst = false;
             else remainIndentation();
 
-            if (isKeyword(EMPHASISE_KEYWORD)) emphasis();
-            else if (isKeyword(WORK_KEYWORD)) work();
+            if (isKeyword(Keyword.EMPHASISE)) emphasis();
+            else if (isKeyword(Keyword.WORK)) work();
             else if (current.type == TokenType.TEXT) {
                 textual();
-                var titleText = new TitleText(last.value);
+                var titleText = new TitleText(last.getValue());
 
                 switch (currentlyParsedContainer) {
                     case DOCUMENT_TITLE_CONTAINER_NAME -> ast.getConfiguration().getTitle().add(titleText);
@@ -1535,29 +1569,28 @@ public class Parser {
                     default -> throw new UnsupportedOperationException("type not yet implemented");
                 }
             } else error();
-        } while (frontEndBridge.containsTokens() && (frontEndBridge.lookahead(0).type == TokenType.KEYWORD &&
-                (frontEndBridge.lookahead(0).value.equals(EMPHASISE_KEYWORD) ||
-                        frontEndBridge.lookahead(0).value.equals(WORK_KEYWORD)) ||
-                frontEndBridge.lookahead(0).type == TokenType.TEXT));
+        } while (frontEndBridge.containsTokens() &&
+                (TITLE_TEXTUAL_KEYWORDS.contains(frontEndBridge.lookahead(0).keyword) ||
+                        frontEndBridge.lookahead(0).type == TokenType.TEXT));
     }
 
     /**
      * Emphasis := "emphasise" Textual
      */
     private void emphasis() {
-        consumeKeyword(EMPHASISE_KEYWORD);
+        consumeKeyword(Keyword.EMPHASISE);
 
         if (current.type == TokenType.TEXT) {
             textual();
 
-            var titleText = new TitleText(new Emphasis(last.value));
+            var titleText = new TitleText(new Emphasis(last.getValue()));
 
             switch (currentlyParsedContainer) {
                 case DOCUMENT_TITLE_CONTAINER_NAME -> ast.getConfiguration().getTitle().add(titleText);
                 case PUBLICATION_CONFIGURATION_CONTAINER_NAME ->
                         ast.getConfiguration().getPublication().getTitle().add(titleText);
                 case PARAGRAPH_CONTAINER_NAME ->
-                        currentParagraph.enqueueParagraphInstruction(new Emphasise(last.value));
+                        currentParagraph.enqueueParagraphInstruction(new Emphasise(last.getValue()));
                 case CHAPTER_CONTAINER_NAME -> ((frontend.ast.structure.Chapter) lastNode).getTitle().add(titleText);
                 default -> throw new UnsupportedOperationException("Container type not yet implemented");
             }
@@ -1568,19 +1601,19 @@ public class Parser {
      * Work := "work" Textual
      */
     private void work() {
-        consumeKeyword(WORK_KEYWORD);
+        consumeKeyword(Keyword.WORK);
 
         if (current.type == TokenType.TEXT) {
             textual();
 
-            var titleText = new TitleText(new Work(last.value));
+            var titleText = new TitleText(new Work(last.getValue()));
 
             switch (currentlyParsedContainer) {
                 case DOCUMENT_TITLE_CONTAINER_NAME -> ast.getConfiguration().getTitle().add(titleText);
                 case PUBLICATION_CONFIGURATION_CONTAINER_NAME ->
                         ast.getConfiguration().getPublication().getTitle().add(titleText);
                 case PARAGRAPH_CONTAINER_NAME ->
-                        currentParagraph.enqueueParagraphInstruction(new frontend.ast.paragraph.Work(last.value));
+                        currentParagraph.enqueueParagraphInstruction(new frontend.ast.paragraph.Work(last.getValue()));
                 case CHAPTER_CONTAINER_NAME -> ((frontend.ast.structure.Chapter) lastNode).getTitle().add(titleText);
                 default -> throw new UnsupportedOperationException("Container type not yet implemented");
             }
@@ -1596,10 +1629,11 @@ public class Parser {
 
         do paragraphInstruction();
         while (frontEndBridge.containsTokens() && current.type == TokenType.TEXT ||
-                isKeyword(CITATION_KEYWORD) || isKeyword(WORK_KEYWORD) || isKeyword(EMPHASISE_KEYWORD));
+                PARAGRAPH_INSTRUCTION_KEYWORDS.contains(current.keyword));
 
         newline();
 
+        currentParagraph.compact();
         ast.enqueueDocumentNode(currentParagraph);
         currentParagraph = null;
     }
@@ -1612,13 +1646,13 @@ public class Parser {
             remainIndentation();
             textual();
 
-            currentParagraph.enqueueParagraphInstruction(new Text(last.value));
+            currentParagraph.enqueueParagraphInstruction(new Text(last.getValue()));
         } else if (isKeyword()) {
             remainIndentation();
-            switch (current.value) {
-                case EMPHASISE_KEYWORD -> emphasis();
-                case WORK_KEYWORD -> work();
-                case CITATION_KEYWORD -> citation();
+            switch (expectKeyword()) {
+                case EMPHASISE -> emphasis();
+                case WORK -> work();
+                case CITATION -> citation();
                 default -> error();
             }
         } else error();
@@ -1628,7 +1662,7 @@ public class Parser {
      * Citation := "citation" KeywordCitation | "citation" CitationInlineDeclaration
      */
     private void citation() {
-        consumeKeyword(CITATION_KEYWORD);
+        consumeKeyword(Keyword.CITATION);
 
         if (current.type == TokenType.NEW_LINE) {
             newline();
@@ -1646,18 +1680,18 @@ public class Parser {
     private void citationInlineDeclaration() {
         final var citation = new Citation();
 
-        consume(new Token(TokenType.TEXT, null));
-        citation.setSource(last.value);
+        consume(TEXT_TOKEN);
+        citation.setSource(sharedValue());
 
         listSeparator();
 
-        consume(new Token(TokenType.TEXT, null));
-        citation.setNumeration(last.value);
+        consume(TEXT_TOKEN);
+        citation.setNumeration(sharedValue());
 
         if (current.type == TokenType.LIST_SEPARATOR) {
             listSeparator();
             textual();
-            citation.setCitedContent(last.value);
+            citation.setCitedContent(last.getValue());
         } else if (current.type == TokenType.NEW_LINE) {
             newline();
         } else error();
@@ -1670,26 +1704,26 @@ public class Parser {
      */
     private void citationDetails() {
         final var citation = new Citation();
-        expectKeyword(it -> {
-            switch (it) {
-                case ID_KEYWORD -> {
-                    consumeKeyword(ID_KEYWORD);
+        do {
+            switch (expectKeyword()) {
+                case ID -> {
+                    consumeKeyword(Keyword.ID);
                     textual();
-                    citation.setSource(last.value);
+                    citation.setSource(sharedValue());
                 }
-                case OF_KEYWORD -> {
-                    consumeKeyword(OF_KEYWORD);
+                case OF -> {
+                    consumeKeyword(Keyword.OF);
                     textual();
-                    citation.setCitedContent(last.value);
+                    citation.setCitedContent(last.getValue());
                 }
-                case PAGE_KEYWORD -> {
-                    consumeKeyword(PAGE_KEYWORD);
+                case PAGE -> {
+                    consumeKeyword(Keyword.PAGE);
                     textual();
-                    citation.setNumeration(last.value);
+                    citation.setNumeration(sharedValue());
                 }
                 default -> error();
             }
-        }, ID_KEYWORD, OF_KEYWORD, PAGE_KEYWORD);
+        } while (continuesWith(CITATION_DETAILS_KEYWORDS));
 
         currentParagraph.enqueueParagraphInstruction(citation);
     }
@@ -1698,14 +1732,24 @@ public class Parser {
      * ListSeparator := ","
      */
     private void listSeparator() {
-        consume(new Token(TokenType.LIST_SEPARATOR, ","));
+        consume(LIST_SEPARATOR_TOKEN);
+    }
+
+    /**
+     * Yields the value of the last token, and shares the instance with previous equal values.
+     * This should be used for values that are likely to repeat, so that the AST does not store a copy per node.
+     *
+     * @return the shared value of the last token
+     */
+    private String sharedValue() {
+        return sharedValues.computeIfAbsent(last.getValue(), value -> value);
     }
 
     /**
      * Textual := Text Newline
      */
     private void textual() {
-        consume(new Token(TokenType.TEXT, null));
+        consume(TEXT_TOKEN);
         newline();
     }
 
@@ -1716,11 +1760,11 @@ public class Parser {
         textual();
 
         if (currentlyParsedContainer.equals("Numeration")) {
-            ast.getConfiguration().getStyle().getNumeration().addSkippedPage(last.value);
+            ast.getConfiguration().getStyle().getNumeration().addSkippedPage(last.getValue());
         }
 
         if (current.type == TokenType.LIST_SEPARATOR) {
-            consume(new Token(TokenType.LIST_SEPARATOR, null));
+            consume(LIST_SEPARATOR_TOKEN);
             textualList();
         }
     }
@@ -1729,16 +1773,16 @@ public class Parser {
      * NewLine := "NewLine" | epsilon
      */
     private void newline() {
-        if (frontEndBridge.containsTokens()) consume(new Token(TokenType.NEW_LINE, null));
+        if (frontEndBridge.containsTokens()) consume(NEW_LINE_TOKEN);
     }
 
     /**
-     * Returns true if the current token is a KEYWORD token
+     * Returns true if the current token is a KEYWORD token of a known keyword
      *
      * @return - true if the current type is KEYWORD, false if not
      */
     private boolean isKeyword() {
-        return current.type == TokenType.KEYWORD;
+        return current.keyword != null;
     }
 
     /**
@@ -1747,8 +1791,8 @@ public class Parser {
      * @param keyword - the keyword that should be matched against the current token value
      * @return - true if the keyword equals the specified keyword, false else
      */
-    private boolean isKeyword(@NonNull final String keyword) {
-        return isKeyword() && current.value.equals(keyword);
+    private boolean isKeyword(@NonNull final Keyword keyword) {
+        return current.keyword == keyword;
     }
 
     /**
@@ -1757,8 +1801,8 @@ public class Parser {
      *
      * @param keyword - the keyword that should be consumed
      */
-    private void consumeKeyword(@NonNull final String keyword) {
-        consume(new Token(TokenType.KEYWORD, keyword));
+    private void consumeKeyword(@NonNull final Keyword keyword) {
+        consume(KEYWORD_TOKENS[keyword.ordinal()]);
     }
 
 }
@@ -0,0 +1,221 @@
+package processing;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The compilation context contains the state of a single compilation, such as the processed configuration, the
+ * pages of the created document and the warnings. The classes of the compiler keep their static methods, but
+ * store their state in the context of the current compilation, so that several documents can be compiled in one
+ * JVM, one after the other or at the same time.
+ * A context is bound to the thread that runs the compilation by {@link #run(Runnable)}. There is no context that is
+ * shared by all compilations, so each compilation starts without the state of earlier ones, and code that uses the
+ * state outside a compilation fails. Tasks that are run on other threads for a compilation have to run in its
+ * context, as well.
+ * Each class stores its state under its own {@link Key}, and the state is created the first time the class uses
+ * it within the context.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public final class CompilationContext {
+
+    /**
+     * The file the document is saved to, unless the context specifies another file
+     */
+    public static final Path DEFAULT_OUTPUT_FILE = Path.of("src/main/resources/out.pdf");
+
+    /**
+     * The img/ folder that contains all images the user wants to include in the document, unless the context
+     * specifies another folder
+     */
+    public static final Path DEFAULT_IMAGE_FOLDER = Path.of("src/main/resources/img");
+
+    /**
+     * The context of the compilation that is run by the current thread, or null if it does not run a compilation
+     */
+    private static final ThreadLocal<CompilationContext> bound = new ThreadLocal<>();
+
+    /**
+     * The state of each class that has used the context so far.
+     * Tasks of the compilation may access the state from several threads.
+     */
+    private final Map<Key<?>, Object> states = new ConcurrentHashMap<>();
+
+    /**
+     * The file the created document is saved to
+     */
+    @Getter
+    private final Path outputFile;
+
+    /**
+     * The img/ folder that contains all images the user wants to include in the document
+     */
+    @Getter
+    private final Path imageFolder;
+
+    /**
+     * Keeps the images of the document in memory, which may be shared by the compilations of a watched document
+     */
+    @Getter
+    private final ImageCache imageCache;
+
+    /**
+     * The files besides the document and bibliography that the compilation has read, like images and fonts
+     */
+    private final Set<Path> dependencies = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a context for a compilation that saves the document to the default output file
+     */
+    public CompilationContext() {
+        this(DEFAULT_OUTPUT_FILE);
+    }
+
+    /**
+     * Creates a context for a compilation that saves the document to the specified file
+     *
+     * @param outputFile the non-null file the created document is saved to
+     */
+    public CompilationContext(@NonNull final Path outputFile) {
+        this(outputFile, DEFAULT_IMAGE_FOLDER);
+    }
+
+    /**
+     * Creates a context for a compilation of a project that saves the document to the specified file, and looks up
+     * its images in the specified folder
+     *
+     * @param outputFile  the non-null file the created document is saved to
+     * @param imageFolder the non-null img/ folder of the project
+     */
+    public CompilationContext(@NonNull final Path outputFile, @NonNull final Path imageFolder) {
+        this(outputFile, imageFolder, new ImageCache());
+    }
+
+    /**
+     * Creates a context for a compilation of a project that reads its images through the specified cache, so that
+     * unchanged images do not have to be read again by later compilations of the document
+     *
+     * @param outputFile  the non-null file the created document is saved to
+     * @param imageFolder the non-null img/ folder of the project
+     * @param imageCache  the non-null cache of the images of the project
+     */
+    public CompilationContext(@NonNull final Path outputFile, @NonNull final Path imageFolder,
+                              @NonNull final ImageCache imageCache) {
+        this.outputFile = outputFile;
+        this.imageFolder = imageFolder;
+        this.imageCache = imageCache;
+    }
+
+    /**
+     * Yields the context of the compilation that is run by the current thread
+     *
+     * Throws an IllegalStateException if the thread does not run a compilation, which would be an internal compiler
+     * error, hence the exception type.
+     *
+     * @return the bound context
+     */
+    public static CompilationContext current() {
+        final var context = bound.get();
+        if (context == null)
+            throw new IllegalStateException("The thread " + Thread.currentThread().getName() +
+                    " does not run a compilation in a compilation context.");
+
+        return context;
+    }
+
+    /**
+     * Runs the task in this context, so that all state the task uses belongs to this context.
+     * The previous context of the thread is restored afterwards, even if the task throws an exception.
+     *
+     * @param task the non-null task that should be run
+     */
+    public void run(@NonNull final Runnable task) {
+        final var previous = bound.get();
+        bound.set(this);
+
+        try {
+            task.run();
+        } finally {
+            if (previous != null) bound.set(previous);
+            else bound.remove();
+        }
+    }
+
+    /**
+     * Records that the compilation has read the specified file, so that the document can be rebuilt once it changes
+     *
+     * @param file the non-null file the compilation depends on
+     */
+    public void addDependency(@NonNull final Path file) {
+        dependencies.add(file.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Yields the files besides the document and bibliography that the compilation has read so far
+     *
+     * @return an unmodifiable copy of the absolute paths of the files
+     */
+    public Set<Path> getDependencies() {
+        return Set.copyOf(dependencies);
+    }
+
+    /**
+     * Yields the state that is stored under the key, and creates it first if it does not exist yet
+     *
+     * @param key the non-null key of the state
+     * @param <T> the type of the state
+     * @return the state of this context
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull final Key<T> key) {
+        // Avoids locking in computeIfAbsent for state that already exists, which is the common case
+        final var state = states.get(key);
+        if (state != null) return (T) state;
+
+        return (T) states.computeIfAbsent(key, unused -> key.initialState.get());
+    }
+
+    /**
+     * Yields the state that is stored under the key, without creating it
+     *
+     * @param key the non-null key of the state
+     * @param <T> the type of the state
+     * @return the state of this context, or null if it has not been used so far
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getIfPresent(@NonNull final Key<T> key) {
+        return (T) states.get(key);
+    }
+
+    /**
+     * Identifies the state of a class within each context.
+     * A class should declare its key as a constant, as the keys are compared by identity.
+     *
+     * @param <T> the type of the state
+     */
+    public static final class Key<T> {
+
+        /**
+         * Creates the state once a context is used by the class for the first time
+         */
+        private final Supplier<? extends T> initialState;
+
+        /**
+         * Creates a key whose state is created by the specified supplier
+         *
+         * @param initialState the non-null supplier of the initial state, which must not use other contexts
+         */
+        public Key(@NonNull final Supplier<? extends T> initialState) {
+            this.initialState = initialState;
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package processing;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the bytes of the images of a document in memory, so that a document that is compiled again does not have
+ * to read its unchanged images again. An image is only read again once it has been invalidated, which the
+ * {@link frontend.DocumentWatcher} does when the image file changes.
+ * The images are shared by the compilations, but each document still creates its own image objects.
+ *
+ * @version 1.0
+ * @since 1.0
+ */
+public class ImageCache {
+
+    /**
+     * The bytes of each image that has been read, by its absolute path
+     */
+    private final Map<Path, byte[]> images = new ConcurrentHashMap<>();
+
+    /**
+     * Yields the bytes of the image, and reads them first if they are not cached yet
+     *
+     * @param file the non-null image file
+     * @return the bytes of the image, which must not be modified
+     * @throws IOException if the image cannot be read
+     */
+    public byte[] read(@NonNull final Path file) throws IOException {
+        try {
+            return images.computeIfAbsent(file.toAbsolutePath().normalize(), path -> {
+                try {
+                    return Files.readAllBytes(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Removes the image from the cache, so that it is read again once it is used
+     *
+     * @param file the non-null image file that has changed
+     */
+    public void invalidate(@NonNull final Path file) {
+        images.remove(file.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Removes all images from the cache
+     */
+    public void clear() {
+        images.clear();
+    }
+
+}
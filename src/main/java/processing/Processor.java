@@ -8,7 +8,9 @@ import error.ConfigurationException;
 import error.ContentException;
 import error.IncorrectFormatException;
 import error.MissingMemberException;
+import frontend.BibliographyIndex;
 import frontend.ast.AST;
+import frontend.ast.ASTDumper;
 import frontend.ast.config.Publication;
 import frontend.ast.config.Title;
 import frontend.ast.config.style.Font;
@@ -37,8 +39,11 @@ import processing.style.StyleTable;
 import warning.*;
 
 import java.awt.*;
+import java.io.BufferedWriter;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -46,11 +51,14 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * The processor class translates the AST given by the {@link frontend.parsing.Parser} to actual objects
- * that can be used when creating the document
+ * that can be used when creating the document.
+ * Each compilation context has its own processor, which is yielded by {@link #current()}.
  *
  * @version 1.0
  * @since 1.0
@@ -59,8 +67,14 @@ public class Processor {
 
     /**
      * Determines the version of this compiler implementation.
+     * It must be increased whenever the parser, the AST or the processing changes, so that cached ASTs and documents
+     * of older versions are not used.
      */
     public static final String COMPILER_VERSION = "1.0";
+    /**
+     * The system property that enables dumping the AST to the standard error stream before it is processed
+     */
+    public static final String DUMP_AST_PROPERTY = "pipp.dumpAst";
     /**
      * Determines the amount of points that make up one inch.
      * This is used to properly compute distances and sizes.
@@ -71,96 +85,106 @@ public class Processor {
      * This is used to properly compute distances and sizes.
      */
     public static final float POINTS_PER_MM = 1 / (10 * 2.54f) * POINTS_PER_INCH;
+    /**
+     * Identifies the processor of each compilation context
+     */
+    private static final CompilationContext.Key<Processor> STATE = new CompilationContext.Key<>(Processor::new);
+
     @Getter
-    private static final HashMap<String, BibliographySource> bibliographyEntries = new HashMap<>();
+    private final HashMap<String, BibliographySource> bibliographyEntries = new HashMap<>();
+    /**
+     * The index of the bibliography if its entries are parsed once they are cited, or null if all entries are part
+     * of the AST
+     */
+    private BibliographyIndex bibliographyIndex;
 
     @Getter
-    private static FontData sentenceFontData;
+    private FontData sentenceFontData;
     @Getter
-    private static FontData workFontData;
+    private FontData workFontData;
     @Getter
-    private static FontData emphasisFontData;
+    private FontData emphasisFontData;
     @Getter
-    private static FontData[] chapterSentenceFontData;
+    private FontData[] chapterSentenceFontData;
     @Getter
-    private static FontData[] chapterWorkFontData;
+    private FontData[] chapterWorkFontData;
     @Getter
-    private static FontData[] chapterEmphasisFontData;
+    private FontData[] chapterEmphasisFontData;
     /**
      * Determines how the names of the authors should be inserted before the page number.
      * If there should not be a name before the page number, this value is null.
      */
     @Getter
-    private static NumerationAuthorName numerationAuthorName;
+    private NumerationAuthorName numerationAuthorName;
     /**
      * Determines the page number margin to the top or bottom of the document.
      * Note that the default layout margin is used for the left or right side.
      */
     @Getter
-    private static float numerationMargin;
+    private float numerationMargin;
     /**
      * Determines where in the document page numbers should be displayed
      */
     @Getter
-    private static NumerationPosition numerationPosition;
+    private NumerationPosition numerationPosition;
     /**
      * Determines how page numbers should be represented
      */
     @Getter
-    private static NumerationType numerationType;
+    private NumerationType numerationType;
     /**
      * Contains all page numbers that the user does not want to have page numbers.
      * For each created page, the list will be checked if it contains the current page number,
      * and if it does, it will not receive a numeration stamp.
      */
     @Getter
-    private static List<Integer> skippedPages;
+    private List<Integer> skippedPages;
     /**
      * Contains the maximum amount of author names that should be rendered in the numeration.
      * If there is no limitation, this is null.
      */
     @Getter
-    private static Integer numerationLimit;
+    private Integer numerationLimit;
     /**
      * Determines the paragraph spacing as a float, which is the space between each line in a paragraph.
      * The spacing is multiplied by the font size (and font size increment factor) to calculate line leading.
      * Note that the unit is a float! It is not represented in points, inches or any other measurement.
      */
     @Getter
-    private static float spacing;
+    private float spacing;
     /**
      * Determines the dimensions of the document (the width and height)
      */
     @Getter
-    private static PDRectangle dimensions;
+    private PDRectangle dimensions;
     /**
      * Determines the margin in points (pt.) to all four sides of the document.
      * All components need to have a minimum position of the margin to the left and top,
      * and a maximum position of the margin to the right and bottom.
      */
     @Getter
-    private static float margin;
+    private float margin;
     /**
      * Determines the type of style guide which should be used during compilation
      */
     @Getter
-    private static StyleGuide usedStyleGuide;
+    private StyleGuide usedStyleGuide;
     /**
      * Determines the title of the document, which can be displayed using the title instruction.
      * Note that the Title class is taken from the AST package simply to not have to duplicate it.
      */
     @Getter
-    private static Title documentTitle;
+    private Title documentTitle;
 
     @Getter
-    private static HeaderType headerType;
+    private HeaderType headerType;
 
     /**
      * Determines the paragraph indentation, which is the amount of space that a new paragraph will be
      * indented to
      */
     @Getter
-    private static float paragraphIndentation;
+    private float paragraphIndentation;
 
 
     //// SENTENCES ////
@@ -168,19 +192,19 @@ public class Processor {
      * Determines if the user is allowed to use italic text in a sentence
      */
     @Getter
-    private static AllowanceType allowEmphasis;
+    private AllowanceType allowEmphasis;
     /**
      * Yields true if the bibliography file is being processed and false if the document file is being processed
      */
     @Getter
-    private static boolean isProcessingBibliography;
+    private boolean isProcessingBibliography;
     /**
      * Determines the authors that have worked on the document.
      * Note that this only includes the authors of the working document, it does not include authors that
      * have been cited from in the document
      */
     @Getter
-    private static Author[] authors;
+    private Author[] authors;
 
 
     //// AUTHORS & ASSESSORS ////
@@ -188,70 +212,127 @@ public class Processor {
      * Determines the assessors that may assess the document
      */
     @Getter
-    private static Assessor[] assessors;
+    private Assessor[] assessors;
     /**
      * Determines the date of document publication, which is either given by the user or created by Pipp.
      * Note that if the user has explicitly expressed not to display the date, this is null.
      */
     @Getter
-    private static LocalDate publicationDate;
+    private LocalDate publicationDate;
     /**
      * Determines the chair of the publication institution.
      * Note that this should not be allowed to be set if the institution is not set.
      */
     @Getter
-    private static String publicationChair;
+    private String publicationChair;
     //// Publication ////
     @Getter
-    private static LinkedList<BodyNode> documentBody = new LinkedList<>();
+    private List<BodyNode> documentBody = new ArrayList<>();
     /**
      * Determines the title of the publication, which in most style guides is put in the header or title page.
      * Note that the Title class is taken from the AST package simply to not have to duplicate it.
      */
     @Getter
-    private static Title publicationTitle;
+    private Title publicationTitle;
     /**
      * Determines the institution of the publication context.
      * An example could be "XYZ University".
      */
     @Getter
-    private static String publicationInstitution;
+    private String publicationInstitution;
     /**
      * Determines the semester of the publication context.
      * This is used academic papers.
      */
     @Getter
-    private static String publicationSemester;
-    private static boolean inchesUsed;
-    private static boolean mmUsed;
+    private String publicationSemester;
+    private boolean inchesUsed;
+    private boolean mmUsed;
     @Getter
-    private static ContentAlignment chapterAlignment;
+    private ContentAlignment chapterAlignment;
     @Getter
-    private static ChapterSpacingType chapterSpacingType;
+    private ChapterSpacingType chapterSpacingType;
 
     /**
-     * Prevents instantiation
+     * Creates the empty state of a compilation, which is only done by the compilation context
      */
     private Processor() {
-        throw new UnsupportedOperationException("Should not instantiate static helper class");
     }
 
-    public static float getAvailableContentWidth() {
-        return Processor.dimensions.getWidth() - 2 * Processor.margin;
+    /**
+     * Yields the processor of the current compilation, which contains the processed configuration of its document
+     *
+     * @return the processor of the current compilation context
+     */
+    public static Processor current() {
+        return CompilationContext.current().get(STATE);
+    }
+
+    /**
+     * Dumps the AST, if either the fine level of the logger or the {@value DUMP_AST_PROPERTY} property is enabled.
+     * The text of the whole AST is never built, as it can be very large for long documents.
+     *
+     * @param ast    the abstract syntax tree that should be dumped
+     * @param logger the logger of the processor
+     */
+    private void dumpAST(final AST ast, final Logger logger) {
+        if (Boolean.getBoolean(DUMP_AST_PROPERTY)) {
+            // The standard error stream must not be closed, so the writer is only flushed
+            final var writer = new BufferedWriter(new OutputStreamWriter(System.err, StandardCharsets.UTF_8));
+            try {
+                new ASTDumper().dump(ast, writer);
+                writer.flush();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Could not dump the AST", e);
+            }
+        }
+
+        // The supplier is only called if the message is logged
+        logger.fine(() -> new ASTDumper().dump(ast));
+    }
+
+    public float getAvailableContentWidth() {
+        return this.dimensions.getWidth() - 2 * this.margin;
     }
 
     /**
      * Starts the processing phase by trying to convert the specified AST into usable objects.
+     * The AST is only dumped if the logger of the processor is at least at the fine level, or if the system property
+     * {@value DUMP_AST_PROPERTY} is true, in which case it is streamed to the standard error stream.
      *
      * @param ast - the abstract syntax tree produced by the {@link frontend.parsing.Parser}
      */
     public static void processAST(@NonNull final AST ast) {
+        processAST(ast, null);
+    }
+
+    /**
+     * Starts the processing phase by trying to convert the specified AST into usable objects, where the
+     * bibliography entries are either part of the AST, or parsed from the index once they are cited.
+     *
+     * @param ast               - the abstract syntax tree produced by the {@link frontend.parsing.Parser}
+     * @param bibliographyIndex - the index of the lazily parsed bibliography, or null if the bibliography sources
+     *                          are part of the AST
+     */
+    public static void processAST(@NonNull final AST ast, final BibliographyIndex bibliographyIndex) {
+        current().process(ast, bibliographyIndex);
+    }
+
+    /**
+     * Processes the AST in the state of this compilation, and then starts the creation process
+     *
+     * @param ast               - the abstract syntax tree produced by the {@link frontend.parsing.Parser}
+     * @param bibliographyIndex - the index of the lazily parsed bibliography, or null if the bibliography sources
+     *                          are part of the AST
+     */
+    private void process(final AST ast, final BibliographyIndex bibliographyIndex) {
         final var logger = Logger.getLogger(Processor.class.getName());
-        logger.info(ast.toString());
+        dumpAST(ast, logger);
 
-        ast.checkForWarnings();
+        ast.checkForWarnings(ForkJoinPool.commonPool());
 
         processBibliography(ast.getBibliographySources());
+        processBibliographyIndex(bibliographyIndex);
         logger.info("Successfully processed the bibliography");
 
         documentBody = ast.getDocumentBody();
@@ -275,7 +356,7 @@ public class Processor {
         DocumentCreator.create();
     }
 
-    private static void processPublication(@NonNull final Publication publication) {
+    private void processPublication(@NonNull final Publication publication) {
         processPublicationDate(publication.getDate());
         processPublicationSemester(publication.getSemester());
 
@@ -287,7 +368,7 @@ public class Processor {
         else publicationChair = publication.getChair();
     }
 
-    private static void processPublicationSemester(String semester) {
+    private void processPublicationSemester(String semester) {
         if (semester == null) return;
         var nonStandardSemester = (!semester.startsWith("WS ") && !semester.startsWith("SS ")) ||
                 publicationSemester.length() != 7 ||
@@ -305,7 +386,7 @@ public class Processor {
         publicationSemester = semester;
     }
 
-    private static void processPublicationDate(String date) {
+    private void processPublicationDate(String date) {
         if (date == null) {
             publicationDate = LocalDate.now();
             return;
@@ -327,24 +408,24 @@ public class Processor {
         publicationDate = LocalDate.parse(date, DateTimeFormatter.ofPattern("dd/MM/yyyy"));
     }
 
-    private static void processDocumentAssessors(ArrayList<frontend.ast.config.person.Assessor> assessorsList) {
-        Processor.assessors = new Assessor[assessorsList.size()];
+    private void processDocumentAssessors(ArrayList<frontend.ast.config.person.Assessor> assessorsList) {
+        this.assessors = new Assessor[assessorsList.size()];
         for (int i = 0; i < assessorsList.size(); i++) {
             processAssessor(assessorsList.get(i), i);
 
             for (int j = 0; j < i; j++) {
-                if (Processor.assessors[j].nameToString().equals(Processor.assessors[i].nameToString())) {
+                if (this.assessors[j].nameToString().equals(this.assessors[i].nameToString())) {
                     WarningQueue.enqueue(new UnlikelinessWarning(
                             "4: Two assessors have the same name, which seems unlikely. " +
-                                    "Check if that is correct. \n\tAssessor 1: " + Processor.assessors[j] +
-                                    ". \n\tAssessor 2: " + Processor.assessors[j],
+                                    "Check if that is correct. \n\tAssessor 1: " + this.assessors[j] +
+                                    ". \n\tAssessor 2: " + this.assessors[j],
                             WarningSeverity.CRITICAL));
                 }
             }
         }
     }
 
-    private static void processAssessor(frontend.ast.config.person.Assessor assessor, int assessorIndex) {
+    private void processAssessor(frontend.ast.config.person.Assessor assessor, int assessorIndex) {
         if (assessor.getName() == null) {
             if (assessor.getFirstname().isBlank() || assessor.getLastname().isBlank() ||
                     assessor.getRole() != null && assessor.getRole().isBlank() ||
@@ -354,7 +435,7 @@ public class Processor {
             var newAssessor = new Assessor(assessor.getFirstname(), assessor.getLastname());
             newAssessor.setTitle(assessor.getTitle());
             newAssessor.setRole(assessor.getRole());
-            Processor.assessors[assessorIndex] = newAssessor;
+            this.assessors[assessorIndex] = newAssessor;
         } else {
             if (assessor.getName().isBlank() || assessor.getRole() != null && assessor.getRole().isBlank() ||
                     assessor.getTitle() != null && assessor.getTitle().isBlank())
@@ -363,39 +444,39 @@ public class Processor {
             var newAssessor = new Assessor(assessor.getName());
             newAssessor.setTitle(assessor.getTitle());
             newAssessor.setRole(assessor.getRole());
-            Processor.assessors[assessorIndex] = newAssessor;
+            this.assessors[assessorIndex] = newAssessor;
         }
     }
 
-    private static void processDocumentAuthors(ArrayList<frontend.ast.config.person.Author> authors) {
-        Processor.authors = new Author[authors.size()];
+    private void processDocumentAuthors(ArrayList<frontend.ast.config.person.Author> authors) {
+        this.authors = new Author[authors.size()];
         for (int i = 0; i < authors.size(); i++) {
             processAuthor(authors.get(i), i);
 
             for (int j = 0; j < i; j++) {
-                if (Processor.authors[j].nameToString().equals(Processor.authors[i].nameToString())) {
+                if (this.authors[j].nameToString().equals(this.authors[i].nameToString())) {
                     WarningQueue.enqueue(new UnlikelinessWarning(
                             "3: Two authors have the same name, which seems unlikely. " +
                                     "Check if that is correct. \n\tAuthor 1: " +
-                                    Processor.authors[j] + ". \n\tAuthor 2: " + Processor.authors[i],
+                                    this.authors[j] + ". \n\tAuthor 2: " + this.authors[i],
                             WarningSeverity.CRITICAL));
                 }
 
-                if (Processor.authors[j] != null && Processor.authors[i] != null &&
-                        Processor.authors[j].getEmailAddress() != null &&
-                        Processor.authors[i].getEmailAddress() != null &&
-                        Processor.authors[j].getEmailAddress().equals(Processor.authors[i].getEmailAddress())) {
+                if (this.authors[j] != null && this.authors[i] != null &&
+                        this.authors[j].getEmailAddress() != null &&
+                        this.authors[i].getEmailAddress() != null &&
+                        this.authors[j].getEmailAddress().equals(this.authors[i].getEmailAddress())) {
                     WarningQueue.enqueue(new UnlikelinessWarning(
                             "7: Two authors have the same email address, which seems unlikely. " +
                                     "Check if that is correct. \n\tAuthor 1: " +
-                                    Processor.authors[j].getEmailAddress() + ". \n\tAuthor 2: " +
-                                    Processor.authors[i].getEmailAddress(), WarningSeverity.CRITICAL));
+                                    this.authors[j].getEmailAddress() + ". \n\tAuthor 2: " +
+                                    this.authors[i].getEmailAddress(), WarningSeverity.CRITICAL));
                 }
             }
         }
     }
 
-    private static void processAuthor(frontend.ast.config.person.Author author, int authorIndex) {
+    private void processAuthor(frontend.ast.config.person.Author author, int authorIndex) {
         if (author.getName() == null) {
             if (author.getFirstname().isBlank() || author.getLastname().isBlank() ||
                     author.getId() != null && author.getId().isBlank() ||
@@ -409,7 +490,7 @@ public class Processor {
             newAuthor.setEmailAddress(author.getEmailAddress());
             newAuthor.setArea(author.getArea());
 
-            Processor.authors[authorIndex] = newAuthor;
+            this.authors[authorIndex] = newAuthor;
         } else {
             if (author.getName().isBlank() || author.getId() != null && author.getId().isBlank() ||
                     author.getTitle() != null && author.getTitle().isBlank())
@@ -422,11 +503,11 @@ public class Processor {
             newAuthor.setEmailAddress(author.getEmailAddress());
             newAuthor.setArea(author.getArea());
 
-            Processor.authors[authorIndex] = newAuthor;
+            this.authors[authorIndex] = newAuthor;
         }
     }
 
-    private static void processStyleConfiguration(@NonNull final Style styleConfiguration) {
+    private void processStyleConfiguration(@NonNull final Style styleConfiguration) {
         // Apply the default style or the style desired by the user
         if (styleConfiguration.getBaseStyle() == null) usedStyleGuide = new MLA9();
         else usedStyleGuide = StyleTable.nameToStyleGuide(styleConfiguration.getBaseStyle());
@@ -438,14 +519,14 @@ public class Processor {
         processStructures(styleConfiguration.getStructure());
     }
 
-    private static void processStructures(final Structure structure) {
+    private void processStructures(final Structure structure) {
         processFonts(structure);
         processEmphasisAllowance(structure.getEmphasis().getAllowEmphasis());
         processParagraphIndentation(structure.getParagraph().getIndentation());
         processChapters(structure.getChapters());
     }
 
-    private static void processChapters(final Chapters chapters) {
+    private void processChapters(final Chapters chapters) {
         if (chapters.getChapterAlignment() != null) {
             try {
                 final var specifiedAlignment = chapters.getChapterAlignment().trim().toUpperCase();
@@ -465,7 +546,7 @@ public class Processor {
         } else chapterSpacingType = usedStyleGuide.chapterSpacingType();
     }
 
-    private static void processParagraphIndentation(String indentation) {
+    private void processParagraphIndentation(String indentation) {
         if (indentation != null) {
             try {
                 float unit;
@@ -493,7 +574,7 @@ public class Processor {
             throw new ConfigurationException("10: The specified paragraph indentation exceeds the page width.");
     }
 
-    private static void processEmphasisAllowance(String allow) {
+    private void processEmphasisAllowance(String allow) {
         if (allow != null) {
             allowEmphasis = switch (allow) {
                 case "Yes" -> AllowanceType.YES;
@@ -504,7 +585,7 @@ public class Processor {
         } else allowEmphasis = usedStyleGuide.allowsEmphasis();
     }
 
-    private static void processPageNumeration(@NonNull final Numeration numeration) {
+    private void processPageNumeration(@NonNull final Numeration numeration) {
         processNumerationType(numeration.getNumerationType());
         processNumerationPosition(numeration.getPosition());
         processNumerationMargin(numeration.getMargin());
@@ -513,7 +594,7 @@ public class Processor {
         processNumerationSkippedPages(numeration.getSkippedPages());
     }
 
-    private static void processNumerationSkippedPages(List<String> skippedPagesList) {
+    private void processNumerationSkippedPages(List<String> skippedPagesList) {
         skippedPages = new LinkedList<>();
         for (var skippedPage : skippedPagesList) {
             // Check if the user provided a span (for example, 5-12)
@@ -534,7 +615,7 @@ public class Processor {
         }
     }
 
-    private static void processPageSpan(String[] pageSpan) {
+    private void processPageSpan(String[] pageSpan) {
         if (pageSpan.length != 2)
             throw new IncorrectFormatException("11: A page span must include exactly two page-numbers.");
 
@@ -555,7 +636,7 @@ public class Processor {
         }
     }
 
-    private static void processNumerationMargin(String margin) {
+    private void processNumerationMargin(String margin) {
         if (margin != null) {
             try {
                 float unit;
@@ -578,7 +659,7 @@ public class Processor {
         } else numerationMargin = POINTS_PER_INCH * usedStyleGuide.numerationMargin();
     }
 
-    private static void processNumerationAuthorName(final String authorName) {
+    private void processNumerationAuthorName(final String authorName) {
         if (authorName != null) {
             numerationAuthorName = switch (authorName) {
                 case "name", "Name" -> NumerationAuthorName.NAME;
@@ -591,7 +672,7 @@ public class Processor {
         } else numerationAuthorName = usedStyleGuide.numerationAuthorName();
     }
 
-    private static void processNumerationAuthorLimit(final String authorLimit) {
+    private void processNumerationAuthorLimit(final String authorLimit) {
         if (authorLimit != null) {
             if (authorLimit.equals("None")) {
                 numerationLimit = null;
@@ -607,7 +688,7 @@ public class Processor {
         } else numerationLimit = usedStyleGuide.numerationLimit();
     }
 
-    private static void processNumerationPosition(final String position) {
+    private void processNumerationPosition(final String position) {
         if (position != null) {
             numerationPosition = switch (position) {
                 case "Top Left" -> NumerationPosition.TOP_LEFT;
@@ -621,7 +702,7 @@ public class Processor {
         } else numerationPosition = usedStyleGuide.numerationPosition();
     }
 
-    private static void processNumerationType(final String pageNumerationType) {
+    private void processNumerationType(final String pageNumerationType) {
         if (pageNumerationType != null) {
             numerationType = switch (pageNumerationType) {
                 case "Arabic" -> NumerationType.ARABIC;
@@ -631,7 +712,7 @@ public class Processor {
         } else numerationType = usedStyleGuide.numerationType();
     }
 
-    private static void processLayout(@NonNull final Layout layout) {
+    private void processLayout(@NonNull final Layout layout) {
         final float specifiedWidth = processDocumentWidth(layout);
         final float specifiedHeight = processDocumentHeight(layout);
         dimensions = new PDRectangle(specifiedWidth, specifiedHeight);
@@ -640,7 +721,7 @@ public class Processor {
         processTextSpacing(layout);
     }
 
-    private static void processTextSpacing(@NonNull final Layout layout) {
+    private void processTextSpacing(@NonNull final Layout layout) {
         if (layout.getSpacing() != null) {
             try {
                 spacing = Float.parseFloat(layout.getSpacing());
@@ -656,7 +737,7 @@ public class Processor {
 
     }
 
-    private static void processSideMargin(@NonNull final Layout layout) {
+    private void processSideMargin(@NonNull final Layout layout) {
         if (layout.getMargin() != null) {
             if (layout.getMargin().endsWith("in")) {
                 inchesUsed = true;
@@ -676,7 +757,7 @@ public class Processor {
             WarningQueue.enqueue(new UnlikelinessWarning(UnlikelinessWarning.ERR_MSG_5, WarningSeverity.HIGH));
     }
 
-    private static float processDocumentWidth(@NonNull final Layout layout) {
+    private float processDocumentWidth(@NonNull final Layout layout) {
         final float width;
         if (layout.getWidth() != null) {
             if (layout.getWidth().endsWith("in")) {
@@ -700,7 +781,7 @@ public class Processor {
         return width;
     }
 
-    private static float processDocumentHeight(@NonNull final Layout layout) {
+    private float processDocumentHeight(@NonNull final Layout layout) {
         final float height;
         if (layout.getHeight() != null) {
             if (layout.getHeight().endsWith("in")) {
@@ -724,7 +805,7 @@ public class Processor {
         return height;
     }
 
-    private static void processBibliography(final LinkedList<frontend.ast.bibliography.BibliographySource> entries) {
+    private void processBibliography(final List<frontend.ast.bibliography.BibliographySource> entries) {
         isProcessingBibliography = true;
 
         entries.forEach(entry -> {
@@ -740,16 +821,56 @@ public class Processor {
         isProcessingBibliography = false;
     }
 
+    /**
+     * Uses the index to parse the bibliography entries once they are cited.
+     * All IDs of the bibliography are checked for duplicates, even though only the cited entries are parsed.
+     *
+     * @param index the index of the lazily parsed bibliography, or null if the bibliography is part of the AST
+     */
+    private void processBibliographyIndex(final BibliographyIndex index) {
+        bibliographyIndex = index;
+        if (index == null) return;
+
+        final var duplicateIds = index.getDuplicateIds();
+        if (!duplicateIds.isEmpty())
+            throw new ContentException("3: Bibliography entry with ID '" + duplicateIds.get(0) + "' already exists.");
+
+        for (var id : bibliographyEntries.keySet())
+            if (index.contains(id))
+                throw new ContentException("3: Bibliography entry with ID '" + id + "' already exists.");
+    }
+
+    /**
+     * Parses the entry with the specified ID from the index of the lazily parsed bibliography, and processes it just
+     * like the entries of the AST
+     *
+     * @param id the ID of the cited entry
+     * @return the processed entry, or null if the bibliography is not parsed lazily or does not contain the entry
+     */
+    private BibliographySource processIndexedEntry(final String id) {
+        if (bibliographyIndex == null) return null;
+
+        final var entry = bibliographyIndex.parse(id);
+        if (entry == null) return null;
+
+        entry.checkForWarnings();
+        processBibliography(List.of(entry));
+
+        return bibliographyEntries.get(id);
+    }
+
     /**
      * Looks up the proper entry in the bibliography and returns an array of text components used to render the
      * citation. Throws an error exception if the entry does not exist in the bibliography.
+     * If the bibliography is parsed lazily, the entry is parsed the first time it is cited.
      *
      * @param citation the non-null citation that should be processed
      * @return an array of text components to be rendered when the citation is handled
      */
-    public static Text[] processCitation(@NonNull final Citation citation) {
+    public Text[] processCitation(@NonNull final Citation citation) {
         final var source = citation.getSource().trim();
-        final var referenceSource = bibliographyEntries.get(source);
+        var referenceSource = bibliographyEntries.get(source);
+        if (referenceSource == null) referenceSource = processIndexedEntry(source);
         if (referenceSource == null)
             throw new ContentException("4: Bibliography entry with ID '" + source + "' does not exist.");
 
@@ -765,7 +886,7 @@ public class Processor {
         return usedStyleGuide.formatCitation(referenceSource, content, numeration);
     }
 
-    private static void processFonts(@NonNull Structure structure) {
+    private void processFonts(@NonNull Structure structure) {
         sentenceFontData = fontNodeToData(structure.getSentence().getFont(), usedStyleGuide.sentenceFontData());
         workFontData = fontNodeToData(structure.getWork().getFont(), usedStyleGuide.workFontData());
         emphasisFontData = fontNodeToData(structure.getEmphasis().getFont(), usedStyleGuide.emphasisFontData());
@@ -807,7 +928,7 @@ public class Processor {
      * @param alternativeDefaultData the default values that should be used if there is no configuration given
      * @return the font data to be used during further processing steps
      */
-    private static @NonNull FontData fontNodeToData(@NonNull Font fontNode, @NonNull FontData alternativeDefaultData) {
+    private @NonNull FontData fontNodeToData(@NonNull Font fontNode, @NonNull FontData alternativeDefaultData) {
         final PDFont fontFamily = fontNode.getName() == null
                 ? alternativeDefaultData.font()
                 : fontLookUp(fontNode.getName());
@@ -844,10 +965,11 @@ public class Processor {
      * @param name the non-null name of the font
      * @return the font as a PDFont object
      */
-    private static @NonNull PDFont fontLookUp(@NonNull final String name) {
+    private @NonNull PDFont fontLookUp(@NonNull final String name) {
         // Check if the user is trying to import a font from their operating system
         if (name.startsWith("@")) {
             final String path = "C:\\Windows\\Fonts\\" + name.substring(1) + ".ttf";
+            CompilationContext.current().addDependency(Paths.get(path));
             try {
                 final var targetStream = new FileInputStream(Paths.get(path).toFile());
                 return PDType0Font.load(PageAssembler.getDocument(), targetStream, false);
@@ -43,7 +43,7 @@ public class MLA9 extends StyleGuide {
                                 + (entry.getAuthors()[0].getFirstname().endsWith(".") ? " " : ". ");
             };
 
-            authorText = new Text(authorTextContent, Processor.getSentenceFontData());
+            authorText = new Text(authorTextContent, Processor.current().getSentenceFontData());
         }
         return authorText;
     }
@@ -277,7 +277,7 @@ public class MLA9 extends StyleGuide {
         citationBuilder.append(numeration);
         citationBuilder.append(").");
 
-        return new Text[]{new Text(citationBuilder.toString(), Processor.getSentenceFontData())};
+        return new Text[]{new Text(citationBuilder.toString(), Processor.current().getSentenceFontData())};
     }
 
     @Override
@@ -296,13 +296,13 @@ public class MLA9 extends StyleGuide {
 
         final var titleText = new Text(
                 entry.getTitle() + (entry.getTitle().endsWith(".") ? "" : "."),
-                Processor.getWorkFontData()
+                Processor.current().getWorkFontData()
         );
         textList.add(titleText);
 
         String publisherTextContent = getPublisherTextContent(entry);
 
-        if (publisherTextContent != null) textList.add(new Text(publisherTextContent, Processor.getSentenceFontData()));
+        if (publisherTextContent != null) textList.add(new Text(publisherTextContent, Processor.current().getSentenceFontData()));
 
         return textList.toArray(Text[]::new);
     }
@@ -1,6 +1,10 @@
 package warning;
 
+import lombok.NonNull;
+import processing.CompilationContext;
+
 import java.util.ArrayDeque;
+import java.util.List;
 import java.util.Queue;
 import java.util.logging.Logger;
 
@@ -8,6 +12,9 @@ import java.util.logging.Logger;
  * This class is used to collect all warnings that occur during compilation and print them afterwards.
  * To enqueue a warning, the static enqueue method is used.
  * To print all warnings, the static printAll method is used.
+ * Each compilation context has its own queue.
+ * Checks that run on several threads can collect their warnings separately, and then enqueue them in a
+ * deterministic order, so that the order of the warnings does not depend on the scheduling of the threads.
  *
  * @version 1.0
  * @since 1.0
@@ -15,15 +22,21 @@ import java.util.logging.Logger;
 public class WarningQueue {
 
     /**
-     * Collects all warnings in order of occurrence
+     * Identifies the queue of each compilation context, which collects all warnings in order of occurrence
      */
-    private static final Queue<Warning> warnings = new ArrayDeque<>();
+    private static final CompilationContext.Key<Queue<Warning>> WARNINGS = new CompilationContext.Key<>(ArrayDeque::new);
 
     /**
      * Logs all warnings using the "warning" log type
      */
     private static final Logger logger = Logger.getLogger(WarningQueue.class.getName());
 
+    /**
+     * The list that collects the warnings of the current thread instead of the queue, or null if the warnings of
+     * the thread are added to the queue
+     */
+    private static final ThreadLocal<List<Warning>> collectedWarnings = new ThreadLocal<>();
+
     /**
      * Prevents instantiation
      */
@@ -32,12 +45,49 @@ public class WarningQueue {
     }
 
     /**
-     * Adds a warning to the back of the queue
+     * Adds a warning to the back of the queue, or to the collecting list if the current thread collects its warnings
      *
      * @param warning the warning object that should be enqueued
      */
     public static void enqueue(Warning warning) {
-        warnings.add(warning);
+        final var collected = collectedWarnings.get();
+        if (collected != null) {
+            collected.add(warning);
+            return;
+        }
+
+        final var warnings = CompilationContext.current().get(WARNINGS);
+        synchronized (warnings) {
+            warnings.add(warning);
+        }
+    }
+
+    /**
+     * Adds the warnings to the back of the queue in the order of the list
+     *
+     * @param warningsToEnqueue the non-null warnings that should be enqueued
+     */
+    public static void enqueueAll(@NonNull final List<Warning> warningsToEnqueue) {
+        warningsToEnqueue.forEach(WarningQueue::enqueue);
+    }
+
+    /**
+     * Runs the check, and adds the warnings it enqueues on the current thread to the specified list instead of the
+     * queue. If the check throws an exception, the list contains the warnings that have been enqueued before.
+     *
+     * @param destination the non-null list the warnings are added to
+     * @param check       the non-null check that should be run
+     */
+    public static void collectInto(@NonNull final List<Warning> destination, @NonNull final Runnable check) {
+        final var previous = collectedWarnings.get();
+        collectedWarnings.set(destination);
+
+        try {
+            check.run();
+        } finally {
+            if (previous != null) collectedWarnings.set(previous);
+            else collectedWarnings.remove();
+        }
     }
 
     /**
@@ -45,7 +95,19 @@ public class WarningQueue {
      * Used at the end of compilation to render all warnings.
      */
     public static void printAll() {
-        warnings.forEach(warning -> logger.warning(warning.toString()));
+        getAll().forEach(warning -> logger.warning(warning.toString()));
+    }
+
+    /**
+     * Yields the warnings that have been enqueued in the current compilation context so far
+     *
+     * @return an unmodifiable copy of the queue in order of occurrence
+     */
+    public static List<Warning> getAll() {
+        final var warnings = CompilationContext.current().get(WARNINGS);
+        synchronized (warnings) {
+            return List.copyOf(warnings);
+        }
     }
 
 }
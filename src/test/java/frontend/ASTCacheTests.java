@@ -0,0 +1,96 @@
+package frontend;
+
+import frontend.ast.AST;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+/**
+ * Tests if the AST cache yields the same AST as parsing the files, and if it never uses stale entries
+ */
+class ASTCacheTests {
+
+    private static final File DOCUMENT = new File(FrontEndBridge.DOCUMENT_FILE_PATH);
+    private static final File BIBLIOGRAPHY = new File(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void cached_AST_Matches_Parsed_AST() throws IOException {
+        final var cache = new ASTCache(directory);
+
+        final var parsed = new FrontEndBridge(DOCUMENT, BIBLIOGRAPHY);
+        parsed.setCache(cache);
+        Assertions.assertTrue(parsed.parse());
+        Assertions.assertNotNull(cache.load(cache.keyOf(DOCUMENT, BIBLIOGRAPHY)));
+
+        final var loaded = new FrontEndBridge(DOCUMENT, BIBLIOGRAPHY);
+        loaded.setCache(cache);
+        Assertions.assertTrue(loaded.parse());
+
+        Assertions.assertNotSame(parsed.getAst(), loaded.getAst());
+        Assertions.assertEquals(parsed.getAst().toString(), loaded.getAst().toString());
+        Assertions.assertFalse(loaded.containsTokens());
+    }
+
+    @Test
+    void entries_Of_Other_Versions_Are_Not_Used() throws IOException {
+        final var key = new ASTCache(directory).keyOf(DOCUMENT, BIBLIOGRAPHY);
+        new ASTCache(directory).store(key, parse());
+
+        Assertions.assertNull(new ASTCache(directory, ASTCache.DEFAULT_MAX_SIZE, "0.0").load(key));
+        Assertions.assertNull(new ASTCache(directory).load(key));
+    }
+
+    @Test
+    void corrupt_Entries_Are_Not_Used() throws IOException {
+        final var cache = new ASTCache(directory);
+        cache.store("corrupt", parse());
+
+        final var entry = directory.resolve("corrupt.ast");
+        final var bytes = Files.readAllBytes(entry);
+        Files.write(entry, Arrays.copyOf(bytes, bytes.length / 2));
+
+        Assertions.assertNull(cache.load("corrupt"));
+        Assertions.assertFalse(Files.exists(entry));
+    }
+
+    @Test
+    void least_Recently_Used_Entries_Are_Evicted() throws IOException {
+        final var ast = parse();
+        new ASTCache(directory).store("size", ast);
+        final long entrySize = Files.size(directory.resolve("size.ast"));
+        Files.delete(directory.resolve("size.ast"));
+
+        final var cache = new ASTCache(directory, 2 * entrySize + entrySize / 2);
+        cache.store("first", ast);
+        cache.store("second", ast);
+        Assertions.assertNotNull(cache.load("first"));
+
+        // File systems that store modification times in steps of seconds make entries used in quick succession tie
+        final var tie = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(directory.resolve("first.ast"), tie);
+        Files.setLastModifiedTime(directory.resolve("second.ast"), tie);
+        cache.store("third", ast);
+
+        Assertions.assertNotNull(cache.load("first"));
+        Assertions.assertNull(cache.load("second"));
+        Assertions.assertNotNull(cache.load("third"));
+    }
+
+    private static AST parse() throws IOException {
+        final var bridge = new FrontEndBridge(DOCUMENT, BIBLIOGRAPHY);
+        bridge.parse();
+
+        return bridge.getAst();
+    }
+
+}
@@ -0,0 +1,62 @@
+package frontend;
+
+import frontend.ast.AST;
+import frontend.ast.config.style.Citation;
+import frontend.ast.paragraph.Paragraph;
+import frontend.lexical_analysis.LexerEngine;
+import frontend.parsing.Parser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests if the AST of a generated document with 10,000 paragraphs stores repeated values only once.
+ * The retained heap per paragraph depends on the garbage collector and JVM, so it is not asserted, but reported by
+ * the ASTFootprintBenchmark.
+ */
+class ASTFootprintTests {
+
+    private static final int PARAGRAPHS = 10_000;
+
+    @Test
+    void repeated_Values_Are_Shared() {
+        final var ast = parse(generateDocument());
+        Assertions.assertEquals(PARAGRAPHS, ast.getDocumentBody().size());
+
+        final var first = citationOf(ast, 0);
+        final var repeated = citationOf(ast, 800);
+        Assertions.assertEquals("HP0", repeated.getSource());
+        Assertions.assertSame(first.getSource(), repeated.getSource());
+        Assertions.assertSame(first.getNumeration(), repeated.getNumeration());
+    }
+
+    private static Citation citationOf(final AST ast, final int paragraph) {
+        final var instructions = ((Paragraph) ast.getDocumentBody().get(paragraph)).getParagraphInstructions();
+
+        return (Citation) instructions.get(instructions.size() - 1);
+    }
+
+    private static AST parse(final String document) {
+        final var parser = new Parser(new FrontEndBridge(document, LexerEngine.TABLE));
+        parser.start();
+
+        return parser.getAst();
+    }
+
+    private static String generateDocument() {
+        final var document = new StringBuilder("""
+                config
+                	title "A Synthetic Document"
+                	author "Some Author"
+
+                """);
+
+        for (int i = 0; i < PARAGRAPHS; i++) {
+            document.append("\"The paragraph number ").append(i).append(" contains some text.\"\n");
+            document.append("emphasise \"Some emphasis\"\n");
+            document.append("citation \"HP").append(i % 8).append("\", \"").append(i % 100).append("\"\n\n");
+        }
+
+        return document.toString();
+    }
+
+}
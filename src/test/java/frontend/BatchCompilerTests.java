@@ -0,0 +1,78 @@
+package frontend;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tests if the batch compiler finds the projects of folders and lists, and if a broken project does not stop the
+ * other projects of the batch
+ */
+class BatchCompilerTests {
+
+    private static final int PROJECTS = 6;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void broken_Project_Does_Not_Stop_The_Batch() throws IOException {
+        for (int i = 0; i < PROJECTS; i++) createProject("project" + i, Path.of(FrontEndBridge.DOCUMENT_FILE_PATH));
+        final var broken = createProject("broken", null);
+        Files.writeString(broken.resolve(BatchCompiler.DOCUMENT_FILE_NAME), "unknown instruction\n");
+
+        final var projects = BatchCompiler.findProjects(List.of(directory));
+        Assertions.assertEquals(PROJECTS + 1, projects.size());
+
+        final var summary = new BatchCompiler(3).compile(projects);
+
+        Assertions.assertEquals(PROJECTS + 1, summary.results().size());
+        Assertions.assertEquals(1, summary.failures().size());
+        Assertions.assertEquals(broken.toAbsolutePath(), summary.failures().get(0).project());
+
+        final var expectedWarnings = summary.results().get(1).warnings();
+        Assertions.assertFalse(expectedWarnings.isEmpty());
+        for (var result : summary.results()) {
+            if (!result.succeeded()) continue;
+
+            Assertions.assertTrue(Files.size(result.project().resolve(BatchCompiler.OUTPUT_FILE_NAME)) > 0);
+            Assertions.assertEquals(expectedWarnings, result.warnings());
+        }
+    }
+
+    @Test
+    void projects_Are_Found_In_Folders_And_Lists() throws IOException {
+        final var single = createProject("single", null);
+        final var group = Files.createDirectory(directory.resolve("group"));
+        final var first = createProject("group/first", null);
+        final var second = createProject("group/second", null);
+        Files.createDirectory(group.resolve("no project"));
+
+        final var list = Files.writeString(directory.resolve("projects.txt"), """
+                # nightly build
+                group
+
+                single
+                group/first
+                """);
+
+        Assertions.assertEquals(List.of(first, second, single), BatchCompiler.findProjects(List.of(list)));
+        Assertions.assertThrows(IOException.class, () -> BatchCompiler.findProjects(List.of(
+                Files.writeString(directory.resolve("nested.txt"), "projects.txt"))));
+    }
+
+    private Path createProject(final String name, final Path document) throws IOException {
+        final var project = Files.createDirectories(directory.resolve(name));
+        if (document != null) Files.copy(document, project.resolve(BatchCompiler.DOCUMENT_FILE_NAME));
+        else Files.writeString(project.resolve(BatchCompiler.DOCUMENT_FILE_NAME), "");
+        Files.copy(Path.of(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH), project.resolve(BatchCompiler.BIBLIOGRAPHY_FILE_NAME));
+
+        return project.toAbsolutePath().normalize();
+    }
+
+}
@@ -0,0 +1,102 @@
+package frontend;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+/**
+ * Tests if the build cache returns the stored document of unchanged inputs, misses once a dependency changes, and
+ * evicts the least recently used entries
+ */
+class BuildCacheTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void unchanged_Project_Is_Loaded_From_The_Cache_Until_A_Dependency_Changes() throws IOException {
+        final var project = Files.createDirectory(directory.resolve("project"));
+        Files.copy(Path.of(FrontEndBridge.DOCUMENT_FILE_PATH), project.resolve(BatchCompiler.DOCUMENT_FILE_NAME));
+        Files.copy(Path.of(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH), project.resolve(BatchCompiler.BIBLIOGRAPHY_FILE_NAME));
+        final var output = project.resolve(BatchCompiler.OUTPUT_FILE_NAME);
+
+        final var buildCache = new BuildCache(directory.resolve("cache"));
+        final var compiler = new BatchCompiler(1);
+        compiler.setBuildCache(buildCache);
+
+        final var first = compiler.compile(project);
+        Assertions.assertTrue(first.succeeded(), first::toString);
+        Assertions.assertEquals(1, buildCache.entries().size());
+        final var document = Files.readAllBytes(output);
+
+        Files.delete(output);
+        final var second = compiler.compile(project);
+        Assertions.assertTrue(second.succeeded(), second::toString);
+        Assertions.assertEquals(first.warnings(), second.warnings());
+        Assertions.assertArrayEquals(document, Files.readAllBytes(output));
+
+        final var key = buildCache.keyOf(project.resolve(BatchCompiler.DOCUMENT_FILE_NAME).toFile(),
+                project.resolve(BatchCompiler.BIBLIOGRAPHY_FILE_NAME).toFile());
+        final var dependency = directory.resolve("font.ttf");
+        Files.writeString(dependency, "first");
+        buildCache.store(key, output, List.of(dependency), List.of());
+        Assertions.assertNotNull(buildCache.load(key));
+
+        Files.writeString(dependency, "second");
+        Assertions.assertNull(buildCache.load(key));
+        Assertions.assertTrue(buildCache.entries().isEmpty());
+    }
+
+    @Test
+    void equal_Documents_In_Other_Folders_Are_Compiled_Separately() throws IOException {
+        final var compiler = new BatchCompiler(1);
+        compiler.setBuildCache(new BuildCache(directory.resolve("cache")));
+
+        for (var name : List.of("a", "b")) {
+            final var project = Files.createDirectory(directory.resolve(name));
+            Files.writeString(project.resolve(BatchCompiler.DOCUMENT_FILE_NAME),
+                    Files.readString(Path.of(FrontEndBridge.DOCUMENT_FILE_PATH)) + "\ninclude \"part.pipp\"\n");
+            Files.copy(Path.of(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH),
+                    project.resolve(BatchCompiler.BIBLIOGRAPHY_FILE_NAME));
+            Files.writeString(project.resolve("part.pipp"), "\"Text of project " + name + "\"\n\n");
+
+            final var result = compiler.compile(project);
+            Assertions.assertTrue(result.succeeded(), result::toString);
+
+            try (var document = Loader.loadPDF(project.resolve(BatchCompiler.OUTPUT_FILE_NAME).toFile())) {
+                Assertions.assertTrue(new PDFTextStripper().getText(document).contains("Text of project " + name));
+            }
+        }
+    }
+
+    @Test
+    void least_Recently_Used_Entries_Are_Evicted() throws IOException {
+        final var output = Files.write(directory.resolve("document.pdf"), new byte[1000]);
+        final var buildCache = new BuildCache(directory.resolve("cache"), 2500);
+
+        final var keys = List.of("first", "second", "third");
+        for (int i = 0; i < keys.size(); i++) {
+            buildCache.store(keys.get(i), output, List.of(), List.of("Warning " + i));
+            // The file system may not distinguish entries that are stored within the same second
+            Files.setLastModifiedTime(directory.resolve("cache").resolve(keys.get(i) + ".build"),
+                    FileTime.fromMillis(i * 10_000L));
+            if (i == 1) Assertions.assertNotNull(buildCache.load("first"));
+        }
+
+        Assertions.assertNotNull(buildCache.load("first"));
+        Assertions.assertNull(buildCache.load("second"));
+        Assertions.assertEquals(List.of("Warning 2"), buildCache.load("third").warnings());
+
+        Assertions.assertEquals(2, buildCache.clear());
+        Assertions.assertTrue(buildCache.entries().isEmpty());
+    }
+
+}
@@ -0,0 +1,121 @@
+package frontend;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests if the compile server answers concurrent clients on a Unix domain socket and on a loopback port, and if a
+ * broken project is answered with its error without affecting the server
+ */
+class CompileServerTests {
+
+    private static final int CLIENTS = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void concurrent_Clients_Are_Answered_On_A_Unix_Domain_Socket() throws Exception {
+        final var projects = new ArrayList<Path>();
+        for (int i = 0; i < CLIENTS; i++) projects.add(createProject("project" + i, "Sample.pipp"));
+
+        final var socket = UnixDomainSocketAddress.of(directory.resolve("pipp.sock"));
+        try (var server = CompileServer.start(socket, new BatchCompiler(2))) {
+            final var executor = Executors.newFixedThreadPool(CLIENTS);
+            try {
+                final var responses = new ArrayList<Future<CompileClient.Response>>();
+                for (var project : projects)
+                    responses.add(executor.submit((Callable<CompileClient.Response>) () ->
+                            CompileClient.compile(server.getAddress(), project)));
+
+                final var expectedWarnings = responses.get(0).get().warnings();
+                Assertions.assertFalse(expectedWarnings.isEmpty());
+                for (int i = 0; i < CLIENTS; i++) {
+                    final var response = responses.get(i).get();
+
+                    Assertions.assertTrue(response.succeeded(), response::toString);
+                    Assertions.assertEquals(projects.get(i).resolve(BatchCompiler.OUTPUT_FILE_NAME),
+                            response.outputFile());
+                    Assertions.assertTrue(Files.size(response.outputFile()) > 0);
+                    Assertions.assertEquals(expectedWarnings, response.warnings());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        Assertions.assertFalse(Files.exists(socket.getPath()));
+    }
+
+    @Test
+    void broken_Project_Does_Not_Affect_The_Connection() throws IOException {
+        final var broken = createProject("broken", null);
+        Files.writeString(broken.resolve(BatchCompiler.DOCUMENT_FILE_NAME), "unknown instruction\n");
+        final var project = createProject("project", "Sample.pipp");
+
+        final var loopback = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        try (var server = CompileServer.start(loopback, new BatchCompiler(1))) {
+            final var responses = CompileClient.compile(server.getAddress(),
+                    List.of(broken, directory.resolve("missing"), project));
+
+            Assertions.assertFalse(responses.get(0).succeeded());
+            Assertions.assertNull(responses.get(0).outputFile());
+            Assertions.assertFalse(responses.get(1).succeeded());
+            Assertions.assertTrue(responses.get(2).succeeded(), responses.get(2)::toString);
+        }
+    }
+
+    @Test
+    void uncaught_Errors_Are_Answered_As_Failures() throws IOException {
+        final var overflowing = createProject("overflowing", "Sample.pipp");
+        final var project = createProject("project", "Sample.pipp");
+        final var compiler = new BatchCompiler(1) {
+            @Override
+            public Result compile(final Path project) {
+                if (project.equals(overflowing)) throw new StackOverflowError();
+                return super.compile(project);
+            }
+        };
+
+        final var loopback = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        try (var server = CompileServer.start(loopback, compiler)) {
+            final var responses = CompileClient.compile(server.getAddress(), List.of(overflowing, project));
+
+            Assertions.assertFalse(responses.get(0).succeeded());
+            Assertions.assertTrue(responses.get(0).error().contains("StackOverflowError"), responses.get(0).error());
+            Assertions.assertTrue(responses.get(1).succeeded(), responses.get(1)::toString);
+        }
+    }
+
+    @Test
+    void only_Local_Addresses_Are_Accepted() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                CompileServer.start(new InetSocketAddress("0.0.0.0", 0), new BatchCompiler(1)));
+        Assertions.assertEquals(new InetSocketAddress(InetAddress.getLoopbackAddress(), 4711),
+                CompileServer.addressOf("4711"));
+    }
+
+    private Path createProject(final String name, final String document) throws IOException {
+        final var project = Files.createDirectories(directory.resolve(name));
+        if (document != null)
+            Files.copy(Path.of("src/main/resources", document), project.resolve(BatchCompiler.DOCUMENT_FILE_NAME));
+        else Files.writeString(project.resolve(BatchCompiler.DOCUMENT_FILE_NAME), "");
+        Files.copy(Path.of(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH), project.resolve(BatchCompiler.BIBLIOGRAPHY_FILE_NAME));
+
+        return project.toAbsolutePath().normalize();
+    }
+
+}
@@ -0,0 +1,107 @@
+package frontend;
+
+import creation.page.PageAssembler;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import processing.CompilationContext;
+import warning.SelfCheckWarning;
+import warning.WarningQueue;
+import warning.WarningSeverity;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests if documents that are compiled at the same time in their own compilation contexts yield the same documents
+ * and warnings as a compilation that runs on its own
+ */
+class ConcurrentCompilationTests {
+
+    private static final int COMPILATIONS = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void concurrent_Compilations_Match_Single_Compilation() throws Exception {
+        final var expected = compile(directory.resolve("expected.pdf"));
+        Assertions.assertTrue(expected.pages() > 0);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(COMPILATIONS);
+        try {
+            final var start = new CountDownLatch(1);
+            final var compilations = new ArrayList<Future<Result>>();
+            for (int i = 0; i < COMPILATIONS; i++) {
+                final var outputFile = directory.resolve("out" + i + ".pdf");
+                compilations.add(executor.submit(() -> {
+                    start.await();
+                    return compile(outputFile);
+                }));
+            }
+            start.countDown();
+
+            for (var compilation : compilations) Assertions.assertEquals(expected, compilation.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void contexts_Do_Not_Share_Warnings() {
+        final var first = new CompilationContext(directory.resolve("first.pdf"));
+        final var second = new CompilationContext(directory.resolve("second.pdf"));
+
+        first.run(() -> WarningQueue.enqueue(new SelfCheckWarning("Only in the first context", WarningSeverity.LOW)));
+
+        first.run(() -> Assertions.assertEquals(1, WarningQueue.getAll().size()));
+        second.run(() -> Assertions.assertTrue(WarningQueue.getAll().isEmpty()));
+    }
+
+    @Test
+    void state_Is_Only_Available_Within_A_Compilation() {
+        Assertions.assertThrows(IllegalStateException.class, CompilationContext::current);
+        Assertions.assertThrows(IllegalStateException.class, WarningQueue::getAll);
+    }
+
+    /**
+     * Tests if a compilation that fails after its document has been created closes the document
+     */
+    @Test
+    void failed_Compilations_Close_Their_Document() throws IOException {
+        final var documentFile = Files.writeString(directory.resolve("document.pipp"),
+                "\"Some text\"\n\nimage \"Missing.png\", \"100\", \"50\"\n");
+        final var context = new CompilationContext(directory.resolve("document.pdf"), directory);
+        final var bridge = new FrontEndBridge(documentFile.toFile(), new File(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH));
+
+        Assertions.assertThrows(RuntimeException.class, () -> bridge.compile(context));
+        context.run(() -> Assertions.assertTrue(PageAssembler.getDocument().getDocument().isClosed()));
+    }
+
+    private static Result compile(final Path outputFile) throws IOException {
+        final var context = new CompilationContext(outputFile);
+        new FrontEndBridge(new File(FrontEndBridge.DOCUMENT_FILE_PATH), new File(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH))
+                .compile(context);
+
+        final var warnings = new ArrayList<String>();
+        context.run(() -> WarningQueue.getAll().forEach(warning -> warnings.add(warning.toString())));
+
+        try (var document = Loader.loadPDF(outputFile.toFile())) {
+            return new Result(document.getNumberOfPages(), new PDFTextStripper().getText(document), warnings);
+        }
+    }
+
+    private record Result(int pages, String text, List<String> warnings) {
+    }
+
+}
@@ -0,0 +1,103 @@
+package frontend;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests if the watcher rebuilds the document once one of its dependencies changes, and if only changes of the
+ * document itself let it parse the document again
+ */
+class DocumentWatcherTests {
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void changed_Dependencies_Trigger_Rebuilds() throws Exception {
+        final var project = Files.createDirectory(directory.resolve("project"));
+        final var document = project.resolve(BatchCompiler.DOCUMENT_FILE_NAME);
+        final var bibliography = project.resolve(BatchCompiler.BIBLIOGRAPHY_FILE_NAME);
+        final var image = Files.createDirectory(project.resolve(BatchCompiler.IMAGE_FOLDER_NAME)).resolve("dot.png");
+        final var unrelated = project.resolve("notes.txt");
+
+        Files.writeString(document, Files.readString(Path.of(FrontEndBridge.DOCUMENT_FILE_PATH)) +
+                "\nimage \"dot.png\"\n");
+        Files.copy(Path.of(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH), bibliography);
+        writeImage(image, 0xFF0000);
+
+        final BlockingQueue<DocumentWatcher.Build> builds = new LinkedBlockingQueue<>();
+        final var watcher = new DocumentWatcher(document.toFile(), bibliography.toFile(),
+                project.resolve(BatchCompiler.OUTPUT_FILE_NAME), project.resolve(BatchCompiler.IMAGE_FOLDER_NAME),
+                new ASTCache(directory.resolve("cache")));
+        final var thread = new Thread(() -> {
+            try {
+                watcher.run(builds::add);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+
+        try {
+            final var first = next(builds);
+            Assertions.assertTrue(first.succeeded(), first::toString);
+            Assertions.assertTrue(first.documentParsed());
+
+            Files.writeString(unrelated, "Not part of the document");
+            Files.writeString(bibliography, Files.readString(bibliography) + "\n");
+            final var bibliographyBuild = next(builds);
+            Assertions.assertEquals(Set.of(bibliography.toAbsolutePath()), bibliographyBuild.changedFiles());
+            Assertions.assertFalse(bibliographyBuild.documentParsed());
+            Assertions.assertTrue(bibliographyBuild.succeeded(), bibliographyBuild::toString);
+
+            writeImage(image, 0x0000FF);
+            final var imageBuild = next(builds);
+            Assertions.assertEquals(Set.of(image.toAbsolutePath()), imageBuild.changedFiles());
+            Assertions.assertFalse(imageBuild.documentParsed());
+            Assertions.assertTrue(imageBuild.succeeded(), imageBuild::toString);
+
+            Files.writeString(document, "\"Only one sentence.\"\n", StandardOpenOption.APPEND);
+            final var documentBuild = next(builds);
+            Assertions.assertEquals(Set.of(document.toAbsolutePath()), documentBuild.changedFiles());
+            Assertions.assertTrue(documentBuild.documentParsed());
+            Assertions.assertTrue(documentBuild.succeeded(), documentBuild::toString);
+        } finally {
+            watcher.close();
+            thread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        }
+
+        Assertions.assertFalse(thread.isAlive());
+        Assertions.assertTrue(builds.isEmpty());
+    }
+
+    private static DocumentWatcher.Build next(final BlockingQueue<DocumentWatcher.Build> builds)
+            throws InterruptedException {
+        final var build = builds.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assertions.assertNotNull(build, "The watcher has not built the document in time");
+
+        return build;
+    }
+
+    private static void writeImage(final Path file, final int colour) throws IOException {
+        final var image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < image.getWidth(); x++)
+            for (int y = 0; y < image.getHeight(); y++) image.setRGB(x, y, colour);
+
+        ImageIO.write(image, "png", file.toFile());
+    }
+
+}
@@ -0,0 +1,58 @@
+package frontend;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Tests if streaming the files while parsing, and parsing the bibliography concurrently, yield the same AST as
+ * scanning and parsing the files one after the other
+ */
+class FrontEndBridgeTests {
+
+    private static final File BIBLIOGRAPHY = new File(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH);
+
+    /**
+     * Tests if both modes yield the same AST for the sample documents
+     */
+    @Test
+    void streaming_Yields_Same_AST() throws IOException {
+        for (var path : new String[]{"src/main/resources/Sample.pipp", "src/main/resources/Another.pipp"}) {
+            final var streamed = new FrontEndBridge(new File(path), BIBLIOGRAPHY, true);
+            final var scanned = new FrontEndBridge(new File(path), BIBLIOGRAPHY, false);
+
+            final var streamedResult = parse(streamed);
+            final var scannedResult = parse(scanned);
+
+            Assertions.assertEquals(scannedResult, streamedResult, path);
+        }
+    }
+
+    /**
+     * Tests if parsing the bibliography concurrently yields the same AST for the sample documents
+     */
+    @Test
+    void concurrent_Bibliography_Yields_Same_AST() throws IOException {
+        for (var path : new String[]{"src/main/resources/Sample.pipp", "src/main/resources/Another.pipp"}) {
+            for (boolean streaming : new boolean[]{true, false}) {
+                final var concurrent = new FrontEndBridge(new File(path), BIBLIOGRAPHY, streaming, true);
+                final var sequential = new FrontEndBridge(new File(path), BIBLIOGRAPHY, streaming, false);
+
+                Assertions.assertEquals(parse(sequential), parse(concurrent), path);
+            }
+        }
+    }
+
+    private static String parse(final FrontEndBridge bridge) throws IOException {
+        try {
+            bridge.parse();
+        } catch (RuntimeException e) {
+            return e.getClass() + ": " + e.getMessage();
+        }
+
+        return bridge.getAst().toString();
+    }
+
+}
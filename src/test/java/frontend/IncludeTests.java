@@ -0,0 +1,163 @@
+package frontend;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tests if included files are parsed into the body of the document in the order of the include instructions
+ */
+class IncludeTests {
+
+    private static final File BIBLIOGRAPHY = new File(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH);
+
+    private static final String CONFIGURATION = """
+            config
+            	title "Included"
+
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void included_Files_Are_Merged_In_Order() throws IOException {
+        final var document = write("document.pipp", CONFIGURATION + """
+                "The first paragraph"
+
+                include "chapters/one.pipp"
+                "The second paragraph"
+
+                include "chapters/two.pipp"
+                """);
+        write("chapters/one.pipp", """
+                chapter "One"
+                "Inside one"
+
+                include "nested.pipp"
+                """);
+        write("chapters/nested.pipp", """
+                "Nested paragraph"
+
+                """);
+        write("chapters/two.pipp", """
+                chapter "Two"
+                "Inside two"
+
+                """);
+        final var inlined = write("inlined.pipp", CONFIGURATION + """
+                "The first paragraph"
+
+                chapter "One"
+                "Inside one"
+
+                "Nested paragraph"
+
+                "The second paragraph"
+
+                chapter "Two"
+                "Inside two"
+
+                """);
+
+        final var bridge = new FrontEndBridge(document, BIBLIOGRAPHY);
+        Assertions.assertTrue(bridge.parse());
+
+        Assertions.assertEquals(parse(inlined), bridge.getAst().toString());
+        Assertions.assertEquals(List.of(
+                new File(directory.toFile(), "chapters/one.pipp"),
+                new File(directory.toFile(), "chapters/nested.pipp"),
+                new File(directory.toFile(), "chapters/two.pipp")), bridge.getIncludedFiles());
+    }
+
+    @Test
+    void errors_Refer_To_The_Included_File() throws IOException {
+        final var document = write("document.pipp", CONFIGURATION + """
+                include "one.pipp"
+                include "two.pipp"
+                """);
+        write("one.pipp", "\"Valid\"\n\n");
+        write("two.pipp", "\"Valid\"\n\nconfig\n");
+
+        final var error = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new FrontEndBridge(document, BIBLIOGRAPHY).parse());
+
+        Assertions.assertTrue(error.getMessage().contains(new File(directory.toFile(), "two.pipp") + ":3"),
+                error.getMessage());
+    }
+
+    @Test
+    void missing_And_Cyclic_Includes_Are_Rejected() throws IOException {
+        final var missing = write("missing.pipp", CONFIGURATION + "include \"nothing.pipp\"\n");
+        final var missingError = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new FrontEndBridge(missing, BIBLIOGRAPHY).parse());
+        Assertions.assertTrue(missingError.getMessage().contains("nothing.pipp"), missingError.getMessage());
+
+        final var cyclic = write("cyclic.pipp", CONFIGURATION + "include \"loop.pipp\"\n");
+        write("loop.pipp", "include \"cyclic.pipp\"\n");
+        final var cyclicError = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new FrontEndBridge(cyclic, BIBLIOGRAPHY).parse());
+        Assertions.assertTrue(cyclicError.getMessage().contains("includes itself"), cyclicError.getMessage());
+    }
+
+    @Test
+    void cache_Is_Not_Used_Once_An_Included_File_Changes() throws IOException {
+        final var cache = new ASTCache(directory.resolve("cache"));
+        final var document = write("document.pipp", CONFIGURATION + "include \"one.pipp\"\n");
+        write("one.pipp", "\"Before\"\n\n");
+
+        final var first = new FrontEndBridge(document, BIBLIOGRAPHY);
+        first.setCache(cache);
+        first.parse();
+
+        write("one.pipp", "\"After\"\n\n");
+        final var second = new FrontEndBridge(document, BIBLIOGRAPHY);
+        second.setCache(cache);
+        second.parse();
+
+        Assertions.assertTrue(second.getAst().toString().contains("After"));
+    }
+
+    @Test
+    void equal_Documents_In_Other_Folders_Include_Their_Own_Files() throws IOException {
+        final var cache = new ASTCache(directory.resolve("cache"));
+        final var documentA = write("a/document.pipp", CONFIGURATION + "include \"part.pipp\"\n");
+        final var documentB = write("b/document.pipp", CONFIGURATION + "include \"part.pipp\"\n");
+        write("a/part.pipp", "\"Text of project A\"\n\n");
+        final var partB = write("b/part.pipp", "\"Text of project B\"\n\n");
+
+        final var first = new FrontEndBridge(documentA, BIBLIOGRAPHY);
+        first.setCache(cache);
+        first.parse();
+
+        final var second = new FrontEndBridge(documentB, BIBLIOGRAPHY);
+        second.setCache(cache);
+        second.parse();
+
+        Assertions.assertFalse(second.isLoadedFromCache());
+        Assertions.assertTrue(second.getAst().toString().contains("Text of project B"));
+        Assertions.assertEquals(List.of(partB), second.getIncludedFiles());
+    }
+
+    private File write(final String path, final String content) throws IOException {
+        final var file = directory.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+
+        return file.toFile();
+    }
+
+    private static String parse(final File document) throws IOException {
+        final var bridge = new FrontEndBridge(document, BIBLIOGRAPHY);
+        bridge.parse();
+
+        return bridge.getAst().toString();
+    }
+
+}
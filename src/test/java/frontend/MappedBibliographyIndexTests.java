@@ -0,0 +1,109 @@
+package frontend;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Tests if the mapped bibliography index yields the same entries as parsing the bibliography, and if the index file
+ * is only rebuilt once the bibliography changes
+ */
+class MappedBibliographyIndexTests {
+
+    private static final File BIBLIOGRAPHY = new File(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH);
+
+    private static final int GENERATED_ENTRIES = 5_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void indexed_Entries_Match_Full_Parse() throws IOException {
+        final var sources = new FrontEndBridge(Files.readString(BIBLIOGRAPHY.toPath()), true).getAst()
+                .getBibliographySources();
+        final var index = MappedBibliographyIndex.open(BIBLIOGRAPHY, directory.resolve("bibliography.index"));
+
+        Assertions.assertTrue(index.hasBeenBuilt());
+        Assertions.assertEquals(sources.size(), index.size());
+        for (var source : sources)
+            Assertions.assertEquals(source.toString(), index.parse(source.getId()).toString());
+
+        Assertions.assertNull(index.parse("Unknown"));
+        Assertions.assertFalse(index.contains(""));
+    }
+
+    @Test
+    void every_Id_Of_A_Large_Bibliography_Is_Found() throws IOException {
+        final var text = new StringBuilder("bibliography\n");
+        for (int i = 0; i < GENERATED_ENTRIES; i++)
+            text.append("\tid \"").append(i % 3 == 0 ? "Äntry " : "entry ").append(i).append("\"\n")
+                    .append("\t\ttitle \"Title ").append(i).append("\"\n");
+        final var bibliography = write("large.pipp", text.toString());
+
+        final var index = MappedBibliographyIndex.open(bibliography, directory.resolve("large.index"));
+
+        Assertions.assertEquals(GENERATED_ENTRIES, index.size());
+        for (int i = 0; i < GENERATED_ENTRIES; i++) {
+            final var id = (i % 3 == 0 ? "Äntry " : "entry ") + i;
+            Assertions.assertEquals("Title " + i, index.parse(id).getTitle(), id);
+        }
+        Assertions.assertFalse(index.contains("entry " + GENERATED_ENTRIES));
+    }
+
+    @Test
+    void index_File_Is_Only_Rebuilt_Once_The_Bibliography_Changes() throws IOException {
+        final var indexFile = directory.resolve("bibliography.index");
+        final var bibliography = write("bibliography.pipp", """
+                bibliography
+                	id "A"
+                		title "First"
+                	id "A"
+                		title "Duplicate"
+                """);
+
+        Assertions.assertTrue(MappedBibliographyIndex.open(bibliography, indexFile).hasBeenBuilt());
+
+        final var reused = MappedBibliographyIndex.open(bibliography, indexFile);
+        Assertions.assertFalse(reused.hasBeenBuilt());
+        Assertions.assertEquals("First", reused.parse("A").getTitle());
+        Assertions.assertEquals(1, reused.getDuplicateIds().size());
+        Assertions.assertEquals("A", reused.getDuplicateIds().get(0));
+
+        write("bibliography.pipp", """
+                bibliography
+                	id "A"
+                		title "Changed"
+                """);
+        final var rebuilt = MappedBibliographyIndex.open(bibliography, indexFile);
+        Assertions.assertTrue(rebuilt.hasBeenBuilt());
+        Assertions.assertEquals("Changed", rebuilt.parse("A").getTitle());
+        Assertions.assertTrue(rebuilt.getDuplicateIds().isEmpty());
+    }
+
+    @Test
+    void corrupt_Index_File_Is_Rebuilt() throws IOException {
+        final var indexFile = directory.resolve("bibliography.index");
+        MappedBibliographyIndex.open(BIBLIOGRAPHY, indexFile);
+
+        final var bytes = Files.readAllBytes(indexFile);
+        Files.write(indexFile, Arrays.copyOf(bytes, bytes.length / 2));
+
+        final var index = MappedBibliographyIndex.open(BIBLIOGRAPHY, indexFile);
+        Assertions.assertTrue(index.hasBeenBuilt());
+        Assertions.assertNotNull(index.parse("HP1"));
+    }
+
+    private File write(final String path, final String content) throws IOException {
+        final var file = directory.resolve(path);
+        Files.writeString(file, content);
+
+        return file.toFile();
+    }
+
+}
@@ -0,0 +1,112 @@
+package frontend;
+
+import frontend.lexical_analysis.DebugTokenInfo;
+import frontend.lexical_analysis.Scanner;
+import frontend.lexical_analysis.Token;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests if reading a memory-mapped file yields the same tokens as scanning the same text directly.
+ * Small chunk sizes are used to make sure that characters are not lost or duplicated at the chunk borders.
+ */
+class MappedFileReaderTests {
+
+    private static final String INPUT = """
+            config
+            	title "Schlüssel, Straße und Größe"
+            # Ein Kommentar mit Ümlauten
+            "Multi-byte characters like € and 😀 should survive chunk borders.
+            Even when the \\"text\\" spans multiple lines."
+            citation "HP1", "77"
+            """;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests if the tokens of the mapped file are equal to the tokens of the scanned text for several chunk sizes
+     */
+    @Test
+    void mapped_File_Yields_Same_Tokens_As_Text() throws IOException {
+        final var file = directory.resolve("document.pipp");
+        Files.writeString(file, INPUT, StandardCharsets.UTF_8);
+
+        final var expected = drain(new FrontEndBridge(INPUT));
+
+        for (int chunkSize : new int[]{2, 3, 7, 64, MappedFileReader.DEFAULT_CHUNK_SIZE}) {
+            final var bridge = new FrontEndBridge("");
+            final var scanner = new Scanner(bridge);
+
+            new MappedFileReader(chunkSize).read(file.toFile(), scanner);
+            scanner.submitToken();
+
+            Assertions.assertEquals(expected, drain(bridge));
+        }
+    }
+
+    /**
+     * Tests if an empty file does not produce any tokens
+     */
+    @Test
+    void empty_File_Yields_No_Tokens() throws IOException {
+        final var file = directory.resolve("empty.pipp");
+        Files.createFile(file);
+
+        final var bridge = new FrontEndBridge("");
+        final var scanner = new Scanner(bridge);
+        new MappedFileReader().read(file.toFile(), scanner);
+        scanner.submitToken();
+
+        Assertions.assertFalse(bridge.containsTokens());
+    }
+
+    /**
+     * Tests if the debug information that is rebuilt by reading the file again equals the debug information of the
+     * retained characters
+     */
+    @Test
+    void debug_Info_Of_File_Equals_Debug_Info_Of_Text() throws IOException {
+        final var file = directory.resolve("document.pipp");
+        Files.writeString(file, INPUT, StandardCharsets.UTF_8);
+
+        final var textBridge = new FrontEndBridge("");
+        final var textScanner = new Scanner(textBridge);
+        textScanner.resetFile(file.toString());
+        final var characters = INPUT.toCharArray();
+        textScanner.scan(characters, 0, characters.length);
+        textScanner.submitToken();
+
+        final var fileBridge = new FrontEndBridge("");
+        final var fileScanner = new Scanner(fileBridge);
+        fileScanner.resetFile(file.toString(), file.toFile());
+        new MappedFileReader(7).read(file.toFile(), fileScanner);
+        fileScanner.submitToken();
+
+        Assertions.assertEquals(drainDebugInfo(textBridge), drainDebugInfo(fileBridge));
+    }
+
+    private static List<Token> drain(final FrontEndBridge bridge) {
+        final var tokens = new ArrayList<Token>();
+        while (bridge.containsTokens()) tokens.add(bridge.dequeueToken());
+        return tokens;
+    }
+
+    private static List<DebugTokenInfo> drainDebugInfo(final FrontEndBridge bridge) {
+        final var debugInfo = new ArrayList<DebugTokenInfo>();
+        while (bridge.containsTokens()) {
+            bridge.dequeueToken();
+            debugInfo.add(bridge.getDequeuedDebugInfo());
+        }
+        return debugInfo;
+    }
+
+}
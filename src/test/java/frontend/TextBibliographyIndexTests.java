@@ -0,0 +1,90 @@
+package frontend;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Tests if the bibliography index yields the same entries as parsing the whole bibliography, while only parsing
+ * the requested entries
+ */
+class TextBibliographyIndexTests {
+
+    private static final File BIBLIOGRAPHY = new File(FrontEndBridge.BIBLIOGRAPHY_FILE_PATH);
+
+    @Test
+    void indexed_Entries_Match_Full_Parse() throws IOException {
+        final var text = Files.readString(BIBLIOGRAPHY.toPath());
+        final var sources = new FrontEndBridge(text, true).getAst().getBibliographySources();
+        final var index = new TextBibliographyIndex(text);
+
+        Assertions.assertEquals(sources.size(), index.size());
+        Assertions.assertEquals(0, index.getParsedEntries());
+
+        for (var source : sources)
+            Assertions.assertEquals(source.toString(), index.parse(source.getId()).toString());
+
+        Assertions.assertEquals(sources.size(), index.getParsedEntries());
+        Assertions.assertNull(index.parse("Unknown"));
+    }
+
+    @Test
+    void ids_In_Texts_And_Comments_Do_Not_Start_Entries() {
+        final var index = new TextBibliographyIndex("""
+                # A comment
+                bibliography
+                	id "First  \\"one\\""
+                		title "A title that mentions
+                	id "Hidden"
+                		which is still part of the text"
+                # 	id "Commented"
+                	id "Second"
+                		title "Another title"
+                """);
+
+        Assertions.assertEquals(2, index.size());
+        Assertions.assertTrue(index.contains("First \"one\""));
+        Assertions.assertFalse(index.contains("Hidden"));
+        Assertions.assertFalse(index.contains("Commented"));
+        Assertions.assertEquals("Another title", index.parse("Second").getTitle());
+    }
+
+    @Test
+    void duplicate_Ids_Are_Found_Without_Parsing() {
+        final var index = new TextBibliographyIndex("""
+                bibliography
+                	id "A"
+                		title "First"
+                	id "B"
+                		title "Second"
+                	id "A"
+                		title "Third"
+                """);
+
+        Assertions.assertEquals(1, index.getDuplicateIds().size());
+        Assertions.assertEquals("A", index.getDuplicateIds().get(0));
+        Assertions.assertEquals("First", index.parse("A").getTitle());
+        Assertions.assertEquals(1, index.getParsedEntries());
+    }
+
+    @Test
+    void invalid_Entry_Is_Reported_With_Its_Line_Once_Requested() {
+        final var index = new TextBibliographyIndex("""
+                bibliography
+                	id "Valid"
+                		title "Title"
+                	id "Invalid"
+                		title "Title"
+                		unknown "Value"
+                """);
+
+        Assertions.assertEquals("Title", index.parse("Valid").getTitle());
+
+        final var error = Assertions.assertThrows(IllegalArgumentException.class, () -> index.parse("Invalid"));
+        Assertions.assertTrue(error.getMessage().contains(":6"), error.getMessage());
+    }
+
+}
@@ -0,0 +1,92 @@
+package frontend;
+
+import frontend.lexical_analysis.SourceMap;
+import frontend.lexical_analysis.Token;
+import frontend.lexical_analysis.TokenType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests if the token queue keeps the order of its tokens while wrapping around and growing
+ */
+class TokenQueueTests {
+
+    /**
+     * Tests if interleaved enqueuing and dequeuing keeps the order of the tokens and the lookahead indices
+     */
+    @Test
+    void order_Is_Kept_When_Wrapping_And_Growing() {
+        final var queue = new TokenQueue();
+        int enqueued = 0;
+        int dequeued = 0;
+
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 37; i++) queue.enqueue(new Token(TokenType.TEXT, "" + enqueued++));
+            for (int i = 0; i < 20; i++) {
+                Assertions.assertEquals("" + (dequeued + 1), queue.get(1).getValue());
+                Assertions.assertEquals("" + dequeued++, queue.dequeue().getValue());
+            }
+        }
+
+        Assertions.assertEquals(enqueued - dequeued, queue.size());
+
+        queue.compact();
+        while (!queue.isEmpty()) Assertions.assertEquals("" + dequeued++, queue.dequeue().getValue());
+        Assertions.assertEquals(enqueued, dequeued);
+    }
+
+    /**
+     * Tests if the positions of shared tokens are kept when wrapping and growing, and if unshared tokens keep their
+     * own debug information
+     */
+    @Test
+    void positions_Of_Shared_Tokens_Are_Kept() {
+        final var queue = new TokenQueue();
+        final var source = new SourceMap("test.pipp");
+        int enqueued = 0;
+        int dequeued = 0;
+
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 37; i++) {
+                final int line = ++enqueued;
+                if (line % 2 == 0) queue.enqueue(new Token(TokenType.TEXT, "" + line));
+                else queue.enqueue(scanNewLine(), source, line, 2 * line);
+            }
+
+            for (int i = 0; i < 20; i++) {
+                final var token = queue.dequeue();
+                final var debugInfo = queue.getDequeuedDebugInfo();
+                dequeued++;
+
+                if (dequeued % 2 == 0) Assertions.assertSame(token.getDebugInfo(), debugInfo);
+                else {
+                    Assertions.assertTrue(token.isShared());
+                    Assertions.assertEquals(dequeued, debugInfo.getLineNumber());
+                    Assertions.assertEquals("test.pipp", debugInfo.getFilePath());
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests if accessing an empty queue or an index outside the queue throws an exception
+     */
+    @Test
+    void invalid_Access_Throws() {
+        final var queue = new TokenQueue();
+        Assertions.assertThrows(IllegalStateException.class, queue::dequeue);
+
+        queue.enqueue(new Token(TokenType.NEW_LINE, "\n"));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> queue.get(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> queue.get(-1));
+    }
+
+    /**
+     * Yields the NEW_LINE token of the scanner, which is shared
+     */
+    private static Token scanNewLine() {
+        final var bridge = new FrontEndBridge("\n");
+        return bridge.dequeueToken();
+    }
+
+}
@@ -0,0 +1,90 @@
+package frontend.ast;
+
+import frontend.ast.paragraph.Paragraph;
+import frontend.ast.paragraph.Text;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Tests if the AST dumper writes the tree of the AST and stays within its depth and size limits
+ */
+class ASTDumperTests {
+
+    private static final int PARAGRAPHS = 100_000;
+
+    @Test
+    void dump_Contains_Fields_Of_Nested_Nodes() {
+        final var ast = new AST();
+        ast.enqueueDocumentNode(paragraphOf("First"));
+
+        final var dump = new ASTDumper().dump(ast);
+
+        Assertions.assertTrue(dump.startsWith("AST"), dump);
+        Assertions.assertTrue(dump.contains("documentBody: [1]"), dump);
+        Assertions.assertTrue(dump.contains("content: \"First\""), dump);
+    }
+
+    @Test
+    void dump_Stops_At_Maximum_Depth() {
+        final var ast = new AST();
+        ast.enqueueDocumentNode(paragraphOf("Hidden"));
+
+        final var dump = new ASTDumper(2, ASTDumper.DEFAULT_MAX_CHARACTERS).dump(ast);
+
+        Assertions.assertTrue(dump.contains("0: Paragraph ..."), dump);
+        Assertions.assertFalse(dump.contains("Hidden"), dump);
+    }
+
+    @Test
+    void dump_Of_Large_AST_Is_Bounded_While_Writing() throws IOException {
+        final var ast = new AST();
+        for (int i = 0; i < PARAGRAPHS; i++) ast.enqueueDocumentNode(paragraphOf("Paragraph " + i));
+
+        final var writer = new CountingWriter();
+        new ASTDumper(ASTDumper.DEFAULT_MAX_DEPTH, 1024).dump(ast, writer);
+
+        Assertions.assertTrue(writer.count <= 1024 + 64, "Wrote " + writer.count + " characters");
+        Assertions.assertTrue(writer.lastLine.startsWith("... (truncated"), writer.lastLine);
+    }
+
+    private static Paragraph paragraphOf(final String content) {
+        final var paragraph = new Paragraph();
+        paragraph.enqueueParagraphInstruction(new Text(content));
+
+        return paragraph;
+    }
+
+    /**
+     * Only counts the written characters and remembers the last write, so that nothing is kept in memory
+     */
+    private static final class CountingWriter extends Writer {
+
+        private long count;
+        private String lastLine = "";
+
+        @Override
+        public void write(final char[] buffer, final int offset, final int length) {
+            count += length;
+            lastLine = new String(buffer, offset, length);
+        }
+
+        @Override
+        public void write(final String string) {
+            count += string.length();
+            lastLine = string;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
+}
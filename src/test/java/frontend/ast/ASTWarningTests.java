@@ -0,0 +1,112 @@
+package frontend.ast;
+
+import error.ConfigurationException;
+import frontend.ast.bibliography.BibliographySource;
+import frontend.ast.config.person.Author;
+import frontend.ast.paragraph.Paragraph;
+import frontend.ast.paragraph.Text;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import processing.CompilationContext;
+import warning.Warning;
+import warning.WarningQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests if checking the AST for warnings in parallel yields the same warnings in the same order as checking it on
+ * one thread
+ */
+class ASTWarningTests {
+
+    private static final int SOURCES = 5_000;
+    private static final int PARAGRAPHS = 5_000;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @Test
+    void parallel_Check_Yields_Warnings_In_Source_Order() {
+        final var ast = generateAST(-1);
+
+        final var sequential = warningsOf(ast::checkForWarnings);
+        final var parallel = warningsOf(() -> ast.checkForWarnings(pool));
+
+        // The empty configuration produces a warning in front of the one of each source
+        Assertions.assertEquals(SOURCES + 1, sequential.size());
+        Assertions.assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void parallel_Check_Throws_First_Error_After_Its_Warnings() {
+        final var ast = generateAST(SOURCES / 2);
+        ast.enqueueDocumentNode(paragraphOf(" "));
+
+        final var sequential = new ArrayList<Warning>();
+        final var sequentialError = Assertions.assertThrows(ConfigurationException.class,
+                () -> collectInto(sequential, ast::checkForWarnings));
+
+        final var parallel = new ArrayList<Warning>();
+        final var parallelError = Assertions.assertThrows(ConfigurationException.class,
+                () -> collectInto(parallel, () -> ast.checkForWarnings(pool)));
+
+        Assertions.assertEquals(sequentialError.getMessage(), parallelError.getMessage());
+        Assertions.assertEquals(SOURCES / 2 + 2, parallel.size());
+        Assertions.assertEquals(textOf(sequential), textOf(parallel));
+    }
+
+    /**
+     * Generates an AST whose bibliography sources each produce one warning, followed by paragraphs
+     *
+     * @param invalidSource the index of the source whose author has no name, or -1 if all authors are valid
+     * @return the generated AST
+     */
+    private static AST generateAST(final int invalidSource) {
+        final var ast = new AST();
+
+        for (int i = 0; i < SOURCES; i++) {
+            final var author = new Author();
+            if (i != invalidSource) author.setName("Author " + i);
+            author.setEmailAddress("invalid address " + i);
+
+            final var source = new BibliographySource();
+            source.setId("Source " + i);
+            source.getAuthors().add(author);
+            ast.includeBibliographySource(source);
+        }
+
+        for (int i = 0; i < PARAGRAPHS; i++) ast.enqueueDocumentNode(paragraphOf("Paragraph " + i));
+
+        return ast;
+    }
+
+    private static Paragraph paragraphOf(final String content) {
+        final var paragraph = new Paragraph();
+        paragraph.enqueueParagraphInstruction(new Text(content));
+
+        return paragraph;
+    }
+
+    private static List<String> warningsOf(final Runnable check) {
+        final var warnings = new ArrayList<Warning>();
+        collectInto(warnings, check);
+
+        return textOf(warnings);
+    }
+
+    /**
+     * Collects the warnings of the check, which is run in a new compilation context, like the checks of a compilation
+     *
+     * @param warnings the list the warnings are added to
+     * @param check    the check that should be run
+     */
+    private static void collectInto(final List<Warning> warnings, final Runnable check) {
+        new CompilationContext().run(() -> WarningQueue.collectInto(warnings, check));
+    }
+
+    private static List<String> textOf(final List<Warning> warnings) {
+        return warnings.stream().map(Warning::toString).toList();
+    }
+
+}
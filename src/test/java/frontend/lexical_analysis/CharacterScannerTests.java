@@ -0,0 +1,101 @@
+package frontend.lexical_analysis;
+
+import frontend.FrontEndBridge;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs all scanner tests against the single character entry point of the scanner, instead of the bulk entry point.
+ * Additionally, tests if both entry points produce exactly the same tokens and debug information for the sample
+ * files, no matter how the input is split into chunks.
+ */
+class CharacterScannerTests extends ScannerTests {
+
+    private static final String[] SAMPLE_FILES = new String[]{
+            "src/main/resources/Sample.pipp",
+            "src/main/resources/Another.pipp",
+            "src/main/resources/bibliography.pipp"
+    };
+
+    /**
+     * Scans the specified text one character at a time
+     *
+     * @param text the text that should be scanned
+     * @return the bridge containing the tokens
+     */
+    @Override
+    FrontEndBridge bridgeOf(final String text) {
+        final var bridge = new FrontEndBridge("");
+        final var scanner = new Scanner(bridge);
+
+        for (int i = 0; i < text.length(); i++) scanner.scan(text.charAt(i));
+        scanner.submitToken();
+
+        return bridge;
+    }
+
+    /**
+     * Tests if the bulk entry point yields the same tokens including their debug information as the single character
+     * entry point for all sample files and several chunk sizes
+     */
+    @Test
+    void bulk_Scan_Matches_Character_Scan_For_Sample_Files() throws IOException {
+        for (var file : SAMPLE_FILES) {
+            final var text = Files.readString(Path.of(file), StandardCharsets.UTF_8);
+            final var expected = scanCharacters(text);
+
+            for (int chunkSize : new int[]{1, 2, 3, 17, 4096, Math.max(1, text.length())}) {
+                Assertions.assertEquals(expected, scanChunks(text, chunkSize), file + " with chunk size " + chunkSize);
+            }
+        }
+    }
+
+    private static List<Object> scanCharacters(final String text) {
+        final var bridge = new FrontEndBridge("");
+        final var scanner = new Scanner(bridge);
+
+        try {
+            for (int i = 0; i < text.length(); i++) scanner.scan(text.charAt(i));
+            scanner.submitToken();
+        } catch (RuntimeException e) {
+            return List.of(e.getClass(), e.getMessage());
+        }
+
+        return drain(bridge);
+    }
+
+    private static List<Object> scanChunks(final String text, final int chunkSize) {
+        final var bridge = new FrontEndBridge("");
+        final var scanner = new Scanner(bridge);
+        final var characters = text.toCharArray();
+
+        try {
+            for (int offset = 0; offset < characters.length; offset += chunkSize)
+                scanner.scan(characters, offset, Math.min(chunkSize, characters.length - offset));
+            scanner.submitToken();
+        } catch (RuntimeException e) {
+            return List.of(e.getClass(), e.getMessage());
+        }
+
+        return drain(bridge);
+    }
+
+    private static List<Object> drain(final FrontEndBridge bridge) {
+        final var tokens = new ArrayList<>();
+        while (bridge.containsTokens()) {
+            final var token = bridge.dequeueToken();
+            tokens.add(token);
+            tokens.add(bridge.getDequeuedDebugInfo());
+        }
+
+        return tokens;
+    }
+
+}
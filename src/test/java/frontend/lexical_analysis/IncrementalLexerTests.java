@@ -0,0 +1,113 @@
+package frontend.lexical_analysis;
+
+import frontend.FrontEndBridge;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests if the incremental lexer yields the same tokens and debug information as scanning the whole document again
+ */
+class IncrementalLexerTests {
+
+    private static final String FILE_PATH = "src/main/resources/Sample.pipp";
+
+    /**
+     * The fragments that are inserted by the generated edits
+     */
+    private static final String[] FRAGMENTS = new String[]{
+            "title", "chapter ", "\"Some text\"", "\"", "\\", " ", "\t", "\n", "\n\n", "\r\n", ",", "#", "x"
+    };
+
+    @Test
+    void lex_Matches_Full_Scan() throws IOException {
+        final var text = Files.readString(Path.of(FILE_PATH), StandardCharsets.UTF_8);
+        final var lexer = new IncrementalLexer(FILE_PATH);
+
+        final var diff = lexer.lex(text);
+
+        Assertions.assertEquals(0, diff.getStart());
+        Assertions.assertTrue(diff.getRemoved().isEmpty());
+        assertMatchesFullScan(lexer);
+    }
+
+    @Test
+    void edit_Only_Scans_Affected_Lines() throws IOException {
+        final var text = Files.readString(Path.of(FILE_PATH), StandardCharsets.UTF_8);
+        final var lexer = new IncrementalLexer(FILE_PATH);
+        lexer.lex(text);
+
+        final int offset = text.indexOf("\n\"", text.length() / 2) + 2;
+        final var diff = lexer.edit(offset, offset, "Edited ");
+
+        Assertions.assertTrue(diff.getStart() > 0);
+        Assertions.assertTrue(diff.getInserted().size() < lexer.getTokens().size() / 2);
+        assertMatchesFullScan(lexer);
+    }
+
+    @Test
+    void random_Edits_Match_Full_Scan() throws IOException {
+        final var random = new Random(7);
+        final var lexer = new IncrementalLexer(FILE_PATH);
+        lexer.lex(Files.readString(Path.of(FILE_PATH), StandardCharsets.UTF_8));
+
+        for (int i = 0; i < 500; i++) {
+            final var text = lexer.getText();
+            final int start = random.nextInt(text.length() + 1);
+            final int end = Math.min(text.length(), start + random.nextInt(3) * random.nextInt(20));
+            final var replacement = random.nextBoolean() ? FRAGMENTS[random.nextInt(FRAGMENTS.length)] : "";
+
+            final var expected = scan(text.substring(0, start) + replacement + text.substring(end));
+            try {
+                lexer.edit(start, end, replacement);
+            } catch (RuntimeException e) {
+                // A failed edit must match the full scan, and leave the lexer unchanged
+                Assertions.assertEquals(List.of(e.getClass(), String.valueOf(e.getMessage())), expected);
+                Assertions.assertEquals(text, lexer.getText());
+            }
+
+            assertMatchesFullScan(lexer);
+        }
+    }
+
+    private static void assertMatchesFullScan(final IncrementalLexer lexer) {
+        final var tokens = new ArrayList<>();
+        for (var token : lexer.getTokens()) {
+            tokens.add(token);
+            tokens.add(token.getDebugInfo());
+        }
+
+        Assertions.assertEquals(scan(lexer.getText()), tokens);
+    }
+
+    private static List<Object> scan(final String text) {
+        final var bridge = new FrontEndBridge("");
+        final var lexer = new TableScanner(bridge);
+        lexer.resetFile(FILE_PATH);
+
+        try {
+            final var characters = text.toCharArray();
+            lexer.scan(characters, 0, characters.length);
+            lexer.submitToken();
+        } catch (RuntimeException e) {
+            return List.of(e.getClass(), String.valueOf(e.getMessage()));
+        }
+
+        final var tokens = new ArrayList<>();
+        while (bridge.containsTokens()) {
+            final var token = bridge.dequeueToken();
+            tokens.add(token);
+            tokens.add(bridge.getDequeuedDebugInfo());
+        }
+
+        return tokens;
+    }
+
+}
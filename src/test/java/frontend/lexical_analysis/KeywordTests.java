@@ -0,0 +1,36 @@
+package frontend.lexical_analysis;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests if the perfect hash of the keywords finds every keyword, and only the keywords
+ */
+class KeywordTests {
+
+    /**
+     * Tests if every keyword is found by its lexeme
+     */
+    @Test
+    void every_Keyword_Is_Found() {
+        for (var keyword : Keyword.values()) Assertions.assertSame(keyword, Keyword.lookup(keyword.getLexeme()));
+    }
+
+    /**
+     * Tests if words that are no keywords, including prefixes and extensions of keywords, are not found
+     */
+    @Test
+    void unknown_Words_Are_Not_Found() {
+        for (var word : new String[]{"", "a", "titl", "titles", "Title", "xyz", "bibliographyy", "publicatio"})
+            Assertions.assertNull(Keyword.lookup(word), word);
+    }
+
+    /**
+     * Tests if a keyword inside a larger sequence is found using its range
+     */
+    @Test
+    void keyword_Is_Found_In_Range() {
+        Assertions.assertSame(Keyword.TITLE, Keyword.lookup(new StringBuilder("xxtitlexx"), 2, 7));
+    }
+
+}
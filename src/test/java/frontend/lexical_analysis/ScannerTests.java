@@ -12,6 +12,17 @@ import org.junit.jupiter.api.Test;
  */
 class ScannerTests {
 
+    /**
+     * Scans the specified text and yields the bridge containing the scanned tokens.
+     * By default, the text is scanned using the bulk entry point of the scanner.
+     *
+     * @param text the text that should be scanned
+     * @return the bridge containing the tokens
+     */
+    FrontEndBridge bridgeOf(final String text) {
+        return new FrontEndBridge(text);
+    }
+
     /**
      * Tests if all built in keywords are recognised as tokens with the KEYWORD TokenType and
      * the keywords as their values.
@@ -24,7 +35,7 @@ class ScannerTests {
         // Create a new bridge for each keyword.
         // The bridge simulates a text file each time.
         for (String keyword : keywords) {
-            var bridge = new FrontEndBridge(keyword);
+            var bridge = bridgeOf(keyword);
 
             // Each keyword should be a single token of type KEYWORD and its value
             // The bridge should have exactly one token
@@ -43,7 +54,7 @@ class ScannerTests {
 
         for (var keyword : exampleKeywords) {
             try {
-                new FrontEndBridge(keyword);
+                bridgeOf(keyword);
             } catch (IllegalArgumentException e) {
                 return;
             }
@@ -60,7 +71,7 @@ class ScannerTests {
         final var builder = new StringBuilder();
         for (int i = 0; i < 1000; i++) {
             builder.append("\t");
-            var bridge = new FrontEndBridge(builder.toString());
+            var bridge = bridgeOf(builder.toString());
 
             Assertions.assertEquals(new Token(TokenType.INDENT, "" + (i + 1)), bridge.dequeueToken());
         }
@@ -72,7 +83,7 @@ class ScannerTests {
      */
     @Test
     void new_Line_Character_Is_New_Line_Token() {
-        var bridge = new FrontEndBridge("\n");
+        var bridge = bridgeOf("\n");
         Assertions.assertEquals(new Token(TokenType.NEW_LINE, "\n"), bridge.dequeueToken());
         Assertions.assertFalse(bridge.containsTokens());
     }
@@ -82,7 +93,7 @@ class ScannerTests {
      */
     @Test
     void insignificant_White_Space_Is_Ignored() {
-        var bridge = new FrontEndBridge("\r  \r    \r    \r         ");
+        var bridge = bridgeOf("\r  \r    \r    \r         ");
         Assertions.assertFalse(bridge.containsTokens());
     }
 
@@ -92,7 +103,7 @@ class ScannerTests {
      */
     @Test
     void comma_Character_Is_List_Separator_Token() {
-        var bridge = new FrontEndBridge(",");
+        var bridge = bridgeOf(",");
         Assertions.assertEquals(new Token(TokenType.LIST_SEPARATOR, ","), bridge.dequeueToken());
         Assertions.assertFalse(bridge.containsTokens());
     }
@@ -103,7 +114,7 @@ class ScannerTests {
      */
     @Test
     void strings_Are_Text_Tokens() {
-        var bridge = new FrontEndBridge("\"Hello World!\"\"X\"");
+        var bridge = bridgeOf("\"Hello World!\"\"X\"");
         Assertions.assertEquals(new Token(TokenType.TEXT, "Hello World!"), bridge.dequeueToken());
         Assertions.assertEquals(new Token(TokenType.TEXT, "X"), bridge.dequeueToken());
         Assertions.assertFalse(bridge.containsTokens());
@@ -115,7 +126,7 @@ class ScannerTests {
      */
     @Test
     void text_Can_Span_Multiple_Lines() {
-        var bridge = new FrontEndBridge("\"Hello    \n \n\nWorld!\"");
+        var bridge = bridgeOf("\"Hello    \n \n\nWorld!\"");
         Assertions.assertEquals(new Token(TokenType.TEXT, "Hello World!"), bridge.dequeueToken());
         Assertions.assertFalse(bridge.containsTokens());
     }
@@ -125,7 +136,7 @@ class ScannerTests {
      */
     @Test
     void comments_Are_Ignored() {
-        var bridge = new FrontEndBridge("#\"Hello!\"");
+        var bridge = bridgeOf("#\"Hello!\"");
         Assertions.assertFalse(bridge.containsTokens());
     }
 
@@ -134,7 +145,7 @@ class ScannerTests {
      */
     @Test
     void new_Line_Character_Ends_Comments() {
-        var bridge = new FrontEndBridge("#\"Hello!\"\n\t");
+        var bridge = bridgeOf("#\"Hello!\"\n\t");
         Assertions.assertEquals(new Token(TokenType.INDENT, "1"), bridge.dequeueToken());
     }
 
@@ -144,7 +155,7 @@ class ScannerTests {
      */
     @Test
     void hash_Is_Not_A_Comment_When_Not_In_First_Position() {
-        Assertions.assertThrows(IllegalArgumentException.class, () -> new FrontEndBridge(" #"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bridgeOf(" #"));
     }
 
     /**
@@ -154,7 +165,7 @@ class ScannerTests {
      */
     @Test
     void spaces_Submit_Keyword_Tokens() {
-        var bridge = new FrontEndBridge("spacing spacing");
+        var bridge = bridgeOf("spacing spacing");
         Assertions.assertEquals(new Token(TokenType.KEYWORD, "spacing"), bridge.dequeueToken());
         Assertions.assertEquals(new Token(TokenType.KEYWORD, "spacing"), bridge.dequeueToken());
     }
@@ -165,7 +176,7 @@ class ScannerTests {
      */
     @Test
     void spaces_Do_Not_Submit_In_Text_Tokens() {
-        var bridge = new FrontEndBridge("\"Hello World!\"");
+        var bridge = bridgeOf("\"Hello World!\"");
         Assertions.assertEquals(new Token(TokenType.TEXT, "Hello World!"), bridge.dequeueToken());
         Assertions.assertFalse(bridge.containsTokens());
     }
@@ -176,7 +187,7 @@ class ScannerTests {
      */
     @Test
     void commas_Submit_Token_And_Submit_List_Separator() {
-        var bridge = new FrontEndBridge("spacing, spacing");
+        var bridge = bridgeOf("spacing, spacing");
         Assertions.assertEquals(new Token(TokenType.KEYWORD, "spacing"), bridge.dequeueToken());
         Assertions.assertEquals(new Token(TokenType.LIST_SEPARATOR, ","), bridge.dequeueToken());
         Assertions.assertEquals(new Token(TokenType.KEYWORD, "spacing"), bridge.dequeueToken());
@@ -189,7 +200,7 @@ class ScannerTests {
      */
     @Test
     void commas_Do_Not_Submit_In_Text_Tokens() {
-        var bridge = new FrontEndBridge("\"Hello, World!\"");
+        var bridge = bridgeOf("\"Hello, World!\"");
         Assertions.assertEquals(new Token(TokenType.TEXT, "Hello, World!"), bridge.dequeueToken());
         Assertions.assertFalse(bridge.containsTokens());
     }
@@ -200,7 +211,7 @@ class ScannerTests {
      */
     @Test
     void new_Line_Characters_Submit_Token_And_Submit_New_Line() {
-        var bridge = new FrontEndBridge("spacing\n spacing");
+        var bridge = bridgeOf("spacing\n spacing");
         Assertions.assertEquals(new Token(TokenType.KEYWORD, "spacing"), bridge.dequeueToken());
         Assertions.assertEquals(new Token(TokenType.NEW_LINE, "\n"), bridge.dequeueToken());
         Assertions.assertEquals(new Token(TokenType.KEYWORD, "spacing"), bridge.dequeueToken());
@@ -214,7 +225,7 @@ class ScannerTests {
      */
     @Test
     void escaped_Quotation_Does_Not_Submit_In_Text_Tokens() {
-        var bridge = new FrontEndBridge("\"Hello \\\" World!\"");
+        var bridge = bridgeOf("\"Hello \\\" World!\"");
         Assertions.assertEquals(new Token(TokenType.TEXT, "Hello \" World!"), bridge.dequeueToken());
         Assertions.assertFalse(bridge.containsTokens());
     }
@@ -225,7 +236,7 @@ class ScannerTests {
      */
     @Test
     void quotation_Marks_Submit_Tokens() {
-        var bridge = new FrontEndBridge("spacing\"Hello World!\"");
+        var bridge = bridgeOf("spacing\"Hello World!\"");
         Assertions.assertEquals(new Token(TokenType.KEYWORD, "spacing"), bridge.dequeueToken());
         Assertions.assertEquals(new Token(TokenType.TEXT, "Hello World!"), bridge.dequeueToken());
         Assertions.assertFalse(bridge.containsTokens());
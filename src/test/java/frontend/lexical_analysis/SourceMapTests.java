@@ -0,0 +1,78 @@
+package frontend.lexical_analysis;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Tests if the source map rebuilds the lines of a file, even if the file changes after it has been scanned
+ */
+class SourceMapTests {
+
+    private static final String TEXT = "title \"A\"\nchapter \"B\"\n";
+
+    @TempDir
+    Path folder;
+
+    /**
+     * Passes the characters of the text to the source map in the same way the scanners do
+     *
+     * @param file the file whose source map should be created
+     * @param end  the amount of characters that have been scanned
+     * @return the source map of the scanned characters
+     */
+    private static SourceMap scan(final Path file, final int end) {
+        final var sourceMap = new SourceMap(file.toString(), file.toFile());
+        for (int i = 0; i < end; i++) {
+            sourceMap.retain(TEXT.charAt(i));
+            if (TEXT.charAt(i) == '\n') sourceMap.addLine(i + 1);
+        }
+
+        return sourceMap;
+    }
+
+    /**
+     * Tests if the lines are read again from an unchanged file
+     */
+    @Test
+    void unchanged_Files_Are_Read_Again() throws IOException {
+        final var file = Files.writeString(folder.resolve("unchanged.pipp"), TEXT, StandardCharsets.UTF_8);
+        final var sourceMap = scan(file, TEXT.length() - 3);
+
+        Assertions.assertEquals("title \"A\"[\\n]", sourceMap.line(1, 10));
+        Assertions.assertEquals("chapter \"", sourceMap.line(2, TEXT.length() - 3));
+    }
+
+    /**
+     * Tests if the current line is rebuilt from the scanned characters once the file has changed, and other lines are
+     * empty instead of showing characters that have never been scanned
+     */
+    @Test
+    void changed_Files_Are_Not_Read_Again() throws IOException {
+        final var file = Files.writeString(folder.resolve("changed.pipp"), TEXT, StandardCharsets.UTF_8);
+        final var sourceMap = scan(file, TEXT.length() - 3);
+        Files.writeString(file, "config \"Other\"\n", StandardCharsets.UTF_8);
+
+        Assertions.assertEquals("chapter \"", sourceMap.line(2, TEXT.length() - 3));
+        Assertions.assertEquals("", sourceMap.line(1, 10));
+    }
+
+    /**
+     * Tests if a file that has been deleted after it has been scanned does not prevent rebuilding the current line
+     */
+    @Test
+    void deleted_Files_Do_Not_Fail() throws IOException {
+        final var file = Files.writeString(folder.resolve("deleted.pipp"), TEXT, StandardCharsets.UTF_8);
+        final var sourceMap = scan(file, TEXT.length() - 3);
+        Files.delete(file);
+
+        Assertions.assertEquals("chapter \"", sourceMap.line(2, TEXT.length() - 3));
+        Assertions.assertEquals("", sourceMap.line(1, 10));
+    }
+
+}
@@ -0,0 +1,107 @@
+package frontend.lexical_analysis;
+
+import frontend.FrontEndBridge;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Runs all scanner tests against the table-driven engine.
+ * Additionally, runs both engines over the sample files and a generated corpus, and tests if they produce exactly
+ * the same tokens, debug information and exceptions.
+ */
+class TableScannerTests extends ScannerTests {
+
+    private static final String[] SAMPLE_FILES = new String[]{
+            "src/main/resources/Sample.pipp",
+            "src/main/resources/Another.pipp",
+            "src/main/resources/bibliography.pipp"
+    };
+
+    /**
+     * The fragments the generated corpus consists of outside texts
+     */
+    private static final String[] FRAGMENTS = new String[]{
+            "title", "chapter", "config", "work", "citation", " ", "  ", "\t", "\n", "\r\n", ",", "#title \"x\n"
+    };
+
+    /**
+     * The fragments the generated texts consist of, which favour the characters with a special meaning
+     */
+    private static final String[] TEXT_FRAGMENTS = new String[]{
+            "Some", "words", "Ü€", " ", "  ", "\t", "\n", "\r\n", "\\\"", "\\\\", "\\x", "#", ",", "]"
+    };
+
+    @Override
+    FrontEndBridge bridgeOf(final String text) {
+        return new FrontEndBridge(text, LexerEngine.TABLE);
+    }
+
+    /**
+     * Tests if both engines yield the same result for the sample files
+     */
+    @Test
+    void engines_Match_For_Sample_Files() throws IOException {
+        for (var file : SAMPLE_FILES) {
+            final var text = Files.readString(Path.of(file), StandardCharsets.UTF_8);
+            Assertions.assertEquals(scan(LexerEngine.SCANNER, text), scan(LexerEngine.TABLE, text), file);
+        }
+    }
+
+    /**
+     * Tests if both engines yield the same result for a generated corpus, which contains many invalid inputs
+     */
+    @Test
+    void engines_Match_For_Generated_Corpus() {
+        final var random = new Random(42);
+
+        for (int i = 0; i < 2000; i++) {
+            final var text = new StringBuilder();
+            final int amountOfFragments = random.nextInt(40);
+            for (int j = 0; j < amountOfFragments; j++) {
+                if (random.nextInt(4) > 0) text.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+                else {
+                    text.append('"');
+                    final int amountOfTextFragments = random.nextInt(8);
+                    for (int k = 0; k < amountOfTextFragments; k++)
+                        text.append(TEXT_FRAGMENTS[random.nextInt(TEXT_FRAGMENTS.length)]);
+                    text.append('"');
+                }
+            }
+
+            Assertions.assertEquals(scan(LexerEngine.SCANNER, text.toString()),
+                    scan(LexerEngine.TABLE, text.toString()), text.toString());
+        }
+    }
+
+    private static List<Object> scan(final LexerEngine engine, final String text) {
+        final var bridge = new FrontEndBridge("");
+        final var lexer = engine.create(bridge);
+        lexer.resetFile("generated.pipp");
+
+        try {
+            final var characters = text.toCharArray();
+            lexer.scan(characters, 0, characters.length);
+            lexer.submitToken();
+        } catch (RuntimeException e) {
+            return List.of(e.getClass(), String.valueOf(e.getMessage()));
+        }
+
+        final var tokens = new ArrayList<>();
+        while (bridge.containsTokens()) {
+            final var token = bridge.dequeueToken();
+            tokens.add(token);
+            tokens.add(bridge.getDequeuedDebugInfo());
+        }
+
+        return tokens;
+    }
+
+}
@@ -128,4 +128,20 @@ class TokenTests {
         }
     }
 
+    /**
+     * Tests if tokens that refer to a slice of characters, and INDENT tokens that store their amount of tabs, are
+     * equal to tokens that store their value as a String
+     */
+    @Test
+    void sliced_Tokens_Equal_String_Tokens() {
+        var text = new Token(TokenType.TEXT, "\"Hello World\"".toCharArray(), 1, 11);
+        Assertions.assertEquals(new Token(TokenType.TEXT, "Hello World"), text);
+        Assertions.assertEquals(new Token(TokenType.TEXT, "Hello World").hashCode(), text.hashCode());
+
+        var indent = new Token(2);
+        Assertions.assertEquals(new Token(TokenType.INDENT, "2"), indent);
+        Assertions.assertEquals(2, indent.getIndentation());
+        Assertions.assertEquals(2, new Token(TokenType.INDENT, "2").getIndentation());
+    }
+
 }
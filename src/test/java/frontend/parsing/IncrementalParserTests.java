@@ -0,0 +1,126 @@
+package frontend.parsing;
+
+import frontend.FrontEndBridge;
+import frontend.ast.structure.Include;
+import frontend.lexical_analysis.LexerEngine;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Tests if the incremental parser yields the same AST as parsing the whole document, and if it reuses the blocks
+ * that have not changed
+ */
+class IncrementalParserTests {
+
+    private static final String FILE_PATH = "src/main/resources/Sample.pipp";
+
+    /**
+     * The fragments that are inserted by the generated edits
+     */
+    private static final String[] FRAGMENTS = new String[]{
+            "\n", "\n\n", "\"Some text\"\n", "blank\n\n", "work \"King Rat\"\n", "\"", "\t", "#", "x", "chapter \"A\"\n"
+    };
+
+    @Test
+    void parse_Matches_Full_Parse() throws IOException {
+        final var text = Files.readString(Path.of(FILE_PATH), StandardCharsets.UTF_8);
+        final var parser = new IncrementalParser(FILE_PATH);
+
+        Assertions.assertEquals(parseEntirely(text), parser.parse(text).toString());
+        Assertions.assertEquals(parseEntirely(text), parser.parse(text).toString());
+        Assertions.assertEquals(1, parser.getParsedBlocks());
+    }
+
+    @Test
+    void editing_A_Paragraph_Only_Parses_Its_Block() throws IOException {
+        final var text = Files.readString(Path.of(FILE_PATH), StandardCharsets.UTF_8);
+        final var parser = new IncrementalParser(FILE_PATH);
+        final var previous = parser.parse(text);
+
+        final int offset = text.indexOf("\n\"", text.length() / 2) + 2;
+        final var edited = text.substring(0, offset) + "Edited " + text.substring(offset);
+        final var ast = parser.parse(edited);
+
+        Assertions.assertEquals(parseEntirely(edited), ast.toString());
+        Assertions.assertEquals(2, parser.getParsedBlocks());
+        Assertions.assertTrue(parser.getReusedBlocks() > 0);
+        final int last = ast.getDocumentBody().size() - 1;
+        Assertions.assertSame(previous.getDocumentBody().get(last), ast.getDocumentBody().get(last));
+    }
+
+    @Test
+    void random_Edits_Match_Full_Parse() throws IOException {
+        final var random = new Random(11);
+        final var parser = new IncrementalParser(FILE_PATH);
+        var text = Files.readString(Path.of(FILE_PATH), StandardCharsets.UTF_8);
+
+        for (int i = 0; i < 300; i++) {
+            final int start = random.nextInt(text.length() + 1);
+            final int end = Math.min(text.length(), start + random.nextInt(2) * random.nextInt(30));
+            final var replacement = random.nextBoolean() ? FRAGMENTS[random.nextInt(FRAGMENTS.length)] : "";
+            final var edited = text.substring(0, start) + replacement + text.substring(end);
+
+            String expected;
+            try {
+                expected = parseEntirely(edited);
+            } catch (RuntimeException e) {
+                final var error = Assertions.assertThrows(e.getClass(), () -> parser.parse(edited), edited);
+                Assertions.assertEquals(e.getMessage(), error.getMessage());
+                continue;
+            }
+
+            Assertions.assertEquals(expected, parser.parse(edited).toString(), edited);
+            text = edited;
+        }
+    }
+
+    /**
+     * Tests if the debug information of a block refers to its position within the document, also once the block
+     * has moved
+     */
+    @Test
+    void blocks_Refer_To_Their_Position_In_The_Document() {
+        final var parser = new IncrementalParser(FILE_PATH);
+        final var text = "\"a\"\n\n\"b\"\n\ninclude \"missing.pipp\"\n";
+
+        var include = (Include) parser.parse(text).getDocumentBody().get(2);
+        Assertions.assertEquals(FILE_PATH, include.getDebugInfo().getFilePath());
+        Assertions.assertEquals(5, include.getDebugInfo().getLineNumber());
+
+        include = (Include) parser.parse(text.replace("\"b\"\n", "\"b\"\n\n\"c\"\n")).getDocumentBody().get(3);
+        Assertions.assertEquals(7, include.getDebugInfo().getLineNumber());
+    }
+
+    /**
+     * Tests if a last block that consists of a single token yields the same body nodes as the full parse, which
+     * ignores the last token of the document if it starts another instruction
+     */
+    @Test
+    void single_Token_At_The_End_Matches_Full_Parse() {
+        final var parser = new IncrementalParser(FILE_PATH);
+        final var texts = new String[]{"\"a\"\n\nblank", "\"a\"\n\n\"b\"\n\n\"c\"", "\"a\"\n\n\"b\n\nc\n", "blank"};
+
+        for (var text : texts) Assertions.assertEquals(parseEntirely(text), parser.parse(text).toString(), text);
+    }
+
+    private static String parseEntirely(final String text) {
+        final var bridge = new FrontEndBridge("");
+        final var lexer = LexerEngine.TABLE.create(bridge);
+        lexer.resetFile(FILE_PATH);
+
+        final var characters = text.toCharArray();
+        lexer.scan(characters, 0, characters.length);
+        lexer.submitToken();
+
+        final var parser = new Parser(bridge);
+        parser.start();
+        return parser.getAst().toString();
+    }
+
+}